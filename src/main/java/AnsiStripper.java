@@ -0,0 +1,247 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * The {@code AnsiStripper} class is the state machine shared by the ANSI stripping filters. It
+ * recognizes the escape sequences of ECMA-48 by their structure, not by their meaning, so any
+ * sequence is removed whole:
+ * <ul>
+ *      <li> control sequences {@code ESC [ parameters intermediates final}, with the final byte
+ *           of {@code 0x40..0x7E}, such as all SGR sequences;
+ *      <li> control strings {@code ESC ] ...}, {@code ESC P ...}, {@code ESC X ...}, {@code ESC ^ ...}
+ *           and {@code ESC _ ...}, terminated by {@code BEL} or {@code ESC \};
+ *      <li> other escapes {@code ESC intermediates final}, such as {@code ESC ( B} or {@code ESC c}.
+ * </ul>
+ * The state is a single {@code int}, so a sequence split between two writes is recognized without
+ * buffering any of its bytes. The {@code scan()} methods hold the loop shared by the filters and
+ * by {@link SgrParser}: they pass each run of text to a {@link Runs} callback and feed the chars
+ * of escape sequences to it one by one.
+ *
+ * @see     AnsiStrippingOutputStream
+ * @see     AnsiStrippingWriter
+ * @see     PlainSink
+ */
+final class AnsiStripper {
+    static final int ESC = 0x1B;
+    static final int TEXT = 0;
+    static final int ESCAPE = 1;
+    static final int ESCAPE_INTERMEDIATE = 2;
+    static final int CONTROL_SEQUENCE = 3;
+    static final int CONTROL_STRING = 4;
+    static final int CONTROL_STRING_ESCAPE = 5;
+
+    private static final int BEL = 0x07;
+    private static final long ESCAPES = 0x1B1B1B1B1B1B1B1BL;
+    private static final long LOW_BITS = 0x0101010101010101L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+
+    private AnsiStripper() {
+    }
+
+    /**
+     * The {@code Runs} interface receives what {@code scan()} finds in the input.
+     * @param   <T> the type of the input.
+     */
+    @FunctionalInterface
+    interface Runs<T> {
+
+        /**
+         * Receives one run of text between escape sequences. The run is never empty.
+         * @param   input   the scanned input.
+         * @param   offset  the index of the first byte or char of the run.
+         * @param   length  the number of bytes or chars of the run.
+         * @throws  IOException if the run can not be processed.
+         */
+        void text(T input, int offset, int length) throws IOException;
+
+        /**
+         * Receives one char or byte of an escape sequence, starting with its {@code ESC}, and
+         * returns the next state. The default implementation returns
+         * {@link AnsiStripper#next(int, int)}.
+         * @param   state   the current state.
+         * @param   c       the char, or the unsigned value of the byte.
+         * @return  the next state.
+         */
+        default int escape(int state, int c) {
+            return next(state, c);
+        }
+    }
+
+    /**
+     * Scans the range of bytes, passing the runs of text and the bytes of escape sequences to the callback.
+     * @param   state   the state at the start of the range.
+     * @param   bytes   the array to scan.
+     * @param   from    the index of the first byte to scan.
+     * @param   to      the index after the last byte to scan.
+     * @param   runs    the {@link Runs} receiving the text and the escape sequences.
+     * @return  the state at the end of the range.
+     * @throws  IOException if the callback throws it.
+     */
+    static int scan(int state, byte[] bytes, int from, int to, Runs<? super byte[]> runs) throws IOException {
+        for (int i = from; i < to; ) {
+            int end = state == TEXT ? indexOfEscape(bytes, i, to) : i;
+
+            if (end > i) {
+                runs.text(bytes, i, end - i);
+            }
+
+            if (end < to) {
+                state = runs.escape(state, bytes[end] & 0xFF);
+            }
+
+            i = end + 1;
+        }
+
+        return state;
+    }
+
+    /**
+     * Scans the range of chars, passing the runs of text and the chars of escape sequences to the callback.
+     * @param   state   the state at the start of the range.
+     * @param   chars   the array to scan.
+     * @param   from    the index of the first char to scan.
+     * @param   to      the index after the last char to scan.
+     * @param   runs    the {@link Runs} receiving the text and the escape sequences.
+     * @return  the state at the end of the range.
+     * @throws  IOException if the callback throws it.
+     */
+    static int scan(int state, char[] chars, int from, int to, Runs<? super char[]> runs) throws IOException {
+        for (int i = from; i < to; ) {
+            int end = state == TEXT ? indexOfEscape(chars, i, to) : i;
+
+            if (end > i) {
+                runs.text(chars, i, end - i);
+            }
+
+            if (end < to) {
+                state = runs.escape(state, chars[end]);
+            }
+
+            i = end + 1;
+        }
+
+        return state;
+    }
+
+    /**
+     * Scans the range of the text, passing the runs of text and the chars of escape sequences to the
+     * callback. A {@code String} is searched with {@link String#indexOf(int, int)}.
+     * @param   state   the state at the start of the range.
+     * @param   text    the text to scan.
+     * @param   from    the index of the first char to scan.
+     * @param   to      the index after the last char to scan.
+     * @param   runs    the {@link Runs} receiving the text and the escape sequences.
+     * @param   <T>     the type of the text.
+     * @return  the state at the end of the range.
+     * @throws  IOException if the callback throws it.
+     */
+    static <T extends CharSequence> int scan(int state, T text, int from, int to, Runs<? super T> runs)
+            throws IOException {
+        for (int i = from; i < to; ) {
+            int end = state == TEXT ? indexOfEscape(text, i, to) : i;
+
+            if (end > i) {
+                runs.text(text, i, end - i);
+            }
+
+            if (end < to) {
+                state = runs.escape(state, text.charAt(end));
+            }
+
+            i = end + 1;
+        }
+
+        return state;
+    }
+
+    /**
+     * Returns the index of the first {@code ESC} byte in the range, or its end if there is none.
+     * The bytes are compared eight at a time: after the {@code XOR} with {@code ESC} in every byte,
+     * the lowest byte which becomes zero marks the first match.
+     * @param   bytes   the array to search.
+     * @param   from    the index of the first byte to search.
+     * @param   to      the index after the last byte to search.
+     * @return  the index of the first {@code ESC}, or {@code to}.
+     */
+    static int indexOfEscape(byte[] bytes, int from, int to) {
+        int i = from;
+
+        if (to - from >= Long.BYTES) {
+            ByteBuffer words = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+
+            for (; i <= to - Long.BYTES; i += Long.BYTES) {
+                long word = words.getLong(i) ^ ESCAPES;
+                long matches = word - LOW_BITS & ~word & HIGH_BITS;
+
+                if (matches != 0) {
+                    return i + (Long.numberOfTrailingZeros(matches) >>> 3);
+                }
+            }
+        }
+
+        while (i < to && bytes[i] != ESC) {
+            i++;
+        }
+
+        return i;
+    }
+
+    private static int indexOfEscape(char[] chars, int from, int to) {
+        int i = from;
+
+        while (i < to && chars[i] != ESC) {
+            i++;
+        }
+
+        return i;
+    }
+
+    private static int indexOfEscape(CharSequence text, int from, int to) {
+        if (text instanceof String) {
+            int escape = ((String) text).indexOf(ESC, from);
+            return escape < 0 || escape > to ? to : escape;
+        }
+
+        int i = from;
+
+        while (i < to && text.charAt(i) != ESC) {
+            i++;
+        }
+
+        return i;
+    }
+
+    /**
+     * Returns the state after the char or byte inside an escape sequence. In the {@link #TEXT} state
+     * the char is text unless it is {@code ESC}; reaching {@code TEXT} from another state means the
+     * char was the last one of the sequence.
+     * @param   state   the current state.
+     * @param   c       the char, or the unsigned value of the byte.
+     * @return  the next state.
+     */
+    static int next(int state, int c) {
+        switch (state) {
+            case ESCAPE:
+                if (c == '[') {
+                    return CONTROL_SEQUENCE;
+                }
+
+                if (c == ']' || c == 'P' || c == 'X' || c == '^' || c == '_') {
+                    return CONTROL_STRING;
+                }
+
+                return c == ESC ? ESCAPE : c >= 0x20 && c <= 0x2F ? ESCAPE_INTERMEDIATE : TEXT;
+            case ESCAPE_INTERMEDIATE:
+                return c == ESC ? ESCAPE : c >= 0x20 && c <= 0x2F ? ESCAPE_INTERMEDIATE : TEXT;
+            case CONTROL_SEQUENCE:
+                return c == ESC ? ESCAPE : c >= 0x40 && c <= 0x7E ? TEXT : CONTROL_SEQUENCE;
+            case CONTROL_STRING:
+                return c == BEL ? TEXT : c == ESC ? CONTROL_STRING_ESCAPE : CONTROL_STRING;
+            case CONTROL_STRING_ESCAPE:
+                return c == '\\' ? TEXT : c == ESC ? CONTROL_STRING_ESCAPE : CONTROL_STRING;
+            default:
+                return c == ESC ? ESCAPE : TEXT;
+        }
+    }
+}
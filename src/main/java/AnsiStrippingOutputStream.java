@@ -0,0 +1,58 @@
+import org.jetbrains.annotations.NotNull;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * The {@code AnsiStrippingOutputStream} class is a filter which removes ANSI escape sequences from
+ * the bytes written through it, for example to keep the output of {@link Colter} readable when it
+ * is redirected to a log file. The text between the sequences is passed to the underlying stream
+ * as whole runs: the filter scans for the {@code ESC} byte and writes everything before it with a
+ * single call, so plain text costs one scan and one write. Only the bytes of escape sequences go
+ * through the state machine one by one.
+ * <p>
+ * Sequences split between two writes are recognized, as the filter keeps the state of an unfinished
+ * sequence instead of its bytes. The text may be in any ASCII-compatible encoding, such as {@code UTF-8}.
+ * <p>
+ * The filter is not thread-safe: concurrent writes must be synchronized by the caller.
+ * <p>
+ *     Examples of using
+ * <blockquote><pre>
+ *     OutputStream log = new AnsiStrippingOutputStream(new FileOutputStream("app.log"));
+ *     new Colter(ColterSink.of(log)).printlnAndReset("started", FG_GREEN);
+ * </pre></blockquote>
+ *
+ * @see     AnsiStrippingWriter
+ */
+public final class AnsiStrippingOutputStream extends FilterOutputStream {
+    private final AnsiStripper.Runs<byte[]> RUNS;
+    private int state = AnsiStripper.TEXT;
+
+    /**
+     * Creates a filter which writes to the stream.
+     * @param   out the stream the text is written to.
+     */
+    public AnsiStrippingOutputStream(@NotNull OutputStream out) {
+        super(out);
+        this.RUNS = out::write;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (state == AnsiStripper.TEXT && b != AnsiStripper.ESC) {
+            out.write(b);
+        } else {
+            state = AnsiStripper.next(state, b & 0xFF);
+        }
+    }
+
+    @Override
+    public void write(@NotNull byte[] b, int off, int len) throws IOException {
+        if ((off | len | b.length - off - len) < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        state = AnsiStripper.scan(state, b, off, off + len, RUNS);
+    }
+}
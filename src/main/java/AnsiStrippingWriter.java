@@ -0,0 +1,64 @@
+import org.jetbrains.annotations.NotNull;
+
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * The {@code AnsiStrippingWriter} class is a filter which removes ANSI escape sequences from the
+ * chars written through it. The text between the sequences is passed to the underlying writer as
+ * whole runs, found by scanning for the {@code ESC} char, and sequences split between two writes
+ * are recognized.
+ * <p>
+ * The filter is not thread-safe: concurrent writes must be synchronized by the caller.
+ * <p>
+ *     Examples of using
+ * <blockquote><pre>
+ *     Writer log = new AnsiStrippingWriter(Files.newBufferedWriter(path));
+ *     new Colter(ColterSink.of(log)).printlnAndReset("started", FG_GREEN);
+ * </pre></blockquote>
+ *
+ * @see     AnsiStrippingOutputStream
+ */
+public final class AnsiStrippingWriter extends FilterWriter {
+    private final AnsiStripper.Runs<char[]> CHARS;
+    private final AnsiStripper.Runs<String> STRING;
+    private int state = AnsiStripper.TEXT;
+
+    /**
+     * Creates a filter which writes to the writer.
+     * @param   out the writer the text is written to.
+     */
+    public AnsiStrippingWriter(@NotNull Writer out) {
+        super(out);
+        this.CHARS = out::write;
+        this.STRING = out::write;
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        if (state == AnsiStripper.TEXT && c != AnsiStripper.ESC) {
+            out.write(c);
+        } else {
+            state = AnsiStripper.next(state, c & 0xFFFF);
+        }
+    }
+
+    @Override
+    public void write(@NotNull char[] cbuf, int off, int len) throws IOException {
+        if ((off | len | cbuf.length - off - len) < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        state = AnsiStripper.scan(state, cbuf, off, off + len, CHARS);
+    }
+
+    @Override
+    public void write(@NotNull String str, int off, int len) throws IOException {
+        if ((off | len | str.length() - off - len) < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        state = AnsiStripper.scan(state, str, off, off + len, STRING);
+    }
+}
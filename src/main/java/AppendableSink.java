@@ -0,0 +1,53 @@
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+
+/**
+ * The {@code AppendableSink} class appends records to an {@link Appendable}, such as a
+ * {@link StringBuilder} or a {@link java.io.Writer}. Escape sequence bytes are ASCII,
+ * so each of them is appended as one char.
+ *
+ * @see     ColterSink#of(Appendable)
+ */
+final class AppendableSink implements ColterSink {
+    private final Appendable OUT;
+
+    AppendableSink(@NotNull Appendable out) {
+        this.OUT = out;
+    }
+
+    @Override
+    public synchronized void write(@NotNull byte[] bytes, int offset, int length) throws IOException {
+        for (int i = offset; i < offset + length; i++) {
+            OUT.append((char) (bytes[i] & 0xFF));
+        }
+    }
+
+    @Override
+    public synchronized void write(@NotNull CharSequence text) throws IOException {
+        OUT.append(text);
+    }
+
+    @Override
+    public synchronized void write(@NotNull byte[] prefix, @NotNull CharSequence text, @NotNull byte[] suffix) throws IOException {
+        write(prefix, 0, prefix.length);
+        OUT.append(text);
+        write(suffix, 0, suffix.length);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (OUT instanceof Flushable) {
+            ((Flushable) OUT).flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (OUT instanceof Closeable) {
+            ((Closeable) OUT).close();
+        }
+    }
+}
@@ -0,0 +1,505 @@
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The {@code AsyncSink} class decouples printing threads from a slow destination. Records are
+ * published into a preallocated ring buffer and written to the wrapped sink by one consumer
+ * thread, so a slow terminal or a stalled pipe does not block the threads that print.
+ * <p>
+ * The ring buffer is lock-free for producers: a slot is claimed by a compare-and-set of the
+ * claim counter, filled, and published by storing its sequence number. The consumer writes the
+ * published records in order and flushes the wrapped sink once per batch: whenever it runs out
+ * of published records, after {@value #MAX_BATCH} records in a row, and as soon as it has written
+ * the records a {@link #flush()} waits for. Records of one thread are written in the order they were
+ * printed; records of different threads never interleave. Records printed with a style are passed
+ * on with the style, so a downsampling or tracking sink behind the ring buffer renders them itself.
+ * <p>
+ * The consumer waits for new records according to its {@link WaitStrategy}. When the buffer is
+ * full, producers act according to the {@link Backpressure} policy. Closing the sink seals the claim
+ * counter, so every record is either claimed before the seal and written, or dropped and counted by
+ * {@link #getDropped()}.
+ * <p>
+ * A shutdown hook drains pending records when the JVM exits, the consumer thread is a daemon
+ * thread and does not keep the JVM alive. Closing the sink drains pending records, stops the
+ * consumer, removes the hook and closes the wrapped sink. A failure of the wrapped sink does not
+ * stop the consumer; the first failure is reported by the next {@link #flush()} or {@link #close()}.
+ * <p>
+ *     Examples of using
+ * <blockquote><pre>
+ *     Colter colter = new Colter(ColterSink.async(ColterSink.stdoutChannel()));
+ *
+ *     AsyncSink sink = new AsyncSink(ColterSink.stdout(), 1024,
+ *             AsyncSink.WaitStrategy.SLEEPING, AsyncSink.Backpressure.DROP);
+ * </pre></blockquote>
+ *
+ * @see     ColterSink#async(ColterSink)
+ */
+public final class AsyncSink implements ColterSink {
+    public static final int DEFAULT_CAPACITY = 4096;
+    public static final int DEFAULT_SAMPLE_RATE = 16;
+    public static final int MAX_BATCH = 256;
+    private static final byte[] NO_BYTES = new byte[0];
+    private static final long PARK_NANOS = 100_000;
+    private static final int SPINS = 100;
+    private static final int YIELDS = 100;
+    private static final long SEALED = 1L << 62;
+
+    /**
+     * The way the consumer thread waits for new records and producers wait for free slots.
+     */
+    public enum WaitStrategy {
+        /**
+         * The consumer parks until a producer wakes it up. Lowest CPU usage, highest latency.
+         */
+        BLOCKING,
+        /**
+         * Spins, then yields, then parks for short periods.
+         */
+        SLEEPING,
+        /**
+         * Yields the processor between checks.
+         */
+        YIELDING,
+        /**
+         * Checks in a tight loop, occupying a core. Lowest latency.
+         */
+        BUSY_SPIN
+    }
+
+    /**
+     * The way producers act when the ring buffer is full.
+     */
+    public enum Backpressure {
+        /**
+         * Waits for a free slot.
+         */
+        BLOCK,
+        /**
+         * Drops the record.
+         */
+        DROP,
+        /**
+         * Keeps every n-th record, which waits for a free slot, and drops the others.
+         */
+        SAMPLE
+    }
+
+    private final ColterSink SINK;
+    private final int CAPACITY;
+    private final int MASK;
+    private final WaitStrategy WAIT_STRATEGY;
+    private final Backpressure BACKPRESSURE;
+    private final int SAMPLE_RATE;
+    private final Style[] STYLES;
+    private final byte[][] PREFIXES;
+    private final String[] TEXTS;
+    private final byte[][] SUFFIXES;
+    private final AtomicLongArray SEQUENCES;
+    private final AtomicLong CLAIMED = new AtomicLong();
+    private final AtomicLong WRITTEN = new AtomicLong();
+    private final AtomicLong FLUSHED = new AtomicLong();
+    private final AtomicLong FLUSH_REQUESTED = new AtomicLong();
+    private final AtomicLong REJECTED = new AtomicLong();
+    private final LongAdder DROPPED = new LongAdder();
+    private final AtomicBoolean CLOSED = new AtomicBoolean();
+    private final Thread CONSUMER;
+    private final Thread SHUTDOWN_HOOK;
+    private volatile boolean running = true;
+    private volatile boolean consumerParked;
+    private volatile Throwable failure;
+
+    /**
+     * Creates a sink with the default capacity, blocking wait strategy and blocking backpressure.
+     * @param   sink    the sink to write the records to.
+     */
+    public AsyncSink(@NotNull ColterSink sink) {
+        this(sink, DEFAULT_CAPACITY, WaitStrategy.BLOCKING, Backpressure.BLOCK);
+    }
+
+    /**
+     * Creates a sink which keeps every {@value #DEFAULT_SAMPLE_RATE}th record under {@link Backpressure#SAMPLE}.
+     * @param   sink            the sink to write the records to.
+     * @param   capacity        the number of slots, rounded up to a power of two.
+     * @param   waitStrategy    the way to wait for records and free slots.
+     * @param   backpressure    the way to handle a full buffer.
+     */
+    public AsyncSink(@NotNull ColterSink sink, int capacity, @NotNull WaitStrategy waitStrategy,
+                     @NotNull Backpressure backpressure) {
+        this(sink, capacity, waitStrategy, backpressure, DEFAULT_SAMPLE_RATE);
+    }
+
+    /**
+     * Creates a sink and starts its consumer thread.
+     * @param   sink            the sink to write the records to.
+     * @param   capacity        the number of slots, rounded up to a power of two.
+     * @param   waitStrategy    the way to wait for records and free slots.
+     * @param   backpressure    the way to handle a full buffer.
+     * @param   sampleRate      every {@code sampleRate}th record is kept under {@link Backpressure#SAMPLE}.
+     */
+    public AsyncSink(@NotNull ColterSink sink, int capacity, @NotNull WaitStrategy waitStrategy,
+                     @NotNull Backpressure backpressure, int sampleRate) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Buffer capacity out of range. Expected: 1..1073741824, actual: " + capacity);
+        }
+
+        if (sampleRate < 1) {
+            throw new IllegalArgumentException("Sample rate out of range. Expected: 1.., actual: " + sampleRate);
+        }
+
+        SINK = sink;
+        CAPACITY = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        MASK = CAPACITY - 1;
+        WAIT_STRATEGY = waitStrategy;
+        BACKPRESSURE = backpressure;
+        SAMPLE_RATE = sampleRate;
+        STYLES = new Style[CAPACITY];
+        PREFIXES = new byte[CAPACITY][];
+        TEXTS = new String[CAPACITY];
+        SUFFIXES = new byte[CAPACITY][];
+        SEQUENCES = new AtomicLongArray(CAPACITY);
+
+        for (int i = 0; i < CAPACITY; i++) {
+            SEQUENCES.set(i, -1);
+        }
+
+        CONSUMER = new Thread(this::consume, "colter-async-sink");
+        CONSUMER.setDaemon(true);
+        CONSUMER.start();
+
+        SHUTDOWN_HOOK = new Thread(this::drainOnShutdown, "colter-async-sink-shutdown");
+        Runtime.getRuntime().addShutdownHook(SHUTDOWN_HOOK);
+    }
+
+    @Override
+    public void write(@NotNull byte[] bytes, int offset, int length) {
+        publish(null, Arrays.copyOfRange(bytes, offset, offset + length), "", NO_BYTES);
+    }
+
+    @Override
+    public void write(@NotNull CharSequence text) {
+        publish(null, NO_BYTES, text.toString(), NO_BYTES);
+    }
+
+    /**
+     * Publishes the record. The text is captured with {@code toString()}, so a mutable
+     * {@code CharSequence} may be changed after the call.
+     */
+    @Override
+    public void write(@NotNull byte[] prefix, @NotNull CharSequence text, @NotNull byte[] suffix) {
+        publish(null, prefix, text.toString(), suffix);
+    }
+
+    /**
+     * Publishes the record with its style, which the consumer passes on to the wrapped sink.
+     */
+    @Override
+    public void write(@NotNull Style style, @NotNull CharSequence text, @NotNull byte[] suffix) {
+        publish(style, null, text.toString(), suffix);
+    }
+
+    /**
+     * Publishes the record with its style and the prefix rendered for the wrapped sink.
+     */
+    @Override
+    public void write(@NotNull Style style, @NotNull byte[] prefix, @NotNull CharSequence text, @NotNull byte[] suffix) {
+        publish(style, prefix, text.toString(), suffix);
+    }
+
+    @Override
+    public Style adapt(@NotNull Style style) {
+        return SINK.adapt(style);
+    }
+
+    /**
+     * Waits until all records published before the call are written and the wrapped sink is flushed.
+     * @throws  IOException if writing a record or flushing the wrapped sink failed.
+     */
+    @Override
+    public void flush() throws IOException {
+        long target = CLAIMED.get() & ~SEALED;
+        FLUSH_REQUESTED.accumulateAndGet(target, Math::max);
+
+        for (int counter = 0; FLUSHED.get() < target && CONSUMER.isAlive(); ) {
+            wakeConsumer();
+            counter = idle(counter, WaitStrategy.SLEEPING);
+        }
+
+        reportFailure();
+    }
+
+    /**
+     * Drains pending records, stops the consumer thread and closes the wrapped sink.
+     * @throws  IOException if writing a record or closing the wrapped sink failed.
+     */
+    @Override
+    public void close() throws IOException {
+        if (!CLOSED.compareAndSet(false, true)) {
+            return;
+        }
+
+        stop();
+
+        try {
+            Runtime.getRuntime().removeShutdownHook(SHUTDOWN_HOOK);
+        } catch (IllegalStateException e) {
+            // The JVM is shutting down, the hook is already running or done.
+        }
+
+        try {
+            reportFailure();
+        } finally {
+            SINK.close();
+        }
+    }
+
+    /**
+     * Returns the number of slots of the ring buffer.
+     * @return  capacity of the buffer.
+     */
+    public int getCapacity() {
+        return CAPACITY;
+    }
+
+    /**
+     * Returns the number of records published but not written yet.
+     * @return  the number of pending records.
+     */
+    public int getPending() {
+        return (int) Math.max(0, (CLAIMED.get() & ~SEALED) - WRITTEN.get());
+    }
+
+    /**
+     * Returns the number of records dropped because the buffer was full or the sink was closed.
+     * @return  the number of dropped records.
+     */
+    public long getDropped() {
+        return DROPPED.sum();
+    }
+
+    /**
+     * Publishes the record. A record without style has a {@code null} style; a record with style
+     * whose prefix is not rendered yet has a {@code null} prefix.
+     */
+    private void publish(Style style, byte[] prefix, String text, byte[] suffix) {
+        long sequence = claim();
+
+        if (sequence < 0) {
+            DROPPED.increment();
+            return;
+        }
+
+        int index = (int) sequence & MASK;
+        STYLES[index] = style;
+        PREFIXES[index] = prefix;
+        TEXTS[index] = text;
+        SUFFIXES[index] = suffix;
+        SEQUENCES.set(index, sequence);
+
+        if (consumerParked) {
+            LockSupport.unpark(CONSUMER);
+        }
+    }
+
+    /**
+     * Claims the next slot, returning its sequence number or {@code -1} if the record is to be dropped.
+     * Once the counter is sealed no slot can be claimed, so the consumer knows the last record to write.
+     */
+    private long claim() {
+        boolean rejected = false;
+
+        for (int counter = 0; ; ) {
+            long sequence = CLAIMED.get();
+
+            if (sequence >= SEALED) {
+                return -1;
+            }
+
+            if (sequence - WRITTEN.get() < CAPACITY) {
+                if (CLAIMED.compareAndSet(sequence, sequence + 1)) {
+                    return sequence;
+                }
+
+                continue;
+            }
+
+            if (!rejected) {
+                rejected = true;
+
+                if (BACKPRESSURE == Backpressure.DROP
+                        || BACKPRESSURE == Backpressure.SAMPLE && REJECTED.getAndIncrement() % SAMPLE_RATE != 0) {
+                    return -1;
+                }
+            }
+
+            counter = idle(counter, WAIT_STRATEGY == WaitStrategy.BLOCKING ? WaitStrategy.SLEEPING : WAIT_STRATEGY);
+        }
+    }
+
+    /**
+     * Writes the published records in order. The wrapped sink is flushed when the ring runs empty,
+     * after {@value #MAX_BATCH} records, or once the records a {@code flush()} call waits for are
+     * written, so a flush returns even while producers keep the ring full.
+     */
+    private void consume() {
+        long next = 0;
+        int unflushed = 0;
+
+        for (int counter = 0; ; ) {
+            int index = (int) next & MASK;
+
+            if (SEQUENCES.get(index) == next) {
+                writeRecord(index);
+                WRITTEN.lazySet(++next);
+                unflushed++;
+                counter = 0;
+
+                long requested = FLUSH_REQUESTED.get();
+
+                if (unflushed >= MAX_BATCH || next >= requested && requested > FLUSHED.get()) {
+                    flushSink();
+                    FLUSHED.set(next);
+                    unflushed = 0;
+                }
+            } else if (unflushed > 0) {
+                flushSink();
+                FLUSHED.set(next);
+                unflushed = 0;
+            } else if (running || (CLAIMED.get() & ~SEALED) != next) {
+                counter = waitForRecord(counter, index, next);
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void writeRecord(int index) {
+        Style style = STYLES[index];
+        byte[] prefix = PREFIXES[index];
+
+        try {
+            if (style == null) {
+                SINK.write(prefix, TEXTS[index], SUFFIXES[index]);
+            } else if (prefix == null) {
+                SINK.write(style, TEXTS[index], SUFFIXES[index]);
+            } else {
+                SINK.write(style, prefix, TEXTS[index], SUFFIXES[index]);
+            }
+        } catch (IOException | RuntimeException e) {
+            fail(e);
+        } finally {
+            STYLES[index] = null;
+            PREFIXES[index] = null;
+            TEXTS[index] = null;
+            SUFFIXES[index] = null;
+        }
+    }
+
+    private void flushSink() {
+        try {
+            SINK.flush();
+        } catch (IOException | RuntimeException e) {
+            fail(e);
+        }
+    }
+
+    private int waitForRecord(int counter, int index, long next) {
+        if (WAIT_STRATEGY != WaitStrategy.BLOCKING) {
+            return idle(counter, WAIT_STRATEGY);
+        }
+
+        consumerParked = true;
+
+        if (SEQUENCES.get(index) != next && running) {
+            LockSupport.parkNanos(this, PARK_NANOS * 10);
+        }
+
+        consumerParked = false;
+        return 0;
+    }
+
+    private static int idle(int counter, WaitStrategy strategy) {
+        switch (strategy) {
+            case BUSY_SPIN:
+                return counter;
+            case YIELDING:
+                Thread.yield();
+                return counter;
+            default:
+                if (counter < SPINS) {
+                    return counter + 1;
+                }
+
+                if (counter < SPINS + YIELDS) {
+                    Thread.yield();
+                    return counter + 1;
+                }
+
+                LockSupport.parkNanos(PARK_NANOS);
+                return counter;
+        }
+    }
+
+    private void wakeConsumer() {
+        if (consumerParked) {
+            LockSupport.unpark(CONSUMER);
+        }
+    }
+
+    /**
+     * Seals the claim counter and then stops the consumer, which writes all records claimed before
+     * the seal first.
+     */
+    private void stop() {
+        for (long sequence = CLAIMED.get(); sequence < SEALED; sequence = CLAIMED.get()) {
+            if (CLAIMED.compareAndSet(sequence, sequence | SEALED)) {
+                break;
+            }
+        }
+
+        running = false;
+        LockSupport.unpark(CONSUMER);
+
+        boolean interrupted = false;
+
+        while (CONSUMER.isAlive()) {
+            try {
+                CONSUMER.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drainOnShutdown() {
+        if (CLOSED.compareAndSet(false, true)) {
+            stop();
+            flushSink();
+        }
+    }
+
+    private void fail(Throwable e) {
+        if (failure == null) {
+            failure = e;
+        }
+    }
+
+    private void reportFailure() throws IOException {
+        Throwable e = failure;
+
+        if (e != null) {
+            failure = null;
+            throw e instanceof IOException ? (IOException) e : new IOException("Asynchronous write failed", e);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * The {@code BufferSink} class is an in-memory {@link ColterSink}. It keeps everything written
+ * to it as encoded bytes, which can be read back as a byte array or decoded as a {@link String}.
+ * It is useful for capturing colored output in tests or for building it in memory before sending
+ * it elsewhere.
+ *
+ * @see     ColterSink#buffer()
+ */
+public final class BufferSink extends EncodingSink {
+    private byte[] bytes = new byte[256];
+    private int size;
+
+    /**
+     * Creates an empty buffer.
+     * @param   charset the charset the text is encoded with.
+     */
+    public BufferSink(@NotNull Charset charset) {
+        super(charset);
+    }
+
+    @Override
+    void drain(@NotNull ByteBuffer buffer) {
+        int length = buffer.position();
+
+        if (size + length > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + length));
+        }
+
+        System.arraycopy(buffer.array(), buffer.arrayOffset(), bytes, size, length);
+        size += length;
+    }
+
+    /**
+     * Returns the number of bytes in the buffer.
+     * @return  the buffer size.
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Returns the content of the buffer.
+     * @return  a new array with the written bytes.
+     */
+    public synchronized byte[] toByteArray() {
+        return Arrays.copyOf(bytes, size);
+    }
+
+    /**
+     * Discards the content of the buffer.
+     */
+    public synchronized void reset() {
+        size = 0;
+    }
+
+    /**
+     * Returns the content of the buffer decoded with the charset of the buffer.
+     * @return  the written text with escape sequences.
+     */
+    @Override
+    public synchronized String toString() {
+        return new String(bytes, 0, size, getCharset());
+    }
+}
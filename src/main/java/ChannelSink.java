@@ -0,0 +1,35 @@
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+
+/**
+ * The {@code ChannelSink} class writes records to a {@link WritableByteChannel}, one
+ * {@code write()} call per record which fits the encoding buffer.
+ *
+ * @see     ColterSink#of(WritableByteChannel, Charset)
+ */
+final class ChannelSink extends EncodingSink {
+    private final WritableByteChannel CHANNEL;
+
+    ChannelSink(@NotNull WritableByteChannel channel, @NotNull Charset charset) {
+        super(charset);
+        this.CHANNEL = channel;
+    }
+
+    @Override
+    void drain(@NotNull ByteBuffer buffer) throws IOException {
+        buffer.flip();
+
+        while (buffer.hasRemaining()) {
+            CHANNEL.write(buffer);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        CHANNEL.close();
+    }
+}
@@ -0,0 +1,24 @@
+/**
+ * The {@code ColorDepth} enum represents the number of colors a terminal can display. Styles are
+ * downsampled to the depth of their destination when they are rendered, so code using 24-bit
+ * colors prints the nearest colors the terminal supports.
+ *
+ * @see     Style#downsample(ColorDepth)
+ * @see     ColterSink#downsampling(ColterSink, ColorDepth)
+ */
+public enum ColorDepth {
+    /**
+     * The 16 basic colors of {@link modificators.FGColor} and {@link modificators.BGColor}.
+     */
+    COLORS_16,
+
+    /**
+     * The 256 colors of the xterm palette: the 16 basic colors, the {@code 6x6x6} color cube and 24 grays.
+     */
+    COLORS_256,
+
+    /**
+     * The 24-bit true colors; styles are rendered unchanged.
+     */
+    TRUE_COLOR
+}
@@ -0,0 +1,126 @@
+/**
+ * The {@code ColorDownsampler} class maps colors to the nearest colors of a smaller palette with
+ * table lookups only. A 24-bit color is reduced to 15 bits - 5 bits per component - and looked up
+ * in a table of 32768 xterm-256 indices, and an 8-bit color is mapped to one of the 16 basic colors
+ * by a table of 256 entries. Both tables are computed once, so no distance search runs per call.
+ * <p>
+ * The 24-bit colors are mapped to the color cube and the grays of the xterm palette only, as the
+ * first 16 colors differ between terminals. The nearest color is the one with the smallest
+ * Euclidean distance in RGB space.
+ *
+ * @see     Style#downsample(ColorDepth)
+ */
+final class ColorDownsampler {
+    private static final int[] CUBE_LEVELS = {0, 95, 135, 175, 215, 255};
+    private static final int[] BASIC_PALETTE = {
+            0x000000, 0xCD0000, 0x00CD00, 0xCDCD00, 0x0000EE, 0xCD00CD, 0x00CDCD, 0xE5E5E5,
+            0x7F7F7F, 0xFF0000, 0x00FF00, 0xFFFF00, 0x5C5CFF, 0xFF00FF, 0x00FFFF, 0xFFFFFF
+    };
+    private static final byte[] BASIC = new byte[256];
+
+    static {
+        for (int index = 0; index < BASIC.length; index++) {
+            BASIC[index] = (byte) (index < 16 ? index : nearestBasic(paletteColor(index)));
+        }
+    }
+
+    private ColorDownsampler() {
+    }
+
+    /**
+     * Returns the xterm-256 index nearest to the 24-bit color.
+     * @param   rgb packed {@code 0xRRGGBB} color value.
+     * @return  the color number of {@code 16..255}.
+     */
+    static int toIndexed(int rgb) {
+        return Table.INDEXED[rgb >>> 9 & 0x7C00 | rgb >>> 6 & 0x3E0 | rgb >>> 3 & 0x1F] & 0xFF;
+    }
+
+    /**
+     * Returns the basic color nearest to the 8-bit color.
+     * @param   color   the color number of {@code 0..255}.
+     * @return  the basic color number of {@code 0..15}: the normal colors {@code 0..7} followed by the bright ones.
+     */
+    static int toBasic(int color) {
+        return BASIC[color];
+    }
+
+    /**
+     * Returns the 24-bit value of the xterm-256 color.
+     */
+    static int paletteColor(int index) {
+        if (index < 16) {
+            return BASIC_PALETTE[index];
+        }
+
+        if (index >= 232) {
+            int gray = 8 + 10 * (index - 232);
+            return gray << 16 | gray << 8 | gray;
+        }
+
+        int cube = index - 16;
+        return CUBE_LEVELS[cube / 36] << 16 | CUBE_LEVELS[cube / 6 % 6] << 8 | CUBE_LEVELS[cube % 6];
+    }
+
+    private static int nearestBasic(int rgb) {
+        int nearest = 0;
+        int nearestDistance = Integer.MAX_VALUE;
+
+        for (int i = 0; i < BASIC_PALETTE.length; i++) {
+            int distance = distance(rgb, BASIC_PALETTE[i]);
+
+            if (distance < nearestDistance) {
+                nearest = i;
+                nearestDistance = distance;
+            }
+        }
+
+        return nearest;
+    }
+
+    private static int distance(int rgb1, int rgb2) {
+        int r = (rgb1 >>> 16) - (rgb2 >>> 16);
+        int g = (rgb1 >>> 8 & 0xFF) - (rgb2 >>> 8 & 0xFF);
+        int b = (rgb1 & 0xFF) - (rgb2 & 0xFF);
+
+        return r * r + g * g + b * b;
+    }
+
+    /**
+     * Lazy holder of the 15-bit table: the JVM initializes it on the first downsampled 24-bit color only.
+     */
+    private static final class Table {
+        private static final byte[] INDEXED = new byte[1 << 15];
+
+        static {
+            int[] cubeIndex = new int[256];
+
+            for (int value = 0, level = 0; value < 256; value++) {
+                while (level < 5 && value - CUBE_LEVELS[level] > CUBE_LEVELS[level + 1] - value) {
+                    level++;
+                }
+
+                cubeIndex[value] = level;
+            }
+
+            for (int key = 0; key < INDEXED.length; key++) {
+                int r = expand(key >>> 10);
+                int g = expand(key >>> 5 & 0x1F);
+                int b = expand(key & 0x1F);
+                int rgb = r << 16 | g << 8 | b;
+
+                int cube = 16 + 36 * cubeIndex[r] + 6 * cubeIndex[g] + cubeIndex[b];
+                int gray = 232 + Math.max(0, Math.min(23, ((r + g + b) / 3 - 3) / 10));
+
+                INDEXED[key] = (byte) (distance(rgb, paletteColor(gray)) < distance(rgb, paletteColor(cube)) ? gray : cube);
+            }
+        }
+
+        /**
+         * Expands the 5-bit component to 8 bits, so {@code 0} stays {@code 0} and {@code 31} becomes {@code 255}.
+         */
+        private static int expand(int component) {
+            return component << 3 | component >>> 2;
+        }
+    }
+}
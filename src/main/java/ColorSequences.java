@@ -0,0 +1,64 @@
+/**
+ * The {@code ColorSequences} class holds the precomputed escape sequences of all 256 foreground
+ * and 256 background colors. The table is built once, on the first use of an 8-bit color,
+ * so each lookup is a single array access instead of building and validating a new {@link String}.
+ *
+ * @see     EscapeSequence
+ */
+final class ColorSequences {
+    private static final int COLORS = 256;
+
+    private ColorSequences() {
+    }
+
+    /**
+     * Returns the foreground escape sequence of the 8-bit color.
+     * @param   color   {@code int} foreground color number of {@code 0..255}.
+     * @return  the shared {@link EscapeSequence} of the foreground color.
+     * @throws  IllegalArgumentException    if the color number is out of range.
+     */
+    static EscapeSequence fg(int color) {
+        if ((color & ~0xFF) != 0) {
+            throw outOfRange(color);
+        }
+
+        return Table.FG[color];
+    }
+
+    /**
+     * Returns the background escape sequence of the 8-bit color.
+     * @param   color   {@code int} background color number of {@code 0..255}.
+     * @return  the shared {@link EscapeSequence} of the background color.
+     * @throws  IllegalArgumentException    if the color number is out of range.
+     */
+    static EscapeSequence bg(int color) {
+        if ((color & ~0xFF) != 0) {
+            throw outOfRange(color);
+        }
+
+        return Table.BG[color];
+    }
+
+    private static IllegalArgumentException outOfRange(int color) {
+        String message = color < 0
+                ? "Color number out of range. Expected: color >= 0, actual: color = " + color
+                : "Color number out of range. Expected: color <= 255, actual: color = " + color;
+
+        return new IllegalArgumentException(message);
+    }
+
+    /**
+     * Lazy holder of the tables: the JVM initializes it on the first 8-bit color lookup only.
+     */
+    private static final class Table {
+        private static final EscapeSequence[] FG = new EscapeSequence[COLORS];
+        private static final EscapeSequence[] BG = new EscapeSequence[COLORS];
+
+        static {
+            for (int color = 0; color < COLORS; color++) {
+                FG[color] = new EscapeSequence("\u001b[38;5;" + color + "m");
+                BG[color] = new EscapeSequence("\u001b[48;5;" + color + "m");
+            }
+        }
+    }
+}
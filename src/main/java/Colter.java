@@ -1,11 +1,16 @@
 import modificators.BGColor;
 import modificators.Effect;
+import modificators.EffectSet;
 import modificators.FGColor;
 
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Arrays;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.CharBuffer;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.UnaryOperator;
 import java.awt.Color;
 
 import static modificators.BGColor.BG_DEFAULT;
@@ -45,6 +50,28 @@ import static modificators.FGColor.FG_DEFAULT;
  * temporarily override parameters for the current time without overwriting them in the
  * {@code Colter} object.
  * <p>
+ * Objects which are {@link CharSequence}s, such as {@code StringBuilder} or {@code CharBuffer}, are
+ * printed without calling {@code toString()}: their chars are encoded straight into the output.
+ * Slices of char arrays can be printed the same way.
+ * <p>
+ * The colors and effects of a {@code Colter} object are kept as one immutable {@link Style} value,
+ * which can be read by {@code getStyle()} and shared between objects by {@code setStyle()}.
+ * <p>
+ * A {@code Colter} object can be shared between threads. Each {@code set()} method replaces the whole
+ * style atomically, and each print method reads the style once, so it always prints a consistent
+ * combination of colors and effects without locking. Only the style is atomic: the text is published
+ * separately, so a {@code set()} method which takes both a text and a style may be seen by a concurrent
+ * print with the new text and the old style. A printer whose text and style must change together while
+ * other threads print should be replaced by a new {@link FrozenColter} made by {@code freeze()}.
+ * <p>
+ * By default, the output is written to {@code System.out} as the {@link TerminalProfile} of the process
+ * requires: as plain text if the output is not a terminal, with colors downsampled to the color depth
+ * of the terminal otherwise. Any other destination, such as a file, a channel or an in-memory buffer,
+ * can be set by passing a {@link ColterSink} to the constructor or to {@code setSink()}.
+ * <p>
+ * A {@code Colter} object which is configured once and then only prints can be turned into a
+ * {@link FrozenColter} by {@code freeze()}, which renders the style once for all prints.
+ * <p>
  *     Examples of using
  * <blockquote><pre>
  *     String s = "abc";
@@ -69,17 +96,19 @@ import static modificators.FGColor.FG_DEFAULT;
  * @see     FGColor
  * @see     BGColor
  * @see     Effect
+ * @see     Style
+ * @see     ColterSink
  *
  * @version 1.0
  */
 @SuppressWarnings({"UnusedReturnValue", "unused", "SpellCheckingInspection"})
 public class Colter {
-    private static final String RESET = "\u001B[0m";
-    private String text = "";
-    private String foregroundColor = "";
-    private String backgroundColor = "";
-    private String effect = "";
-    private Effect[] effects = new Effect[0];
+    private static final AtomicReferenceFieldUpdater<Colter, Style> STYLE =
+            AtomicReferenceFieldUpdater.newUpdater(Colter.class, Style.class, "style");
+
+    private volatile String text = "";
+    private volatile Style style = Style.none();
+    private volatile ColterSink sink = ColterSink.terminal();
 
     /**
      * Default constructor without any parameters. Creates an object which does not store parameters.
@@ -88,6 +117,23 @@ public class Colter {
     public Colter() {
     }
 
+    /**
+     * Constructor with the sink as a parameter. Creates an object which does not store parameters
+     * and writes its output to the given sink instead of {@code System.out}.
+     * @param   sink    the {@link ColterSink} the output is written to.
+     */
+    public Colter(@NotNull ColterSink sink) {
+        this.sink = sink;
+    }
+
+    /**
+     * Constructor with the style as a parameter. Creates an object with the colors and effects of the style.
+     * @param   style   the {@link Style} which will be set.
+     */
+    public Colter(@NotNull Style style) {
+        this.style = style;
+    }
+
     /**
      * Constructor with Object as a parameter. If Object is an instance of FGColor, BGColor or
      * Effect Enum the corresponding parameter will be set. Otherwise, {@code Objet.toString()}
@@ -96,15 +142,13 @@ public class Colter {
      */
     public Colter(@NotNull Object o) {
                if (o instanceof FGColor) {
-            foregroundColor = o.toString();
+            style = style.withFG((FGColor) o);
         } else if (o instanceof BGColor) {
-            backgroundColor = o.toString();
+            style = style.withBG((BGColor) o);
         } else if (o instanceof Effect) {
-            effect = o.toString();
-            effects = new Effect[]{(Effect) o};
+            style = style.withEffects((Effect) o);
         } else if (o instanceof Effect[]) {
-            effect = effect((Effect[]) o);
-            effects = (Effect[]) o;
+            style = style.withEffects((Effect[]) o);
         } else {
             text = o.toString();
         }
@@ -116,8 +160,8 @@ public class Colter {
      * @param   bgColor Enum of type {@link BGColor}, which represents one of 16 background colors.
      */
     public Colter(@NotNull FGColor fgColor, @NotNull BGColor bgColor) {
-        foregroundColor = fgColor.toString();
-        backgroundColor = bgColor.toString();
+        style = style.withFG(fgColor);
+        style = style.withBG(bgColor);
     }
 
     /**
@@ -126,8 +170,8 @@ public class Colter {
      * @param   bgColor Enum of type {@link BGColor}, which represents one of 16 background colors.
      */
     public Colter(@NotNull Color fgColor, @NotNull BGColor bgColor) {
-        foregroundColor = fg(fgColor.getRed(), fgColor.getGreen(), fgColor.getBlue());
-        backgroundColor = bgColor.toString();
+        style = style.withFG(fgColor);
+        style = style.withBG(bgColor);
     }
 
     /**
@@ -136,8 +180,8 @@ public class Colter {
      * @param   bgColor Enum of type {@link BGColor}, which represents one of 16 background colors.
      */
     public Colter(int fgColor, @NotNull BGColor bgColor) {
-        foregroundColor = fg(fgColor);
-        backgroundColor = bgColor.toString();
+        style = style.withFG(fgColor);
+        style = style.withBG(bgColor);
     }
 
     /**
@@ -150,8 +194,8 @@ public class Colter {
      * @param   bgColor Enum of type {@link BGColor}, which represents one of 16 background colors.
      */
     public Colter(int fgRed, int fgGreen, int fgBlue, @NotNull BGColor bgColor) {
-        foregroundColor = fg(fgRed, fgGreen, fgBlue);
-        backgroundColor = bgColor.toString();
+        style = style.withFG(fgRed, fgGreen, fgBlue);
+        style = style.withBG(bgColor);
     }
 
     /**
@@ -160,8 +204,8 @@ public class Colter {
      * @param   bgColor {@link Color} object, which represents the background color.
      */
     public Colter(@NotNull FGColor fgColor, @NotNull Color bgColor) {
-        foregroundColor = fgColor.toString();
-        backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
+        style = style.withFG(fgColor);
+        style = style.withBG(bgColor);
     }
 
     /**
@@ -170,8 +214,8 @@ public class Colter {
      * @param   bgColor {@link Color} object, which represents the background color.
      */
     public Colter(@NotNull Color fgColor, @NotNull Color bgColor) {
-        foregroundColor = fg(fgColor.getRed(), fgColor.getGreen(), fgColor.getBlue());
-        backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
+        style = style.withFG(fgColor);
+        style = style.withBG(bgColor);
     }
 
     /**
@@ -180,8 +224,8 @@ public class Colter {
      * @param   bgColor {@link Color} object, which represents the background color.
      */
     public Colter(int fgColor, @NotNull Color bgColor) {
-        foregroundColor = fg(fgColor);
-        backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
+        style = style.withFG(fgColor);
+        style = style.withBG(bgColor);
     }
 
     /**
@@ -194,8 +238,8 @@ public class Colter {
      * @param   bgColor {@link Color} object, which represents the background color.
      */
     public Colter(int fgRed, int fgGreen, int fgBlue, @NotNull Color bgColor) {
-        foregroundColor = fg(fgRed, fgGreen, fgBlue);
-        backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
+        style = style.withFG(fgRed, fgGreen, fgBlue);
+        style = style.withBG(bgColor);
     }
 
     /**
@@ -204,8 +248,8 @@ public class Colter {
      * @param   bgColor {@code int} background color number of {@code 0..255}.
      */
     public Colter(@NotNull FGColor fgColor, int bgColor) {
-        foregroundColor = fgColor.toString();
-        backgroundColor = bg(bgColor);
+        style = style.withFG(fgColor);
+        style = style.withBG(bgColor);
     }//
 
     /**
@@ -214,8 +258,8 @@ public class Colter {
      * @param   bgColor {@code int} background color number of {@code 0..255}.
      */
     public Colter(@NotNull Color fgColor, int bgColor) {
-        foregroundColor = fg(fgColor.getRed(), fgColor.getGreen(), fgColor.getBlue());
-        backgroundColor = bg(bgColor);
+        style = style.withFG(fgColor);
+        style = style.withBG(bgColor);
     }//
 
     /**
@@ -224,8 +268,8 @@ public class Colter {
      * @param   bgColor {@code int} background color number of {@code 0..255}.
      */
     public Colter(int fgColor, int bgColor) {
-        foregroundColor = fg(fgColor);
-        backgroundColor = bg(bgColor);
+        style = style.withFG(fgColor);
+        style = style.withBG(bgColor);
     }//
 
     /**
@@ -238,8 +282,8 @@ public class Colter {
      * @param   bgBlue  {@code int} value of the <b>Blue</b> component of the background color.
      */
     public Colter(@NotNull FGColor fgColor, int bgRed, int bgGreen, int bgBlue) {
-        foregroundColor = fgColor.toString();
-        backgroundColor = bg(bgRed, bgGreen, bgBlue);
+        style = style.withFG(fgColor);
+        style = style.withBG(bgRed, bgGreen, bgBlue);
     }//
 
     /**
@@ -252,8 +296,8 @@ public class Colter {
      * @param   bgBlue  {@code int} value of the <b>Blue</b> component of the background color.
      */
     public Colter(@NotNull Color fgColor, int bgRed, int bgGreen, int bgBlue) {
-        foregroundColor = fg(fgColor.getRed(), fgColor.getGreen(), fgColor.getBlue());
-        backgroundColor = bg(bgRed, bgGreen, bgBlue);
+        style = style.withFG(fgColor);
+        style = style.withBG(bgRed, bgGreen, bgBlue);
     }//
 
     /**
@@ -268,8 +312,8 @@ public class Colter {
      * @param   bgBlue  {@code int} value of the <b>Blue</b> component of the background color.
      */
     public Colter(int fgRed, int fgGreen, int fgBlue, int bgRed, int bgGreen, int bgBlue) {
-        foregroundColor = fg(fgRed, fgGreen, fgBlue);
-        backgroundColor = bg(bgRed, bgGreen, bgBlue);
+        style = style.withFG(fgRed, fgGreen, fgBlue);
+        style = style.withBG(bgRed, bgGreen, bgBlue);
     }//
 
     /**
@@ -279,9 +323,8 @@ public class Colter {
      *                  Can be passed in separated by comma.
      */
     public Colter(@NotNull FGColor fgColor, @NotNull Effect ... effects) {
-        foregroundColor = fgColor.toString();
-        this.effects = effects;
-        this.effect = effect(effects);
+        style = style.withFG(fgColor);
+        style = style.withEffects(effects);
     }//
 
     /**
@@ -291,9 +334,8 @@ public class Colter {
      *                  Can be passed in separated by comma.
      */
     public Colter(@NotNull BGColor bgColor, @NotNull Effect ... effects) {
-        backgroundColor = bgColor.toString();
-        this.effects = effects;
-        this.effect = effect(effects);
+        style = style.withBG(bgColor);
+        style = style.withEffects(effects);
     }//
 
     /**
@@ -304,10 +346,9 @@ public class Colter {
      *                  Can be passed in separated by comma.
      */
     public Colter(@NotNull FGColor fgColor, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
-        foregroundColor = fgColor.toString();
-        backgroundColor = bgColor.toString();
-        this.effects = effects;
-        this.effect = effect(effects);
+        style = style.withFG(fgColor);
+        style = style.withBG(bgColor);
+        style = style.withEffects(effects);
     }//
 
     /**
@@ -318,10 +359,9 @@ public class Colter {
      *                  Can be passed in separated by comma.
      */
     public Colter(@NotNull Color fgColor, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
-        foregroundColor = fg(fgColor.getRed(), fgColor.getGreen(), fgColor.getBlue());
-        backgroundColor = bgColor.toString();
-        this.effects = effects;
-        this.effect = effect(effects);
+        style = style.withFG(fgColor);
+        style = style.withBG(bgColor);
+        style = style.withEffects(effects);
     }
 
     /**
@@ -332,10 +372,9 @@ public class Colter {
      *                  Can be passed in separated by comma.
      */
     public Colter(int fgColor, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
-        foregroundColor = fg(fgColor);
-        backgroundColor = bgColor.toString();
-        this.effects = effects;
-        this.effect = effect(effects);
+        style = style.withFG(fgColor);
+        style = style.withBG(bgColor);
+        style = style.withEffects(effects);
     }
 
     /**
@@ -350,10 +389,9 @@ public class Colter {
      *                  Can be passed in separated by comma.
      */
     public Colter(int fgRed, int fgGreen, int fgBlue, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
-        foregroundColor = fg(fgRed, fgGreen, fgBlue);
-        backgroundColor = bgColor.toString();
-        this.effects = effects;
-        this.effect = effect(effects);
+        style = style.withFG(fgRed, fgGreen, fgBlue);
+        style = style.withBG(bgColor);
+        style = style.withEffects(effects);
     }
 
     /**
@@ -364,10 +402,9 @@ public class Colter {
      *                  Can be passed in separated by comma.
      */
     public Colter(@NotNull FGColor fgColor, @NotNull Color bgColor, @NotNull Effect ... effects) {
-        foregroundColor = fgColor.toString();
-        backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        this.effects = effects;
-        this.effect = effect(effects);
+        style = style.withFG(fgColor);
+        style = style.withBG(bgColor);
+        style = style.withEffects(effects);
     }
 
     /**
@@ -378,10 +415,9 @@ public class Colter {
      *                  Can be passed in separated by comma.
      */
     public Colter(@NotNull Color fgColor, @NotNull Color bgColor, @NotNull Effect ... effects) {
-        foregroundColor = fg(fgColor.getRed(), fgColor.getGreen(), fgColor.getBlue());
-        backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        this.effects = effects;
-        this.effect = effect(effects);
+        style = style.withFG(fgColor);
+        style = style.withBG(bgColor);
+        style = style.withEffects(effects);
     }
 
     /**
@@ -392,10 +428,9 @@ public class Colter {
      *                  Can be passed in separated by comma.
      */
     public Colter(int fgColor, @NotNull Color bgColor, @NotNull Effect ... effects) {
-        foregroundColor = fg(fgColor);
-        backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        this.effects = effects;
-        this.effect = effect(effects);
+        style = style.withFG(fgColor);
+        style = style.withBG(bgColor);
+        style = style.withEffects(effects);
     }
 
     /**
@@ -410,10 +445,9 @@ public class Colter {
      *                  Can be passed in separated by comma.
      */
     public Colter(int fgRed, int fgGreen, int fgBlue, @NotNull Color bgColor, @NotNull Effect ... effects) {
-        foregroundColor = fg(fgRed, fgGreen, fgBlue);
-        backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        this.effects = effects;
-        this.effect = effect(effects);
+        style = style.withFG(fgRed, fgGreen, fgBlue);
+        style = style.withBG(bgColor);
+        style = style.withEffects(effects);
     }
 
     /**
@@ -424,10 +458,9 @@ public class Colter {
      *                  Can be passed in separated by comma.
      */
     public Colter(@NotNull FGColor fgColor, int bgColor, @NotNull Effect ... effects) {
-        foregroundColor = fgColor.toString();
-        backgroundColor = bg(bgColor);
-        this.effects = effects;
-        this.effect = effect(effects);
+        style = style.withFG(fgColor);
+        style = style.withBG(bgColor);
+        style = style.withEffects(effects);
     }
 
     /**
@@ -438,10 +471,9 @@ public class Colter {
      *                  Can be passed in separated by comma.
      */
     public Colter(@NotNull Color fgColor, int bgColor, @NotNull Effect ... effects) {
-        foregroundColor = fg(fgColor.getRed(), fgColor.getGreen(), fgColor.getBlue());
-        backgroundColor = bg(bgColor);
-        this.effects = effects;
-        this.effect = effect(effects);
+        style = style.withFG(fgColor);
+        style = style.withBG(bgColor);
+        style = style.withEffects(effects);
     }
 
     /**
@@ -452,10 +484,9 @@ public class Colter {
      *                  Can be passed in separated by comma.
      */
     public Colter(int fgColor, int bgColor, @NotNull Effect ... effects) {
-        foregroundColor = fg(fgColor);
-        backgroundColor = bg(bgColor);
-        this.effects = effects;
-        this.effect = effect(effects);
+        style = style.withFG(fgColor);
+        style = style.withBG(bgColor);
+        style = style.withEffects(effects);
     }
 
     /**
@@ -470,10 +501,9 @@ public class Colter {
      *                  Can be passed in separated by comma.
      */
     public Colter(@NotNull FGColor fgColor, int bgRed, int bgGreen, int bgBlue, @NotNull Effect ... effects) {
-        foregroundColor = fgColor.toString();
-        backgroundColor = bg(bgRed, bgGreen, bgBlue);
-        this.effects = effects;
-        this.effect = effect(effects);
+        style = style.withFG(fgColor);
+        style = style.withBG(bgRed, bgGreen, bgBlue);
+        style = style.withEffects(effects);
     }
 
     /**
@@ -488,10 +518,9 @@ public class Colter {
      *                  Can be passed in separated by comma.
      */
     public Colter(@NotNull Color fgColor, int bgRed, int bgGreen, int bgBlue, @NotNull Effect ... effects) {
-        foregroundColor = fg(fgColor.getRed(), fgColor.getGreen(), fgColor.getBlue());
-        backgroundColor = bg(bgRed, bgGreen, bgBlue);
-        this.effects = effects;
-        this.effect = effect(effects);
+        style = style.withFG(fgColor);
+        style = style.withBG(bgRed, bgGreen, bgBlue);
+        style = style.withEffects(effects);
     }
 
     /**
@@ -508,10 +537,9 @@ public class Colter {
      *                  Can be passed in separated by comma.
      */
     public Colter(int fgRed, int fgGreen, int fgBlue, int bgRed, int bgGreen, int bgBlue, @NotNull Effect ... effects) {
-        foregroundColor = fg(fgRed, fgGreen, fgBlue);
-        backgroundColor = bg(bgRed, bgGreen, bgBlue);
-        this.effects = effects;
-        this.effect = effect(effects);
+        style = style.withFG(fgRed, fgGreen, fgBlue);
+        style = style.withBG(bgRed, bgGreen, bgBlue);
+        style = style.withEffects(effects);
     }
 
     /**
@@ -520,7 +548,7 @@ public class Colter {
      */
     public Colter(@NotNull Object o, @NotNull FGColor fgColor) {
         text = o.toString();
-        foregroundColor = fgColor.toString();
+        style = style.withFG(fgColor);
     }
 
     /**
@@ -529,7 +557,7 @@ public class Colter {
      */
     public Colter(@NotNull Object o, @NotNull BGColor bgColor) {
         text = o.toString();
-        backgroundColor = bgColor.toString();
+        style = style.withBG(bgColor);
     }
 
     /**
@@ -539,8 +567,7 @@ public class Colter {
      */
     public Colter(@NotNull Object o, @NotNull Effect ... effects) {
         text = o.toString();
-        this.effects = effects;
-        this.effect = effect(effects);
+        style = style.withEffects(effects);
     }
 
     /**
@@ -550,8 +577,8 @@ public class Colter {
      */
     public Colter(@NotNull Object o, @NotNull FGColor fgColor, @NotNull BGColor bgColor) {
         text = o.toString();
-        foregroundColor = fgColor.toString();
-        backgroundColor = bgColor.toString();
+        style = style.withFG(fgColor);
+        style = style.withBG(bgColor);
     }
 
     /**
@@ -561,8 +588,8 @@ public class Colter {
      */
     public Colter(@NotNull Object o, @NotNull Color fgColor, @NotNull BGColor bgColor) {
         text = o.toString();
-        foregroundColor = fg(fgColor.getRed(), fgColor.getGreen(), fgColor.getBlue());
-        backgroundColor = bgColor.toString();
+        style = style.withFG(fgColor);
+        style = style.withBG(bgColor);
     }
 
     /**
@@ -572,8 +599,8 @@ public class Colter {
      */
     public Colter(@NotNull Object o, int fgColor, @NotNull BGColor bgColor) {
         text = o.toString();
-        foregroundColor = fg(fgColor);
-        backgroundColor = bgColor.toString();
+        style = style.withFG(fgColor);
+        style = style.withBG(bgColor);
     }
 
     /**
@@ -587,8 +614,8 @@ public class Colter {
      */
     public Colter(@NotNull Object o, int fgRed, int fgGreen, int fgBlue, @NotNull BGColor bgColor) {
         text = o.toString();
-        foregroundColor = fg(fgRed, fgGreen, fgBlue);
-        backgroundColor = bgColor.toString();
+        style = style.withFG(fgRed, fgGreen, fgBlue);
+        style = style.withBG(bgColor);
     }
 
     /**
@@ -598,8 +625,8 @@ public class Colter {
      */
     public Colter(@NotNull Object o, @NotNull FGColor fgColor, @NotNull Color bgColor) {
         text = o.toString();
-        foregroundColor = fgColor.toString();
-        backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
+        style = style.withFG(fgColor);
+        style = style.withBG(bgColor);
     }
 
     /**
@@ -609,8 +636,8 @@ public class Colter {
      */
     public Colter(@NotNull Object o, @NotNull Color fgColor, @NotNull Color bgColor) {
         text = o.toString();
-        foregroundColor = fg(fgColor.getRed(), fgColor.getGreen(), fgColor.getBlue());
-        backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
+        style = style.withFG(fgColor);
+        style = style.withBG(bgColor);
     }
 
     /**
@@ -620,8 +647,8 @@ public class Colter {
      */
     public Colter(@NotNull Object o, int fgColor, @NotNull Color bgColor) {
         text = o.toString();
-        foregroundColor = fg(fgColor);
-        backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
+        style = style.withFG(fgColor);
+        style = style.withBG(bgColor);
     }
 
     /**
@@ -635,8 +662,8 @@ public class Colter {
      */
     public Colter(@NotNull Object o, int fgRed, int fgGreen, int fgBlue, @NotNull Color bgColor) {
         text = o.toString();
-        foregroundColor = fg(fgRed, fgGreen, fgBlue);
-        backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
+        style = style.withFG(fgRed, fgGreen, fgBlue);
+        style = style.withBG(bgColor);
     }
 
     /**
@@ -646,8 +673,8 @@ public class Colter {
      */
     public Colter(@NotNull Object o, @NotNull FGColor fgColor, int bgColor) {
         text = o.toString();
-        foregroundColor = fgColor.toString();
-        backgroundColor = bg(bgColor);
+        style = style.withFG(fgColor);
+        style = style.withBG(bgColor);
     }
 
     /**
@@ -657,8 +684,8 @@ public class Colter {
      */
     public Colter(@NotNull Object o, @NotNull Color fgColor, int bgColor) {
         text = o.toString();
-        foregroundColor = fg(fgColor.getRed(), fgColor.getGreen(), fgColor.getBlue());
-        backgroundColor = bg(bgColor);
+        style = style.withFG(fgColor);
+        style = style.withBG(bgColor);
     }
 
     /**
@@ -668,8 +695,8 @@ public class Colter {
      */
     public Colter(@NotNull Object o, int fgColor, int bgColor) {
         text = o.toString();
-        foregroundColor = fg(fgColor);
-        backgroundColor = bg(bgColor);
+        style = style.withFG(fgColor);
+        style = style.withBG(bgColor);
     }
 
     /**
@@ -683,8 +710,8 @@ public class Colter {
      */
     public Colter(@NotNull Object o, @NotNull FGColor fgColor, int bgRed, int bgGreen, int bgBlue) {
         text = o.toString();
-        foregroundColor = fgColor.toString();
-        backgroundColor = bg(bgRed, bgGreen, bgBlue);
+        style = style.withFG(fgColor);
+        style = style.withBG(bgRed, bgGreen, bgBlue);
     }
 
     /**
@@ -698,8 +725,8 @@ public class Colter {
      */
     public Colter(@NotNull Object o, @NotNull Color fgColor, int bgRed, int bgGreen, int bgBlue) {
         text = o.toString();
-        foregroundColor = fg(fgColor.getRed(), fgColor.getGreen(), fgColor.getBlue());
-        backgroundColor = bg(bgRed, bgGreen, bgBlue);
+        style = style.withFG(fgColor);
+        style = style.withBG(bgRed, bgGreen, bgBlue);
     }
 
     /**
@@ -715,8 +742,8 @@ public class Colter {
      */
     public Colter(@NotNull Object o, int fgRed, int fgGreen, int fgBlue, int bgRed, int bgGreen, int bgBlue) {
         text = o.toString();
-        foregroundColor = fg(fgRed, fgGreen, fgBlue);
-        backgroundColor = bg(bgRed, bgGreen, bgBlue);
+        style = style.withFG(fgRed, fgGreen, fgBlue);
+        style = style.withBG(bgRed, bgGreen, bgBlue);
     }
 
     /**
@@ -727,9 +754,8 @@ public class Colter {
      */
     public Colter(@NotNull Object o, @NotNull FGColor fgColor, @NotNull Effect ... effects) {
         text = o.toString();
-        foregroundColor = fgColor.toString();
-        this.effects = effects;
-        this.effect = effect(effects);
+        style = style.withFG(fgColor);
+        style = style.withEffects(effects);
     }
 
     /**
@@ -740,9 +766,8 @@ public class Colter {
      */
     public Colter(@NotNull Object o, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
         text = o.toString();
-        backgroundColor = bgColor.toString();
-        this.effects = effects;
-        this.effect = effect(effects);
+        style = style.withBG(bgColor);
+        style = style.withEffects(effects);
     }
 
     /**
@@ -754,10 +779,9 @@ public class Colter {
      */
     public Colter(@NotNull Object o, @NotNull FGColor fgColor, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
         text = o.toString();
-        foregroundColor = fgColor.toString();
-        backgroundColor = bgColor.toString();
-        this.effects = effects;
-        this.effect = effect(effects);
+        style = style.withFG(fgColor);
+        style = style.withBG(bgColor);
+        style = style.withEffects(effects);
     }
 
     /**
@@ -769,10 +793,9 @@ public class Colter {
      */
     public Colter(@NotNull Object o, @NotNull Color fgColor, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
         text = o.toString();
-        foregroundColor = fg(fgColor.getRed(), fgColor.getGreen(), fgColor.getBlue());
-        backgroundColor = bgColor.toString();
-        this.effects = effects;
-        this.effect = effect(effects);
+        style = style.withFG(fgColor);
+        style = style.withBG(bgColor);
+        style = style.withEffects(effects);
     }
 
     /**
@@ -784,10 +807,9 @@ public class Colter {
      */
     public Colter(@NotNull Object o, int fgColor, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
         text = o.toString();
-        foregroundColor = fg(fgColor);
-        backgroundColor = bgColor.toString();
-        this.effects = effects;
-        this.effect = effect(effects);
+        style = style.withFG(fgColor);
+        style = style.withBG(bgColor);
+        style = style.withEffects(effects);
     }
 
     /**
@@ -803,10 +825,9 @@ public class Colter {
      */
     public Colter(@NotNull Object o, int fgRed, int fgGreen, int fgBlue, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
         text = o.toString();
-        foregroundColor = fg(fgRed, fgGreen, fgBlue);
-        backgroundColor = bgColor.toString();
-        this.effects = effects;
-        this.effect = effect(effects);
+        style = style.withFG(fgRed, fgGreen, fgBlue);
+        style = style.withBG(bgColor);
+        style = style.withEffects(effects);
     }
 
     /**
@@ -818,10 +839,9 @@ public class Colter {
      */
     public Colter(@NotNull Object o, @NotNull FGColor fgColor, @NotNull Color bgColor, @NotNull Effect ... effects) {
         text = o.toString();
-        foregroundColor = fgColor.toString();
-        backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        this.effects = effects;
-        this.effect = effect(effects);
+        style = style.withFG(fgColor);
+        style = style.withBG(bgColor);
+        style = style.withEffects(effects);
     }
 
     /**
@@ -833,10 +853,9 @@ public class Colter {
      */
     public Colter(@NotNull Object o, @NotNull Color fgColor, @NotNull Color bgColor, @NotNull Effect ... effects) {
         text = o.toString();
-        foregroundColor = fg(fgColor.getRed(), fgColor.getGreen(), fgColor.getBlue());
-        backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        this.effects = effects;
-        this.effect = effect(effects);
+        style = style.withFG(fgColor);
+        style = style.withBG(bgColor);
+        style = style.withEffects(effects);
     }
 
     /**
@@ -848,10 +867,9 @@ public class Colter {
      */
     public Colter(@NotNull Object o, int fgColor, @NotNull Color bgColor, @NotNull Effect ... effects) {
         text = o.toString();
-        foregroundColor = fg(fgColor);
-        backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        this.effects = effects;
-        this.effect = effect(effects);
+        style = style.withFG(fgColor);
+        style = style.withBG(bgColor);
+        style = style.withEffects(effects);
     }
 
     /**
@@ -867,10 +885,9 @@ public class Colter {
      */
     public Colter(@NotNull Object o, int fgRed, int fgGreen, int fgBlue, @NotNull Color bgColor, @NotNull Effect ... effects) {
         text = o.toString();
-        foregroundColor = fg(fgRed, fgGreen, fgBlue);
-        backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        this.effects = effects;
-        this.effect = effect(effects);
+        style = style.withFG(fgRed, fgGreen, fgBlue);
+        style = style.withBG(bgColor);
+        style = style.withEffects(effects);
     }
 
     /**
@@ -882,10 +899,9 @@ public class Colter {
      */
     public Colter(@NotNull Object o, @NotNull FGColor fgColor, int bgColor, @NotNull Effect ... effects) {
         text = o.toString();
-        foregroundColor = fgColor.toString();
-        backgroundColor = bg(bgColor);
-        this.effects = effects;
-        this.effect = effect(effects);
+        style = style.withFG(fgColor);
+        style = style.withBG(bgColor);
+        style = style.withEffects(effects);
     }
 
     /**
@@ -897,10 +913,9 @@ public class Colter {
      */
     public Colter(@NotNull Object o, @NotNull Color fgColor, int bgColor, @NotNull Effect ... effects) {
         text = o.toString();
-        foregroundColor = fg(fgColor.getRed(), fgColor.getGreen(), fgColor.getBlue());
-        backgroundColor = bg(bgColor);
-        this.effects = effects;
-        this.effect = effect(effects);
+        style = style.withFG(fgColor);
+        style = style.withBG(bgColor);
+        style = style.withEffects(effects);
     }
 
     /**
@@ -912,10 +927,9 @@ public class Colter {
      */
     public Colter(@NotNull Object o, int fgColor, int bgColor, @NotNull Effect ... effects) {
         text = o.toString();
-        foregroundColor = fg(fgColor);
-        backgroundColor = bg(bgColor);
-        this.effects = effects;
-        this.effect = effect(effects);
+        style = style.withFG(fgColor);
+        style = style.withBG(bgColor);
+        style = style.withEffects(effects);
     }
 
     /**
@@ -931,10 +945,9 @@ public class Colter {
      */
     public Colter(@NotNull Object o, @NotNull FGColor fgColor, int bgRed, int bgGreen, int bgBlue, @NotNull Effect ... effects) {
         text = o.toString();
-        foregroundColor = fgColor.toString();
-        backgroundColor = bg(bgRed, bgGreen, bgBlue);
-        this.effects = effects;
-        this.effect = effect(effects);
+        style = style.withFG(fgColor);
+        style = style.withBG(bgRed, bgGreen, bgBlue);
+        style = style.withEffects(effects);
     }
 
     /**
@@ -950,10 +963,9 @@ public class Colter {
      */
     public Colter(@NotNull Object o, @NotNull Color fgColor, int bgRed, int bgGreen, int bgBlue, @NotNull Effect ... effects) {
         text = o.toString();
-        foregroundColor = fg(fgColor.getRed(), fgColor.getGreen(), fgColor.getBlue());
-        backgroundColor = bg(bgRed, bgGreen, bgBlue);
-        this.effects = effects;
-        this.effect = effect(effects);
+        style = style.withFG(fgColor);
+        style = style.withBG(bgRed, bgGreen, bgBlue);
+        style = style.withEffects(effects);
     }
 
     /**
@@ -972,10 +984,9 @@ public class Colter {
      */
     public Colter(@NotNull Object o, int fgRed, int fgGreen, int fgBlue, int bgRed, int bgGreen, int bgBlue, @NotNull Effect ... effects) {
         text = o.toString();
-        foregroundColor = fg(fgRed, fgGreen, fgBlue);
-        backgroundColor = bg(bgRed, bgGreen, bgBlue);
-        this.effects = effects;
-        this.effect = effect(effects);
+        style = style.withFG(fgRed, fgGreen, fgBlue);
+        style = style.withBG(bgRed, bgGreen, bgBlue);
+        style = style.withEffects(effects);
     }
 
     /**
@@ -992,7 +1003,7 @@ public class Colter {
      * @return  the current {@code foreground} color value.
      */
     public String getFG() {
-        return foregroundColor;
+        return style.fgSequence().toString();
     }
 
     /**
@@ -1001,7 +1012,7 @@ public class Colter {
      * @return  the current text {@code background} color value.
      */
     public String getBG() {
-        return backgroundColor;
+        return style.bgSequence().toString();
     }
 
     /**
@@ -1010,7 +1021,7 @@ public class Colter {
      * @return  the current set of {@code effect} value.
      */
     public String getEffect() {
-        return effect;
+        return style.effectSequence().toString();
     }
 
     /**
@@ -1019,7 +1030,114 @@ public class Colter {
      * @return  array of the current {@code effect} values.
      */
     public Effect[] getEffects() {
-        return effects;
+        return style.getEffects().toArray();
+    }
+
+    /**
+     * Returns the current <b>style</b>: the foreground and background colors and the effects as one value.
+     * @return  the current {@link Style}.
+     */
+    public Style getStyle() {
+        return style;
+    }
+
+    /**
+     * Sets the foreground and background colors and the effects at once.
+     * Returns this {@code Colter} object to allow method chaining.
+     * @param   style   the {@link Style} which will be set.
+     * @return  {@code this}
+     */
+    public Colter setStyle(@NotNull Style style) {
+        this.style = style;
+        return this;
+    }
+
+    /**
+     * Returns the sink the output of {@code this} is written to.
+     * @return  the current {@link ColterSink}.
+     */
+    public ColterSink getSink() {
+        return sink;
+    }
+
+    /**
+     * Returns an immutable, thread-safe printer of the current text, style and sink, with the style
+     * prefix rendered in advance for the sink. Later changes to {@code this} do not affect it.
+     * @return  a new {@link FrozenColter}.
+     */
+    public FrozenColter freeze() {
+        return new FrozenColter(text, style, sink);
+    }
+
+    /**
+     * Returns a new writer which prints primitive values with the current style to the current sink
+     * without boxing them. The writer is not thread-safe.
+     * @return  a new {@link StyledWriter}.
+     */
+    public StyledWriter writer() {
+        return new StyledWriter(sink, style);
+    }
+
+    /**
+     * Prints the markup template with the arguments to the current sink without line break, and then
+     * sets the console to default. The template is compiled on first use and cached; the style of
+     * {@code this} is not applied.
+     * @param   template    the markup template, for example {@code "[bold red]error[/] in {}"}.
+     * @param   args        the arguments, one for each {@code {}} slot of the template.
+     * @throws  IllegalArgumentException    if the template is malformed or the number of arguments does not match.
+     * @see     Markup
+     */
+    public void printMarkup(@NotNull String template, @NotNull Object ... args) {
+        Markup.compile(template).print(sink, args);
+    }
+
+    /**
+     * Prints the markup template with the arguments to the current sink with line break, and then
+     * sets the console to default. The template is compiled on first use and cached; the style of
+     * {@code this} is not applied.
+     * @param   template    the markup template, for example {@code "[bold red]error[/] in {}"}.
+     * @param   args        the arguments, one for each {@code {}} slot of the template.
+     * @throws  IllegalArgumentException    if the template is malformed or the number of arguments does not match.
+     * @see     Markup
+     */
+    public void printlnMarkup(@NotNull String template, @NotNull Object ... args) {
+        Markup.compile(template).println(sink, args);
+    }
+
+    /**
+     * Prints the arguments formatted by the styled format to the current sink, and then sets the
+     * console to default. The format is compiled on first use and cached; the style of {@code this}
+     * is not applied.
+     * @param   format  the format, for example {@code "%s took %[bold]d ms%n"}.
+     * @param   args    the arguments, one for each placeholder.
+     * @throws  IllegalArgumentException    if the format is malformed or the arguments do not match it.
+     * @see     StyledFormat
+     */
+    public void printf(@NotNull String format, @NotNull Object ... args) {
+        StyledFormat.compile(format).print(sink, args);
+    }
+
+    /**
+     * Starts a line of the styled format on the current sink, to which the arguments are passed
+     * one by one without boxing, for example {@code colter.format("%d ms%n").arg(elapsed).print()}.
+     * @param   format  the format, for example {@code "%s took %[bold]d ms%n"}.
+     * @return  the {@link StyledFormat.Line} taking the arguments.
+     * @throws  IllegalArgumentException    if the format is malformed.
+     * @see     StyledFormat#begin(ColterSink)
+     */
+    public StyledFormat.Line format(@NotNull String format) {
+        return StyledFormat.compile(format).begin(sink);
+    }
+
+    /**
+     * Sets the sink the output is written to.
+     * Returns this {@code Colter} object to allow method chaining.
+     * @param   sink    the {@link ColterSink} the output will be written to.
+     * @return  {@code this}
+     */
+    public Colter setSink(@NotNull ColterSink sink) {
+        this.sink = sink;
+        return this;
     }
 
     /**
@@ -1041,8 +1159,7 @@ public class Colter {
      * @return  {@code this}
      */
     public Colter setEffect(@NotNull Effect ... effects) {
-        this.effects = effects;
-        this.effect = effect(effects);
+        updateStyle(current -> current.withEffects(effects));
         return this;
     }
 
@@ -1053,7 +1170,7 @@ public class Colter {
      * @return  {@code this}
      */
     public Colter setFG(@NotNull FGColor color) {
-        foregroundColor = color.toString();
+        updateStyle(current -> current.withFG(color));
         return this;
     }
 
@@ -1064,8 +1181,7 @@ public class Colter {
      * @return  {@code this}
      */
     public Colter setFG(int color) {
-        checkColor(color);
-        foregroundColor = fg(color);
+        updateStyle(current -> current.withFG(color));
         return this;
     }
 
@@ -1076,7 +1192,7 @@ public class Colter {
      * @return  {@code this}
      */
     public Colter setFG(@NotNull Color color) {
-        foregroundColor = fg(color.getRed(), color.getGreen(), color.getBlue());
+        updateStyle(current -> current.withFG(color));
         return this;
     }
 
@@ -1091,7 +1207,7 @@ public class Colter {
      * @return  {@code this}
      */
     public Colter setFG(int red, int green, int blue) {
-        foregroundColor = fg(red, green, blue);
+        updateStyle(current -> current.withFG(red, green, blue));
         return this;
     }
 
@@ -1101,7 +1217,7 @@ public class Colter {
      * @return  {@code this}
      */
     public Colter setDefaultFG() {
-        foregroundColor = FG_DEFAULT.toString();
+        updateStyle(current -> current.withFG(FG_DEFAULT));
         return this;
     }
 
@@ -1112,7 +1228,7 @@ public class Colter {
      * @return  {@code this}
      */
     public Colter setBG(@NotNull BGColor color) {
-        backgroundColor = color.toString();
+        updateStyle(current -> current.withBG(color));
         return this;
     }
 
@@ -1123,7 +1239,7 @@ public class Colter {
      * @return  {@code this}
      */
     public Colter setBG(int color) {
-        backgroundColor = bg(color);
+        updateStyle(current -> current.withBG(color));
         return this;
     }
 
@@ -1134,7 +1250,7 @@ public class Colter {
      * @return  {@code this}
      */
     public Colter setBG(@NotNull Color color) {
-        backgroundColor = bg(color.getRed(), color.getGreen(), color.getBlue());
+        updateStyle(current -> current.withBG(color));
         return this;
     }
 
@@ -1149,7 +1265,7 @@ public class Colter {
      * @return  {@code this}
      */
     public Colter setBG(int red, int green, int blue) {
-        backgroundColor = bg(red, green, blue);
+        updateStyle(current -> current.withBG(red, green, blue));
         return this;
     }
 
@@ -1159,7 +1275,7 @@ public class Colter {
      * @return  {@code this}
      */
     public Colter setDefaultBG() {
-        backgroundColor = BG_DEFAULT.toString();
+        updateStyle(current -> current.withBG(BG_DEFAULT));
         return this;
     }
 
@@ -1169,11 +1285,8 @@ public class Colter {
      * @return  {@code this}
      */
     public Colter setDefaultEffect() {
-        String fore = getFG();
-        String back = getBG();
-        reset();
-        foregroundColor = fore;
-        backgroundColor = back;
+        updateStyle(current -> current.withEffects(EffectSet.none()));
+        write(Style.none(), "", EscapeSequence.RESET);
         return this;
     }
 
@@ -1186,8 +1299,7 @@ public class Colter {
      * @return  {@code this}
      */
     public Colter set(@NotNull FGColor fgColor, @NotNull Effect ... effects) {
-        setFG(fgColor);
-        setEffect(effects);
+        updateStyle(current -> current.withFG(fgColor).withEffects(effects));
         return this;
     }
 
@@ -1200,8 +1312,7 @@ public class Colter {
      * @return  {@code this}
      */
     public Colter set(@NotNull BGColor bgColor, @NotNull Effect ... effects) {
-        setBG(bgColor);
-        setEffect(effects);
+        updateStyle(current -> current.withBG(bgColor).withEffects(effects));
         return this;
     }
 
@@ -1215,9 +1326,7 @@ public class Colter {
      * @return  {@code this}
      */
     public Colter set(@NotNull FGColor fgColor, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
-        setFG(fgColor);
-        setBG(bgColor);
-        setEffect(effects);
+        updateStyle(current -> current.withFG(fgColor).withBG(bgColor).withEffects(effects));
         return this;
     }
 
@@ -1231,9 +1340,7 @@ public class Colter {
      * @return  {@code this}
      */
     public Colter set(@NotNull Color fgColor, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
-        setFG(fgColor);
-        setBG(bgColor);
-        setEffect(effects);
+        updateStyle(current -> current.withFG(fgColor).withBG(bgColor).withEffects(effects));
         return this;
     }
 
@@ -1247,9 +1354,7 @@ public class Colter {
      * @return  {@code this}
      */
     public Colter set(@NotNull FGColor fgColor, @NotNull Color bgColor, @NotNull Effect ... effects) {
-        setFG(fgColor);
-        setBG(bgColor);
-        setEffect(effects);
+        updateStyle(current -> current.withFG(fgColor).withBG(bgColor).withEffects(effects));
         return this;
     }
 
@@ -1263,9 +1368,7 @@ public class Colter {
      * @return  {@code this}
      */
     public Colter set(@NotNull Color fgColor, @NotNull Color bgColor, @NotNull Effect ... effects) {
-        setFG(fgColor);
-        setBG(bgColor);
-        setEffect(effects);
+        updateStyle(current -> current.withFG(fgColor).withBG(bgColor).withEffects(effects));
         return this;
     }
 
@@ -1279,9 +1382,7 @@ public class Colter {
      * @return  {@code this}
      */
     public Colter set(int fgColor, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
-        setFG(fgColor);
-        setBG(bgColor);
-        setEffect(effects);
+        updateStyle(current -> current.withFG(fgColor).withBG(bgColor).withEffects(effects));
         return this;
     }
 
@@ -1295,9 +1396,7 @@ public class Colter {
      * @return  {@code this}
      */
     public Colter set(int fgColor, @NotNull Color bgColor, @NotNull Effect ... effects) {
-        setFG(fgColor);
-        setBG(bgColor);
-        setEffect(effects);
+        updateStyle(current -> current.withFG(fgColor).withBG(bgColor).withEffects(effects));
         return this;
     }
 
@@ -1315,9 +1414,7 @@ public class Colter {
      * @return  {@code this}
      */
     public Colter set(int fgRed, int fgGreen, int fgBlue, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
-        setFG(fgRed, fgGreen, fgBlue);
-        setBG(bgColor);
-        setEffect(effects);
+        updateStyle(current -> current.withFG(fgRed, fgGreen, fgBlue).withBG(bgColor).withEffects(effects));
         return this;
     }
 
@@ -1335,9 +1432,7 @@ public class Colter {
      * @return  {@code this}
      */
     public Colter set(int fgRed, int fgGreen, int fgBlue, @NotNull Color bgColor, @NotNull Effect ... effects) {
-        setFG(fgRed, fgGreen, fgBlue);
-        setBG(bgColor);
-        setEffect(effects);
+        updateStyle(current -> current.withFG(fgRed, fgGreen, fgBlue).withBG(bgColor).withEffects(effects));
         return this;
     }
 
@@ -1351,9 +1446,7 @@ public class Colter {
      * @return  {@code this}
      */
     public Colter set(@NotNull FGColor fgColor, int bgColor, @NotNull Effect ... effects) {
-        setFG(fgColor);
-        setBG(bgColor);
-        setEffect(effects);
+        updateStyle(current -> current.withFG(fgColor).withBG(bgColor).withEffects(effects));
         return this;
     }
 
@@ -1367,9 +1460,7 @@ public class Colter {
      * @return  {@code this}
      */
     public Colter set(@NotNull Color fgColor, int bgColor, @NotNull Effect ... effects) {
-        setFG(fgColor);
-        setBG(bgColor);
-        setEffect(effects);
+        updateStyle(current -> current.withFG(fgColor).withBG(bgColor).withEffects(effects));
         return this;
     }
 
@@ -1383,9 +1474,7 @@ public class Colter {
      * @return  {@code this}
      */
     public Colter set(int fgColor, int bgColor, @NotNull Effect ... effects) {
-        setFG(fgColor);
-        setBG(bgColor);
-        setEffect(effects);
+        updateStyle(current -> current.withFG(fgColor).withBG(bgColor).withEffects(effects));
         return this;
     }
     
@@ -1403,9 +1492,7 @@ public class Colter {
      * @return  {@code this}
      */
     public Colter set(@NotNull FGColor fgColor, int bgRed, int bgGreen, int bgBlue, @NotNull Effect ... effects) {
-        setFG(fgColor);
-        setBG(bgRed, bgGreen, bgBlue);
-        setEffect(effects);
+        updateStyle(current -> current.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue).withEffects(effects));
         return this;
     }
 
@@ -1423,9 +1510,7 @@ public class Colter {
      * @return  {@code this}
      */
     public Colter set(@NotNull Color fgColor, int bgRed, int bgGreen, int bgBlue, @NotNull Effect ... effects) {
-        setFG(fgColor);
-        setBG(bgRed, bgGreen, bgBlue);
-        setEffect(effects);
+        updateStyle(current -> current.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue).withEffects(effects));
         return this;
     }
 
@@ -1445,9 +1530,7 @@ public class Colter {
      * @return  {@code this}
      */
     public Colter set(int fgRed, int fgGreen, int fgBlue, int bgRed, int bgGreen, int bgBlue, @NotNull Effect ... effects) {
-        setFG(fgRed, fgGreen, fgBlue);
-        setBG(bgRed, bgGreen, bgBlue);
-        setEffect(effects);
+        updateStyle(current -> current.withFG(fgRed, fgGreen, fgBlue).withBG(bgRed, bgGreen, bgBlue).withEffects(effects));
         return this;
     }
 
@@ -1458,7 +1541,7 @@ public class Colter {
      * @return  {@code this}
      */
     public Colter set(@NotNull FGColor fgColor) {
-        setFG(fgColor);
+        updateStyle(current -> current.withFG(fgColor));
         return this;
     }
 
@@ -1469,7 +1552,7 @@ public class Colter {
      * @return  {@code this}
      */
     public Colter set(@NotNull BGColor bgColor) {
-        setBG(bgColor);
+        updateStyle(current -> current.withBG(bgColor));
         return this;
     }
 
@@ -1481,8 +1564,7 @@ public class Colter {
      * @return  {@code this}
      */
     public Colter set(@NotNull FGColor fgColor, @NotNull BGColor bgColor) {
-        setFG(fgColor);
-        setBG(bgColor);
+        updateStyle(current -> current.withFG(fgColor).withBG(bgColor));
         return this;
     }
 
@@ -1494,8 +1576,7 @@ public class Colter {
      * @return  {@code this}
      */
     public Colter set(@NotNull Color fgColor, @NotNull BGColor bgColor) {
-        setFG(fgColor);
-        setBG(bgColor);
+        updateStyle(current -> current.withFG(fgColor).withBG(bgColor));
         return this;
     }
 
@@ -1507,8 +1588,7 @@ public class Colter {
      * @return  {@code this}
      */
     public Colter set(@NotNull FGColor fgColor, @NotNull Color bgColor) {
-        setFG(fgColor);
-        setBG(bgColor);
+        updateStyle(current -> current.withFG(fgColor).withBG(bgColor));
         return this;
     }
 
@@ -1520,8 +1600,7 @@ public class Colter {
      * @return  {@code this}
      */
     public Colter set(@NotNull Color fgColor, @NotNull Color bgColor) {
-        setFG(fgColor);
-        setBG(bgColor);
+        updateStyle(current -> current.withFG(fgColor).withBG(bgColor));
         return this;
     }
 
@@ -1533,8 +1612,7 @@ public class Colter {
      * @return  {@code this}
      */
     public Colter set(int fgColor, @NotNull BGColor bgColor) {
-        setFG(fgColor);
-        setBG(bgColor);
+        updateStyle(current -> current.withFG(fgColor).withBG(bgColor));
         return this;
     }
 
@@ -1546,8 +1624,7 @@ public class Colter {
      * @return  {@code this}
      */
     public Colter set(int fgColor, @NotNull Color bgColor) {
-        setFG(fgColor);
-        setBG(bgColor);
+        updateStyle(current -> current.withFG(fgColor).withBG(bgColor));
         return this;
     }
 
@@ -1563,8 +1640,7 @@ public class Colter {
      * @return  {@code this}
      */
     public Colter set(int fgRed, int fgGreen, int fgBlue, @NotNull BGColor bgColor) {
-        setFG(fgRed, fgGreen, fgBlue);
-        setBG(bgColor);
+        updateStyle(current -> current.withFG(fgRed, fgGreen, fgBlue).withBG(bgColor));
         return this;
     }
 
@@ -1580,8 +1656,7 @@ public class Colter {
      * @return  {@code this}
      */
     public Colter set(int fgRed, int fgGreen, int fgBlue, @NotNull Color bgColor) {
-        setFG(fgRed, fgGreen, fgBlue);
-        setBG(bgColor);
+        updateStyle(current -> current.withFG(fgRed, fgGreen, fgBlue).withBG(bgColor));
         return this;
     }
 
@@ -1593,8 +1668,7 @@ public class Colter {
      * @return  {@code this}
      */
     public Colter set(@NotNull FGColor fgColor, int bgColor) {
-        setFG(fgColor);
-        setBG(bgColor);
+        updateStyle(current -> current.withFG(fgColor).withBG(bgColor));
         return this;
     }
 
@@ -1606,8 +1680,7 @@ public class Colter {
      * @return  {@code this}
      */
     public Colter set(@NotNull Color fgColor, int bgColor) {
-        setFG(fgColor);
-        setBG(bgColor);
+        updateStyle(current -> current.withFG(fgColor).withBG(bgColor));
         return this;
     }
 
@@ -1619,8 +1692,7 @@ public class Colter {
      * @return  {@code this}
      */
     public Colter set(int fgColor, int bgColor) {
-        setFG(fgColor);
-        setBG(bgColor);
+        updateStyle(current -> current.withFG(fgColor).withBG(bgColor));
         return this;
     }
 
@@ -1636,8 +1708,7 @@ public class Colter {
      * @return  {@code this}
      */
     public Colter set(@NotNull FGColor fgColor, int bgRed, int bgGreen, int bgBlue) {
-        setFG(fgColor);
-        setBG(bgRed, bgGreen, bgBlue);
+        updateStyle(current -> current.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue));
         return this;
     }
 
@@ -1653,8 +1724,7 @@ public class Colter {
      * @return  {@code this}
      */
     public Colter set(@NotNull Color fgColor, int bgRed, int bgGreen, int bgBlue) {
-        setFG(fgColor);
-        setBG(bgRed, bgGreen, bgBlue);
+        updateStyle(current -> current.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue));
         return this;
     }
 
@@ -1672,8 +1742,7 @@ public class Colter {
      * @return  {@code this}
      */
     public Colter set(int fgRed, int fgGreen, int fgBlue, int bgRed, int bgGreen, int bgBlue) {
-        setFG(fgRed, fgGreen, fgBlue);
-        setBG(bgRed, bgGreen, bgBlue);
+        updateStyle(current -> current.withFG(fgRed, fgGreen, fgBlue).withBG(bgRed, bgGreen, bgBlue));
         return this;
     }
 
@@ -1687,7 +1756,7 @@ public class Colter {
      */
     public Colter set(@NotNull Object o, @NotNull Effect ... effects) {
         setText(o);
-        setEffect(effects);
+        updateStyle(current -> current.withEffects(effects));
         return this;
     }
 
@@ -1702,8 +1771,7 @@ public class Colter {
      */
     public Colter set(@NotNull Object o, @NotNull FGColor fgColor, @NotNull Effect ... effects) {
         setText(o);
-        setFG(fgColor);
-        setEffect(effects);
+        updateStyle(current -> current.withFG(fgColor).withEffects(effects));
         return this;
     }
 
@@ -1718,8 +1786,7 @@ public class Colter {
      */
     public Colter set(@NotNull Object o, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
         setText(o);
-        setBG(bgColor);
-        setEffect(effects);
+        updateStyle(current -> current.withBG(bgColor).withEffects(effects));
         return this;
     }
 
@@ -1736,9 +1803,7 @@ public class Colter {
      */
     public Colter set(@NotNull Object o, @NotNull FGColor fgColor, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
         setText(o);
-        setFG(fgColor);
-        setBG(bgColor);
-        setEffect(effects);
+        updateStyle(current -> current.withFG(fgColor).withBG(bgColor).withEffects(effects));
         return this;
     }
 
@@ -1755,9 +1820,7 @@ public class Colter {
      */
     public Colter set(@NotNull Object o, @NotNull Color fgColor, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
         setText(o);
-        setFG(fgColor);
-        setBG(bgColor);
-        setEffect(effects);
+        updateStyle(current -> current.withFG(fgColor).withBG(bgColor).withEffects(effects));
         return this;
     }
 
@@ -1774,9 +1837,7 @@ public class Colter {
      */
     public Colter set(@NotNull Object o, @NotNull FGColor fgColor, @NotNull Color bgColor, @NotNull Effect ... effects) {
         setText(o);
-        setFG(fgColor);
-        setBG(bgColor);
-        setEffect(effects);
+        updateStyle(current -> current.withFG(fgColor).withBG(bgColor).withEffects(effects));
         return this;
     }
 
@@ -1793,9 +1854,7 @@ public class Colter {
      */
     public Colter set(@NotNull Object o, @NotNull Color fgColor, @NotNull Color bgColor, @NotNull Effect ... effects) {
         setText(o);
-        setFG(fgColor);
-        setBG(bgColor);
-        setEffect(effects);
+        updateStyle(current -> current.withFG(fgColor).withBG(bgColor).withEffects(effects));
         return this;
     }
 
@@ -1812,9 +1871,7 @@ public class Colter {
      */
     public Colter set(@NotNull Object o, int fgColor, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
         setText(o);
-        setFG(fgColor);
-        setBG(bgColor);
-        setEffect(effects);
+        updateStyle(current -> current.withFG(fgColor).withBG(bgColor).withEffects(effects));
         return this;
     }
 
@@ -1831,9 +1888,7 @@ public class Colter {
      */
     public Colter set(@NotNull Object o, int fgColor, @NotNull Color bgColor, @NotNull Effect ... effects) {
         setText(o);
-        setFG(fgColor);
-        setBG(bgColor);
-        setEffect(effects);
+        updateStyle(current -> current.withFG(fgColor).withBG(bgColor).withEffects(effects));
         return this;
     }
 
@@ -1854,9 +1909,7 @@ public class Colter {
      */
     public Colter set(@NotNull Object o, int fgRed, int fgGreen, int fgBlue, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
         setText(o);
-        setFG(fgRed, fgGreen, fgBlue);
-        setBG(bgColor);
-        setEffect(effects);
+        updateStyle(current -> current.withFG(fgRed, fgGreen, fgBlue).withBG(bgColor).withEffects(effects));
         return this;
     }
 
@@ -1877,9 +1930,7 @@ public class Colter {
      */
     public Colter set(@NotNull Object o, int fgRed, int fgGreen, int fgBlue, @NotNull Color bgColor, @NotNull Effect ... effects) {
         setText(o);
-        setFG(fgRed, fgGreen, fgBlue);
-        setBG(bgColor);
-        setEffect(effects);
+        updateStyle(current -> current.withFG(fgRed, fgGreen, fgBlue).withBG(bgColor).withEffects(effects));
         return this;
     }
 
@@ -1896,9 +1947,7 @@ public class Colter {
      */
     public Colter set(@NotNull Object o, @NotNull FGColor fgColor, int bgColor, @NotNull Effect ... effects) {
         setText(o);
-        setFG(fgColor);
-        setBG(bgColor);
-        setEffect(effects);
+        updateStyle(current -> current.withFG(fgColor).withBG(bgColor).withEffects(effects));
         return this;
     }
 
@@ -1915,9 +1964,7 @@ public class Colter {
      */
     public Colter set(@NotNull Object o, @NotNull Color fgColor, int bgColor, @NotNull Effect ... effects) {
         setText(o);
-        setFG(fgColor);
-        setBG(bgColor);
-        setEffect(effects);
+        updateStyle(current -> current.withFG(fgColor).withBG(bgColor).withEffects(effects));
         return this;
     }
 
@@ -1934,9 +1981,7 @@ public class Colter {
      */
     public Colter set(@NotNull Object o, int fgColor, int bgColor, @NotNull Effect ... effects) {
         setText(o);
-        setFG(fgColor);
-        setBG(bgColor);
-        setEffect(effects);
+        updateStyle(current -> current.withFG(fgColor).withBG(bgColor).withEffects(effects));
         return this;
     }
 
@@ -1957,9 +2002,7 @@ public class Colter {
      */
     public Colter set(@NotNull Object o, @NotNull FGColor fgColor, int bgRed, int bgGreen, int bgBlue, @NotNull Effect ... effects) {
         setText(o);
-        setFG(fgColor);
-        setBG(bgRed, bgGreen, bgBlue);
-        setEffect(effects);
+        updateStyle(current -> current.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue).withEffects(effects));
         return this;
     }
 
@@ -1980,9 +2023,7 @@ public class Colter {
      */
     public Colter set(@NotNull Object o, @NotNull Color fgColor, int bgRed, int bgGreen, int bgBlue, @NotNull Effect ... effects) {
         setText(o);
-        setFG(fgColor);
-        setBG(bgRed, bgGreen, bgBlue);
-        setEffect(effects);
+        updateStyle(current -> current.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue).withEffects(effects));
         return this;
     }
 
@@ -2005,9 +2046,7 @@ public class Colter {
      */
     public Colter set(@NotNull Object o, int fgRed, int fgGreen, int fgBlue, int bgRed, int bgGreen, int bgBlue, @NotNull Effect ... effects) {
         setText(o);
-        setFG(fgRed, fgGreen, fgBlue);
-        setBG(bgRed, bgGreen, bgBlue);
-        setEffect(effects);
+        updateStyle(current -> current.withFG(fgRed, fgGreen, fgBlue).withBG(bgRed, bgGreen, bgBlue).withEffects(effects));
         return this;
     }
 
@@ -2020,7 +2059,7 @@ public class Colter {
      */
     public Colter set(@NotNull Object o, @NotNull FGColor fgColor) {
         setText(o);
-        setFG(fgColor);
+        updateStyle(current -> current.withFG(fgColor));
         return this;
     }
 
@@ -2033,7 +2072,7 @@ public class Colter {
      */
     public Colter set(@NotNull Object o, @NotNull BGColor bgColor) {
         setText(o);
-        setBG(bgColor);
+        updateStyle(current -> current.withBG(bgColor));
         return this;
     }
 
@@ -2048,8 +2087,7 @@ public class Colter {
      */
     public Colter set(@NotNull Object o, @NotNull FGColor fgColor, @NotNull BGColor bgColor) {
         setText(o);
-        setFG(fgColor);
-        setBG(bgColor);
+        updateStyle(current -> current.withFG(fgColor).withBG(bgColor));
         return this;
     }
 
@@ -2064,8 +2102,7 @@ public class Colter {
      */
     public Colter set(@NotNull Object o, @NotNull Color fgColor, @NotNull BGColor bgColor) {
         setText(o);
-        setFG(fgColor);
-        setBG(bgColor);
+        updateStyle(current -> current.withFG(fgColor).withBG(bgColor));
         return this;
     }
 
@@ -2080,8 +2117,7 @@ public class Colter {
      */
     public Colter set(@NotNull Object o, @NotNull FGColor fgColor, @NotNull Color bgColor) {
         setText(o);
-        setFG(fgColor);
-        setBG(bgColor);
+        updateStyle(current -> current.withFG(fgColor).withBG(bgColor));
         return this;
     }
 
@@ -2096,8 +2132,7 @@ public class Colter {
      */
     public Colter set(@NotNull Object o, @NotNull Color fgColor, @NotNull Color bgColor) {
         setText(o);
-        setFG(fgColor);
-        setBG(bgColor);
+        updateStyle(current -> current.withFG(fgColor).withBG(bgColor));
         return this;
     }
 
@@ -2112,8 +2147,7 @@ public class Colter {
      */
     public Colter set(@NotNull Object o, int fgColor, @NotNull BGColor bgColor) {
         setText(o);
-        setFG(fgColor);
-        setBG(bgColor);
+        updateStyle(current -> current.withFG(fgColor).withBG(bgColor));
         return this;
     }
 
@@ -2128,8 +2162,7 @@ public class Colter {
      */
     public Colter set(@NotNull Object o, int fgColor, @NotNull Color bgColor) {
         setText(o);
-        setFG(fgColor);
-        setBG(bgColor);
+        updateStyle(current -> current.withFG(fgColor).withBG(bgColor));
         return this;
     }
 
@@ -2148,8 +2181,7 @@ public class Colter {
      */
     public Colter set(@NotNull Object o, int fgRed, int fgGreen, int fgBlue, @NotNull BGColor bgColor) {
         setText(o);
-        setFG(fgRed, fgGreen, fgBlue);
-        setBG(bgColor);
+        updateStyle(current -> current.withFG(fgRed, fgGreen, fgBlue).withBG(bgColor));
         return this;
     }
 
@@ -2168,8 +2200,7 @@ public class Colter {
      */
     public Colter set(@NotNull Object o, int fgRed, int fgGreen, int fgBlue, @NotNull Color bgColor) {
         setText(o);
-        setFG(fgRed, fgGreen, fgBlue);
-        setBG(bgColor);
+        updateStyle(current -> current.withFG(fgRed, fgGreen, fgBlue).withBG(bgColor));
         return this;
     }
 
@@ -2184,8 +2215,7 @@ public class Colter {
      */
     public Colter set(@NotNull Object o, @NotNull FGColor fgColor, int bgColor) {
         setText(o);
-        setFG(fgColor);
-        setBG(bgColor);
+        updateStyle(current -> current.withFG(fgColor).withBG(bgColor));
         return this;
     }
 
@@ -2200,8 +2230,7 @@ public class Colter {
      */
     public Colter set(@NotNull Object o, @NotNull Color fgColor, int bgColor) {
         setText(o);
-        setFG(fgColor);
-        setBG(bgColor);
+        updateStyle(current -> current.withFG(fgColor).withBG(bgColor));
         return this;
     }
 
@@ -2216,8 +2245,7 @@ public class Colter {
      */
     public Colter set(@NotNull Object o, int fgColor, int bgColor) {
         setText(o);
-        setFG(fgColor);
-        setBG(bgColor);
+        updateStyle(current -> current.withFG(fgColor).withBG(bgColor));
         return this;
     }
 
@@ -2236,8 +2264,7 @@ public class Colter {
      */
     public Colter set(@NotNull Object o, @NotNull FGColor fgColor, int bgRed, int bgGreen, int bgBlue) {
         setText(o);
-        setFG(fgColor);
-        setBG(bgRed, bgGreen, bgBlue);
+        updateStyle(current -> current.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue));
         return this;
     }
 
@@ -2256,8 +2283,7 @@ public class Colter {
      */
     public Colter set(@NotNull Object o, @NotNull Color fgColor, int bgRed, int bgGreen, int bgBlue) {
         setText(o);
-        setFG(fgColor);
-        setBG(bgRed, bgGreen, bgBlue);
+        updateStyle(current -> current.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue));
         return this;
     }
 
@@ -2278,8 +2304,7 @@ public class Colter {
      */
     public Colter set(@NotNull Object o, int fgRed, int fgGreen, int fgBlue, int bgRed, int bgGreen, int bgBlue) {
         setText(o);
-        setFG(fgRed, fgGreen, fgBlue);
-        setBG(bgRed, bgGreen, bgBlue);
+        updateStyle(current -> current.withFG(fgRed, fgGreen, fgBlue).withBG(bgRed, bgGreen, bgBlue));
         return this;
     }
 
@@ -2297,9 +2322,7 @@ public class Colter {
      * @return  {@code this}
      */
     public Colter setFG8_BG24(int fgColor, int bgRed, int bgGreen, int bgBlue, @NotNull Effect ... effects) {
-        setFG(fgColor);
-        setBG(bgRed, bgGreen, bgBlue);
-        setEffect(effects);
+        updateStyle(current -> current.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue).withEffects(effects));
         return this;
     }
 
@@ -2315,8 +2338,7 @@ public class Colter {
      * @return  {@code this}
      */
     public Colter setFG8_BG24(int fgColor, int bgRed, int bgGreen, int bgBlue) {
-        setFG(fgColor);
-        setBG(bgRed, bgGreen, bgBlue);
+        updateStyle(current -> current.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue));
         return this;
     }
 
@@ -2337,9 +2359,7 @@ public class Colter {
      */
     public Colter setFG8_BG24(@NotNull Object o, int fgColor, int bgRed, int bgGreen, int bgBlue, @NotNull Effect ... effects) {
         text = o.toString();
-        setFG(fgColor);
-        setBG(bgRed, bgGreen, bgBlue);
-        setEffect(effects);
+        updateStyle(current -> current.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue).withEffects(effects));
         return this;
     }
 
@@ -2358,8 +2378,7 @@ public class Colter {
      */
     public Colter setFG8_BG24(@NotNull Object o, int fgColor, int bgRed, int bgGreen, int bgBlue) {
         text = o.toString();
-        setFG(fgColor);
-        setBG(bgRed, bgGreen, bgBlue);
+        updateStyle(current -> current.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue));
         return this;
     }
 
@@ -2377,9 +2396,7 @@ public class Colter {
      * @return  {@code this}
      */
     public Colter setFG24_BG8(int fgRed, int fgGreen, int fgBlue, int bgColor, @NotNull Effect ... effects) {
-        setFG(fgRed, fgGreen, fgBlue);
-        setBG(bgColor);
-        setEffect(effects);
+        updateStyle(current -> current.withFG(fgRed, fgGreen, fgBlue).withBG(bgColor).withEffects(effects));
         return this;
     }
 
@@ -2395,8 +2412,7 @@ public class Colter {
      * @return  {@code this}
      */
     public Colter setFG24_BG8(int fgRed, int fgGreen, int fgBlue, int bgColor) {
-        setFG(fgRed, fgGreen, fgBlue);
-        setBG(bgColor);
+        updateStyle(current -> current.withFG(fgRed, fgGreen, fgBlue).withBG(bgColor));
         return this;
     }
 
@@ -2416,9 +2432,7 @@ public class Colter {
      */
     public Colter setFG24_BG8(@NotNull Object o, int fgRed, int fgGreen, int fgBlue, int bgColor, @NotNull Effect ... effects) {
         text = o.toString();
-        setFG(fgRed, fgGreen, fgBlue);
-        setBG(bgColor);
-        setEffect(effects);
+        updateStyle(current -> current.withFG(fgRed, fgGreen, fgBlue).withBG(bgColor).withEffects(effects));
         return this;
     }
 
@@ -2436,8 +2450,7 @@ public class Colter {
      */
     public Colter setFG24_BG8(@NotNull Object o, int fgRed, int fgGreen, int fgBlue, int bgColor) {
         text = o.toString();
-        setFG(fgRed, fgGreen, fgBlue);
-        setBG(bgColor);
+        updateStyle(current -> current.withFG(fgRed, fgGreen, fgBlue).withBG(bgColor));
         return this;
     }
 
@@ -2448,11 +2461,8 @@ public class Colter {
      * @return  {@code this}
      */
     public Colter reset() {
-        foregroundColor = "";
-        backgroundColor = "";
-        effect = "";
-        effects = new Effect[0];
-        System.out.print(RESET);
+        style = Style.none();
+        write(style, "", EscapeSequence.RESET);
         return this;
     }
 
@@ -2463,7 +2473,7 @@ public class Colter {
      * the same colors and effects.
      */
     public void print() {
-        print(foregroundColor + backgroundColor + effect + text);
+        write(style, text, EscapeSequence.EMPTY);
     }
 
     /**
@@ -2471,7 +2481,7 @@ public class Colter {
      * to the console without line break, and then sets the console to default.
      */
     public void printAndReset() {
-        print(foregroundColor + backgroundColor + effect + text + RESET);
+        write(style, text, EscapeSequence.RESET);
     }
 
     /**
@@ -2481,7 +2491,7 @@ public class Colter {
      * the same colors and effects.
      */
     public void println() {
-        println(foregroundColor + backgroundColor + effect + text);
+        write(style, text, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -2489,7 +2499,7 @@ public class Colter {
      * to the console with line break, and then sets the console to default.
      */
     public void printlnAndReset() {
-        println(foregroundColor + backgroundColor + effect + text + RESET);
+        write(style, text, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -2499,7 +2509,7 @@ public class Colter {
      * @param   o       the {@link Object} whose {@code .toString()} value is to be printed.
      */
     public void print(@NotNull Object o) {
-        print(foregroundColor + backgroundColor + effect + o);
+        write(style, o, EscapeSequence.EMPTY);
     }
 
     /**
@@ -2508,7 +2518,7 @@ public class Colter {
      * @param   o       the {@link Object} whose {@code .toString()} value is to be printed.
      */
     public void printAndReset(@NotNull Object o) {
-        print(foregroundColor + backgroundColor + effect + o + RESET);
+        write(style, o, EscapeSequence.RESET);
     }
 
     /**
@@ -2519,7 +2529,7 @@ public class Colter {
      * @param   o       the {@link Object} whose {@code .toString()} value is to be printed.
      */
     public void println(@NotNull Object o) {
-        println(foregroundColor + backgroundColor + effect + o);
+        write(style, o, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -2528,7 +2538,123 @@ public class Colter {
      * @param   o       the {@link Object} whose {@code .toString()} value is to be printed.
      */
     public void printlnAndReset(@NotNull Object o) {
-        println(foregroundColor + backgroundColor + effect + o + RESET);
+        write(style, o, EscapeSequence.RESET_LINE_BREAK);
+    }
+
+    /**
+     * Prints the slice of the char array with colors and effects, which were applied to {@code this},
+     * to the console without line break.
+     * These text settings will be applied to the console and text which will be printed next will have
+     * the same colors and effects.
+     * The chars are encoded straight from the array, without copying them into a {@code String}.
+     * @param   chars   the array holding the text to print.
+     * @param   offset  the index of the first char to print.
+     * @param   length  the number of chars to print.
+     * @throws  IndexOutOfBoundsException   if the slice is out of the array bounds.
+     */
+    public void print(@NotNull char[] chars, int offset, int length) {
+        write(style, CharBuffer.wrap(chars, offset, length), EscapeSequence.EMPTY);
+    }
+
+    /**
+     * Prints the slice of the char array with colors and effects, which were applied to {@code this},
+     * to the console without line break, and then sets the console to default.
+     * The chars are encoded straight from the array, without copying them into a {@code String}.
+     * @param   chars   the array holding the text to print.
+     * @param   offset  the index of the first char to print.
+     * @param   length  the number of chars to print.
+     * @throws  IndexOutOfBoundsException   if the slice is out of the array bounds.
+     */
+    public void printAndReset(@NotNull char[] chars, int offset, int length) {
+        write(style, CharBuffer.wrap(chars, offset, length), EscapeSequence.RESET);
+    }
+
+    /**
+     * Prints the slice of the char array with colors and effects, which were applied to {@code this},
+     * to the console with line break.
+     * These text settings will be applied to the console and text which will be printed next will have
+     * the same colors and effects.
+     * The chars are encoded straight from the array, without copying them into a {@code String}.
+     * @param   chars   the array holding the text to print.
+     * @param   offset  the index of the first char to print.
+     * @param   length  the number of chars to print.
+     * @throws  IndexOutOfBoundsException   if the slice is out of the array bounds.
+     */
+    public void println(@NotNull char[] chars, int offset, int length) {
+        write(style, CharBuffer.wrap(chars, offset, length), EscapeSequence.LINE_BREAK);
+    }
+
+    /**
+     * Prints the slice of the char array with colors and effects, which were applied to {@code this},
+     * to the console with line break, and then sets the console to default.
+     * The chars are encoded straight from the array, without copying them into a {@code String}.
+     * @param   chars   the array holding the text to print.
+     * @param   offset  the index of the first char to print.
+     * @param   length  the number of chars to print.
+     * @throws  IndexOutOfBoundsException   if the slice is out of the array bounds.
+     */
+    public void printlnAndReset(@NotNull char[] chars, int offset, int length) {
+        write(style, CharBuffer.wrap(chars, offset, length), EscapeSequence.RESET_LINE_BREAK);
+    }
+
+    /**
+     * Prints the slice of the char array with the custom style,
+     * to the console without line break.
+     * These text settings will be applied to the console and text which will be printed next will have
+     * the same colors and effects.
+     * The chars are encoded straight from the array, without copying them into a {@code String}.
+     * @param   chars   the array holding the text to print.
+     * @param   offset  the index of the first char to print.
+     * @param   length  the number of chars to print.
+     * @param   style   the {@link Style} the text is printed with.
+     * @throws  IndexOutOfBoundsException   if the slice is out of the array bounds.
+     */
+    public void print(@NotNull char[] chars, int offset, int length, @NotNull Style style) {
+        write(style, CharBuffer.wrap(chars, offset, length), EscapeSequence.EMPTY);
+    }
+
+    /**
+     * Prints the slice of the char array with the custom style,
+     * to the console without line break, and then sets the console to default.
+     * The chars are encoded straight from the array, without copying them into a {@code String}.
+     * @param   chars   the array holding the text to print.
+     * @param   offset  the index of the first char to print.
+     * @param   length  the number of chars to print.
+     * @param   style   the {@link Style} the text is printed with.
+     * @throws  IndexOutOfBoundsException   if the slice is out of the array bounds.
+     */
+    public void printAndReset(@NotNull char[] chars, int offset, int length, @NotNull Style style) {
+        write(style, CharBuffer.wrap(chars, offset, length), EscapeSequence.RESET);
+    }
+
+    /**
+     * Prints the slice of the char array with the custom style,
+     * to the console with line break.
+     * These text settings will be applied to the console and text which will be printed next will have
+     * the same colors and effects.
+     * The chars are encoded straight from the array, without copying them into a {@code String}.
+     * @param   chars   the array holding the text to print.
+     * @param   offset  the index of the first char to print.
+     * @param   length  the number of chars to print.
+     * @param   style   the {@link Style} the text is printed with.
+     * @throws  IndexOutOfBoundsException   if the slice is out of the array bounds.
+     */
+    public void println(@NotNull char[] chars, int offset, int length, @NotNull Style style) {
+        write(style, CharBuffer.wrap(chars, offset, length), EscapeSequence.LINE_BREAK);
+    }
+
+    /**
+     * Prints the slice of the char array with the custom style,
+     * to the console with line break, and then sets the console to default.
+     * The chars are encoded straight from the array, without copying them into a {@code String}.
+     * @param   chars   the array holding the text to print.
+     * @param   offset  the index of the first char to print.
+     * @param   length  the number of chars to print.
+     * @param   style   the {@link Style} the text is printed with.
+     * @throws  IndexOutOfBoundsException   if the slice is out of the array bounds.
+     */
+    public void printlnAndReset(@NotNull char[] chars, int offset, int length, @NotNull Style style) {
+        write(style, CharBuffer.wrap(chars, offset, length), EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -2539,7 +2665,7 @@ public class Colter {
      * @param   fgColor Enum of type {@link FGColor}, which represents one of 16 foreground colors.
      */
     public void print(@NotNull FGColor fgColor) {
-        print(fgColor + backgroundColor + effect + text);
+        write(style.withFG(fgColor), text, EscapeSequence.EMPTY);
     }
 
     /**
@@ -2548,7 +2674,7 @@ public class Colter {
      * @param   fgColor Enum of type {@link FGColor}, which represents one of 16 foreground colors.
      */
     public void printAndReset(@NotNull FGColor fgColor) {
-        print(fgColor + backgroundColor + effect + text + RESET);
+        write(style.withFG(fgColor), text, EscapeSequence.RESET);
     }
 
     /**
@@ -2559,7 +2685,7 @@ public class Colter {
      * @param   fgColor Enum of type {@link FGColor}, which represents one of 16 foreground colors.
      */
     public void println(@NotNull FGColor fgColor) {
-        println(fgColor + backgroundColor + effect + text);
+        write(style.withFG(fgColor), text, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -2568,7 +2694,7 @@ public class Colter {
      * @param   fgColor Enum of type {@link FGColor}, which represents one of 16 foreground colors.
      */
     public void printlnAndReset(@NotNull FGColor fgColor) {
-        println(fgColor + backgroundColor + effect + text + RESET);
+        write(style.withFG(fgColor), text, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -2580,7 +2706,7 @@ public class Colter {
      * @param   fgColor Enum of type {@link FGColor}, which represents one of 16 foreground colors.
      */
     public void print(@NotNull Object o, @NotNull FGColor fgColor) {
-        print(fgColor + backgroundColor + effect + o);
+        write(style.withFG(fgColor), o, EscapeSequence.EMPTY);
     }
 
     /**
@@ -2590,7 +2716,7 @@ public class Colter {
      * @param   fgColor Enum of type {@link FGColor}, which represents one of 16 foreground colors.
      */
     public void printAndReset(@NotNull Object o, @NotNull FGColor fgColor) {
-        print(fgColor + backgroundColor + effect + o + RESET);
+        write(style.withFG(fgColor), o, EscapeSequence.RESET);
     }
 
     /**
@@ -2602,7 +2728,7 @@ public class Colter {
      * @param   fgColor Enum of type {@link FGColor}, which represents one of 16 foreground colors.
      */
     public void println(@NotNull Object o, @NotNull FGColor fgColor) {
-        println(fgColor + backgroundColor + effect + o);
+        write(style.withFG(fgColor), o, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -2612,7 +2738,7 @@ public class Colter {
      * @param   fgColor Enum of type {@link FGColor}, which represents one of 16 foreground colors.
      */
     public void printlnAndReset(@NotNull Object o, @NotNull FGColor fgColor) {
-        println(fgColor + backgroundColor + effect + o + RESET);
+        write(style.withFG(fgColor), o, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -2623,7 +2749,7 @@ public class Colter {
      * @param   bgColor Enum of type {@link BGColor}, which represents one of 16 background colors.
      */
     public void print(@NotNull BGColor bgColor) {
-        print(foregroundColor + bgColor + effect + text);
+        write(style.withBG(bgColor), text, EscapeSequence.EMPTY);
     }
 
     /**
@@ -2632,7 +2758,7 @@ public class Colter {
      * @param   bgColor Enum of type {@link BGColor}, which represents one of 16 background colors.
      */
     public void printAndReset(@NotNull BGColor bgColor) {
-        print(foregroundColor + bgColor + effect + text + RESET);
+        write(style.withBG(bgColor), text, EscapeSequence.RESET);
     }
 
     /**
@@ -2643,7 +2769,7 @@ public class Colter {
      * @param   bgColor Enum of type {@link BGColor}, which represents one of 16 background colors.
      */
     public void println(@NotNull BGColor bgColor) {
-        println(foregroundColor + bgColor + effect + text);
+        write(style.withBG(bgColor), text, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -2652,7 +2778,7 @@ public class Colter {
      * @param   bgColor Enum of type {@link BGColor}, which represents one of 16 background colors.
      */
     public void printlnAndReset(@NotNull BGColor bgColor) {
-        println(foregroundColor + bgColor + effect + text + RESET);
+        write(style.withBG(bgColor), text, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -2664,7 +2790,7 @@ public class Colter {
      * @param   bgColor Enum of type {@link BGColor}, which represents one of 16 background colors.
      */
     public void print(@NotNull Object o, @NotNull BGColor bgColor) {
-        print(foregroundColor + bgColor + effect + o);
+        write(style.withBG(bgColor), o, EscapeSequence.EMPTY);
     }
 
     /**
@@ -2674,7 +2800,7 @@ public class Colter {
      * @param   bgColor Enum of type {@link BGColor}, which represents one of 16 background colors.
      */
     public void printAndReset(@NotNull Object o, @NotNull BGColor bgColor) {
-        print(foregroundColor + bgColor + effect + o + RESET);
+        write(style.withBG(bgColor), o, EscapeSequence.RESET);
     }
 
     /**
@@ -2686,7 +2812,7 @@ public class Colter {
      * @param   bgColor Enum of type {@link BGColor}, which represents one of 16 background colors.
      */
     public void println(@NotNull Object o, @NotNull BGColor bgColor) {
-        println(foregroundColor + bgColor + effect + o);
+        write(style.withBG(bgColor), o, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -2696,7 +2822,7 @@ public class Colter {
      * @param   bgColor Enum of type {@link BGColor}, which represents one of 16 background colors.
      */
     public void printlnAndReset(@NotNull Object o, @NotNull BGColor bgColor) {
-        println(foregroundColor + bgColor + effect + o + RESET);
+        write(style.withBG(bgColor), o, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -2708,7 +2834,7 @@ public class Colter {
      * @param   bgColor Enum of type {@link BGColor}, which represents one of 16 background colors.
      */
     public void print(@NotNull FGColor fgColor, @NotNull BGColor bgColor) {
-        print("" + fgColor + bgColor + effect + text);
+        write(style.withFG(fgColor).withBG(bgColor), text, EscapeSequence.EMPTY);
     }
 
     /**
@@ -2718,7 +2844,7 @@ public class Colter {
      * @param   bgColor Enum of type {@link BGColor}, which represents one of 16 background colors.
      */
     public void printAndReset(@NotNull FGColor fgColor, @NotNull BGColor bgColor) {
-        print("" + fgColor + bgColor + effect + text + RESET);
+        write(style.withFG(fgColor).withBG(bgColor), text, EscapeSequence.RESET);
     }
 
     /**
@@ -2730,7 +2856,7 @@ public class Colter {
      * @param   bgColor Enum of type {@link BGColor}, which represents one of 16 background colors.
      */
     public void println(@NotNull FGColor fgColor, @NotNull BGColor bgColor) {
-        println("" + fgColor + bgColor + effect + text);
+        write(style.withFG(fgColor).withBG(bgColor), text, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -2740,7 +2866,7 @@ public class Colter {
      * @param   bgColor Enum of type {@link BGColor}, which represents one of 16 background colors.
      */
     public void printlnAndReset(@NotNull FGColor fgColor, @NotNull BGColor bgColor) {
-        println("" + fgColor + bgColor + effect + text + RESET);
+        write(style.withFG(fgColor).withBG(bgColor), text, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -2753,7 +2879,7 @@ public class Colter {
      * @param   bgColor Enum of type {@link BGColor}, which represents one of 16 background colors.
      */
     public void print(@NotNull Object o, @NotNull FGColor fgColor, @NotNull BGColor bgColor) {
-        print("" + fgColor + bgColor + effect + o);
+        write(style.withFG(fgColor).withBG(bgColor), o, EscapeSequence.EMPTY);
     }
 
     /**
@@ -2765,7 +2891,7 @@ public class Colter {
      * @param   bgColor Enum of type {@link BGColor}, which represents one of 16 background colors.
      */
     public void printAndReset(@NotNull Object o, @NotNull FGColor fgColor, @NotNull BGColor bgColor) {
-        print("" + fgColor + bgColor + effect + o + RESET);
+        write(style.withFG(fgColor).withBG(bgColor), o, EscapeSequence.RESET);
     }
 
     /**
@@ -2778,7 +2904,7 @@ public class Colter {
      * @param   bgColor Enum of type {@link BGColor}, which represents one of 16 background colors.
      */
     public void println(@NotNull Object o, @NotNull FGColor fgColor, @NotNull BGColor bgColor) {
-        println("" + fgColor + bgColor + effect + o);
+        write(style.withFG(fgColor).withBG(bgColor), o, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -2790,7 +2916,7 @@ public class Colter {
      * @param   bgColor Enum of type {@link BGColor}, which represents one of 16 background colors.
      */
     public void printlnAndReset(@NotNull Object o, @NotNull FGColor fgColor, @NotNull BGColor bgColor) {
-        println("" + fgColor + bgColor + effect + o + RESET);
+        write(style.withFG(fgColor).withBG(bgColor), o, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -2801,7 +2927,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void print(@NotNull Effect ... effects) {
-        print(foregroundColor + backgroundColor + effect(effects) + text);
+        write(style.withEffects(effects), text, EscapeSequence.EMPTY);
     }
 
     /**
@@ -2811,7 +2937,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printAndReset(@NotNull Effect ... effects) {
-        print(foregroundColor + backgroundColor + effect(effects) + text + RESET);
+        write(style.withEffects(effects), text, EscapeSequence.RESET);
     }
 
     /**
@@ -2822,7 +2948,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void println(@NotNull Effect ... effects) {
-        println(foregroundColor + backgroundColor + effect(effects) + text);
+        write(style.withEffects(effects), text, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -2832,7 +2958,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printlnAndReset(@NotNull Effect ... effects) {
-        println(foregroundColor + backgroundColor + effect(effects) + text + RESET);
+        write(style.withEffects(effects), text, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -2844,7 +2970,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void print(@NotNull Object o, @NotNull Effect ... effects) {
-        print(foregroundColor + backgroundColor + effect(effects) + o);
+        write(style.withEffects(effects), o, EscapeSequence.EMPTY);
     }
 
     /**
@@ -2855,7 +2981,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printAndReset(@NotNull Object o, @NotNull Effect ... effects) {
-        print(foregroundColor + backgroundColor + effect(effects) + o + RESET);
+        write(style.withEffects(effects), o, EscapeSequence.RESET);
     }
 
     /**
@@ -2867,7 +2993,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void println(@NotNull Object o, @NotNull Effect ... effects) {
-        println(foregroundColor + backgroundColor + effect(effects) + o);
+        write(style.withEffects(effects), o, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -2878,7 +3004,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printlnAndReset(@NotNull Object o, @NotNull Effect ... effects) {
-        println(foregroundColor + backgroundColor + effect(effects) + o + RESET);
+        write(style.withEffects(effects), o, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -2890,7 +3016,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void print(@NotNull FGColor fgColor, @NotNull Effect ... effects) {
-        print(fgColor + backgroundColor + effect(effects) + text);
+        write(style.withFG(fgColor).withEffects(effects), text, EscapeSequence.EMPTY);
     }
 
     /**
@@ -2901,7 +3027,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printAndReset(@NotNull FGColor fgColor, @NotNull Effect ... effects) {
-        print(fgColor + backgroundColor + effect(effects) + text + RESET);
+        write(style.withFG(fgColor).withEffects(effects), text, EscapeSequence.RESET);
     }
 
     /**
@@ -2913,7 +3039,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void println(@NotNull FGColor fgColor, @NotNull Effect ... effects) {
-        println(fgColor + backgroundColor + effect(effects) + text);
+        write(style.withFG(fgColor).withEffects(effects), text, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -2924,7 +3050,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printlnAndReset(@NotNull FGColor fgColor, @NotNull Effect ... effects) {
-        println(fgColor + backgroundColor + effect(effects) + text + RESET);
+        write(style.withFG(fgColor).withEffects(effects), text, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -2937,7 +3063,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void print(@NotNull Object o, @NotNull FGColor fgColor, @NotNull Effect ... effects) {
-        print(fgColor + backgroundColor + effect(effects) + o);
+        write(style.withFG(fgColor).withEffects(effects), o, EscapeSequence.EMPTY);
     }
 
     /**
@@ -2949,7 +3075,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printAndReset(@NotNull Object o, @NotNull FGColor fgColor, @NotNull Effect ... effects) {
-        print(fgColor + backgroundColor + effect(effects) + o + RESET);
+        write(style.withFG(fgColor).withEffects(effects), o, EscapeSequence.RESET);
     }
 
     /**
@@ -2962,7 +3088,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void println(@NotNull Object o, @NotNull FGColor fgColor, @NotNull Effect ... effects) {
-        println(fgColor + backgroundColor + effect(effects) + o);
+        write(style.withFG(fgColor).withEffects(effects), o, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -2974,7 +3100,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printlnAndReset(@NotNull Object o, @NotNull FGColor fgColor, @NotNull Effect ... effects) {
-        println(fgColor + backgroundColor + effect(effects) + o + RESET);
+        write(style.withFG(fgColor).withEffects(effects), o, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -2986,7 +3112,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void print(@NotNull BGColor bgColor, @NotNull Effect ... effects) {
-        print(foregroundColor + bgColor + effect(effects) + text);
+        write(style.withBG(bgColor).withEffects(effects), text, EscapeSequence.EMPTY);
     }
 
     /**
@@ -2997,7 +3123,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printAndReset(@NotNull BGColor bgColor, @NotNull Effect ... effects) {
-        print(foregroundColor + bgColor + effect(effects) + text + RESET);
+        write(style.withBG(bgColor).withEffects(effects), text, EscapeSequence.RESET);
     }
 
     /**
@@ -3009,7 +3135,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void println(@NotNull BGColor bgColor, @NotNull Effect ... effects) {
-        println(foregroundColor + bgColor + effect(effects) + text);
+        write(style.withBG(bgColor).withEffects(effects), text, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -3020,7 +3146,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printlnAndReset(@NotNull BGColor bgColor, @NotNull Effect ... effects) {
-        println(foregroundColor + bgColor + effect(effects) + text + RESET);
+        write(style.withBG(bgColor).withEffects(effects), text, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -3033,7 +3159,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void print(@NotNull Object o, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
-        print(foregroundColor + bgColor + effect(effects) + o);
+        write(style.withBG(bgColor).withEffects(effects), o, EscapeSequence.EMPTY);
     }
 
     /**
@@ -3045,7 +3171,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printAndReset(@NotNull Object o, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
-        print(foregroundColor + bgColor + effect(effects) + o + RESET);
+        write(style.withBG(bgColor).withEffects(effects), o, EscapeSequence.RESET);
     }
 
     /**
@@ -3058,7 +3184,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void println(@NotNull Object o, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
-        println(foregroundColor + bgColor + effect(effects) + o);
+        write(style.withBG(bgColor).withEffects(effects), o, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -3070,7 +3196,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printlnAndReset(@NotNull Object o, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
-        println(foregroundColor + bgColor + effect(effects) + o + RESET);
+        write(style.withBG(bgColor).withEffects(effects), o, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -3083,7 +3209,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void print(@NotNull FGColor fgColor, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
-        print("" + fgColor +  bgColor + effect(effects) + text);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), text, EscapeSequence.EMPTY);
     }
 
     /**
@@ -3095,7 +3221,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printAndReset(@NotNull FGColor fgColor, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
-        print("" + fgColor +  bgColor + effect(effects) + text + RESET);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), text, EscapeSequence.RESET);
     }
 
     /**
@@ -3108,7 +3234,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void println(@NotNull FGColor fgColor, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
-        println("" + fgColor +  bgColor + effect(effects) + text);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), text, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -3120,7 +3246,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printlnAndReset(@NotNull FGColor fgColor, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
-        println("" + fgColor +  bgColor + effect(effects) + text + RESET);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), text, EscapeSequence.RESET_LINE_BREAK);
     }
     
     /**
@@ -3134,7 +3260,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void print(@NotNull Object o, @NotNull FGColor fgColor, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
-        print("" + fgColor +  bgColor + effect(effects) + o);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), o, EscapeSequence.EMPTY);
     }
 
     /**
@@ -3147,7 +3273,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printAndReset(@NotNull Object o, @NotNull FGColor fgColor, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
-        print("" + fgColor +  bgColor + effect(effects) + o + RESET);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), o, EscapeSequence.RESET);
     }
 
     /**
@@ -3161,7 +3287,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void println(@NotNull Object o, @NotNull FGColor fgColor, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
-        println("" + fgColor +  bgColor + effect(effects) + o);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), o, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -3174,7 +3300,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printlnAndReset(@NotNull Object o, @NotNull FGColor fgColor, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
-        println("" + fgColor +  bgColor + effect(effects) + o + RESET);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), o, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -3187,8 +3313,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void print(@NotNull Color fgColor, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
-        String foregroundColor = fg(fgColor.getRed(), fgColor.getGreen(), fgColor.getBlue());
-        print(foregroundColor + bgColor + effect(effects) + text);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), text, EscapeSequence.EMPTY);
     }
 
     /**
@@ -3200,8 +3325,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printAndReset(@NotNull Color fgColor, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
-        String foregroundColor = fg(fgColor.getRed(), fgColor.getGreen(), fgColor.getBlue());
-        print(foregroundColor + bgColor + effect(effects) + text + RESET);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), text, EscapeSequence.RESET);
     }
 
     /**
@@ -3214,8 +3338,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void println(@NotNull Color fgColor, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
-        String foregroundColor = fg(fgColor.getRed(), fgColor.getGreen(), fgColor.getBlue());
-        println(foregroundColor + bgColor + effect(effects) + text);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), text, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -3227,8 +3350,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printlnAndReset(@NotNull Color fgColor, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
-        String foregroundColor = fg(fgColor.getRed(), fgColor.getGreen(), fgColor.getBlue());
-        println(foregroundColor + bgColor + effect(effects) + text + RESET);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), text, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -3242,8 +3364,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void print(@NotNull Object o, @NotNull Color fgColor, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
-        String foregroundColor = fg(fgColor.getRed(), fgColor.getGreen(), fgColor.getBlue());
-        print(foregroundColor + bgColor + effect(effects) + o);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), o, EscapeSequence.EMPTY);
     }
 
     /**
@@ -3256,8 +3377,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printAndReset(@NotNull Object o, @NotNull Color fgColor, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
-        String foregroundColor = fg(fgColor.getRed(), fgColor.getGreen(), fgColor.getBlue());
-        print(foregroundColor + bgColor + effect(effects) + o + RESET);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), o, EscapeSequence.RESET);
     }
 
     /**
@@ -3271,8 +3391,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void println(@NotNull Object o, @NotNull Color fgColor, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
-        String foregroundColor = fg(fgColor.getRed(), fgColor.getGreen(), fgColor.getBlue());
-        println(foregroundColor + bgColor + effect(effects) + o);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), o, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -3285,8 +3404,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printlnAndReset(@NotNull Object o, @NotNull Color fgColor, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
-        String foregroundColor = fg(fgColor.getRed(), fgColor.getGreen(), fgColor.getBlue());
-        println(foregroundColor + bgColor + effect(effects) + o + RESET);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), o, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -3299,8 +3417,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void print(@NotNull FGColor fgColor, @NotNull Color bgColor, @NotNull Effect ... effects) {
-        String backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        print(fgColor + backgroundColor + effect(effects) + text);
+        write(style.withBG(bgColor).withFG(fgColor).withEffects(effects), text, EscapeSequence.EMPTY);
     }
 
     /**
@@ -3312,8 +3429,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printAndReset(@NotNull FGColor fgColor, @NotNull Color bgColor, @NotNull Effect ... effects) {
-        String backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        print(fgColor + backgroundColor + effect(effects) + text + RESET);
+        write(style.withBG(bgColor).withFG(fgColor).withEffects(effects), text, EscapeSequence.RESET);
     }
 
     /**
@@ -3326,8 +3442,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void println(@NotNull FGColor fgColor, @NotNull Color bgColor, @NotNull Effect ... effects) {
-        String backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        println(fgColor + backgroundColor + effect(effects) + text);
+        write(style.withBG(bgColor).withFG(fgColor).withEffects(effects), text, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -3339,8 +3454,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printlnAndReset(@NotNull FGColor fgColor, @NotNull Color bgColor, @NotNull Effect ... effects) {
-        String backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        println(fgColor + backgroundColor + effect(effects) + text + RESET);
+        write(style.withBG(bgColor).withFG(fgColor).withEffects(effects), text, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -3354,8 +3468,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void print(@NotNull Object o, @NotNull FGColor fgColor, @NotNull Color bgColor, @NotNull Effect ... effects) {
-        String backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        print(fgColor + backgroundColor + effect(effects) + o);
+        write(style.withBG(bgColor).withFG(fgColor).withEffects(effects), o, EscapeSequence.EMPTY);
     }
 
     /**
@@ -3368,8 +3481,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printAndReset(@NotNull Object o, @NotNull FGColor fgColor, @NotNull Color bgColor, @NotNull Effect ... effects) {
-        String backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        print(fgColor + backgroundColor + effect(effects) + o + RESET);
+        write(style.withBG(bgColor).withFG(fgColor).withEffects(effects), o, EscapeSequence.RESET);
     }
 
     /**
@@ -3383,8 +3495,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void println(@NotNull Object o, @NotNull FGColor fgColor, @NotNull Color bgColor, @NotNull Effect ... effects) {
-        String backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        println(fgColor + backgroundColor + effect(effects) + o);
+        write(style.withBG(bgColor).withFG(fgColor).withEffects(effects), o, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -3397,8 +3508,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printlnAndReset(@NotNull Object o, @NotNull FGColor fgColor, @NotNull Color bgColor, @NotNull Effect ... effects) {
-        String backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        println(fgColor + backgroundColor + effect(effects) + o + RESET);
+        write(style.withBG(bgColor).withFG(fgColor).withEffects(effects), o, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -3411,9 +3521,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void print(@NotNull Color fgColor, @NotNull Color bgColor, @NotNull Effect ... effects) {
-        String foregroundColor = fg(fgColor.getRed(), fgColor.getGreen(), fgColor.getBlue());
-        String backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        print(fgColor + backgroundColor + effect(effects) + text);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), text, EscapeSequence.EMPTY);
     }
 
     /**
@@ -3425,9 +3533,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printAndReset(@NotNull Color fgColor, @NotNull Color bgColor, @NotNull Effect ... effects) {
-        String foregroundColor = fg(fgColor.getRed(), fgColor.getGreen(), fgColor.getBlue());
-        String backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        print(fgColor + backgroundColor + effect(effects) + text + RESET);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), text, EscapeSequence.RESET);
     }
 
     /**
@@ -3440,9 +3546,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void println(@NotNull Color fgColor, @NotNull Color bgColor, @NotNull Effect ... effects) {
-        String foregroundColor = fg(fgColor.getRed(), fgColor.getGreen(), fgColor.getBlue());
-        String backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        println(fgColor + backgroundColor + effect(effects) + text);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), text, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -3454,9 +3558,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printlnAndReset(@NotNull Color fgColor, @NotNull Color bgColor, @NotNull Effect ... effects) {
-        String foregroundColor = fg(fgColor.getRed(), fgColor.getGreen(), fgColor.getBlue());
-        String backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        println(fgColor + backgroundColor + effect(effects) + text + RESET);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), text, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -3470,9 +3572,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void print(@NotNull Object o, @NotNull Color fgColor, @NotNull Color bgColor, @NotNull Effect ... effects) {
-        String foregroundColor = fg(fgColor.getRed(), fgColor.getGreen(), fgColor.getBlue());
-        String backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        print(fgColor + backgroundColor + effect(effects) + o);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), o, EscapeSequence.EMPTY);
     }
 
     /**
@@ -3485,9 +3585,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printAndReset(@NotNull Object o, @NotNull Color fgColor, @NotNull Color bgColor, @NotNull Effect ... effects) {
-        String foregroundColor = fg(fgColor.getRed(), fgColor.getGreen(), fgColor.getBlue());
-        String backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        print(fgColor + backgroundColor + effect(effects) + o + RESET);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), o, EscapeSequence.RESET);
     }
 
     /**
@@ -3501,9 +3599,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void println(@NotNull Object o, @NotNull Color fgColor, @NotNull Color bgColor, @NotNull Effect ... effects) {
-        String foregroundColor = fg(fgColor.getRed(), fgColor.getGreen(), fgColor.getBlue());
-        String backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        println(fgColor + backgroundColor + effect(effects) + o);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), o, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -3516,9 +3612,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printlnAndReset(@NotNull Object o, @NotNull Color fgColor, @NotNull Color bgColor, @NotNull Effect ... effects) {
-        String foregroundColor = fg(fgColor.getRed(), fgColor.getGreen(), fgColor.getBlue());
-        String backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        println(fgColor + backgroundColor + effect(effects) + o + RESET);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), o, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -3530,7 +3624,7 @@ public class Colter {
      * @param   bgColor Enum of type {@link BGColor}, which represents one of 16 background colors.
      */
     public void print(int fgColor, @NotNull BGColor bgColor) {
-        print(fg(fgColor) + bgColor + effect + text);
+        write(style.withFG(fgColor).withBG(bgColor), text, EscapeSequence.EMPTY);
     }
 
     /**
@@ -3541,7 +3635,7 @@ public class Colter {
      * @param   bgColor Enum of type {@link BGColor}, which represents one of 16 background colors.
      */
     public void printAndReset(int fgColor, @NotNull BGColor bgColor) {
-        print(fg(fgColor) + bgColor + effect + text + RESET);
+        write(style.withFG(fgColor).withBG(bgColor), text, EscapeSequence.RESET);
     }
 
     /**
@@ -3553,7 +3647,7 @@ public class Colter {
      * @param   bgColor Enum of type {@link BGColor}, which represents one of 16 background colors.
      */
     public void println(int fgColor, @NotNull BGColor bgColor) {
-        println(fg(fgColor) + bgColor + effect + text);
+        write(style.withFG(fgColor).withBG(bgColor), text, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -3564,7 +3658,7 @@ public class Colter {
      * @param   bgColor Enum of type {@link BGColor}, which represents one of 16 background colors.
      */
     public void printlnAndReset(int fgColor, @NotNull BGColor bgColor) {
-        println(fg(fgColor) + bgColor + effect + text + RESET);
+        write(style.withFG(fgColor).withBG(bgColor), text, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -3577,7 +3671,7 @@ public class Colter {
      * @param   bgColor Enum of type {@link BGColor}, which represents one of 16 background colors.
      */
     public void print(@NotNull Object o, int fgColor, @NotNull BGColor bgColor) {
-        print(fg(fgColor) + bgColor + effect + o);
+        write(style.withFG(fgColor).withBG(bgColor), o, EscapeSequence.EMPTY);
     }
 
     /**
@@ -3589,7 +3683,7 @@ public class Colter {
      * @param   bgColor Enum of type {@link BGColor}, which represents one of 16 background colors.
      */
     public void printAndReset(@NotNull Object o, int fgColor, @NotNull BGColor bgColor) {
-        print(fg(fgColor) + bgColor + effect + o + RESET);
+        write(style.withFG(fgColor).withBG(bgColor), o, EscapeSequence.RESET);
     }
 
     /**
@@ -3602,7 +3696,7 @@ public class Colter {
      * @param   bgColor Enum of type {@link BGColor}, which represents one of 16 background colors.
      */
     public void println(@NotNull Object o, int fgColor, @NotNull BGColor bgColor) {
-        println(fg(fgColor) + bgColor + effect + o);
+        write(style.withFG(fgColor).withBG(bgColor), o, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -3614,7 +3708,7 @@ public class Colter {
      * @param   bgColor Enum of type {@link BGColor}, which represents one of 16 background colors.
      */
     public void printlnAndReset(@NotNull Object o, int fgColor, @NotNull BGColor bgColor) {
-        println(fg(fgColor) + bgColor + effect + o + RESET);
+        write(style.withFG(fgColor).withBG(bgColor), o, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -3627,7 +3721,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void print(int fgColor, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
-        print(fg(fgColor) + bgColor + effect(effects) + text);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), text, EscapeSequence.EMPTY);
     }
 
     /**
@@ -3639,7 +3733,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printAndReset(int fgColor, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
-        print(fg(fgColor) + bgColor + effect(effects) + text + RESET);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), text, EscapeSequence.RESET);
     }
 
     /**
@@ -3652,7 +3746,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void println(int fgColor, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
-        println(fg(fgColor) + bgColor + effect(effects) + text);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), text, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -3664,7 +3758,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printlnAndReset(int fgColor, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
-        println(fg(fgColor) + bgColor + effect(effects) + text + RESET);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), text, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -3678,7 +3772,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void print(@NotNull Object o, int fgColor, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
-        print(fg(fgColor) + bgColor + effect(effects) + o);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), o, EscapeSequence.EMPTY);
     }
 
     /**
@@ -3691,7 +3785,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printAndReset(@NotNull Object o, int fgColor, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
-        print(fg(fgColor) + bgColor + effect(effects) + o + RESET);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), o, EscapeSequence.RESET);
     }
 
     /**
@@ -3705,7 +3799,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void println(@NotNull Object o, int fgColor, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
-        println(fg(fgColor) + bgColor + effect(effects) + o);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), o, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -3718,7 +3812,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printlnAndReset(@NotNull Object o, int fgColor, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
-        println(fg(fgColor) + bgColor + effect(effects) + o + RESET);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), o, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -3730,8 +3824,7 @@ public class Colter {
      * @param   bgColor {@link Color} object, which represents the background color.
      */
     public void print(int fgColor, @NotNull Color bgColor) {
-        String backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        print(fg(fgColor) + backgroundColor + effect + text);
+        write(style.withBG(bgColor).withFG(fgColor), text, EscapeSequence.EMPTY);
     }
 
     /**
@@ -3742,8 +3835,7 @@ public class Colter {
      * @param   bgColor {@link Color} object, which represents the background color.
      */
     public void printAndReset(int fgColor, @NotNull Color bgColor) {
-        String backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        print(fg(fgColor) + backgroundColor + effect + text + RESET);
+        write(style.withBG(bgColor).withFG(fgColor), text, EscapeSequence.RESET);
     }
 
     /**
@@ -3755,8 +3847,7 @@ public class Colter {
      * @param   bgColor {@link Color} object, which represents the background color.
      */
     public void println(int fgColor, @NotNull Color bgColor) {
-        String backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        println(fg(fgColor) + backgroundColor + effect + text);
+        write(style.withBG(bgColor).withFG(fgColor), text, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -3767,8 +3858,7 @@ public class Colter {
      * @param   bgColor {@link Color} object, which represents the background color.
      */
     public void printlnAndReset(int fgColor, @NotNull Color bgColor) {
-        String backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        println(fg(fgColor) + backgroundColor + effect + text + RESET);
+        write(style.withBG(bgColor).withFG(fgColor), text, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -3781,8 +3871,7 @@ public class Colter {
      * @param   bgColor {@link Color} object, which represents the background color.
      */
     public void print(@NotNull Object o, int fgColor, @NotNull Color bgColor) {
-        String backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        print(fg(fgColor) + backgroundColor + effect + o);
+        write(style.withBG(bgColor).withFG(fgColor), o, EscapeSequence.EMPTY);
     }
 
     /**
@@ -3794,8 +3883,7 @@ public class Colter {
      * @param   bgColor {@link Color} object, which represents the background color.
      */
     public void printAndReset(@NotNull Object o, int fgColor, @NotNull Color bgColor) {
-        String backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        print(fg(fgColor) + backgroundColor + effect + o + RESET);
+        write(style.withBG(bgColor).withFG(fgColor), o, EscapeSequence.RESET);
     }
 
     /**
@@ -3808,8 +3896,7 @@ public class Colter {
      * @param   bgColor {@link Color} object, which represents the background color.
      */
     public void println(@NotNull Object o, int fgColor, @NotNull Color bgColor) {
-        String backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        println(fg(fgColor) + backgroundColor + effect + o);
+        write(style.withBG(bgColor).withFG(fgColor), o, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -3821,8 +3908,7 @@ public class Colter {
      * @param   bgColor {@link Color} object, which represents the background color.
      */
     public void printlnAndReset(@NotNull Object o, int fgColor, @NotNull Color bgColor) {
-        String backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        println(fg(fgColor) + backgroundColor + effect + o + RESET);
+        write(style.withBG(bgColor).withFG(fgColor), o, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -3835,8 +3921,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void print(int fgColor, @NotNull Color bgColor, @NotNull Effect ... effects) {
-        String backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        print(fg(fgColor) + backgroundColor + effect(effects) + text);
+        write(style.withBG(bgColor).withFG(fgColor).withEffects(effects), text, EscapeSequence.EMPTY);
     }
 
     /**
@@ -3848,8 +3933,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printAndReset(int fgColor, @NotNull Color bgColor, @NotNull Effect ... effects) {
-        String backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        print(fg(fgColor) + backgroundColor + effect(effects) + text + RESET);
+        write(style.withBG(bgColor).withFG(fgColor).withEffects(effects), text, EscapeSequence.RESET);
     }
 
     /**
@@ -3862,8 +3946,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void println(int fgColor, @NotNull Color bgColor, @NotNull Effect ... effects) {
-        String backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        println(fg(fgColor) + backgroundColor + effect(effects) + text);
+        write(style.withBG(bgColor).withFG(fgColor).withEffects(effects), text, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -3875,8 +3958,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printlnAndReset(int fgColor, @NotNull Color bgColor, @NotNull Effect ... effects) {
-        String backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        println(fg(fgColor) + backgroundColor + effect(effects) + text + RESET);
+        write(style.withBG(bgColor).withFG(fgColor).withEffects(effects), text, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -3890,8 +3972,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void print(@NotNull Object o, int fgColor, @NotNull Color bgColor, @NotNull Effect ... effects) {
-        String backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        print(fg(fgColor) + backgroundColor + effect(effects) + o);
+        write(style.withBG(bgColor).withFG(fgColor).withEffects(effects), o, EscapeSequence.EMPTY);
     }
 
     /**
@@ -3904,8 +3985,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printAndReset(@NotNull Object o, int fgColor, @NotNull Color bgColor, @NotNull Effect ... effects) {
-        String backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        print(fg(fgColor) + backgroundColor + effect(effects) + o + RESET);
+        write(style.withBG(bgColor).withFG(fgColor).withEffects(effects), o, EscapeSequence.RESET);
     }
 
     /**
@@ -3919,8 +3999,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void println(@NotNull Object o, int fgColor, @NotNull Color bgColor, @NotNull Effect ... effects) {
-        String backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        println(fg(fgColor) + backgroundColor + effect(effects) + o);
+        write(style.withBG(bgColor).withFG(fgColor).withEffects(effects), o, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -3933,8 +4012,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printlnAndReset(@NotNull Object o, int fgColor, @NotNull Color bgColor, @NotNull Effect ... effects) {
-        String backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        println(fg(fgColor) + backgroundColor + effect(effects) + o + RESET);
+        write(style.withBG(bgColor).withFG(fgColor).withEffects(effects), o, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -3950,7 +4028,7 @@ public class Colter {
      * @param   bgColor Enum of type {@link BGColor}, which represents one of 16 background colors.
      */
     public void print(int fgRed, int fgGreen, int fgBlue, @NotNull BGColor bgColor) {
-        print(fg(fgRed, fgGreen, fgBlue) + bgColor + effect + text);
+        write(style.withFG(fgRed, fgGreen, fgBlue).withBG(bgColor), text, EscapeSequence.EMPTY);
     }
 
     /**
@@ -3965,7 +4043,7 @@ public class Colter {
      * @param   bgColor Enum of type {@link BGColor}, which represents one of 16 background colors.
      */
     public void printAndReset(int fgRed, int fgGreen, int fgBlue, @NotNull BGColor bgColor) {
-        print(fg(fgRed, fgGreen, fgBlue) + bgColor + effect + text + RESET);
+        write(style.withFG(fgRed, fgGreen, fgBlue).withBG(bgColor), text, EscapeSequence.RESET);
     }
 
     /**
@@ -3981,7 +4059,7 @@ public class Colter {
      * @param   bgColor Enum of type {@link BGColor}, which represents one of 16 background colors.
      */
     public void println(int fgRed, int fgGreen, int fgBlue, @NotNull BGColor bgColor) {
-        println(fg(fgRed, fgGreen, fgBlue) + bgColor + effect + text);
+        write(style.withFG(fgRed, fgGreen, fgBlue).withBG(bgColor), text, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -3996,7 +4074,7 @@ public class Colter {
      * @param   bgColor Enum of type {@link BGColor}, which represents one of 16 background colors.
      */
     public void printlnAndReset(int fgRed, int fgGreen, int fgBlue, @NotNull BGColor bgColor) {
-        println(fg(fgRed, fgGreen, fgBlue) + bgColor + effect + text + RESET);
+        write(style.withFG(fgRed, fgGreen, fgBlue).withBG(bgColor), text, EscapeSequence.RESET_LINE_BREAK);
     }
     
     /**
@@ -4013,7 +4091,7 @@ public class Colter {
      * @param   bgColor Enum of type {@link BGColor}, which represents one of 16 background colors.
      */
     public void print(@NotNull Object o, int fgRed, int fgGreen, int fgBlue, @NotNull BGColor bgColor) {
-        print(fg(fgRed, fgGreen, fgBlue) + bgColor + effect + o);
+        write(style.withFG(fgRed, fgGreen, fgBlue).withBG(bgColor), o, EscapeSequence.EMPTY);
     }
 
     /**
@@ -4029,7 +4107,7 @@ public class Colter {
      * @param   bgColor Enum of type {@link BGColor}, which represents one of 16 background colors.
      */
     public void printAndReset(@NotNull Object o, int fgRed, int fgGreen, int fgBlue, @NotNull BGColor bgColor) {
-        print(fg(fgRed, fgGreen, fgBlue) + bgColor + effect + o + RESET);
+        write(style.withFG(fgRed, fgGreen, fgBlue).withBG(bgColor), o, EscapeSequence.RESET);
     }
 
     /**
@@ -4046,7 +4124,7 @@ public class Colter {
      * @param   bgColor Enum of type {@link BGColor}, which represents one of 16 background colors.
      */
     public void println(@NotNull Object o, int fgRed, int fgGreen, int fgBlue, @NotNull BGColor bgColor) {
-        println(fg(fgRed, fgGreen, fgBlue) + bgColor + effect + o);
+        write(style.withFG(fgRed, fgGreen, fgBlue).withBG(bgColor), o, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -4062,7 +4140,7 @@ public class Colter {
      * @param   bgColor Enum of type {@link BGColor}, which represents one of 16 background colors.
      */
     public void printlnAndReset(@NotNull Object o, int fgRed, int fgGreen, int fgBlue, @NotNull BGColor bgColor) {
-        println(fg(fgRed, fgGreen, fgBlue) + bgColor + effect + o + RESET);
+        write(style.withFG(fgRed, fgGreen, fgBlue).withBG(bgColor), o, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -4079,7 +4157,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void print(int fgRed, int fgGreen, int fgBlue, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
-        print(fg(fgRed, fgGreen, fgBlue) + bgColor + effect(effects) + text);
+        write(style.withFG(fgRed, fgGreen, fgBlue).withBG(bgColor).withEffects(effects), text, EscapeSequence.EMPTY);
     }
 
     /**
@@ -4094,7 +4172,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printAndReset(int fgRed, int fgGreen, int fgBlue, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
-        print(fg(fgRed, fgGreen, fgBlue) + bgColor + effect(effects) + text + RESET);
+        write(style.withFG(fgRed, fgGreen, fgBlue).withBG(bgColor).withEffects(effects), text, EscapeSequence.RESET);
     }
 
     /**
@@ -4111,7 +4189,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void println(int fgRed, int fgGreen, int fgBlue, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
-        println(fg(fgRed, fgGreen, fgBlue) + bgColor + effect(effects) + text);
+        write(style.withFG(fgRed, fgGreen, fgBlue).withBG(bgColor).withEffects(effects), text, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -4126,7 +4204,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printlnAndReset(int fgRed, int fgGreen, int fgBlue, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
-        println(fg(fgRed, fgGreen, fgBlue) + bgColor + effect(effects) + text + RESET);
+        write(style.withFG(fgRed, fgGreen, fgBlue).withBG(bgColor).withEffects(effects), text, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -4144,7 +4222,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void print(@NotNull Object o, int fgRed, int fgGreen, int fgBlue, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
-        print(fg(fgRed, fgGreen, fgBlue) + bgColor + effect(effects) + o);
+        write(style.withFG(fgRed, fgGreen, fgBlue).withBG(bgColor).withEffects(effects), o, EscapeSequence.EMPTY);
     }
 
     /**
@@ -4160,7 +4238,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printAndReset(@NotNull Object o, int fgRed, int fgGreen, int fgBlue, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
-        print(fg(fgRed, fgGreen, fgBlue) + bgColor + effect(effects) + o + RESET);
+        write(style.withFG(fgRed, fgGreen, fgBlue).withBG(bgColor).withEffects(effects), o, EscapeSequence.RESET);
     }
 
     /**
@@ -4178,7 +4256,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void println(@NotNull Object o, int fgRed, int fgGreen, int fgBlue, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
-        println(fg(fgRed, fgGreen, fgBlue) + bgColor + effect(effects) + o);
+        write(style.withFG(fgRed, fgGreen, fgBlue).withBG(bgColor).withEffects(effects), o, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -4194,7 +4272,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printlnAndReset(@NotNull Object o, int fgRed, int fgGreen, int fgBlue, @NotNull BGColor bgColor, @NotNull Effect ... effects) {
-        println(fg(fgRed, fgGreen, fgBlue) + bgColor + effect(effects) + o + RESET);
+        write(style.withFG(fgRed, fgGreen, fgBlue).withBG(bgColor).withEffects(effects), o, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -4210,8 +4288,7 @@ public class Colter {
      * @param   bgColor {@link Color} object, which represents the background color.
      */
     public void print(int fgRed, int fgGreen, int fgBlue, @NotNull Color bgColor) {
-        String backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        print(fg(fgRed, fgGreen, fgBlue) + backgroundColor + effect + text);
+        write(style.withBG(bgColor).withFG(fgRed, fgGreen, fgBlue), text, EscapeSequence.EMPTY);
     }
 
     /**
@@ -4226,8 +4303,7 @@ public class Colter {
      * @param   bgColor {@link Color} object, which represents the background color.
      */
     public void printAndReset(int fgRed, int fgGreen, int fgBlue, @NotNull Color bgColor) {
-        String backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        print(fg(fgRed, fgGreen, fgBlue) + backgroundColor + effect + text + RESET);
+        write(style.withBG(bgColor).withFG(fgRed, fgGreen, fgBlue), text, EscapeSequence.RESET);
     }
 
     /**
@@ -4243,8 +4319,7 @@ public class Colter {
      * @param   bgColor {@link Color} object, which represents the background color.
      */
     public void println(int fgRed, int fgGreen, int fgBlue, @NotNull Color bgColor) {
-        String backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        println(fg(fgRed, fgGreen, fgBlue) + backgroundColor + effect + text);
+        write(style.withBG(bgColor).withFG(fgRed, fgGreen, fgBlue), text, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -4259,8 +4334,7 @@ public class Colter {
      * @param   bgColor {@link Color} object, which represents the background color.
      */
     public void printlnAndReset(int fgRed, int fgGreen, int fgBlue, @NotNull Color bgColor) {
-        String backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        println(fg(fgRed, fgGreen, fgBlue) + backgroundColor + effect + text + RESET);
+        write(style.withBG(bgColor).withFG(fgRed, fgGreen, fgBlue), text, EscapeSequence.RESET_LINE_BREAK);
     }
     
     /**
@@ -4277,8 +4351,7 @@ public class Colter {
      * @param   bgColor {@link Color} object, which represents the background color.
      */
     public void print(@NotNull Object o, int fgRed, int fgGreen, int fgBlue, @NotNull Color bgColor) {
-        String backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        print(fg(fgRed, fgGreen, fgBlue) + backgroundColor + effect + o);
+        write(style.withBG(bgColor).withFG(fgRed, fgGreen, fgBlue), o, EscapeSequence.EMPTY);
     }
 
     /**
@@ -4294,8 +4367,7 @@ public class Colter {
      * @param   bgColor {@link Color} object, which represents the background color.
      */
     public void printAndReset(@NotNull Object o, int fgRed, int fgGreen, int fgBlue, @NotNull Color bgColor) {
-        String backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        print(fg(fgRed, fgGreen, fgBlue) + backgroundColor + effect + o + RESET);
+        write(style.withBG(bgColor).withFG(fgRed, fgGreen, fgBlue), o, EscapeSequence.RESET);
     }
 
     /**
@@ -4312,8 +4384,7 @@ public class Colter {
      * @param   bgColor {@link Color} object, which represents the background color.
      */
     public void println(@NotNull Object o, int fgRed, int fgGreen, int fgBlue, @NotNull Color bgColor) {
-        String backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        println(fg(fgRed, fgGreen, fgBlue) + backgroundColor + effect + o);
+        write(style.withBG(bgColor).withFG(fgRed, fgGreen, fgBlue), o, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -4329,8 +4400,7 @@ public class Colter {
      * @param   bgColor {@link Color} object, which represents the background color.
      */
     public void printlnAndReset(@NotNull Object o, int fgRed, int fgGreen, int fgBlue, @NotNull Color bgColor) {
-        String backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        println(fg(fgRed, fgGreen, fgBlue) + backgroundColor + effect + o + RESET);
+        write(style.withBG(bgColor).withFG(fgRed, fgGreen, fgBlue), o, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -4347,8 +4417,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void print(int fgRed, int fgGreen, int fgBlue, @NotNull Color bgColor, @NotNull Effect ... effects) {
-        String backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        print(fg(fgRed, fgGreen, fgBlue) + backgroundColor + effect(effects) + text);
+        write(style.withBG(bgColor).withFG(fgRed, fgGreen, fgBlue).withEffects(effects), text, EscapeSequence.EMPTY);
     }
 
     /**
@@ -4363,8 +4432,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printAndReset(int fgRed, int fgGreen, int fgBlue, @NotNull Color bgColor, @NotNull Effect ... effects) {
-        String backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        print(fg(fgRed, fgGreen, fgBlue) + backgroundColor + effect(effects) + text + RESET);
+        write(style.withBG(bgColor).withFG(fgRed, fgGreen, fgBlue).withEffects(effects), text, EscapeSequence.RESET);
     }
 
     /**
@@ -4381,8 +4449,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void println(int fgRed, int fgGreen, int fgBlue, @NotNull Color bgColor, @NotNull Effect ... effects) {
-        String backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        println(fg(fgRed, fgGreen, fgBlue) + backgroundColor + effect(effects) + text);
+        write(style.withBG(bgColor).withFG(fgRed, fgGreen, fgBlue).withEffects(effects), text, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -4397,8 +4464,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printlnAndReset(int fgRed, int fgGreen, int fgBlue, @NotNull Color bgColor, @NotNull Effect ... effects) {
-        String backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        println(fg(fgRed, fgGreen, fgBlue) + backgroundColor + effect(effects) + text + RESET);
+        write(style.withBG(bgColor).withFG(fgRed, fgGreen, fgBlue).withEffects(effects), text, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -4416,8 +4482,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void print(@NotNull Object o, int fgRed, int fgGreen, int fgBlue, @NotNull Color bgColor, @NotNull Effect ... effects) {
-        String backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        print(fg(fgRed, fgGreen, fgBlue) + backgroundColor + effect(effects) + o);
+        write(style.withBG(bgColor).withFG(fgRed, fgGreen, fgBlue).withEffects(effects), o, EscapeSequence.EMPTY);
     }
 
     /**
@@ -4433,8 +4498,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printAndReset(@NotNull Object o, int fgRed, int fgGreen, int fgBlue, @NotNull Color bgColor, @NotNull Effect ... effects) {
-        String backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        print(fg(fgRed, fgGreen, fgBlue) + backgroundColor + effect(effects) + o + RESET);
+        write(style.withBG(bgColor).withFG(fgRed, fgGreen, fgBlue).withEffects(effects), o, EscapeSequence.RESET);
     }
 
     /**
@@ -4452,8 +4516,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void println(@NotNull Object o, int fgRed, int fgGreen, int fgBlue, @NotNull Color bgColor, @NotNull Effect ... effects) {
-        String backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        println(fg(fgRed, fgGreen, fgBlue) + backgroundColor + effect(effects) + o);
+        write(style.withBG(bgColor).withFG(fgRed, fgGreen, fgBlue).withEffects(effects), o, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -4469,8 +4532,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printlnAndReset(@NotNull Object o, int fgRed, int fgGreen, int fgBlue, @NotNull Color bgColor, @NotNull Effect ... effects) {
-        String backgroundColor = bg(bgColor.getRed(), bgColor.getGreen(), bgColor.getBlue());
-        println(fg(fgRed, fgGreen, fgBlue) + backgroundColor + effect(effects) + o + RESET);
+        write(style.withBG(bgColor).withFG(fgRed, fgGreen, fgBlue).withEffects(effects), o, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -4482,7 +4544,7 @@ public class Colter {
      * @param   bgColor {@code int} background color number of {@code 0..255}.
      */
     public void print(@NotNull FGColor fgColor, int bgColor) {
-        print(fgColor + bg(bgColor) + effect + text);
+        write(style.withFG(fgColor).withBG(bgColor), text, EscapeSequence.EMPTY);
     }
 
     /**
@@ -4493,7 +4555,7 @@ public class Colter {
      * @param   bgColor {@code int} background color number of {@code 0..255}.
      */
     public void printAndReset(@NotNull FGColor fgColor, int bgColor) {
-        print(fgColor + bg(bgColor) + effect + text + RESET);
+        write(style.withFG(fgColor).withBG(bgColor), text, EscapeSequence.RESET);
     }
 
     /**
@@ -4505,7 +4567,7 @@ public class Colter {
      * @param   bgColor {@code int} background color number of {@code 0..255}.
      */
     public void println(@NotNull FGColor fgColor, int bgColor) {
-        println(fgColor + bg(bgColor) + effect + text);
+        write(style.withFG(fgColor).withBG(bgColor), text, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -4516,7 +4578,7 @@ public class Colter {
      * @param   bgColor {@code int} background color number of {@code 0..255}.
      */
     public void printlnAndReset(@NotNull FGColor fgColor, int bgColor) {
-        println(fgColor + bg(bgColor) + effect + text + RESET);
+        write(style.withFG(fgColor).withBG(bgColor), text, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -4529,7 +4591,7 @@ public class Colter {
      * @param   bgColor {@code int} background color number of {@code 0..255}.
      */
     public void print(@NotNull Object o, @NotNull FGColor fgColor, int bgColor) {
-        print(fgColor + bg(bgColor) + effect + o);
+        write(style.withFG(fgColor).withBG(bgColor), o, EscapeSequence.EMPTY);
     }
 
     /**
@@ -4541,7 +4603,7 @@ public class Colter {
      * @param   bgColor {@code int} background color number of {@code 0..255}.
      */
     public void printAndReset(@NotNull Object o, @NotNull FGColor fgColor, int bgColor) {
-        print(fgColor + bg(bgColor) + effect + o + RESET);
+        write(style.withFG(fgColor).withBG(bgColor), o, EscapeSequence.RESET);
     }
 
     /**
@@ -4554,7 +4616,7 @@ public class Colter {
      * @param   bgColor {@code int} background color number of {@code 0..255}.
      */
     public void println(@NotNull Object o, @NotNull FGColor fgColor, int bgColor) {
-        println(fgColor + bg(bgColor) + effect + o);
+        write(style.withFG(fgColor).withBG(bgColor), o, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -4566,7 +4628,7 @@ public class Colter {
      * @param   bgColor {@code int} background color number of {@code 0..255}.
      */
     public void printlnAndReset(@NotNull Object o, @NotNull FGColor fgColor, int bgColor) {
-        println(fgColor + bg(bgColor) + effect + o + RESET);
+        write(style.withFG(fgColor).withBG(bgColor), o, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -4579,7 +4641,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void print(@NotNull FGColor fgColor, int bgColor, @NotNull Effect ... effects) {
-        print(fgColor + bg(bgColor) + effect(effects) + text);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), text, EscapeSequence.EMPTY);
     }
 
     /**
@@ -4591,7 +4653,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printAndReset(@NotNull FGColor fgColor, int bgColor, @NotNull Effect ... effects) {
-        print(fgColor + bg(bgColor) + effect(effects) + text + RESET);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), text, EscapeSequence.RESET);
     }
 
     /**
@@ -4604,7 +4666,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void println(@NotNull FGColor fgColor, int bgColor, @NotNull Effect ... effects) {
-        println(fgColor + bg(bgColor) + effect(effects) + text);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), text, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -4616,7 +4678,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printlnAndReset(@NotNull FGColor fgColor, int bgColor, @NotNull Effect ... effects) {
-        println(fgColor + bg(bgColor) + effect(effects) + text + RESET);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), text, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -4630,7 +4692,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void print(@NotNull Object o, @NotNull FGColor fgColor, int bgColor, @NotNull Effect ... effects) {
-        print(fgColor + bg(bgColor) + effect(effects) + o);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), o, EscapeSequence.EMPTY);
     }
 
     /**
@@ -4643,7 +4705,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printAndReset(@NotNull Object o, @NotNull FGColor fgColor, int bgColor, @NotNull Effect ... effects) {
-        print(fgColor + bg(bgColor) + effect(effects) + o + RESET);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), o, EscapeSequence.RESET);
     }
 
     /**
@@ -4657,7 +4719,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void println(@NotNull Object o, @NotNull FGColor fgColor, int bgColor, @NotNull Effect ... effects) {
-        println(fgColor + bg(bgColor) + effect(effects) + o);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), o, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -4670,7 +4732,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printlnAndReset(@NotNull Object o, @NotNull FGColor fgColor, int bgColor, @NotNull Effect ... effects) {
-        println(fgColor + bg(bgColor) + effect(effects) + o + RESET);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), o, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -4682,8 +4744,7 @@ public class Colter {
      * @param   bgColor {@code int} background color number of {@code 0..255}.
      */
     public void print(@NotNull Color fgColor, int bgColor) {
-        String foregroundColor = fg(fgColor.getRed(), fgColor.getGreen(), fgColor.getBlue());
-        print(foregroundColor + bg(bgColor) + effect + text);
+        write(style.withFG(fgColor).withBG(bgColor), text, EscapeSequence.EMPTY);
     }
 
     /**
@@ -4694,8 +4755,7 @@ public class Colter {
      * @param   bgColor {@code int} background color number of {@code 0..255}.
      */
     public void printAndReset(@NotNull Color fgColor, int bgColor) {
-        String foregroundColor = fg(fgColor.getRed(), fgColor.getGreen(), fgColor.getBlue());
-        print(foregroundColor + bg(bgColor) + effect + text + RESET);
+        write(style.withFG(fgColor).withBG(bgColor), text, EscapeSequence.RESET);
     }
 
     /**
@@ -4707,8 +4767,7 @@ public class Colter {
      * @param   bgColor {@code int} background color number of {@code 0..255}.
      */
     public void println(@NotNull Color fgColor, int bgColor) {
-        String foregroundColor = fg(fgColor.getRed(), fgColor.getGreen(), fgColor.getBlue());
-        println(foregroundColor + bg(bgColor) + effect + text);
+        write(style.withFG(fgColor).withBG(bgColor), text, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -4719,8 +4778,7 @@ public class Colter {
      * @param   bgColor {@code int} background color number of {@code 0..255}.
      */
     public void printlnAndReset(@NotNull Color fgColor, int bgColor) {
-        String foregroundColor = fg(fgColor.getRed(), fgColor.getGreen(), fgColor.getBlue());
-        println(foregroundColor + bg(bgColor) + effect + text + RESET);
+        write(style.withFG(fgColor).withBG(bgColor), text, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -4733,8 +4791,7 @@ public class Colter {
      * @param   bgColor {@code int} background color number of {@code 0..255}.
      */
     public void print(@NotNull Object o, @NotNull Color fgColor, int bgColor) {
-        String foregroundColor = fg(fgColor.getRed(), fgColor.getGreen(), fgColor.getBlue());
-        print(foregroundColor + bg(bgColor) + effect + o);
+        write(style.withFG(fgColor).withBG(bgColor), o, EscapeSequence.EMPTY);
     }
 
     /**
@@ -4746,8 +4803,7 @@ public class Colter {
      * @param   bgColor {@code int} background color number of {@code 0..255}.
      */
     public void printAndReset(@NotNull Object o, @NotNull Color fgColor, int bgColor) {
-        String foregroundColor = fg(fgColor.getRed(), fgColor.getGreen(), fgColor.getBlue());
-        print(foregroundColor + bg(bgColor) + effect + o + RESET);
+        write(style.withFG(fgColor).withBG(bgColor), o, EscapeSequence.RESET);
     }
 
     /**
@@ -4760,8 +4816,7 @@ public class Colter {
      * @param   bgColor {@code int} background color number of {@code 0..255}.
      */
     public void println(@NotNull Object o, @NotNull Color fgColor, int bgColor) {
-        String foregroundColor = fg(fgColor.getRed(), fgColor.getGreen(), fgColor.getBlue());
-        println(foregroundColor + bg(bgColor) + effect + o);
+        write(style.withFG(fgColor).withBG(bgColor), o, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -4773,8 +4828,7 @@ public class Colter {
      * @param   bgColor {@code int} background color number of {@code 0..255}.
      */
     public void printlnAndReset(@NotNull Object o, @NotNull Color fgColor, int bgColor) {
-        String foregroundColor = fg(fgColor.getRed(), fgColor.getGreen(), fgColor.getBlue());
-        println(foregroundColor + bg(bgColor) + effect + o + RESET);
+        write(style.withFG(fgColor).withBG(bgColor), o, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -4787,8 +4841,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void print(@NotNull Color fgColor, int bgColor, @NotNull Effect ... effects) {
-        String foregroundColor = fg(fgColor.getRed(), fgColor.getGreen(), fgColor.getBlue());
-        print(foregroundColor + bg(bgColor) + effect(effects) + text);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), text, EscapeSequence.EMPTY);
     }
 
     /**
@@ -4800,8 +4853,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printAndReset(@NotNull Color fgColor, int bgColor, @NotNull Effect ... effects) {
-        String foregroundColor = fg(fgColor.getRed(), fgColor.getGreen(), fgColor.getBlue());
-        print(foregroundColor + bg(bgColor) + effect(effects) + text + RESET);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), text, EscapeSequence.RESET);
     }
 
     /**
@@ -4814,8 +4866,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void println(@NotNull Color fgColor, int bgColor, @NotNull Effect ... effects) {
-        String foregroundColor = fg(fgColor.getRed(), fgColor.getGreen(), fgColor.getBlue());
-        println(foregroundColor + bg(bgColor) + effect(effects) + text);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), text, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -4827,8 +4878,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printlnAndReset(@NotNull Color fgColor, int bgColor, @NotNull Effect ... effects) {
-        String foregroundColor = fg(fgColor.getRed(), fgColor.getGreen(), fgColor.getBlue());
-        println(foregroundColor + bg(bgColor) + effect(effects) + text + RESET);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), text, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -4842,8 +4892,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void print(@NotNull Object o, @NotNull Color fgColor, int bgColor, @NotNull Effect ... effects) {
-        String foregroundColor = fg(fgColor.getRed(), fgColor.getGreen(), fgColor.getBlue());
-        print(foregroundColor + bg(bgColor) + effect(effects) + o);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), o, EscapeSequence.EMPTY);
     }
 
     /**
@@ -4856,8 +4905,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printAndReset(@NotNull Object o, @NotNull Color fgColor, int bgColor, @NotNull Effect ... effects) {
-        String foregroundColor = fg(fgColor.getRed(), fgColor.getGreen(), fgColor.getBlue());
-        print(foregroundColor + bg(bgColor) + effect(effects) + o + RESET);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), o, EscapeSequence.RESET);
     }
 
     /**
@@ -4871,8 +4919,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void println(@NotNull Object o, @NotNull Color fgColor, int bgColor, @NotNull Effect ... effects) {
-        String foregroundColor = fg(fgColor.getRed(), fgColor.getGreen(), fgColor.getBlue());
-        println(foregroundColor + bg(bgColor) + effect(effects) + o);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), o, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -4885,8 +4932,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printlnAndReset(@NotNull Object o, @NotNull Color fgColor, int bgColor, @NotNull Effect ... effects) {
-        String foregroundColor = fg(fgColor.getRed(), fgColor.getGreen(), fgColor.getBlue());
-        println(foregroundColor + bg(bgColor) + effect(effects) + o + RESET);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), o, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -4898,7 +4944,7 @@ public class Colter {
      * @param   bgColor {@code int} background color number of {@code 0..255}.
      */
     public void print(int fgColor, int bgColor) {
-        print(fg(fgColor) + bg(bgColor) + effect + text);
+        write(style.withFG(fgColor).withBG(bgColor), text, EscapeSequence.EMPTY);
     }
 
     /**
@@ -4909,7 +4955,7 @@ public class Colter {
      * @param   bgColor {@code int} background color number of {@code 0..255}.
      */
     public void printAndReset(int fgColor, int bgColor) {
-        print(fg(fgColor) + bg(bgColor) + effect + text + RESET);
+        write(style.withFG(fgColor).withBG(bgColor), text, EscapeSequence.RESET);
     }
 
     /**
@@ -4921,7 +4967,7 @@ public class Colter {
      * @param   bgColor {@code int} background color number of {@code 0..255}.
      */
     public void println(int fgColor, int bgColor) {
-        println(fg(fgColor) + bg(bgColor) + effect + text);
+        write(style.withFG(fgColor).withBG(bgColor), text, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -4932,7 +4978,7 @@ public class Colter {
      * @param   bgColor {@code int} background color number of {@code 0..255}.
      */
     public void printlnAndReset(int fgColor, int bgColor) {
-        println(fg(fgColor) + bg(bgColor) + effect + text + RESET);
+        write(style.withFG(fgColor).withBG(bgColor), text, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -4945,7 +4991,7 @@ public class Colter {
      * @param   bgColor {@code int} background color number of {@code 0..255}.
      */
     public void print(@NotNull Object o, int fgColor, int bgColor) {
-        print(fg(fgColor) + bg(bgColor) + effect + o);
+        write(style.withFG(fgColor).withBG(bgColor), o, EscapeSequence.EMPTY);
     }
 
     /**
@@ -4957,7 +5003,7 @@ public class Colter {
      * @param   bgColor {@code int} background color number of {@code 0..255}.
      */
     public void printAndReset(@NotNull Object o, int fgColor, int bgColor) {
-        print(fg(fgColor) + bg(bgColor) + effect + o + RESET);
+        write(style.withFG(fgColor).withBG(bgColor), o, EscapeSequence.RESET);
     }
 
     /**
@@ -4970,7 +5016,7 @@ public class Colter {
      * @param   bgColor {@code int} background color number of {@code 0..255}.
      */
     public void println(@NotNull Object o, int fgColor, int bgColor) {
-        println(fg(fgColor) + bg(bgColor) + effect + o);
+        write(style.withFG(fgColor).withBG(bgColor), o, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -4982,7 +5028,7 @@ public class Colter {
      * @param   bgColor {@code int} background color number of {@code 0..255}.
      */
     public void printlnAndReset(@NotNull Object o, int fgColor, int bgColor) {
-        println(fg(fgColor) + bg(bgColor) + effect + o + RESET);
+        write(style.withFG(fgColor).withBG(bgColor), o, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -4995,7 +5041,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void print(int fgColor, int bgColor, @NotNull Effect ... effects) {
-        print(fg(fgColor) + bg(bgColor) + effect(effects) + text);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), text, EscapeSequence.EMPTY);
     }
 
     /**
@@ -5007,7 +5053,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printAndReset(int fgColor, int bgColor, @NotNull Effect ... effects) {
-        print(fg(fgColor) + bg(bgColor) + effect(effects) + text + RESET);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), text, EscapeSequence.RESET);
     }
 
     /**
@@ -5020,7 +5066,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void println(int fgColor, int bgColor, @NotNull Effect ... effects) {
-        println(fg(fgColor) + bg(bgColor) + effect(effects) + text);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), text, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -5032,7 +5078,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printlnAndReset(int fgColor, int bgColor, @NotNull Effect ... effects) {
-        println(fg(fgColor) + bg(bgColor) + effect(effects) + text + RESET);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), text, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -5046,7 +5092,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void print(@NotNull Object o, int fgColor, int bgColor, @NotNull Effect ... effects) {
-        print(fg(fgColor) + bg(bgColor) + effect(effects) + o);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), o, EscapeSequence.EMPTY);
     }
 
     /**
@@ -5059,7 +5105,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printAndReset(@NotNull Object o, int fgColor, int bgColor, @NotNull Effect ... effects) {
-        print(fg(fgColor) + bg(bgColor) + effect(effects) + o + RESET);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), o, EscapeSequence.RESET);
     }
 
     /**
@@ -5073,7 +5119,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void println(@NotNull Object o, int fgColor, int bgColor, @NotNull Effect ... effects) {
-        println(fg(fgColor) + bg(bgColor) + effect(effects) + o);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), o, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -5086,7 +5132,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printlnAndReset(@NotNull Object o, int fgColor, int bgColor, @NotNull Effect ... effects) {
-        println(fg(fgColor) + bg(bgColor) + effect(effects) + o + RESET);
+        write(style.withFG(fgColor).withBG(bgColor).withEffects(effects), o, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -5102,7 +5148,7 @@ public class Colter {
      * @param   bgBlue  {@code int} value of the <b>Blue</b> component of the background color.
      */
     public void print(@NotNull FGColor fgColor, int bgRed, int bgGreen, int bgBlue) {
-        print(fgColor + bg(bgRed, bgGreen, bgBlue) + effect + text);
+        write(style.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue), text, EscapeSequence.EMPTY);
     }
 
     /**
@@ -5117,7 +5163,7 @@ public class Colter {
      * @param   bgBlue  {@code int} value of the <b>Blue</b> component of the background color.
      */
     public void printAndReset(@NotNull FGColor fgColor, int bgRed, int bgGreen, int bgBlue) {
-        print(fgColor + bg(bgRed, bgGreen, bgBlue) + effect + text + RESET);
+        write(style.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue), text, EscapeSequence.RESET);
     }
 
     /**
@@ -5133,7 +5179,7 @@ public class Colter {
      * @param   bgBlue  {@code int} value of the <b>Blue</b> component of the background color.
      */
     public void println(@NotNull FGColor fgColor, int bgRed, int bgGreen, int bgBlue) {
-        println(fgColor + bg(bgRed, bgGreen, bgBlue) + effect + text);
+        write(style.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue), text, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -5148,7 +5194,7 @@ public class Colter {
      * @param   bgBlue  {@code int} value of the <b>Blue</b> component of the background color.
      */
     public void printlnAndReset(@NotNull FGColor fgColor, int bgRed, int bgGreen, int bgBlue) {
-        println(fgColor + bg(bgRed, bgGreen, bgBlue) + effect + text + RESET);
+        write(style.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue), text, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -5165,7 +5211,7 @@ public class Colter {
      * @param   bgBlue  {@code int} value of the <b>Blue</b> component of the background color.
      */
     public void print(@NotNull Object o, @NotNull FGColor fgColor, int bgRed, int bgGreen, int bgBlue) {
-        print(fgColor + bg(bgRed, bgGreen, bgBlue) + effect + o);
+        write(style.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue), o, EscapeSequence.EMPTY);
     }
 
     /**
@@ -5181,7 +5227,7 @@ public class Colter {
      * @param   bgBlue  {@code int} value of the <b>Blue</b> component of the background color.
      */
     public void printAndReset(@NotNull Object o, @NotNull FGColor fgColor, int bgRed, int bgGreen, int bgBlue) {
-        print(fgColor + bg(bgRed, bgGreen, bgBlue) + effect + o + RESET);
+        write(style.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue), o, EscapeSequence.RESET);
     }
 
     /**
@@ -5198,7 +5244,7 @@ public class Colter {
      * @param   bgBlue  {@code int} value of the <b>Blue</b> component of the background color.
      */
     public void println(@NotNull Object o, @NotNull FGColor fgColor, int bgRed, int bgGreen, int bgBlue) {
-        println(fgColor + bg(bgRed, bgGreen, bgBlue) + effect + o);
+        write(style.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue), o, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -5214,7 +5260,7 @@ public class Colter {
      * @param   bgBlue  {@code int} value of the <b>Blue</b> component of the background color.
      */
     public void printlnAndReset(@NotNull Object o, @NotNull FGColor fgColor, int bgRed, int bgGreen, int bgBlue) {
-        println(fgColor + bg(bgRed, bgGreen, bgBlue) + effect + o + RESET);
+        write(style.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue), o, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -5231,7 +5277,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void print(@NotNull FGColor fgColor, int bgRed, int bgGreen, int bgBlue, @NotNull Effect ... effects) {
-        print(fgColor + bg(bgRed, bgGreen, bgBlue) + effect(effects) + text);
+        write(style.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue).withEffects(effects), text, EscapeSequence.EMPTY);
     }
 
     /**
@@ -5247,7 +5293,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printAndReset(@NotNull FGColor fgColor, int bgRed, int bgGreen, int bgBlue, @NotNull Effect ... effects) {
-        print(fgColor + bg(bgRed, bgGreen, bgBlue) + effect(effects) + text + RESET);
+        write(style.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue).withEffects(effects), text, EscapeSequence.RESET);
     }
 
     /**
@@ -5264,7 +5310,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void println(@NotNull FGColor fgColor, int bgRed, int bgGreen, int bgBlue, @NotNull Effect ... effects) {
-        println(fgColor + bg(bgRed, bgGreen, bgBlue) + effect(effects) + text);
+        write(style.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue).withEffects(effects), text, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -5280,7 +5326,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printlnAndReset(@NotNull FGColor fgColor, int bgRed, int bgGreen, int bgBlue, @NotNull Effect ... effects) {
-        println(fgColor + bg(bgRed, bgGreen, bgBlue) + effect(effects) + text + RESET);
+        write(style.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue).withEffects(effects), text, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -5298,7 +5344,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void print(@NotNull Object o, @NotNull FGColor fgColor, int bgRed, int bgGreen, int bgBlue, @NotNull Effect ... effects) {
-        print(fgColor + bg(bgRed, bgGreen, bgBlue) + effect(effects) + o);
+        write(style.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue).withEffects(effects), o, EscapeSequence.EMPTY);
     }
 
     /**
@@ -5315,7 +5361,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printAndReset(@NotNull Object o, @NotNull FGColor fgColor, int bgRed, int bgGreen, int bgBlue, @NotNull Effect ... effects) {
-        print(fgColor + bg(bgRed, bgGreen, bgBlue) + effect(effects) + o + RESET);
+        write(style.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue).withEffects(effects), o, EscapeSequence.RESET);
     }
 
     /**
@@ -5333,7 +5379,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void println(@NotNull Object o, @NotNull FGColor fgColor, int bgRed, int bgGreen, int bgBlue, @NotNull Effect ... effects) {
-        println(fgColor + bg(bgRed, bgGreen, bgBlue) + effect(effects) + o);
+        write(style.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue).withEffects(effects), o, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -5350,7 +5396,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printlnAndReset(@NotNull Object o, @NotNull FGColor fgColor, int bgRed, int bgGreen, int bgBlue, @NotNull Effect ... effects) {
-        println(fgColor + bg(bgRed, bgGreen, bgBlue) + effect(effects) + o + RESET);
+        write(style.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue).withEffects(effects), o, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -5366,7 +5412,7 @@ public class Colter {
      * @param   bgBlue  {@code int} value of the <b>Blue</b> component of the background color.
      */
     public void print(@NotNull Color fgColor, int bgRed, int bgGreen, int bgBlue) {
-        print(fgColor + bg(bgRed, bgGreen, bgBlue) + effect + text);
+        write(style.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue), text, EscapeSequence.EMPTY);
     }
 
     /**
@@ -5381,7 +5427,7 @@ public class Colter {
      * @param   bgBlue  {@code int} value of the <b>Blue</b> component of the background color.
      */
     public void printAndReset(@NotNull Color fgColor, int bgRed, int bgGreen, int bgBlue) {
-        print(fgColor + bg(bgRed, bgGreen, bgBlue) + effect + text + RESET);
+        write(style.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue), text, EscapeSequence.RESET);
     }
 
     /**
@@ -5397,7 +5443,7 @@ public class Colter {
      * @param   bgBlue  {@code int} value of the <b>Blue</b> component of the background color.
      */
     public void println(@NotNull Color fgColor, int bgRed, int bgGreen, int bgBlue) {
-        println(fgColor + bg(bgRed, bgGreen, bgBlue) + effect + text);
+        write(style.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue), text, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -5412,7 +5458,7 @@ public class Colter {
      * @param   bgBlue  {@code int} value of the <b>Blue</b> component of the background color.
      */
     public void printlnAndReset(@NotNull Color fgColor, int bgRed, int bgGreen, int bgBlue) {
-        println(fgColor + bg(bgRed, bgGreen, bgBlue) + effect + text + RESET);
+        write(style.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue), text, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -5429,7 +5475,7 @@ public class Colter {
      * @param   bgBlue  {@code int} value of the <b>Blue</b> component of the background color.
      */
     public void print(@NotNull Object o, @NotNull Color fgColor, int bgRed, int bgGreen, int bgBlue) {
-        print(fgColor + bg(bgRed, bgGreen, bgBlue) + effect + o);
+        write(style.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue), o, EscapeSequence.EMPTY);
     }
 
     /**
@@ -5445,7 +5491,7 @@ public class Colter {
      * @param   bgBlue  {@code int} value of the <b>Blue</b> component of the background color.
      */
     public void printAndReset(@NotNull Object o, @NotNull Color fgColor, int bgRed, int bgGreen, int bgBlue) {
-        print(fgColor + bg(bgRed, bgGreen, bgBlue) + effect + o + RESET);
+        write(style.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue), o, EscapeSequence.RESET);
     }
 
     /**
@@ -5462,7 +5508,7 @@ public class Colter {
      * @param   bgBlue  {@code int} value of the <b>Blue</b> component of the background color.
      */
     public void println(@NotNull Object o, @NotNull Color fgColor, int bgRed, int bgGreen, int bgBlue) {
-        println(fgColor + bg(bgRed, bgGreen, bgBlue) + effect + o);
+        write(style.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue), o, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -5478,7 +5524,7 @@ public class Colter {
      * @param   bgBlue  {@code int} value of the <b>Blue</b> component of the background color.
      */
     public void printlnAndReset(@NotNull Object o, @NotNull Color fgColor, int bgRed, int bgGreen, int bgBlue) {
-        println(fgColor + bg(bgRed, bgGreen, bgBlue) + effect + o + RESET);
+        write(style.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue), o, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -5495,7 +5541,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void print(@NotNull Color fgColor, int bgRed, int bgGreen, int bgBlue, @NotNull Effect ... effects) {
-        print(fgColor + bg(bgRed, bgGreen, bgBlue) + effect(effects) + text);
+        write(style.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue).withEffects(effects), text, EscapeSequence.EMPTY);
     }
 
     /**
@@ -5511,7 +5557,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printAndReset(@NotNull Color fgColor, int bgRed, int bgGreen, int bgBlue, @NotNull Effect ... effects) {
-        print(fgColor + bg(bgRed, bgGreen, bgBlue) + effect(effects) + text + RESET);
+        write(style.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue).withEffects(effects), text, EscapeSequence.RESET);
     }
 
     /**
@@ -5528,7 +5574,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void println(@NotNull Color fgColor, int bgRed, int bgGreen, int bgBlue, @NotNull Effect ... effects) {
-        println(fgColor + bg(bgRed, bgGreen, bgBlue) + effect(effects) + text);
+        write(style.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue).withEffects(effects), text, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -5544,7 +5590,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printlnAndReset(@NotNull Color fgColor, int bgRed, int bgGreen, int bgBlue, @NotNull Effect ... effects) {
-        println(fgColor + bg(bgRed, bgGreen, bgBlue) + effect(effects) + text + RESET);
+        write(style.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue).withEffects(effects), text, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -5562,7 +5608,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void print(@NotNull Object o, @NotNull Color fgColor, int bgRed, int bgGreen, int bgBlue, @NotNull Effect ... effects) {
-        print(fgColor + bg(bgRed, bgGreen, bgBlue) + effect(effects) + o);
+        write(style.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue).withEffects(effects), o, EscapeSequence.EMPTY);
     }
 
     /**
@@ -5579,7 +5625,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printAndReset(@NotNull Object o, @NotNull Color fgColor, int bgRed, int bgGreen, int bgBlue, @NotNull Effect ... effects) {
-        print(fgColor + bg(bgRed, bgGreen, bgBlue) + effect(effects) + o + RESET);
+        write(style.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue).withEffects(effects), o, EscapeSequence.RESET);
     }
 
     /**
@@ -5597,7 +5643,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void println(@NotNull Object o, @NotNull Color fgColor, int bgRed, int bgGreen, int bgBlue, @NotNull Effect ... effects) {
-        println(fgColor + bg(bgRed, bgGreen, bgBlue) + effect(effects) + o);
+        write(style.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue).withEffects(effects), o, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -5614,7 +5660,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printlnAndReset(@NotNull Object o, @NotNull Color fgColor, int bgRed, int bgGreen, int bgBlue, @NotNull Effect ... effects) {
-        println(fgColor + bg(bgRed, bgGreen, bgBlue) + effect(effects) + o + RESET);
+        write(style.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue).withEffects(effects), o, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -5630,7 +5676,7 @@ public class Colter {
      * @param   bgBlue  {@code int} value of the <b>Blue</b> component of the background color.
      */
     public void print(int fgColor, int bgRed, int bgGreen, int bgBlue) {
-        print(bg(bgRed, bgGreen, bgBlue) + fg(fgColor) + effect + text);
+        write(style.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue), text, EscapeSequence.EMPTY);
     }
 
     /**
@@ -5645,7 +5691,7 @@ public class Colter {
      * @param   bgBlue  {@code int} value of the <b>Blue</b> component of the background color.
      */
     public void printAndReset(int fgColor, int bgRed, int bgGreen, int bgBlue) {
-        print(bg(bgRed, bgGreen, bgBlue) + fg(fgColor) + effect + text + RESET);
+        write(style.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue), text, EscapeSequence.RESET);
     }
 
     /**
@@ -5661,7 +5707,7 @@ public class Colter {
      * @param   bgBlue  {@code int} value of the <b>Blue</b> component of the background color.
      */
     public void println(int fgColor, int bgRed, int bgGreen, int bgBlue) {
-        println(bg(bgRed, bgGreen, bgBlue) + fg(fgColor) + effect + text);
+        write(style.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue), text, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -5676,7 +5722,7 @@ public class Colter {
      * @param   bgBlue  {@code int} value of the <b>Blue</b> component of the background color.
      */
     public void printlnAndReset(int fgColor, int bgRed, int bgGreen, int bgBlue) {
-        println(bg(bgRed, bgGreen, bgBlue) + fg(fgColor) + effect + text + RESET);
+        write(style.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue), text, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -5693,7 +5739,7 @@ public class Colter {
      * @param   bgBlue  {@code int} value of the <b>Blue</b> component of the background color.
      */
     public void print(@NotNull Object o, int fgColor, int bgRed, int bgGreen, int bgBlue) {
-        print(bg(bgRed, bgGreen, bgBlue) + fg(fgColor) + effect + o);
+        write(style.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue), o, EscapeSequence.EMPTY);
     }
 
     /**
@@ -5709,7 +5755,7 @@ public class Colter {
      * @param   bgBlue  {@code int} value of the <b>Blue</b> component of the background color.
      */
     public void printAndReset(@NotNull Object o, int fgColor, int bgRed, int bgGreen, int bgBlue) {
-        print(bg(bgRed, bgGreen, bgBlue) + fg(fgColor) + effect + o + RESET);
+        write(style.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue), o, EscapeSequence.RESET);
     }
 
     /**
@@ -5726,7 +5772,7 @@ public class Colter {
      * @param   bgBlue  {@code int} value of the <b>Blue</b> component of the background color.
      */
     public void println(@NotNull Object o, int fgColor, int bgRed, int bgGreen, int bgBlue) {
-        println(bg(bgRed, bgGreen, bgBlue) + fg(fgColor) + effect + o);
+        write(style.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue), o, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -5742,7 +5788,7 @@ public class Colter {
      * @param   bgBlue  {@code int} value of the <b>Blue</b> component of the background color.
      */
     public void printlnAndReset(@NotNull Object o, int fgColor, int bgRed, int bgGreen, int bgBlue) {
-        println(bg(bgRed, bgGreen, bgBlue) + fg(fgColor) + effect + o + RESET);
+        write(style.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue), o, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -5759,7 +5805,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void print(int fgColor, int bgRed, int bgGreen, int bgBlue, @NotNull Effect ... effects) {
-        print(bg(bgRed, bgGreen, bgBlue) + fg(fgColor) + effect(effects) + text);
+        write(style.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue).withEffects(effects), text, EscapeSequence.EMPTY);
     }
 
     /**
@@ -5775,7 +5821,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printAndReset(int fgColor, int bgRed, int bgGreen, int bgBlue, @NotNull Effect ... effects) {
-        print(bg(bgRed, bgGreen, bgBlue) + fg(fgColor) + effect(effects) + text + RESET);
+        write(style.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue).withEffects(effects), text, EscapeSequence.RESET);
     }
 
     /**
@@ -5792,7 +5838,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void println(int fgColor, int bgRed, int bgGreen, int bgBlue, @NotNull Effect ... effects) {
-        println(bg(bgRed, bgGreen, bgBlue) + fg(fgColor) + effect(effects) + text);
+        write(style.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue).withEffects(effects), text, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -5808,7 +5854,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printlnAndReset(int fgColor, int bgRed, int bgGreen, int bgBlue, @NotNull Effect ... effects) {
-        println(bg(bgRed, bgGreen, bgBlue) + fg(fgColor) + effect(effects) + text + RESET);
+        write(style.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue).withEffects(effects), text, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -5826,7 +5872,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void print(@NotNull Object o, int fgColor, int bgRed, int bgGreen, int bgBlue, @NotNull Effect ... effects) {
-        print(bg(bgRed, bgGreen, bgBlue) + fg(fgColor) + effect(effects) + o);
+        write(style.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue).withEffects(effects), o, EscapeSequence.EMPTY);
     }
 
     /**
@@ -5843,7 +5889,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printAndReset(@NotNull Object o, int fgColor, int bgRed, int bgGreen, int bgBlue, @NotNull Effect ... effects) {
-        print(bg(bgRed, bgGreen, bgBlue) + fg(fgColor) + effect(effects) + o + RESET);
+        write(style.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue).withEffects(effects), o, EscapeSequence.RESET);
     }
 
     /**
@@ -5861,7 +5907,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void println(@NotNull Object o, int fgColor, int bgRed, int bgGreen, int bgBlue, @NotNull Effect ... effects) {
-        println(bg(bgRed, bgGreen, bgBlue) + fg(fgColor) + effect(effects) + o);
+        write(style.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue).withEffects(effects), o, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -5878,7 +5924,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printlnAndReset(@NotNull Object o, int fgColor, int bgRed, int bgGreen, int bgBlue, @NotNull Effect ... effects) {
-        println(bg(bgRed, bgGreen, bgBlue) + fg(fgColor) + effect(effects) + o + RESET);
+        write(style.withFG(fgColor).withBG(bgRed, bgGreen, bgBlue).withEffects(effects), o, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -5896,7 +5942,7 @@ public class Colter {
      * @param   bgBlue  {@code int} value of the <b>Blue</b> component of the background color.
      */
     public void print(int fgRed, int fgGreen, int fgBlue, int bgRed, int bgGreen, int bgBlue) {
-        print(fg(fgRed, fgGreen, fgBlue) + bg(bgRed, bgGreen, bgBlue) + effect + text);
+        write(style.withFG(fgRed, fgGreen, fgBlue).withBG(bgRed, bgGreen, bgBlue), text, EscapeSequence.EMPTY);
     }
 
     /**
@@ -5913,7 +5959,7 @@ public class Colter {
      * @param   bgBlue  {@code int} value of the <b>Blue</b> component of the background color.
      */
     public void printAndReset(int fgRed, int fgGreen, int fgBlue, int bgRed, int bgGreen, int bgBlue) {
-        print(fg(fgRed, fgGreen, fgBlue) + bg(bgRed, bgGreen, bgBlue) + effect + text + RESET);
+        write(style.withFG(fgRed, fgGreen, fgBlue).withBG(bgRed, bgGreen, bgBlue), text, EscapeSequence.RESET);
     }
 
     /**
@@ -5931,7 +5977,7 @@ public class Colter {
      * @param   bgBlue  {@code int} value of the <b>Blue</b> component of the background color.
      */
     public void println(int fgRed, int fgGreen, int fgBlue, int bgRed, int bgGreen, int bgBlue) {
-        println(fg(fgRed, fgGreen, fgBlue) + bg(bgRed, bgGreen, bgBlue) + effect + text);
+        write(style.withFG(fgRed, fgGreen, fgBlue).withBG(bgRed, bgGreen, bgBlue), text, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -5948,7 +5994,7 @@ public class Colter {
      * @param   bgBlue  {@code int} value of the <b>Blue</b> component of the background color.
      */
     public void printlnAndReset(int fgRed, int fgGreen, int fgBlue, int bgRed, int bgGreen, int bgBlue) {
-        println(fg(fgRed, fgGreen, fgBlue) + bg(bgRed, bgGreen, bgBlue) + effect + text + RESET);
+        write(style.withFG(fgRed, fgGreen, fgBlue).withBG(bgRed, bgGreen, bgBlue), text, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -5967,7 +6013,7 @@ public class Colter {
      * @param   bgBlue  {@code int} value of the <b>Blue</b> component of the background color.
      */
     public void print(@NotNull Object o, int fgRed, int fgGreen, int fgBlue, int bgRed, int bgGreen, int bgBlue) {
-        print(fg(fgRed, fgGreen, fgBlue) + bg(bgRed, bgGreen, bgBlue) + effect + o);
+        write(style.withFG(fgRed, fgGreen, fgBlue).withBG(bgRed, bgGreen, bgBlue), o, EscapeSequence.EMPTY);
     }
 
     /**
@@ -5985,7 +6031,7 @@ public class Colter {
      * @param   bgBlue  {@code int} value of the <b>Blue</b> component of the background color.
      */
     public void printAndReset(@NotNull Object o, int fgRed, int fgGreen, int fgBlue, int bgRed, int bgGreen, int bgBlue) {
-        print(fg(fgRed, fgGreen, fgBlue) + bg(bgRed, bgGreen, bgBlue) + effect + o + RESET);
+        write(style.withFG(fgRed, fgGreen, fgBlue).withBG(bgRed, bgGreen, bgBlue), o, EscapeSequence.RESET);
     }
 
     /**
@@ -6004,7 +6050,7 @@ public class Colter {
      * @param   bgBlue  {@code int} value of the <b>Blue</b> component of the background color.
      */
     public void println(@NotNull Object o, int fgRed, int fgGreen, int fgBlue, int bgRed, int bgGreen, int bgBlue) {
-        println(fg(fgRed, fgGreen, fgBlue) + bg(bgRed, bgGreen, bgBlue) + effect + o);
+        write(style.withFG(fgRed, fgGreen, fgBlue).withBG(bgRed, bgGreen, bgBlue), o, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -6022,7 +6068,7 @@ public class Colter {
      * @param   bgBlue  {@code int} value of the <b>Blue</b> component of the background color.
      */
     public void printlnAndReset(@NotNull Object o, int fgRed, int fgGreen, int fgBlue, int bgRed, int bgGreen, int bgBlue) {
-        println(fg(fgRed, fgGreen, fgBlue) + bg(bgRed, bgGreen, bgBlue) + effect + o + RESET);
+        write(style.withFG(fgRed, fgGreen, fgBlue).withBG(bgRed, bgGreen, bgBlue), o, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -6041,7 +6087,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void print(int fgRed, int fgGreen, int fgBlue, int bgRed, int bgGreen, int bgBlue, @NotNull Effect ... effects) {
-        print(fg(fgRed, fgGreen, fgBlue) + bg(bgRed, bgGreen, bgBlue) + effect(effects) + text);
+        write(style.withFG(fgRed, fgGreen, fgBlue).withBG(bgRed, bgGreen, bgBlue).withEffects(effects), text, EscapeSequence.EMPTY);
     }
 
     /**
@@ -6059,7 +6105,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printAndReset(int fgRed, int fgGreen, int fgBlue, int bgRed, int bgGreen, int bgBlue, @NotNull Effect ... effects) {
-        print(fg(fgRed, fgGreen, fgBlue) + bg(bgRed, bgGreen, bgBlue) + effect(effects) + text + RESET);
+        write(style.withFG(fgRed, fgGreen, fgBlue).withBG(bgRed, bgGreen, bgBlue).withEffects(effects), text, EscapeSequence.RESET);
     }
 
     /**
@@ -6078,7 +6124,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void println(int fgRed, int fgGreen, int fgBlue, int bgRed, int bgGreen, int bgBlue, @NotNull Effect ... effects) {
-        println(fg(fgRed, fgGreen, fgBlue) + bg(bgRed, bgGreen, bgBlue) + effect(effects) + text);
+        write(style.withFG(fgRed, fgGreen, fgBlue).withBG(bgRed, bgGreen, bgBlue).withEffects(effects), text, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -6096,7 +6142,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printlnAndReset(int fgRed, int fgGreen, int fgBlue, int bgRed, int bgGreen, int bgBlue, @NotNull Effect ... effects) {
-        println(fg(fgRed, fgGreen, fgBlue) + bg(bgRed, bgGreen, bgBlue) + effect(effects) + text + RESET);
+        write(style.withFG(fgRed, fgGreen, fgBlue).withBG(bgRed, bgGreen, bgBlue).withEffects(effects), text, EscapeSequence.RESET_LINE_BREAK);
     }
 
     /**
@@ -6116,7 +6162,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void print(@NotNull Object o, int fgRed, int fgGreen, int fgBlue, int bgRed, int bgGreen, int bgBlue, @NotNull Effect ... effects) {
-        print(fg(fgRed, fgGreen, fgBlue) + bg(bgRed, bgGreen, bgBlue) + effect(effects) + o);
+        write(style.withFG(fgRed, fgGreen, fgBlue).withBG(bgRed, bgGreen, bgBlue).withEffects(effects), o, EscapeSequence.EMPTY);
     }
 
     /**
@@ -6135,7 +6181,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printAndReset(@NotNull Object o, int fgRed, int fgGreen, int fgBlue, int bgRed, int bgGreen, int bgBlue, @NotNull Effect ... effects) {
-        print(fg(fgRed, fgGreen, fgBlue) + bg(bgRed, bgGreen, bgBlue) + effect(effects) + o + RESET);
+        write(style.withFG(fgRed, fgGreen, fgBlue).withBG(bgRed, bgGreen, bgBlue).withEffects(effects), o, EscapeSequence.RESET);
     }
 
     /**
@@ -6155,7 +6201,7 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void println(@NotNull Object o, int fgRed, int fgGreen, int fgBlue, int bgRed, int bgGreen, int bgBlue, @NotNull Effect ... effects) {
-        println(fg(fgRed, fgGreen, fgBlue) + bg(bgRed, bgGreen, bgBlue) + effect(effects) + o);
+        write(style.withFG(fgRed, fgGreen, fgBlue).withBG(bgRed, bgGreen, bgBlue).withEffects(effects), o, EscapeSequence.LINE_BREAK);
     }
 
     /**
@@ -6174,98 +6220,34 @@ public class Colter {
      * @param   effects Enums of type {@link Effect}, which represent defined text style.
      */
     public void printlnAndReset(@NotNull Object o, int fgRed, int fgGreen, int fgBlue, int bgRed, int bgGreen, int bgBlue, @NotNull Effect ... effects) {
-        println(fg(fgRed, fgGreen, fgBlue) + bg(bgRed, bgGreen, bgBlue) + effect(effects) + o + RESET);
-    }
-
-    private void print(String text) {
-        System.out.print(text);
-    }
-
-    private void println(String text) {
-        System.out.println(text);
-    }
-
-    private static String fg(int color) {
-        checkColor(color);
-        return ("\u001b[38;5;" + color + "m");
-    }
-
-    private static String fg(int red, int green, int blue) {
-        checkColor(red, green, blue);
-        return ("\u001b[38;2;" + red + ";" + green + ";" + blue + "m");
-    }
-
-    private static String bg(int color) {
-        checkColor(color);
-        return ("\u001b[48;5;" + color + "m");
-    }
-
-    private static String bg(int red, int green, int blue) {
-        checkColor(red, green, blue);
-        return ("\u001b[48;2;" + red + ";" + green + ";" + blue + "m");
-    }
-
-    private static void checkColor(int color) {
-        String message = "";
-
-        if (color < 0) {
-            message = "Color number out of range. Expected: color >= 0, actual: color = " + color;
-        }
-
-        if (color > 255) {
-            message = "Color number out of range. Expected: color <= 255, actual: color = " + color;
-        }
-
-        if (!message.isEmpty()) {
-            throw new IllegalArgumentException(message);
-        }
+        write(style.withFG(fgRed, fgGreen, fgBlue).withBG(bgRed, bgGreen, bgBlue).withEffects(effects), o, EscapeSequence.RESET_LINE_BREAK);
     }
 
-    private static void checkColor(int r, int g, int b) {
-        String message = "";
-
-        if (r < 0) {
-            message += "\nRed component out of range. Expected: r >= 0, actual: r = " + r;
-        }
-
-        if (r > 255) {
-            message += "\nRed component out of range. Expected: r <= 255, actual: r = " + r;
-        }
-
-        if (g < 0) {
-            message += "\nGreen component out of range. Expected: g >= 0, actual: g = " + g;
-        }
-
-        if (g > 255) {
-            message += "\nGreen component out of range. Expected: g <= 255, actual: g = " + g;
-        }
-
-        if (b < 0) {
-            message += "\nBlue component out of range. Expected: b >= 0, actual: b = " + b;
-        }
-
-        if (b > 255) {
-            message += "\nBlue component out of range. Expected: b <= 255, actual: b = " + b;
-        }
+    /**
+     * Replaces the style with the result of the update, retrying if another thread changed the style meanwhile.
+     */
+    private void updateStyle(UnaryOperator<Style> update) {
+        Style current;
+        Style updated;
 
-        if (!message.isEmpty()) {
-            throw new IllegalArgumentException("At least one argument is invalid:" + message);
-        }
+        do {
+            current = style;
+            updated = update.apply(current);
+        } while (current != updated && !STYLE.compareAndSet(this, current, updated));
     }
 
-    private String effect(Effect ... effects) {
-        String effect = "";
-
-        for (Effect e : effects) {
-            effect += e;
+    private void write(Style style, Object text, EscapeSequence suffix) {
+        try {
+            CharSequence chars = text instanceof CharSequence ? (CharSequence) text : String.valueOf(text);
+            sink.write(style, chars, suffix.bytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
-
-        return effect;
     }
 
     @Override
     public String toString() {
-        return (foregroundColor + backgroundColor + effect + text);
+        return (style + text);
     }
 
     @Override
@@ -6280,14 +6262,11 @@ public class Colter {
 
         Colter colter = (Colter) o;
         return (Objects.equals(text, colter.text)
-             && Objects.equals(foregroundColor, colter.foregroundColor)
-             && Objects.equals(backgroundColor, colter.backgroundColor)
-             && Objects.equals(effect, colter.effect));
+             && style.equals(colter.style));
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(text, foregroundColor, backgroundColor, effect, Arrays.hashCode(effects)
-        );
+        return Objects.hash(text, style);
     }
-}
\ No newline at end of file
+}
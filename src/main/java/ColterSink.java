@@ -0,0 +1,317 @@
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The {@code ColterSink} interface represents the destination {@link Colter} writes its output to.
+ * A sink receives two kinds of data: escape sequences as pre-encoded ASCII bytes and the text
+ * itself as a {@link CharSequence}, which the sink encodes the way its destination requires.
+ * <p>
+ * Each printed text is passed as one <i>record</i>: the style prefix, the text and the suffix
+ * (reset sequence and/or line break). Implementations may override
+ * {@link #write(byte[], CharSequence, byte[])} to write the whole record at once.
+ * <p>
+ * Byte arrays passed to a sink are shared with {@code Colter} and must never be modified.
+ * <p>
+ *     Examples of using
+ * <blockquote><pre>
+ *     BufferSink buffer = ColterSink.buffer();
+ *     new Colter(buffer).println("line", FG_RED);
+ *
+ *     new Colter(ColterSink.of(System.err)).println("error", FG_RED);
+ *     new Colter(ColterSink.of(fileChannel, UTF_8)).println("line", FG_RED);
+ *     new Colter(ColterSink.stdoutChannel()).println("line", FG_RED);
+ *     new Colter(ColterSink.async(ColterSink.stdout())).println("line", FG_RED);
+ * </pre></blockquote>
+ *
+ * @see     Colter
+ * @see     BufferSink
+ */
+public interface ColterSink extends Flushable, Closeable {
+
+    /**
+     * Writes pre-encoded escape sequence bytes.
+     * @param   bytes   the array holding the bytes.
+     * @param   offset  the index of the first byte to write.
+     * @param   length  the number of bytes to write.
+     * @throws  IOException if an I/O error occurs.
+     */
+    void write(@NotNull byte[] bytes, int offset, int length) throws IOException;
+
+    /**
+     * Writes the text, encoding it if the destination is byte-oriented.
+     * @param   text    the text to write.
+     * @throws  IOException if an I/O error occurs.
+     */
+    void write(@NotNull CharSequence text) throws IOException;
+
+    /**
+     * Writes one record: the style prefix, the text and the suffix.
+     * @param   prefix  pre-encoded bytes of the style prefix.
+     * @param   text    the text to write.
+     * @param   suffix  pre-encoded bytes of the suffix.
+     * @throws  IOException if an I/O error occurs.
+     */
+    default void write(@NotNull byte[] prefix, @NotNull CharSequence text, @NotNull byte[] suffix) throws IOException {
+        if (prefix.length > 0) {
+            write(prefix, 0, prefix.length);
+        }
+
+        write(text);
+
+        if (suffix.length > 0) {
+            write(suffix, 0, suffix.length);
+        }
+    }
+
+    /**
+     * Writes one record with the style it is printed with. The default implementation writes the
+     * pre-encoded prefix of the style; sinks which track the terminal state override it to write
+     * only the attributes which change.
+     * @param   style   the style of the record.
+     * @param   text    the text to write.
+     * @param   suffix  pre-encoded bytes of the suffix.
+     * @throws  IOException if an I/O error occurs.
+     */
+    default void write(@NotNull Style style, @NotNull CharSequence text, @NotNull byte[] suffix) throws IOException {
+        write(style.prefix(), text, suffix);
+    }
+
+    /**
+     * Writes one record with the style it is printed with and the prefix rendered for this sink in
+     * advance, which is the prefix of {@link #adapt(Style) adapt(style)}. The default implementation
+     * writes the prefix as is; sinks which track the terminal state override it to write the
+     * transition to the style instead.
+     * @param   style   the style of the record, as adapted by this sink.
+     * @param   prefix  pre-encoded bytes of the prefix of the style.
+     * @param   text    the text to write.
+     * @param   suffix  pre-encoded bytes of the suffix.
+     * @throws  IOException if an I/O error occurs.
+     */
+    default void write(@NotNull Style style, @NotNull byte[] prefix, @NotNull CharSequence text,
+                       @NotNull byte[] suffix) throws IOException {
+        write(prefix, text, suffix);
+    }
+
+    /**
+     * Returns the style as this sink renders it, for callers which render escape sequences into the
+     * text themselves. The default implementation returns the style unchanged; sinks which downsample
+     * colors return the downsampled style, and sinks which write plain text return the empty style.
+     * @param   style   the style to render.
+     * @return  the {@link Style} which is rendered instead.
+     */
+    default Style adapt(@NotNull Style style) {
+        return style;
+    }
+
+    @Override
+    default void flush() throws IOException {
+    }
+
+    @Override
+    default void close() throws IOException {
+        flush();
+    }
+
+    /**
+     * Returns the sink which writes to the current {@link System#out}. The stream is looked up on every
+     * write, so {@link System#setOut(PrintStream)} is taken into account. Closing the sink only flushes the stream.
+     * @return  the standard output sink.
+     */
+    static ColterSink stdout() {
+        return PrintStreamSink.STDOUT;
+    }
+
+    /**
+     * Returns the sink which writes to the current {@link System#out} as the {@link TerminalProfile#current()
+     * detected profile} of the process requires: plain text if the output is not a terminal, colors
+     * downsampled to the depth of the terminal otherwise. This is the default sink of {@link Colter}.
+     * @return  the standard output sink of the terminal profile.
+     */
+    static ColterSink terminal() {
+        return TerminalProfile.stdout();
+    }
+
+    /**
+     * Returns the sink which writes to the current {@link System#err}. The stream is looked up on every
+     * write, so {@link System#setErr(PrintStream)} is taken into account. Closing the sink only flushes the stream.
+     * @return  the standard error sink.
+     */
+    static ColterSink stderr() {
+        return PrintStreamSink.STDERR;
+    }
+
+    /**
+     * Returns the sink which writes to the {@link PrintStream}. The text is encoded with the charset of
+     * the stream. On runtimes before Java 18 the charset can not be read and the stream encodes the
+     * text itself, copying text which is not a {@code String}.
+     * @param   out the stream to write to.
+     * @return  a new sink.
+     */
+    static ColterSink of(@NotNull PrintStream out) {
+        return new PrintStreamSink(out);
+    }
+
+    /**
+     * Returns the sink which writes to the {@link OutputStream} using the default charset.
+     * @param   out the stream to write to.
+     * @return  a new sink.
+     */
+    static ColterSink of(@NotNull OutputStream out) {
+        return of(out, Charset.defaultCharset());
+    }
+
+    /**
+     * Returns the sink which writes to the {@link OutputStream}.
+     * @param   out     the stream to write to.
+     * @param   charset the charset the text is encoded with.
+     * @return  a new sink.
+     */
+    static ColterSink of(@NotNull OutputStream out, @NotNull Charset charset) {
+        return new OutputStreamSink(out, charset);
+    }
+
+    /**
+     * Returns the sink which appends to the {@link Appendable}, for example a {@link StringBuilder}
+     * or a {@link java.io.Writer}. Escape sequence bytes are appended as ASCII chars.
+     * @param   out the appendable to append to.
+     * @return  a new sink.
+     */
+    static ColterSink of(@NotNull Appendable out) {
+        return new AppendableSink(out);
+    }
+
+    /**
+     * Returns the sink which writes to the {@link WritableByteChannel} using the default charset.
+     * @param   channel the channel to write to.
+     * @return  a new sink.
+     */
+    static ColterSink of(@NotNull WritableByteChannel channel) {
+        return of(channel, Charset.defaultCharset());
+    }
+
+    /**
+     * Returns the sink which writes to the {@link WritableByteChannel}.
+     * @param   channel the channel to write to.
+     * @param   charset the charset the text is encoded with.
+     * @return  a new sink.
+     */
+    static ColterSink of(@NotNull WritableByteChannel channel, @NotNull Charset charset) {
+        return new ChannelSink(channel, charset);
+    }
+
+    /**
+     * Returns the sink which writes to the {@link GatheringByteChannel}, for example a {@link FileChannel},
+     * using the default charset. Each record is written by one gathering write of the style prefix,
+     * the encoded text and the suffix, without assembling them first.
+     * @param   channel the channel to write to.
+     * @return  a new sink.
+     */
+    static ColterSink of(@NotNull GatheringByteChannel channel) {
+        return of(channel, Charset.defaultCharset());
+    }
+
+    /**
+     * Returns the sink which writes to the {@link GatheringByteChannel}, for example a {@link FileChannel}.
+     * Each record is written by one gathering write of the style prefix, the encoded text and the suffix,
+     * without assembling them first.
+     * @param   channel the channel to write to.
+     * @param   charset the charset the text is encoded with.
+     * @return  a new sink.
+     */
+    static ColterSink of(@NotNull GatheringByteChannel channel, @NotNull Charset charset) {
+        return new GatheringChannelSink(channel, charset, true);
+    }
+
+    /**
+     * Returns the sink which writes directly to the standard output file descriptor through a
+     * {@link FileChannel} with gathering writes, bypassing the buffer of {@link System#out}. Output
+     * written to {@code System.out} and to this sink may therefore appear out of order unless
+     * {@code System.out} is flushed in between. Closing the sink does not close the standard output.
+     * @return  the standard output channel sink.
+     */
+    static ColterSink stdoutChannel() {
+        return GatheringChannelSink.stdout();
+    }
+
+    /**
+     * Returns a new sink for output shared by many threads. Each thread encodes its records in a
+     * thread-local buffer and commits every record to the stream with one write under a lock,
+     * so records of different threads never interleave.
+     * @param   out     the stream to write to.
+     * @param   charset the charset the text is encoded with.
+     * @return  a new {@link OutputCoordinator}.
+     * @see     OutputCoordinator
+     */
+    static OutputCoordinator coordinated(@NotNull OutputStream out, @NotNull Charset charset) {
+        return new OutputCoordinator(out, charset);
+    }
+
+    /**
+     * Returns a new sink for output shared by many threads. Each thread encodes its records in a
+     * thread-local buffer and commits every record to the channel with one write under a lock,
+     * so records of different threads never interleave.
+     * @param   channel the channel to write to.
+     * @param   charset the charset the text is encoded with.
+     * @return  a new {@link OutputCoordinator}.
+     * @see     OutputCoordinator
+     */
+    static OutputCoordinator coordinated(@NotNull WritableByteChannel channel, @NotNull Charset charset) {
+        return new OutputCoordinator(channel, charset);
+    }
+
+    /**
+     * Returns a new asynchronous sink which writes to the given sink from its own thread. Printing only
+     * publishes records into a ring buffer of {@value AsyncSink#DEFAULT_CAPACITY} slots and waits
+     * only while the buffer is full.
+     * @param   sink    the sink to write the records to.
+     * @return  a new {@link AsyncSink}.
+     * @see     AsyncSink
+     */
+    static AsyncSink async(@NotNull ColterSink sink) {
+        return new AsyncSink(sink);
+    }
+
+    /**
+     * Returns a new sink which keeps track of the attributes the terminal is in and writes to the given
+     * sink only the attributes which change between records. Resets are deferred until the next
+     * record, flush or close, so consecutive records of the same style are written without any
+     * escape sequences between them.
+     * @param   sink    the sink to write to.
+     * @return  a new tracking sink.
+     * @see     TerminalStateSink
+     */
+    static ColterSink tracking(@NotNull ColterSink sink) {
+        return new TerminalStateSink(sink);
+    }
+
+    /**
+     * Returns the sink which downsamples the colors of each styled record to the depth before writing
+     * it to the given sink, so 24-bit colors are printed as the nearest colors the terminal supports.
+     * For {@link ColorDepth#TRUE_COLOR} the given sink is returned.
+     * @param   sink    the sink to write to.
+     * @param   depth   the {@link ColorDepth} of the destination.
+     * @return  the downsampling sink.
+     * @see     Style#downsample(ColorDepth)
+     */
+    static ColterSink downsampling(@NotNull ColterSink sink, @NotNull ColorDepth depth) {
+        return depth == ColorDepth.TRUE_COLOR ? sink : new DownsamplingSink(sink, depth);
+    }
+
+    /**
+     * Returns a new in-memory sink which encodes the text in {@code UTF-8}.
+     * @return  a new empty {@link BufferSink}.
+     */
+    static BufferSink buffer() {
+        return new BufferSink(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,214 @@
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The {@code DisplayWidth} class calculates how many terminal columns a text occupies, for example
+ * to align styled text in columns. Escape sequences are skipped, wide East Asian characters and
+ * emoji count as two columns, and combining marks, format characters and control characters as none.
+ * Surrogate pairs are decoded in place, so nothing is allocated.
+ * <p>
+ * The width of a code point is looked up in a two-level table: the first level maps each block of
+ * 256 code points to a block of the second level, which holds the widths of its code points in two
+ * bits each. Equal blocks are stored once, so the whole table takes a few kilobytes. It is built on
+ * first use; the zero-width code points are taken from the Unicode data of the running JVM and the
+ * wide ones from the East Asian Width property ({@code W} and {@code F}).
+ * <p>
+ * The width of a code point is independent of its neighbours: grapheme clusters, such as emoji
+ * joined by {@code ZWJ}, are not combined.
+ * <p>
+ *     Examples of using
+ * <blockquote><pre>
+ *     String cell = new Colter(FG_RED).setText(name).toString();
+ *     int padding = 20 - DisplayWidth.of(cell);
+ * </pre></blockquote>
+ *
+ * @see     AnsiStripper
+ */
+public final class DisplayWidth {
+    private static final int BLOCK_BITS = 8;
+    private static final int WORDS_PER_BLOCK = (1 << BLOCK_BITS) * 2 / Long.SIZE;
+
+    /**
+     * The East Asian Wide and Fullwidth ranges, as pairs of the first and the last code point.
+     */
+    private static final int[] WIDE = {
+            0x1100, 0x115F, 0x231A, 0x231B, 0x2329, 0x232A, 0x23E9, 0x23EC, 0x23F0, 0x23F0, 0x23F3, 0x23F3,
+            0x25FD, 0x25FE, 0x2614, 0x2615, 0x2648, 0x2653, 0x267F, 0x267F, 0x2693, 0x2693, 0x26A1, 0x26A1,
+            0x26AA, 0x26AB, 0x26BD, 0x26BE, 0x26C4, 0x26C5, 0x26CE, 0x26CE, 0x26D4, 0x26D4, 0x26EA, 0x26EA,
+            0x26F2, 0x26F3, 0x26F5, 0x26F5, 0x26FA, 0x26FA, 0x26FD, 0x26FD, 0x2705, 0x2705, 0x270A, 0x270B,
+            0x2728, 0x2728, 0x274C, 0x274C, 0x274E, 0x274E, 0x2753, 0x2755, 0x2757, 0x2757, 0x2795, 0x2797,
+            0x27B0, 0x27B0, 0x27BF, 0x27BF, 0x2B1B, 0x2B1C, 0x2B50, 0x2B50, 0x2B55, 0x2B55, 0x2E80, 0x2E99,
+            0x2E9B, 0x2EF3, 0x2F00, 0x2FD5, 0x2FF0, 0x2FFF, 0x3000, 0x303E, 0x3041, 0x3096, 0x3099, 0x30FF,
+            0x3105, 0x312F, 0x3131, 0x318E, 0x3190, 0x31E3, 0x31EF, 0x321E, 0x3220, 0x3247, 0x3250, 0x4DBF,
+            0x4E00, 0xA48C, 0xA490, 0xA4C6, 0xA960, 0xA97C, 0xAC00, 0xD7A3, 0xF900, 0xFAFF, 0xFE10, 0xFE19,
+            0xFE30, 0xFE52, 0xFE54, 0xFE66, 0xFE68, 0xFE6B, 0xFF01, 0xFF60, 0xFFE0, 0xFFE6,
+            0x16FE0, 0x16FE4, 0x16FF0, 0x16FF1, 0x17000, 0x187F7, 0x18800, 0x18CD5, 0x18D00, 0x18D08,
+            0x1AFF0, 0x1AFF3, 0x1AFF5, 0x1AFFB, 0x1AFFD, 0x1AFFE, 0x1B000, 0x1B122, 0x1B132, 0x1B132,
+            0x1B150, 0x1B152, 0x1B155, 0x1B155, 0x1B164, 0x1B167, 0x1B170, 0x1B2FB, 0x1F004, 0x1F004,
+            0x1F0CF, 0x1F0CF, 0x1F18E, 0x1F18E, 0x1F191, 0x1F19A, 0x1F200, 0x1F202, 0x1F210, 0x1F23B,
+            0x1F240, 0x1F248, 0x1F250, 0x1F251, 0x1F260, 0x1F265, 0x1F300, 0x1F320, 0x1F32D, 0x1F335,
+            0x1F337, 0x1F37C, 0x1F37E, 0x1F393, 0x1F3A0, 0x1F3CA, 0x1F3CF, 0x1F3D3, 0x1F3E0, 0x1F3F0,
+            0x1F3F4, 0x1F3F4, 0x1F3F8, 0x1F43E, 0x1F440, 0x1F440, 0x1F442, 0x1F4FC, 0x1F4FF, 0x1F53D,
+            0x1F54B, 0x1F54E, 0x1F550, 0x1F567, 0x1F57A, 0x1F57A, 0x1F595, 0x1F596, 0x1F5A4, 0x1F5A4,
+            0x1F5FB, 0x1F64F, 0x1F680, 0x1F6C5, 0x1F6CC, 0x1F6CC, 0x1F6D0, 0x1F6D2, 0x1F6D5, 0x1F6D7,
+            0x1F6DC, 0x1F6DF, 0x1F6EB, 0x1F6EC, 0x1F6F4, 0x1F6FC, 0x1F7E0, 0x1F7EB, 0x1F7F0, 0x1F7F0,
+            0x1F90C, 0x1F93A, 0x1F93C, 0x1F945, 0x1F947, 0x1F9FF, 0x1FA70, 0x1FA7C, 0x1FA80, 0x1FA88,
+            0x1FA90, 0x1FABD, 0x1FABF, 0x1FAC5, 0x1FACE, 0x1FADB, 0x1FAE0, 0x1FAE8, 0x1FAF0, 0x1FAF8,
+            0x20000, 0x2FFFD, 0x30000, 0x3FFFD
+    };
+
+    private DisplayWidth() {
+    }
+
+    /**
+     * Returns the number of columns the code point occupies.
+     * @param   codePoint   the code point.
+     * @return  {@code 0}, {@code 1} or {@code 2}.
+     */
+    public static int of(int codePoint) {
+        if (codePoint < 0x7F) {
+            return codePoint >= 0x20 ? 1 : 0;
+        }
+
+        if (codePoint > Character.MAX_CODE_POINT) {
+            return 1;
+        }
+
+        long word = Table.BLOCKS[Table.INDEX[codePoint >>> BLOCK_BITS] * WORDS_PER_BLOCK + (codePoint >>> 5 & WORDS_PER_BLOCK - 1)];
+        return (int) (word >>> ((codePoint & 31) << 1)) & 3;
+    }
+
+    /**
+     * Returns the number of columns the text occupies, without its escape sequences.
+     * @param   text    the text, which may contain escape sequences.
+     * @return  the visible width of the text.
+     */
+    public static int of(@NotNull CharSequence text) {
+        return of(text, 0, text.length());
+    }
+
+    /**
+     * Returns the number of columns the range of the text occupies, without its escape sequences.
+     * @param   text    the text, which may contain escape sequences.
+     * @param   start   the index of the first char.
+     * @param   end     the index after the last char.
+     * @return  the visible width of the range.
+     */
+    public static int of(@NotNull CharSequence text, int start, int end) {
+        if (start < 0 || start > end || end > text.length()) {
+            throw new IndexOutOfBoundsException("Range out of bounds. Expected: 0 <= start <= end <= "
+                    + text.length() + ", actual: start = " + start + ", end = " + end);
+        }
+
+        int state = AnsiStripper.TEXT;
+        int width = 0;
+
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+
+            if (state != AnsiStripper.TEXT || c == AnsiStripper.ESC) {
+                state = AnsiStripper.next(state, c);
+            } else if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(text.charAt(i + 1))) {
+                width += of(Character.toCodePoint(c, text.charAt(++i)));
+            } else {
+                width += of(c);
+            }
+        }
+
+        return width;
+    }
+
+    /**
+     * Returns the number of columns the chars occupy, without escape sequences.
+     * @param   chars   the array holding the chars.
+     * @param   offset  the index of the first char.
+     * @param   length  the number of chars.
+     * @return  the visible width of the chars.
+     */
+    public static int of(@NotNull char[] chars, int offset, int length) {
+        if ((offset | length | chars.length - offset - length) < 0) {
+            throw new IndexOutOfBoundsException("Range out of bounds. Expected: 0 <= offset <= offset + length <= "
+                    + chars.length + ", actual: offset = " + offset + ", length = " + length);
+        }
+
+        int end = offset + length;
+        int state = AnsiStripper.TEXT;
+        int width = 0;
+
+        for (int i = offset; i < end; i++) {
+            char c = chars[i];
+
+            if (state != AnsiStripper.TEXT || c == AnsiStripper.ESC) {
+                state = AnsiStripper.next(state, c);
+            } else if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(chars[i + 1])) {
+                width += of(Character.toCodePoint(c, chars[++i]));
+            } else {
+                width += of(c);
+            }
+        }
+
+        return width;
+    }
+
+    /**
+     * Returns the width of the code point from the Unicode data, used to build the table.
+     */
+    private static int compute(int codePoint) {
+        switch (Character.getType(codePoint)) {
+            case Character.NON_SPACING_MARK:
+            case Character.ENCLOSING_MARK:
+            case Character.CONTROL:
+                return 0;
+            case Character.FORMAT:
+                // The soft hyphen is displayed by terminals.
+                return codePoint == 0xAD ? 1 : 0;
+            default:
+                // Hangul medial vowels and final consonants join the preceding initial consonant.
+                return codePoint >= 0x1160 && codePoint <= 0x11FF ? 0 : 1;
+        }
+    }
+
+    /**
+     * Lazy holder of the table: the JVM builds it on the first non-ASCII lookup only.
+     */
+    private static final class Table {
+        private static final char[] INDEX = new char[(Character.MAX_CODE_POINT + 1) >>> BLOCK_BITS];
+        private static final long[] BLOCKS;
+
+        static {
+            Map<LongBuffer, Integer> blocks = new HashMap<>();
+            long[] widths = new long[INDEX.length * WORDS_PER_BLOCK];
+            int wide = 0;
+
+            for (int codePoint = 0; codePoint <= Character.MAX_CODE_POINT; codePoint++) {
+                while (wide < WIDE.length && WIDE[wide + 1] < codePoint) {
+                    wide += 2;
+                }
+
+                int width = wide < WIDE.length && WIDE[wide] <= codePoint ? 2 : compute(codePoint);
+                widths[codePoint >>> 5] |= (long) width << ((codePoint & 31) << 1);
+            }
+
+            long[] unique = new long[widths.length];
+
+            for (int block = 0; block < INDEX.length; block++) {
+                LongBuffer words = LongBuffer.wrap(widths, block * WORDS_PER_BLOCK, WORDS_PER_BLOCK).slice();
+                Integer number = blocks.get(words);
+
+                if (number == null) {
+                    number = blocks.size();
+                    blocks.put(words, number);
+                    System.arraycopy(widths, block * WORDS_PER_BLOCK, unique, number * WORDS_PER_BLOCK, WORDS_PER_BLOCK);
+                }
+
+                INDEX[block] = (char) number.intValue();
+            }
+
+            BLOCKS = Arrays.copyOf(unique, blocks.size() * WORDS_PER_BLOCK);
+        }
+    }
+}
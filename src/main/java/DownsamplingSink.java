@@ -0,0 +1,62 @@
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+/**
+ * The {@code DownsamplingSink} class replaces the colors of each styled record by the nearest colors
+ * of the {@link ColorDepth} of its destination before passing the record on. The downsampled style
+ * is kept by the original one, so printing with the same style again does no color conversion at all.
+ * Escape sequences written as raw bytes are passed on unchanged.
+ *
+ * @see     ColterSink#downsampling(ColterSink, ColorDepth)
+ */
+final class DownsamplingSink implements ColterSink {
+    private final ColterSink SINK;
+    private final ColorDepth DEPTH;
+
+    DownsamplingSink(@NotNull ColterSink sink, @NotNull ColorDepth depth) {
+        this.SINK = sink;
+        this.DEPTH = depth;
+    }
+
+    @Override
+    public void write(@NotNull Style style, @NotNull CharSequence text, @NotNull byte[] suffix) throws IOException {
+        SINK.write(style.downsample(DEPTH), text, suffix);
+    }
+
+    @Override
+    public Style adapt(@NotNull Style style) {
+        return SINK.adapt(style.downsample(DEPTH));
+    }
+
+    @Override
+    public void write(@NotNull Style style, @NotNull byte[] prefix, @NotNull CharSequence text,
+                      @NotNull byte[] suffix) throws IOException {
+        SINK.write(style, prefix, text, suffix);
+    }
+
+    @Override
+    public void write(@NotNull byte[] prefix, @NotNull CharSequence text, @NotNull byte[] suffix) throws IOException {
+        SINK.write(prefix, text, suffix);
+    }
+
+    @Override
+    public void write(@NotNull byte[] bytes, int offset, int length) throws IOException {
+        SINK.write(bytes, offset, length);
+    }
+
+    @Override
+    public void write(@NotNull CharSequence text) throws IOException {
+        SINK.write(text);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        SINK.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        SINK.close();
+    }
+}
@@ -0,0 +1,160 @@
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * The {@code EncodingSink} class is the base of byte-oriented sinks. It assembles each record in
+ * a reusable buffer, encoding the text with a reusable {@link CharsetEncoder}, and hands the
+ * filled buffer to {@link #drain(ByteBuffer)}. A record which fits the buffer is drained with a
+ * single call, larger ones in buffer-sized chunks. Channel based sinks may use a direct buffer,
+ * so the channel can write the encoded text without copying it first.
+ * <p>
+ * The text is copied into a reusable char buffer in chunks and encoded from there, so encoding
+ * allocates nothing, whatever the type of the {@link CharSequence}.
+ *
+ * @see     ColterSink
+ */
+abstract class EncodingSink implements ColterSink {
+    static final int BUFFER_SIZE = 8192;
+    private static final int CHUNK_SIZE = 1024;
+
+    private final Charset CHARSET;
+    private final CharsetEncoder ENCODER;
+    private final ByteBuffer BUFFER;
+    private final char[] CHARS = new char[CHUNK_SIZE];
+    private final CharBuffer CHAR_BUFFER = CharBuffer.wrap(CHARS);
+
+    EncodingSink(@NotNull Charset charset) {
+        this(charset, false);
+    }
+
+    EncodingSink(@NotNull Charset charset, boolean direct) {
+        this.CHARSET = charset;
+        this.ENCODER = charset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.BUFFER = direct ? ByteBuffer.allocateDirect(BUFFER_SIZE) : ByteBuffer.allocate(BUFFER_SIZE);
+    }
+
+    /**
+     * Returns the charset the text is encoded with.
+     * @return  the charset of the sink.
+     */
+    public Charset getCharset() {
+        return CHARSET;
+    }
+
+    @Override
+    public synchronized void write(@NotNull byte[] bytes, int offset, int length) throws IOException {
+        put(bytes, offset, length);
+        drainBuffer();
+    }
+
+    @Override
+    public synchronized void write(@NotNull CharSequence text) throws IOException {
+        encode(text);
+        drainBuffer();
+    }
+
+    @Override
+    public synchronized void write(@NotNull byte[] prefix, @NotNull CharSequence text, @NotNull byte[] suffix) throws IOException {
+        put(prefix, 0, prefix.length);
+        encode(text);
+        put(suffix, 0, suffix.length);
+        drainBuffer();
+    }
+
+    /**
+     * Writes the bytes between position {@code 0} and the position of the buffer to the destination.
+     * The buffer is cleared afterwards by the caller.
+     * @param   buffer  the buffer to drain.
+     * @throws  IOException if an I/O error occurs.
+     */
+    abstract void drain(@NotNull ByteBuffer buffer) throws IOException;
+
+    final void put(byte[] bytes, int offset, int length) throws IOException {
+        while (length > BUFFER.remaining()) {
+            int chunk = BUFFER.remaining();
+            BUFFER.put(bytes, offset, chunk);
+            offset += chunk;
+            length -= chunk;
+            drainBuffer();
+        }
+
+        BUFFER.put(bytes, offset, length);
+    }
+
+    /**
+     * Encodes the text into the buffer, draining the buffer each time it is full.
+     * The rest of the encoded text stays in the buffer. The text is read with {@code charAt()} or
+     * {@code getChars()}, so the position of a {@link CharBuffer} does not change. A surrogate pair
+     * split between two chunks is kept in the char buffer until the next chunk is copied.
+     */
+    final void encode(CharSequence text) throws IOException {
+        int length = text.length();
+
+        if (length == 0) {
+            return;
+        }
+
+        ENCODER.reset();
+        CHAR_BUFFER.clear();
+
+        for (int start = 0; ; ) {
+            int end = Math.min(length, start + CHAR_BUFFER.remaining());
+            copy(text, start, end, CHAR_BUFFER.position());
+            CHAR_BUFFER.position(CHAR_BUFFER.position() + end - start);
+            CHAR_BUFFER.flip();
+            start = end;
+
+            boolean last = start == length;
+
+            for (CoderResult result = ENCODER.encode(CHAR_BUFFER, BUFFER, last); result.isOverflow();
+                 result = ENCODER.encode(CHAR_BUFFER, BUFFER, last)) {
+                drainBuffer();
+            }
+
+            CHAR_BUFFER.compact();
+
+            if (last) {
+                break;
+            }
+        }
+
+        while (ENCODER.flush(BUFFER).isOverflow()) {
+            drainBuffer();
+        }
+    }
+
+    private void copy(CharSequence text, int start, int end, int offset) {
+        if (text instanceof String) {
+            ((String) text).getChars(start, end, CHARS, offset);
+        } else if (text instanceof StringBuilder) {
+            ((StringBuilder) text).getChars(start, end, CHARS, offset);
+        } else {
+            for (int i = start; i < end; i++) {
+                CHARS[offset++] = text.charAt(i);
+            }
+        }
+    }
+
+    final boolean isBufferEmpty() {
+        return BUFFER.position() == 0;
+    }
+
+    final void drainBuffer() throws IOException {
+        if (BUFFER.position() > 0) {
+            try {
+                drain(BUFFER);
+            } finally {
+                BUFFER.clear();
+            }
+        }
+    }
+}
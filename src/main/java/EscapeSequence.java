@@ -0,0 +1,113 @@
+import modificators.BGColor;
+import modificators.Effect;
+import modificators.EffectSet;
+import modificators.FGColor;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The {@code EscapeSequence} class holds one ready-made console control sequence in both forms
+ * it is consumed in: as a {@link String} for text concatenation and as pre-encoded ASCII bytes
+ * for byte-oriented output. Instances are immutable and are meant to be created once and
+ * shared through the sequence tables.
+ *
+ * @see     ColorSequences
+ */
+final class EscapeSequence {
+    static final EscapeSequence EMPTY = new EscapeSequence("");
+    static final EscapeSequence RESET = new EscapeSequence("\u001B[0m");
+    static final EscapeSequence LINE_BREAK = new EscapeSequence(System.lineSeparator());
+    static final EscapeSequence RESET_LINE_BREAK = new EscapeSequence(RESET + System.lineSeparator());
+
+    private static final EscapeSequence[] FG_COLORS = new EscapeSequence[FGColor.values().length];
+    private static final EscapeSequence[] BG_COLORS = new EscapeSequence[BGColor.values().length];
+    private static final EscapeSequence[] EFFECTS = new EscapeSequence[1 << Effect.values().length];
+
+    static {
+        for (FGColor color : FGColor.values()) {
+            FG_COLORS[color.ordinal()] = new EscapeSequence(color.toString());
+        }
+
+        for (BGColor color : BGColor.values()) {
+            BG_COLORS[color.ordinal()] = new EscapeSequence(color.toString());
+        }
+    }
+
+    private final String SEQUENCE;
+    private final byte[] BYTES;
+
+    EscapeSequence(@NotNull String sequence) {
+        this.SEQUENCE = sequence;
+        this.BYTES = sequence.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Returns the shared sequence of the 16-color foreground.
+     * @param   color   the foreground color.
+     * @return  the sequence of the color.
+     */
+    static EscapeSequence of(@NotNull FGColor color) {
+        return FG_COLORS[color.ordinal()];
+    }
+
+    /**
+     * Returns the shared sequence of the 16-color background.
+     * @param   color   the background color.
+     * @return  the sequence of the color.
+     */
+    static EscapeSequence of(@NotNull BGColor color) {
+        return BG_COLORS[color.ordinal()];
+    }
+
+    /**
+     * Returns the shared merged sequence of the effects. Sequences are created on first use of the combination.
+     * @param   effects the set of effects.
+     * @return  the sequence of the effects.
+     */
+    static EscapeSequence of(@NotNull EffectSet effects) {
+        EscapeSequence sequence = EFFECTS[effects.getMask()];
+
+        if (sequence == null) {
+            sequence = EFFECTS[effects.getMask()] = effects.isEmpty() ? EMPTY : new EscapeSequence(effects.toString());
+        }
+
+        return sequence;
+    }
+
+    /**
+     * Returns the pre-encoded bytes of the sequence. The returned array is shared and must not be modified.
+     * @return  ASCII bytes of the sequence.
+     */
+    byte[] bytes() {
+        return BYTES;
+    }
+
+    /**
+     * Returns the number of bytes (which is also the number of chars) of the sequence.
+     * @return  length of the sequence.
+     */
+    int length() {
+        return BYTES.length;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        return o instanceof EscapeSequence && SEQUENCE.equals(((EscapeSequence) o).SEQUENCE);
+    }
+
+    @Override
+    public int hashCode() {
+        return SEQUENCE.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return SEQUENCE;
+    }
+}
@@ -0,0 +1,193 @@
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.CharBuffer;
+
+/**
+ * The {@code FrozenColter} class is an immutable snapshot of a {@link Colter} object, made by
+ * {@link Colter#freeze()} for printers which are configured once and then used many times, for
+ * example one for errors and one for warnings. It holds the text, the style and the sink of the
+ * {@code Colter} at the time of the call, with the merged prefix of the style already rendered for
+ * the sink as a {@code byte[]}. Each print method only passes the prefix, the payload and one of the
+ * shared pre-encoded suffixes to the sink: no style is read, adapted or rendered.
+ * <p>
+ * A {@code FrozenColter} object has no mutable state, so it can be shared between threads freely.
+ * Later changes to the {@code Colter} it was made from do not affect it.
+ * <p>
+ *     Examples of using
+ * <blockquote><pre>
+ *     FrozenColter error = new Colter(FG_RED, BG_BLACK, BOLD).freeze();
+ *     error.printlnAndReset("disk is full");
+ * </pre></blockquote>
+ *
+ * @see     Colter#freeze()
+ */
+public final class FrozenColter {
+    private final String TEXT;
+    private final Style STYLE;
+    private final ColterSink SINK;
+    private final byte[] PREFIX;
+
+    FrozenColter(@NotNull String text, @NotNull Style style, @NotNull ColterSink sink) {
+        this.TEXT = text;
+        this.STYLE = sink.adapt(style);
+        this.SINK = sink;
+        this.PREFIX = STYLE.prefix();
+    }
+
+    /**
+     * Returns the text which was set to the {@code Colter} when it was frozen.
+     * @return  the frozen text.
+     */
+    public String getText() {
+        return TEXT;
+    }
+
+    /**
+     * Returns the style the text is printed with, as the sink renders it.
+     * @return  the frozen {@link Style}.
+     */
+    public Style getStyle() {
+        return STYLE;
+    }
+
+    /**
+     * Returns the sink the text is printed to.
+     * @return  the frozen {@link ColterSink}.
+     */
+    public ColterSink getSink() {
+        return SINK;
+    }
+
+    /**
+     * Prints the frozen text with the frozen style to the sink without line break.
+     * These text settings will be applied to the console and text which will be printed next will have
+     * the same colors and effects.
+     */
+    public void print() {
+        write(TEXT, EscapeSequence.EMPTY);
+    }
+
+    /**
+     * Prints the frozen text with the frozen style to the sink without line break, and then sets the console to default.
+     */
+    public void printAndReset() {
+        write(TEXT, EscapeSequence.RESET);
+    }
+
+    /**
+     * Prints the frozen text with the frozen style to the sink with line break.
+     * These text settings will be applied to the console and text which will be printed next will have
+     * the same colors and effects.
+     */
+    public void println() {
+        write(TEXT, EscapeSequence.LINE_BREAK);
+    }
+
+    /**
+     * Prints the frozen text with the frozen style to the sink with line break, and then sets the console to default.
+     */
+    public void printlnAndReset() {
+        write(TEXT, EscapeSequence.RESET_LINE_BREAK);
+    }
+
+    /**
+     * Prints the {@code o.toString()} text with the frozen style to the sink without line break.
+     * These text settings will be applied to the console and text which will be printed next will have
+     * the same colors and effects.
+     * @param   o       the {@link Object} whose {@code .toString()} value is to be printed.
+     */
+    public void print(@NotNull Object o) {
+        write(o, EscapeSequence.EMPTY);
+    }
+
+    /**
+     * Prints the {@code o.toString()} text with the frozen style to the sink without line break,
+     * and then sets the console to default.
+     * @param   o       the {@link Object} whose {@code .toString()} value is to be printed.
+     */
+    public void printAndReset(@NotNull Object o) {
+        write(o, EscapeSequence.RESET);
+    }
+
+    /**
+     * Prints the {@code o.toString()} text with the frozen style to the sink with line break.
+     * These text settings will be applied to the console and text which will be printed next will have
+     * the same colors and effects.
+     * @param   o       the {@link Object} whose {@code .toString()} value is to be printed.
+     */
+    public void println(@NotNull Object o) {
+        write(o, EscapeSequence.LINE_BREAK);
+    }
+
+    /**
+     * Prints the {@code o.toString()} text with the frozen style to the sink with line break,
+     * and then sets the console to default.
+     * @param   o       the {@link Object} whose {@code .toString()} value is to be printed.
+     */
+    public void printlnAndReset(@NotNull Object o) {
+        write(o, EscapeSequence.RESET_LINE_BREAK);
+    }
+
+    /**
+     * Prints the slice of the char array with the frozen style to the sink without line break.
+     * The chars are encoded straight from the array, without copying them into a {@code String}.
+     * @param   chars   the array holding the text to print.
+     * @param   offset  the index of the first char to print.
+     * @param   length  the number of chars to print.
+     * @throws  IndexOutOfBoundsException   if the slice is out of the array bounds.
+     */
+    public void print(@NotNull char[] chars, int offset, int length) {
+        write(CharBuffer.wrap(chars, offset, length), EscapeSequence.EMPTY);
+    }
+
+    /**
+     * Prints the slice of the char array with the frozen style to the sink without line break,
+     * and then sets the console to default.
+     * @param   chars   the array holding the text to print.
+     * @param   offset  the index of the first char to print.
+     * @param   length  the number of chars to print.
+     * @throws  IndexOutOfBoundsException   if the slice is out of the array bounds.
+     */
+    public void printAndReset(@NotNull char[] chars, int offset, int length) {
+        write(CharBuffer.wrap(chars, offset, length), EscapeSequence.RESET);
+    }
+
+    /**
+     * Prints the slice of the char array with the frozen style to the sink with line break.
+     * @param   chars   the array holding the text to print.
+     * @param   offset  the index of the first char to print.
+     * @param   length  the number of chars to print.
+     * @throws  IndexOutOfBoundsException   if the slice is out of the array bounds.
+     */
+    public void println(@NotNull char[] chars, int offset, int length) {
+        write(CharBuffer.wrap(chars, offset, length), EscapeSequence.LINE_BREAK);
+    }
+
+    /**
+     * Prints the slice of the char array with the frozen style to the sink with line break,
+     * and then sets the console to default.
+     * @param   chars   the array holding the text to print.
+     * @param   offset  the index of the first char to print.
+     * @param   length  the number of chars to print.
+     * @throws  IndexOutOfBoundsException   if the slice is out of the array bounds.
+     */
+    public void printlnAndReset(@NotNull char[] chars, int offset, int length) {
+        write(CharBuffer.wrap(chars, offset, length), EscapeSequence.RESET_LINE_BREAK);
+    }
+
+    private void write(Object text, EscapeSequence suffix) {
+        try {
+            CharSequence chars = text instanceof CharSequence ? (CharSequence) text : String.valueOf(text);
+            SINK.write(STYLE, PREFIX, chars, suffix.bytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return STYLE + TEXT;
+    }
+}
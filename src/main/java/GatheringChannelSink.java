@@ -0,0 +1,140 @@
+import org.jetbrains.annotations.NotNull;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.charset.Charset;
+
+/**
+ * The {@code GatheringChannelSink} class writes records to a {@link GatheringByteChannel}, such as
+ * a {@link java.nio.channels.FileChannel}, without assembling them first. The style prefix and the
+ * suffix are passed to the channel as views of their pre-encoded arrays, the text is encoded into
+ * a direct buffer, and all three are written by one {@link GatheringByteChannel#write(ByteBuffer[])}
+ * call. Text larger than the buffer is written in several calls, the first one carrying the prefix
+ * and the last one carrying the suffix.
+ *
+ * @see     ColterSink#of(GatheringByteChannel, Charset)
+ * @see     ColterSink#stdoutChannel()
+ */
+final class GatheringChannelSink extends EncodingSink {
+    private final GatheringByteChannel CHANNEL;
+    private final boolean CLOSEABLE;
+    private final ByteBuffer[] PARTS = new ByteBuffer[3];
+    private byte[] prefixArray;
+    private ByteBuffer prefixBuffer;
+    private byte[] suffixArray;
+    private ByteBuffer suffixBuffer;
+    private ByteBuffer head;
+    private ByteBuffer tail;
+
+    GatheringChannelSink(@NotNull GatheringByteChannel channel, @NotNull Charset charset, boolean closeable) {
+        super(charset, true);
+        this.CHANNEL = channel;
+        this.CLOSEABLE = closeable;
+    }
+
+    /**
+     * Returns the shared sink of the standard output file descriptor.
+     * @return  the standard output channel sink.
+     */
+    static GatheringChannelSink stdout() {
+        return Stdout.SINK;
+    }
+
+    @Override
+    public synchronized void write(@NotNull byte[] prefix, @NotNull CharSequence text, @NotNull byte[] suffix) throws IOException {
+        head = prefix.length > 0 ? prefixBuffer(prefix) : null;
+        tail = null;
+
+        try {
+            encode(text);
+            tail = suffix.length > 0 ? suffixBuffer(suffix) : null;
+
+            if (isBufferEmpty()) {
+                gather(null);
+            } else {
+                drainBuffer();
+            }
+        } finally {
+            head = null;
+            tail = null;
+        }
+    }
+
+    @Override
+    void drain(@NotNull ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        gather(buffer);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (CLOSEABLE) {
+            CHANNEL.close();
+        }
+    }
+
+    /**
+     * Writes the pending prefix, the text buffer and the pending suffix with one gathering write,
+     * repeating it only if the channel did not take all the bytes at once.
+     */
+    private void gather(ByteBuffer text) throws IOException {
+        int count = 0;
+
+        if (head != null) {
+            PARTS[count++] = head;
+            head = null;
+        }
+
+        if (text != null) {
+            PARTS[count++] = text;
+        }
+
+        if (tail != null) {
+            PARTS[count++] = tail;
+            tail = null;
+        }
+
+        try {
+            for (int first = 0; first < count; ) {
+                CHANNEL.write(PARTS, first, count - first);
+
+                while (first < count && !PARTS[first].hasRemaining()) {
+                    first++;
+                }
+            }
+        } finally {
+            PARTS[0] = PARTS[1] = PARTS[2] = null;
+        }
+    }
+
+    private ByteBuffer prefixBuffer(byte[] prefix) {
+        if (prefix != prefixArray) {
+            prefixArray = prefix;
+            prefixBuffer = ByteBuffer.wrap(prefix);
+        }
+
+        prefixBuffer.clear();
+        return prefixBuffer;
+    }
+
+    private ByteBuffer suffixBuffer(byte[] suffix) {
+        if (suffix != suffixArray) {
+            suffixArray = suffix;
+            suffixBuffer = ByteBuffer.wrap(suffix);
+        }
+
+        suffixBuffer.clear();
+        return suffixBuffer;
+    }
+
+    /**
+     * Lazy holder of the standard output channel sink.
+     */
+    private static final class Stdout {
+        private static final GatheringChannelSink SINK = new GatheringChannelSink(
+                new FileOutputStream(FileDescriptor.out).getChannel(), Charset.defaultCharset(), false);
+    }
+}
@@ -0,0 +1,385 @@
+import modificators.BGColor;
+import modificators.Effect;
+import modificators.EffectSet;
+import modificators.FGColor;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The {@code Markup} class is a compiled template of inline markup, which styles several parts of
+ * one line with a single write. A tag in square brackets opens a style, {@code [/]} closes the last
+ * opened one, and {@code {}} is a slot for the next argument:
+ * <blockquote><pre>
+ *     [bold red]error[/] in {} at line [underline]{}[/]
+ * </pre></blockquote>
+ * A tag is a list of words separated by spaces:
+ * <ul>
+ *      <li> an effect: {@code bold}, {@code faint}, {@code italic}, {@code underline}, {@code reverse},
+ *           {@code strikeout} or another {@link Effect} name in lower case;
+ *      <li> a foreground color: a {@link FGColor} name without {@code fg_} in lower case, such as
+ *           {@code red} or {@code bright_cyan}, an 8-bit color number such as {@code 196}, or a 24-bit
+ *           color as {@code #ff4000} or {@code rgb(255,64,0)};
+ *      <li> {@code on} followed by a color, for the background color.
+ * </ul>
+ * Tags nest: the colors of an inner tag replace the outer ones and its effects are added to them.
+ * {@code [[}, {@code ]]}, <code>{{</code> and <code>}}</code> stand for the literal brackets.
+ * <p>
+ * A template is compiled once into an immutable program of segments, each one a pre-rendered style
+ * transition followed by a literal text or an argument slot. Rendering appends the segments to a
+ * thread-local buffer and writes the whole line to the sink as one record. Compiled templates are
+ * kept in a bounded, lock-free, direct-mapped cache keyed by the template string, of
+ * {@value #DEFAULT_CACHE_CAPACITY} entries by default or of the size set by the
+ * {@code colter.markupCacheCapacity} system property (rounded down to a power of two).
+ * <p>
+ *     Examples of using
+ * <blockquote><pre>
+ *     Markup.compile("[bold red]error[/] in {}").println(ColterSink.stdout(), file);
+ *     new Colter().printlnMarkup("[green]{}[/] of [bold]{}[/] done", done, total);
+ * </pre></blockquote>
+ *
+ * @see     Colter#printMarkup(String, Object...)
+ */
+public final class Markup {
+    public static final int DEFAULT_CACHE_CAPACITY = 256;
+    private static final int BUFFER_SIZE = 256;
+    private static final int RETAINED_SIZE = 64 * 1024;
+    private static final byte[] NO_BYTES = new byte[0];
+    private static final String RESET = EscapeSequence.RESET.toString();
+    private static final ThreadLocal<StringBuilder> BUFFERS = new ThreadLocal<>();
+    private static final Map<String, FGColor> FG_NAMES = new HashMap<>();
+    private static final Map<String, BGColor> BG_NAMES = new HashMap<>();
+    private static final Map<String, Effect> EFFECT_NAMES = new HashMap<>();
+
+    static {
+        for (FGColor color : FGColor.values()) {
+            FG_NAMES.put(color.name().substring(3).toLowerCase(Locale.ROOT), color);
+        }
+
+        for (BGColor color : BGColor.values()) {
+            BG_NAMES.put(color.name().substring(3).toLowerCase(Locale.ROOT), color);
+        }
+
+        for (Effect effect : Effect.values()) {
+            EFFECT_NAMES.put(effect.name().toLowerCase(Locale.ROOT), effect);
+        }
+    }
+
+    private final String TEMPLATE;
+    private final Style[] STYLES;
+    private final String[] LITERALS;
+    private final String[] TRANSITIONS;
+    private final int ARGUMENTS;
+
+    private Markup(String template, List<Style> styles, List<String> literals, int arguments) {
+        this.TEMPLATE = template;
+        this.STYLES = styles.toArray(new Style[0]);
+        this.LITERALS = literals.toArray(new String[0]);
+        this.TRANSITIONS = new String[STYLES.length];
+        this.ARGUMENTS = arguments;
+
+        StringBuilder sb = new StringBuilder();
+
+        for (int i = 0; i < STYLES.length; i++) {
+            sb.setLength(0);
+            appendTransition(sb, i == 0 ? Style.none() : STYLES[i - 1], STYLES[i]);
+            TRANSITIONS[i] = sb.toString();
+        }
+    }
+
+    /**
+     * Returns the compiled template, from the cache if it was compiled before.
+     * @param   template    the markup template.
+     * @return  the compiled {@code Markup}.
+     * @throws  IllegalArgumentException    if the template is malformed.
+     */
+    public static Markup compile(@NotNull String template) {
+        int hash = template.hashCode();
+        int slot = (hash ^ hash >>> 16) & Cache.ENTRIES.length - 1;
+        Markup markup = Cache.ENTRIES[slot];
+
+        if (markup == null || !markup.TEMPLATE.equals(template)) {
+            markup = Cache.ENTRIES[slot] = parse(template);
+        }
+
+        return markup;
+    }
+
+    /**
+     * Returns the number of argument slots of the template.
+     * @return  the number of {@code {}} slots.
+     */
+    public int getArgumentCount() {
+        return ARGUMENTS;
+    }
+
+    /**
+     * Prints the template with the arguments to the sink without line break, and then sets the console to default.
+     * @param   sink    the sink to write to.
+     * @param   args    the arguments, one for each slot.
+     * @throws  IllegalArgumentException    if the number of arguments does not match the number of slots.
+     */
+    public void print(@NotNull ColterSink sink, @NotNull Object ... args) {
+        render(sink, args, false);
+    }
+
+    /**
+     * Prints the template with the arguments to the sink with line break, and then sets the console to default.
+     * @param   sink    the sink to write to.
+     * @param   args    the arguments, one for each slot.
+     * @throws  IllegalArgumentException    if the number of arguments does not match the number of slots.
+     */
+    public void println(@NotNull ColterSink sink, @NotNull Object ... args) {
+        render(sink, args, true);
+    }
+
+    private void render(ColterSink sink, Object[] args, boolean lineBreak) {
+        // The buffer is taken from the thread while in use, so an argument whose toString prints
+        // markup gets a buffer of its own.
+        StringBuilder sb = BUFFERS.get();
+
+        if (sb == null) {
+            sb = new StringBuilder(BUFFER_SIZE);
+        } else {
+            BUFFERS.set(null);
+            sb.setLength(0);
+        }
+
+        try {
+            EscapeSequence suffix = render(sb, sink, args)
+                    ? lineBreak ? EscapeSequence.RESET_LINE_BREAK : EscapeSequence.RESET
+                    : lineBreak ? EscapeSequence.LINE_BREAK : EscapeSequence.EMPTY;
+
+            sink.write(NO_BYTES, sb, suffix.bytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            BUFFERS.set(sb.capacity() > RETAINED_SIZE ? new StringBuilder(BUFFER_SIZE) : sb);
+        }
+    }
+
+    /**
+     * Appends the segments with the styles as the sink renders them, and returns {@code true} if any style was rendered.
+     */
+    private boolean render(StringBuilder sb, ColterSink sink, Object[] args) {
+        if (args.length != ARGUMENTS) {
+            throw new IllegalArgumentException("Wrong number of arguments. Expected: " + ARGUMENTS
+                    + ", actual: " + args.length);
+        }
+
+        Style previous = Style.none();
+        boolean styled = false;
+        int argument = 0;
+
+        for (int i = 0; i < STYLES.length; i++) {
+            Style style = sink.adapt(STYLES[i]);
+
+            if (style == STYLES[i] && previous == (i == 0 ? Style.none() : STYLES[i - 1])) {
+                sb.append(TRANSITIONS[i]);
+            } else {
+                appendTransition(sb, previous, style);
+            }
+
+            styled |= !style.isEmpty();
+            previous = style;
+
+            if (LITERALS[i] != null) {
+                sb.append(LITERALS[i]);
+            } else if (args[argument] instanceof CharSequence) {
+                sb.append((CharSequence) args[argument++]);
+            } else {
+                sb.append(args[argument++]);
+            }
+        }
+
+        return styled;
+    }
+
+    /**
+     * Appends the escape sequence which changes the style: the prefix of the new style, preceded by
+     * a reset if the new style does not override all colors and effects of the previous one.
+     */
+    static void appendTransition(StringBuilder sb, Style from, Style to) {
+        if (from.equals(to)) {
+            return;
+        }
+
+        boolean overrides = (from.getEffects().getMask() & ~to.getEffects().getMask()) == 0
+                && (from.fgColor() == 0 || to.fgColor() != 0)
+                && (from.bgColor() == 0 || to.bgColor() != 0);
+
+        if (to.isEmpty() || !overrides) {
+            sb.append(RESET);
+        }
+
+        for (byte b : to.prefix()) {
+            sb.append((char) b);
+        }
+    }
+
+    private static Markup parse(String template) {
+        List<Style> styles = new ArrayList<>();
+        List<String> literals = new ArrayList<>();
+        Deque<Style> opened = new ArrayDeque<>();
+        StringBuilder literal = new StringBuilder();
+        Style style = Style.none();
+        int arguments = 0;
+        int length = template.length();
+
+        for (int i = 0; i < length; ) {
+            char c = template.charAt(i);
+            char next = i + 1 < length ? template.charAt(i + 1) : 0;
+
+            if (c == '[' && next != '[') {
+                int close = template.indexOf(']', i);
+
+                if (close < 0) {
+                    throw malformed("Unclosed tag", template, i);
+                }
+
+                String tag = template.substring(i + 1, close).trim();
+                addLiteral(styles, literals, style, literal);
+
+                if (tag.equals("/")) {
+                    if (opened.isEmpty()) {
+                        throw malformed("Closing tag without opening tag", template, i);
+                    }
+
+                    style = opened.pop();
+                } else {
+                    opened.push(style);
+                    style = applyTag(style, tag, template, i);
+                }
+
+                i = close + 1;
+            } else if (c == '{' && next == '}') {
+                addLiteral(styles, literals, style, literal);
+                styles.add(style);
+                literals.add(null);
+                arguments++;
+                i += 2;
+            } else if ((c == '[' || c == ']' || c == '{' || c == '}') && next == c) {
+                literal.append(c);
+                i += 2;
+            } else {
+                literal.append(c);
+                i++;
+            }
+        }
+
+        addLiteral(styles, literals, style, literal);
+        return new Markup(template, styles, literals, arguments);
+    }
+
+    private static void addLiteral(List<Style> styles, List<String> literals, Style style, StringBuilder literal) {
+        if (literal.length() == 0) {
+            return;
+        }
+
+        int last = styles.size() - 1;
+
+        if (last >= 0 && literals.get(last) != null && styles.get(last).equals(style)) {
+            literals.set(last, literals.get(last) + literal);
+        } else {
+            styles.add(style);
+            literals.add(literal.toString());
+        }
+
+        literal.setLength(0);
+    }
+
+    static Style applyTag(Style style, String tag, String template, int index) {
+        String[] words = tag.toLowerCase(Locale.ROOT).split("\\s+");
+        EffectSet effects = style.getEffects();
+
+        if (tag.isEmpty()) {
+            throw malformed("Empty tag", template, index);
+        }
+
+        for (int i = 0; i < words.length; i++) {
+            String word = words[i];
+            Effect effect = EFFECT_NAMES.get(word);
+
+            if (effect != null) {
+                effects = effects.with(effect);
+            } else if (word.equals("on")) {
+                if (++i == words.length) {
+                    throw malformed("Missing background color", template, index);
+                }
+
+                style = applyColor(style, words[i], true, template, index);
+            } else {
+                style = applyColor(style, word, false, template, index);
+            }
+        }
+
+        return style.withEffects(effects);
+    }
+
+    private static Style applyColor(Style style, String word, boolean background, String template, int index) {
+        FGColor fg = FG_NAMES.get(word);
+        BGColor bg = BG_NAMES.get(word);
+
+        if (fg != null) {
+            return background ? style.withBG(bg) : style.withFG(fg);
+        }
+
+        try {
+            if (word.startsWith("#") && word.length() == 7) {
+                int rgb = Integer.parseInt(word.substring(1), 16);
+                return background ? style.withBG(rgb >>> 16, rgb >>> 8 & 0xFF, rgb & 0xFF)
+                        : style.withFG(rgb >>> 16, rgb >>> 8 & 0xFF, rgb & 0xFF);
+            }
+
+            if (word.startsWith("rgb(") && word.endsWith(")")) {
+                String[] components = word.substring(4, word.length() - 1).split(",");
+
+                if (components.length == 3) {
+                    int r = Integer.parseInt(components[0].trim());
+                    int g = Integer.parseInt(components[1].trim());
+                    int b = Integer.parseInt(components[2].trim());
+                    return background ? style.withBG(r, g, b) : style.withFG(r, g, b);
+                }
+            }
+
+            if (!word.isEmpty() && Character.isDigit(word.charAt(0))) {
+                int color = Integer.parseInt(word);
+                return background ? style.withBG(color) : style.withFG(color);
+            }
+        } catch (IllegalArgumentException e) {
+            throw malformed("Invalid color '" + word + "'", template, index);
+        }
+
+        throw malformed("Unknown word '" + word + "'", template, index);
+    }
+
+    private static IllegalArgumentException malformed(String message, String template, int index) {
+        return new IllegalArgumentException(message + " at index " + index + " of the markup: " + template);
+    }
+
+    /**
+     * Returns the template string.
+     * @return  the template the markup was compiled from.
+     */
+    @Override
+    public String toString() {
+        return TEMPLATE;
+    }
+
+    /**
+     * Lazy holder of the cache of compiled templates.
+     */
+    private static final class Cache {
+        private static final Markup[] ENTRIES = new Markup[Integer.highestOneBit(
+                Math.max(1, Integer.getInteger("colter.markupCacheCapacity", DEFAULT_CACHE_CAPACITY)))];
+    }
+}
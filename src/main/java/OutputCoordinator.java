@@ -0,0 +1,171 @@
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The {@code OutputCoordinator} class is a {@link ColterSink} for output shared by many threads.
+ * Each thread assembles its records - the style prefix, the encoded text and the suffix - in its
+ * own thread-local buffer, so encoding runs in parallel without any locking. The assembled record
+ * is then committed to the destination with a single write while holding a {@link ReentrantLock},
+ * so escape sequences of one thread never bleed into the text of another one.
+ * <p>
+ * The lock is a {@code ReentrantLock} rather than a {@code synchronized} block, so a virtual thread
+ * blocked on a slow destination does not pin its carrier thread. The lock is held only for the
+ * write of the already encoded bytes.
+ * <p>
+ * Thread-local buffers grow to the size of the largest record of their thread. After a record
+ * larger than {@value #RETAINED_SIZE} bytes, the buffer is shrunk back to the default size.
+ * <p>
+ *     Examples of using
+ * <blockquote><pre>
+ *     ColterSink sink = ColterSink.coordinated(System.out, Charset.defaultCharset());
+ *     Colter error = new Colter(sink).setFG(FG_RED);
+ *
+ *     executor.submit(() -&gt; error.printlnAndReset("failed"));
+ * </pre></blockquote>
+ *
+ * @see     ColterSink#coordinated(OutputStream, Charset)
+ * @see     ColterSink#coordinated(WritableByteChannel, Charset)
+ */
+public final class OutputCoordinator implements ColterSink {
+    static final int RETAINED_SIZE = 64 * 1024;
+
+    private final OutputStream OUT;
+    private final WritableByteChannel CHANNEL;
+    private final ReentrantLock LOCK = new ReentrantLock();
+    private final ThreadLocal<RecordBuffer> BUFFERS;
+
+    /**
+     * Creates a coordinator which commits records to the stream.
+     * @param   out     the stream to write to.
+     * @param   charset the charset the text is encoded with.
+     */
+    public OutputCoordinator(@NotNull OutputStream out, @NotNull Charset charset) {
+        this(out, null, charset);
+    }
+
+    /**
+     * Creates a coordinator which commits records to the channel.
+     * @param   channel the channel to write to.
+     * @param   charset the charset the text is encoded with.
+     */
+    public OutputCoordinator(@NotNull WritableByteChannel channel, @NotNull Charset charset) {
+        this(null, channel, charset);
+    }
+
+    private OutputCoordinator(OutputStream out, WritableByteChannel channel, Charset charset) {
+        this.OUT = out;
+        this.CHANNEL = channel;
+        this.BUFFERS = ThreadLocal.withInitial(() -> new RecordBuffer(charset));
+    }
+
+    @Override
+    public void write(@NotNull byte[] bytes, int offset, int length) throws IOException {
+        RecordBuffer record = BUFFERS.get();
+        record.write(bytes, offset, length);
+        commit(record);
+    }
+
+    @Override
+    public void write(@NotNull CharSequence text) throws IOException {
+        RecordBuffer record = BUFFERS.get();
+        record.write(text);
+        commit(record);
+    }
+
+    @Override
+    public void write(@NotNull byte[] prefix, @NotNull CharSequence text, @NotNull byte[] suffix) throws IOException {
+        RecordBuffer record = BUFFERS.get();
+        record.write(prefix, text, suffix);
+        commit(record);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        LOCK.lock();
+        try {
+            if (OUT != null) {
+                OUT.flush();
+            }
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        LOCK.lock();
+        try {
+            if (OUT != null) {
+                OUT.close();
+            } else {
+                CHANNEL.close();
+            }
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    /**
+     * Writes the assembled record to the destination with one call and clears the buffer.
+     */
+    private void commit(RecordBuffer record) throws IOException {
+        if (record.size == 0) {
+            return;
+        }
+
+        LOCK.lock();
+        try {
+            if (OUT != null) {
+                OUT.write(record.bytes, 0, record.size);
+            } else {
+                ByteBuffer buffer = ByteBuffer.wrap(record.bytes, 0, record.size);
+
+                while (buffer.hasRemaining()) {
+                    CHANNEL.write(buffer);
+                }
+            }
+        } finally {
+            LOCK.unlock();
+            record.clear();
+        }
+    }
+
+    /**
+     * Thread-local buffer which keeps the whole encoded record until it is committed.
+     */
+    private static final class RecordBuffer extends EncodingSink {
+        private byte[] bytes = new byte[BUFFER_SIZE];
+        private int size;
+
+        private RecordBuffer(Charset charset) {
+            super(charset);
+        }
+
+        @Override
+        void drain(@NotNull ByteBuffer buffer) {
+            int length = buffer.position();
+
+            if (size + length > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + length));
+            }
+
+            System.arraycopy(buffer.array(), buffer.arrayOffset(), bytes, size, length);
+            size += length;
+        }
+
+        private void clear() {
+            size = 0;
+
+            if (bytes.length > RETAINED_SIZE) {
+                bytes = new byte[BUFFER_SIZE];
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * The {@code OutputStreamSink} class writes records to an {@link OutputStream}, one
+ * {@code write()} call per record which fits the encoding buffer.
+ *
+ * @see     ColterSink#of(OutputStream, Charset)
+ */
+final class OutputStreamSink extends EncodingSink {
+    private final OutputStream OUT;
+
+    OutputStreamSink(@NotNull OutputStream out, @NotNull Charset charset) {
+        super(charset);
+        this.OUT = out;
+    }
+
+    @Override
+    void drain(@NotNull ByteBuffer buffer) throws IOException {
+        OUT.write(buffer.array(), buffer.arrayOffset(), buffer.position());
+    }
+
+    @Override
+    public void flush() throws IOException {
+        OUT.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        OUT.close();
+    }
+}
@@ -0,0 +1,86 @@
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+/**
+ * The {@code PlainSink} class writes the text of each record without any styling, for destinations
+ * which are not terminals. Styled records skip the rendering of the style prefix completely, resets
+ * are dropped and line breaks are kept. Escape sequences which reach the sink as raw bytes, for
+ * example from a {@link StyledWriter}, are removed before the bytes are passed on; each raw write
+ * is expected to hold whole escape sequences.
+ *
+ * @see     TerminalProfile#apply(ColterSink)
+ */
+final class PlainSink implements ColterSink {
+    private static final byte[] NO_BYTES = new byte[0];
+
+    private final ColterSink SINK;
+    private final AnsiStripper.Runs<byte[]> RUNS;
+
+    PlainSink(@NotNull ColterSink sink) {
+        this.SINK = sink;
+        this.RUNS = sink::write;
+    }
+
+    @Override
+    public void write(@NotNull Style style, @NotNull CharSequence text, @NotNull byte[] suffix) throws IOException {
+        SINK.write(NO_BYTES, text, plain(suffix));
+    }
+
+    @Override
+    public Style adapt(@NotNull Style style) {
+        return Style.none();
+    }
+
+    @Override
+    public void write(@NotNull Style style, @NotNull byte[] prefix, @NotNull CharSequence text,
+                      @NotNull byte[] suffix) throws IOException {
+        SINK.write(NO_BYTES, text, plain(suffix));
+    }
+
+    @Override
+    public void write(@NotNull byte[] prefix, @NotNull CharSequence text, @NotNull byte[] suffix) throws IOException {
+        writeStripped(prefix, 0, prefix.length);
+        SINK.write(NO_BYTES, text, NO_BYTES);
+        writeStripped(suffix, 0, suffix.length);
+    }
+
+    @Override
+    public void write(@NotNull byte[] bytes, int offset, int length) throws IOException {
+        writeStripped(bytes, offset, length);
+    }
+
+    @Override
+    public void write(@NotNull CharSequence text) throws IOException {
+        SINK.write(text);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        SINK.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        SINK.close();
+    }
+
+    private static byte[] plain(byte[] suffix) {
+        if (suffix == EscapeSequence.RESET.bytes()) {
+            return NO_BYTES;
+        }
+
+        if (suffix == EscapeSequence.RESET_LINE_BREAK.bytes()) {
+            return EscapeSequence.LINE_BREAK.bytes();
+        }
+
+        return suffix;
+    }
+
+    /**
+     * Writes the bytes without the escape sequences, recognized by the {@link AnsiStripper} state machine.
+     */
+    private void writeStripped(byte[] bytes, int offset, int length) throws IOException {
+        AnsiStripper.scan(AnsiStripper.TEXT, bytes, offset, offset + length, RUNS);
+    }
+}
@@ -0,0 +1,171 @@
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.function.Supplier;
+
+/**
+ * The {@code PrintStreamSink} class writes records to a {@link PrintStream}. Escape sequence
+ * bytes are written as raw bytes and the text is encoded with the charset of the stream, so the
+ * output is the same as printing with the stream. Each record is written while holding the lock of
+ * the stream, so records printed by different threads do not interleave.
+ * <p>
+ * If the charset of the stream is known, which is the case on Java 18 and later through
+ * {@code PrintStream.charset()}, the text is encoded in chunks through a reusable buffer, so a
+ * {@code StringBuilder}, a {@code CharBuffer} or a char array slice is not copied into a
+ * {@code String}, and the whole record reaches the stream in one {@code write()} call. On older
+ * runtimes the charset of a stream can not be read, and the text is passed to the stream, which
+ * copies text other than a {@code String}; the sinks of {@link ColterSink#of(java.io.OutputStream,
+ * Charset)} and of channels never copy it.
+ *
+ * @see     ColterSink#of(PrintStream)
+ * @see     ColterSink#stdout()
+ */
+final class PrintStreamSink implements ColterSink {
+    static final PrintStreamSink STDOUT = new PrintStreamSink(() -> System.out, false, null);
+    static final PrintStreamSink STDERR = new PrintStreamSink(() -> System.err, false, null);
+    private static final Method CHARSET = charsetMethod();
+
+    private final Supplier<PrintStream> OUT;
+    private final boolean CLOSEABLE;
+    private final Charset KNOWN_CHARSET;
+    private volatile Encoder encoder;
+
+    PrintStreamSink(@NotNull PrintStream out) {
+        this(() -> out, true, null);
+    }
+
+    /**
+     * Creates a sink for a stream which is known to encode text with the charset.
+     */
+    PrintStreamSink(@NotNull PrintStream out, @NotNull Charset charset) {
+        this(() -> out, true, charset);
+    }
+
+    private PrintStreamSink(Supplier<PrintStream> out, boolean closeable, Charset charset) {
+        this.OUT = out;
+        this.CLOSEABLE = closeable;
+        this.KNOWN_CHARSET = charset;
+    }
+
+    @Override
+    public void write(@NotNull byte[] bytes, int offset, int length) {
+        OUT.get().write(bytes, offset, length);
+    }
+
+    @Override
+    public void write(@NotNull CharSequence text) throws IOException {
+        PrintStream out = OUT.get();
+        Encoder encoder = encoder(out);
+
+        if (encoder == null) {
+            out.append(text);
+            return;
+        }
+
+        synchronized (out) {
+            encoder.write(text);
+        }
+    }
+
+    @Override
+    public void write(@NotNull byte[] prefix, @NotNull CharSequence text, @NotNull byte[] suffix)
+            throws IOException {
+        PrintStream out = OUT.get();
+        Encoder encoder = encoder(out);
+
+        synchronized (out) {
+            if (encoder != null) {
+                encoder.write(prefix, text, suffix);
+                return;
+            }
+
+            if (prefix.length > 0) {
+                out.write(prefix, 0, prefix.length);
+            }
+
+            out.append(text);
+
+            if (suffix.length > 0) {
+                out.write(suffix, 0, suffix.length);
+            }
+        }
+    }
+
+    @Override
+    public void flush() {
+        OUT.get().flush();
+    }
+
+    @Override
+    public void close() {
+        if (CLOSEABLE) {
+            OUT.get().close();
+        } else {
+            flush();
+        }
+    }
+
+    /**
+     * Returns the encoder of the stream, made on first use and again whenever the stream looked up
+     * changes, or {@code null} if the charset of the stream is not known.
+     */
+    private Encoder encoder(PrintStream out) {
+        Encoder current = encoder;
+
+        if (current != null && current.OUT == out) {
+            return current;
+        }
+
+        Charset charset = KNOWN_CHARSET != null ? KNOWN_CHARSET : charsetOf(out);
+
+        if (charset == null) {
+            return null;
+        }
+
+        current = new Encoder(out, charset);
+        encoder = current;
+        return current;
+    }
+
+    private static Charset charsetOf(PrintStream out) {
+        if (CHARSET == null) {
+            return null;
+        }
+
+        try {
+            return (Charset) CHARSET.invoke(out);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static Method charsetMethod() {
+        try {
+            return PrintStream.class.getMethod("charset");
+        } catch (NoSuchMethodException | SecurityException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Encodes the records for one stream and writes the encoded bytes to it. Used while holding the
+     * lock of the stream.
+     */
+    private static final class Encoder extends EncodingSink {
+        private final PrintStream OUT;
+
+        private Encoder(PrintStream out, Charset charset) {
+            super(charset);
+            this.OUT = out;
+        }
+
+        @Override
+        void drain(@NotNull ByteBuffer buffer) {
+            OUT.write(buffer.array(), buffer.arrayOffset(), buffer.position());
+        }
+    }
+}
@@ -0,0 +1,272 @@
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * The {@code RgbSequenceCache} class is a bounded, thread-safe cache of 24-bit true-color escape
+ * sequences keyed by the packed {@code 0xRRGGBB} color value.
+ * <p>
+ * Keys are stored in a primitive {@code int[]} open addressing table with linear probing, so no
+ * key is ever boxed. Lookups run without locking under an optimistic {@link StampedLock} read and
+ * only fall back to a read lock when they race with an insertion. When the cache is full, the
+ * entry to replace is chosen by the <i>clock</i> (second chance) algorithm: every hit marks its
+ * entry as referenced, and the clock hand evicts the first entry that was not referenced since
+ * the hand last passed it.
+ * <p>
+ * Two shared caches are used by {@link Colter} for the foreground and background true colors.
+ * Their capacity can be set by the {@code colter.rgbCacheCapacity} system property
+ * (default {@value #DEFAULT_CAPACITY}).
+ *
+ * @see     EscapeSequence
+ */
+public final class RgbSequenceCache {
+    public static final int DEFAULT_CAPACITY = 512;
+    private static final int EMPTY = -1;
+
+    private final String INTRODUCER;
+    private final int CAPACITY;
+    private final int MASK;
+    private final int[] KEYS;
+    private final EscapeSequence[] VALUES;
+    private final boolean[] REFERENCED;
+    private final StampedLock LOCK = new StampedLock();
+    private final LongAdder HITS = new LongAdder();
+    private final LongAdder MISSES = new LongAdder();
+    private final LongAdder EVICTIONS = new LongAdder();
+    private int size;
+    private int hand;
+
+    /**
+     * Creates an empty cache.
+     * @param   capacity    maximum number of sequences kept in the cache, at least {@code 1}.
+     * @param   background  {@code true} to cache background sequences, {@code false} for foreground ones.
+     */
+    public RgbSequenceCache(int capacity, boolean background) {
+        if (capacity < 1 || capacity > 1 << 24) {
+            throw new IllegalArgumentException("Cache capacity out of range. Expected: 1..16777216, actual: " + capacity);
+        }
+
+        int tableSize = Integer.highestOneBit(capacity * 2 - 1) << 1;
+
+        INTRODUCER = background ? "\u001b[48;2;" : "\u001b[38;2;";
+        CAPACITY = capacity;
+        MASK = tableSize - 1;
+        KEYS = new int[tableSize];
+        VALUES = new EscapeSequence[tableSize];
+        REFERENCED = new boolean[tableSize];
+        Arrays.fill(KEYS, EMPTY);
+    }
+
+    /**
+     * Returns the shared cache of the foreground true-color sequences.
+     * @return  the foreground cache.
+     */
+    public static RgbSequenceCache foreground() {
+        return Shared.FG;
+    }
+
+    /**
+     * Returns the shared cache of the background true-color sequences.
+     * @return  the background cache.
+     */
+    public static RgbSequenceCache background() {
+        return Shared.BG;
+    }
+
+    /**
+     * Returns the escape sequence of the packed color, creating and caching it on a miss.
+     * The components must already be validated.
+     * @param   rgb packed {@code 0xRRGGBB} color value.
+     * @return  the escape sequence of the color.
+     */
+    EscapeSequence get(int rgb) {
+        long stamp = LOCK.tryOptimisticRead();
+        int slot = find(rgb);
+        EscapeSequence value = slot < 0 ? null : VALUES[slot];
+
+        if (!LOCK.validate(stamp)) {
+            stamp = LOCK.readLock();
+            try {
+                slot = find(rgb);
+                value = slot < 0 ? null : VALUES[slot];
+            } finally {
+                LOCK.unlockRead(stamp);
+            }
+        }
+
+        if (value != null) {
+            REFERENCED[slot] = true;
+            HITS.increment();
+            return value;
+        }
+
+        MISSES.increment();
+        return put(rgb);
+    }
+
+    /**
+     * Returns the maximum number of sequences kept in the cache.
+     * @return  the cache capacity.
+     */
+    public int getCapacity() {
+        return CAPACITY;
+    }
+
+    /**
+     * Returns the current number of cached sequences.
+     * @return  the cache size.
+     */
+    public int size() {
+        long stamp = LOCK.readLock();
+        try {
+            return size;
+        } finally {
+            LOCK.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Returns the number of lookups which found the sequence in the cache.
+     * @return  the hit count.
+     */
+    public long getHits() {
+        return HITS.sum();
+    }
+
+    /**
+     * Returns the number of lookups which had to create the sequence.
+     * @return  the miss count.
+     */
+    public long getMisses() {
+        return MISSES.sum();
+    }
+
+    /**
+     * Returns the number of sequences evicted to free a slot for a new one.
+     * @return  the eviction count.
+     */
+    public long getEvictions() {
+        return EVICTIONS.sum();
+    }
+
+    /**
+     * Removes all cached sequences and resets the counters.
+     */
+    public void clear() {
+        long stamp = LOCK.writeLock();
+        try {
+            Arrays.fill(KEYS, EMPTY);
+            Arrays.fill(VALUES, null);
+            Arrays.fill(REFERENCED, false);
+            size = 0;
+            hand = 0;
+            HITS.reset();
+            MISSES.reset();
+            EVICTIONS.reset();
+        } finally {
+            LOCK.unlockWrite(stamp);
+        }
+    }
+
+    private EscapeSequence put(int rgb) {
+        long stamp = LOCK.writeLock();
+        try {
+            int slot = find(rgb);
+
+            if (slot >= 0) {
+                return VALUES[slot];
+            }
+
+            if (size == CAPACITY) {
+                evict();
+            }
+
+            EscapeSequence value = new EscapeSequence(INTRODUCER
+                    + (rgb >>> 16) + ";" + (rgb >>> 8 & 0xFF) + ";" + (rgb & 0xFF) + "m");
+
+            slot = hash(rgb);
+            while (KEYS[slot] != EMPTY) {
+                slot = (slot + 1) & MASK;
+            }
+
+            KEYS[slot] = rgb;
+            VALUES[slot] = value;
+            REFERENCED[slot] = false;
+            size++;
+            return value;
+        } finally {
+            LOCK.unlockWrite(stamp);
+        }
+    }
+
+    private int find(int rgb) {
+        int slot = hash(rgb);
+
+        for (int probes = 0; probes <= MASK; probes++) {
+            int key = KEYS[slot];
+
+            if (key == rgb) {
+                return slot;
+            }
+
+            if (key == EMPTY) {
+                return -1;
+            }
+
+            slot = (slot + 1) & MASK;
+        }
+
+        return -1;
+    }
+
+    private void evict() {
+        while (KEYS[hand] == EMPTY || REFERENCED[hand]) {
+            REFERENCED[hand] = false;
+            hand = (hand + 1) & MASK;
+        }
+
+        remove(hand);
+        EVICTIONS.increment();
+    }
+
+    /**
+     * Removes the entry and shifts the following entries of its probe chain back,
+     * so lookups never need tombstones.
+     */
+    private void remove(int slot) {
+        int gap = slot;
+        int next = (slot + 1) & MASK;
+
+        while (KEYS[next] != EMPTY) {
+            int home = hash(KEYS[next]);
+
+            if (((next - home) & MASK) >= ((next - gap) & MASK)) {
+                KEYS[gap] = KEYS[next];
+                VALUES[gap] = VALUES[next];
+                REFERENCED[gap] = REFERENCED[next];
+                gap = next;
+            }
+
+            next = (next + 1) & MASK;
+        }
+
+        KEYS[gap] = EMPTY;
+        VALUES[gap] = null;
+        REFERENCED[gap] = false;
+        size--;
+    }
+
+    private int hash(int rgb) {
+        int hash = rgb * 0x9E3779B1;
+        return (hash ^ hash >>> 16) & MASK;
+    }
+
+    /**
+     * Lazy holder of the shared caches.
+     */
+    private static final class Shared {
+        private static final int CAPACITY = Integer.getInteger("colter.rgbCacheCapacity", DEFAULT_CAPACITY);
+        private static final RgbSequenceCache FG = new RgbSequenceCache(CAPACITY, false);
+        private static final RgbSequenceCache BG = new RgbSequenceCache(CAPACITY, true);
+    }
+}
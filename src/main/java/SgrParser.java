@@ -0,0 +1,316 @@
+import modificators.BGColor;
+import modificators.Effect;
+import modificators.EffectSet;
+import modificators.FGColor;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+/**
+ * The {@code SgrParser} class turns styled output, such as the output of {@link Colter} or of
+ * another program, back into runs of text with their {@link Style}. The input is fed in chunks
+ * of bytes or chars, and each run of text between escape sequences is reported to the
+ * {@link Handler} as a range of the chunk, so the text itself is never copied.
+ * <p>
+ * The parser understands the SGR codes of {@link FGColor}, {@link BGColor} and the effects, the
+ * 8-bit and 24-bit colors {@code 38;5;n}, {@code 48;5;n}, {@code 38;2;r;g;b} and {@code 48;2;r;g;b}
+ * (also with {@code :} separators), and the codes which turn effects off. Other escape sequences
+ * are skipped. Its state is the current style and the parameters of an unfinished sequence, so
+ * sequences split between chunks are recognized and inputs of any size are parsed in constant
+ * memory. A new {@code Style} is created only when a sequence changes the style.
+ * <p>
+ * Byte input may be in any ASCII-compatible encoding; runs never split a multi-byte char unless the
+ * chunk does. Runs of the same style separated by a sequence or by the end of a chunk are reported
+ * separately. The parser is not thread-safe.
+ * <p>
+ *     Examples of using
+ * <blockquote><pre>
+ *     char[] buffer = new char[8192];
+ *     SgrParser parser = new SgrParser((style, position, offset, length) -&gt;
+ *             System.out.println(style.getEffects() + " " + new String(buffer, offset, length)));
+ *
+ *     for (int n; (n = reader.read(buffer)) &gt; 0; ) {
+ *         parser.parse(buffer, 0, n);
+ *     }
+ * </pre></blockquote>
+ *
+ * @see     Style
+ * @see     AnsiStrippingOutputStream
+ */
+public final class SgrParser {
+    private static final int MAX_PARAMETERS = 32;
+    private static final int MAX_VALUE = 0xFFFF;
+    private static final FGColor[] FG_COLORS = FGColor.values();
+    private static final BGColor[] BG_COLORS = BGColor.values();
+
+    private static final int BOLD = 1 << Effect.BOLD.ordinal();
+    private static final int FAINT = 1 << Effect.FAINT.ordinal();
+    private static final int ITALIC = 1 << Effect.ITALIC.ordinal();
+    private static final int UNDERLINE = 1 << Effect.UNDERLINE.ordinal();
+    private static final int REVERSE = 1 << Effect.REVERSE.ordinal();
+    private static final int STRIKEOUT = 1 << Effect.STRIKEOUT.ordinal();
+
+    private final Handler HANDLER;
+    private final AnsiStripper.Runs<Object> RUNS = new AnsiStripper.Runs<Object>() {
+        @Override
+        public void text(Object input, int offset, int length) throws IOException {
+            HANDLER.run(style, origin + offset, offset, length);
+        }
+
+        @Override
+        public int escape(int state, int c) {
+            accept(c);
+            return SgrParser.this.state;
+        }
+    };
+    private final int[] PARAMETERS = new int[MAX_PARAMETERS];
+    private Style style = Style.none();
+    private int state = AnsiStripper.TEXT;
+    private long position;
+    private long origin;
+    private int count;
+    private long subParameters;
+    private boolean ignored;
+
+    /**
+     * The {@code Handler} interface receives the runs of text found by the parser.
+     */
+    @FunctionalInterface
+    public interface Handler {
+
+        /**
+         * Receives one run of text printed with the style.
+         * @param   style       the style of the run.
+         * @param   position    the index of the first byte or char of the run in the whole input.
+         * @param   offset      the index of the first byte or char of the run in the current chunk.
+         * @param   length      the number of bytes or chars of the run.
+         * @throws  IOException if the run can not be processed.
+         */
+        void run(@NotNull Style style, long position, int offset, int length) throws IOException;
+    }
+
+    /**
+     * Creates a parser which reports the runs to the handler.
+     * @param   handler the {@link Handler} receiving the runs.
+     */
+    public SgrParser(@NotNull Handler handler) {
+        this.HANDLER = handler;
+    }
+
+    /**
+     * Parses the next chunk of byte input.
+     * @param   bytes   the array holding the chunk.
+     * @param   offset  the index of the first byte of the chunk.
+     * @param   length  the number of bytes of the chunk.
+     * @throws  IOException if the handler throws it.
+     */
+    public void parse(@NotNull byte[] bytes, int offset, int length) throws IOException {
+        checkRange(bytes.length, offset, length);
+        origin = position - offset;
+        state = AnsiStripper.scan(state, bytes, offset, offset + length, RUNS);
+        position += length;
+    }
+
+    /**
+     * Parses the next chunk of char input.
+     * @param   chars   the array holding the chunk.
+     * @param   offset  the index of the first char of the chunk.
+     * @param   length  the number of chars of the chunk.
+     * @throws  IOException if the handler throws it.
+     */
+    public void parse(@NotNull char[] chars, int offset, int length) throws IOException {
+        checkRange(chars.length, offset, length);
+        origin = position - offset;
+        state = AnsiStripper.scan(state, chars, offset, offset + length, RUNS);
+        position += length;
+    }
+
+    /**
+     * Parses the text as the next chunk of char input. The offsets passed to the handler are indices of the text.
+     * @param   text    the chunk.
+     * @throws  IOException if the handler throws it.
+     */
+    public void parse(@NotNull CharSequence text) throws IOException {
+        int end = text.length();
+        origin = position;
+        state = AnsiStripper.scan(state, text, 0, end, RUNS);
+        position += end;
+    }
+
+    /**
+     * Returns the style of the text which follows the parsed input.
+     * @return  the current {@link Style}.
+     */
+    public Style getStyle() {
+        return style;
+    }
+
+    /**
+     * Returns the number of bytes or chars parsed so far.
+     * @return  the position in the whole input.
+     */
+    public long getPosition() {
+        return position;
+    }
+
+    /**
+     * Resets the parser to the empty style and the start of a new input.
+     */
+    public void reset() {
+        style = Style.none();
+        state = AnsiStripper.TEXT;
+        position = 0;
+    }
+
+    private static void checkRange(int size, int offset, int length) {
+        if ((offset | length | size - offset - length) < 0) {
+            throw new IndexOutOfBoundsException("Range out of bounds. Expected: 0 <= offset <= offset + length <= "
+                    + size + ", actual: offset = " + offset + ", length = " + length);
+        }
+    }
+
+    /**
+     * Feeds one char or byte of an escape sequence, starting with its {@code ESC}, to the state machine.
+     */
+    private void accept(int c) {
+        if (state != AnsiStripper.CONTROL_SEQUENCE) {
+            state = AnsiStripper.next(state, c);
+
+            if (state == AnsiStripper.CONTROL_SEQUENCE) {
+                count = 0;
+                subParameters = 0;
+                ignored = false;
+                PARAMETERS[0] = 0;
+            }
+
+            return;
+        }
+
+        if (c >= '0' && c <= '9') {
+            if (count < MAX_PARAMETERS) {
+                PARAMETERS[count] = Math.min(PARAMETERS[count] * 10 + c - '0', MAX_VALUE);
+            }
+        } else if (c == ';' || c == ':') {
+            if (++count < MAX_PARAMETERS) {
+                PARAMETERS[count] = 0;
+
+                if (c == ':') {
+                    subParameters |= 1L << count;
+                }
+            }
+        } else if (c >= 0x40 && c <= 0x7E) {
+            state = AnsiStripper.TEXT;
+
+            if (c == 'm' && !ignored) {
+                apply(Math.min(count + 1, MAX_PARAMETERS));
+            }
+        } else if (c == AnsiStripper.ESC) {
+            state = AnsiStripper.ESCAPE;
+        } else if (c >= 0x20) {
+            ignored = true;
+        }
+    }
+
+    /**
+     * Applies the parameters of a finished SGR sequence to the current style.
+     */
+    private void apply(int parameters) {
+        Style current = style;
+        int effects = current.getEffects().getMask();
+
+        for (int i = 0; i < parameters; i++) {
+            int code = PARAMETERS[i];
+
+            if (code == 0) {
+                current = Style.none();
+                effects = 0;
+            } else if (code == 1) {
+                effects |= BOLD;
+            } else if (code == 2) {
+                effects |= FAINT;
+            } else if (code == 3) {
+                effects |= ITALIC;
+            } else if (code == 4) {
+                effects |= UNDERLINE;
+            } else if (code == 7) {
+                effects |= REVERSE;
+            } else if (code == 9) {
+                effects |= STRIKEOUT;
+            } else if (code == 22) {
+                effects &= ~(BOLD | FAINT);
+            } else if (code == 23) {
+                effects &= ~ITALIC;
+            } else if (code == 24) {
+                effects &= ~UNDERLINE;
+            } else if (code == 27) {
+                effects &= ~REVERSE;
+            } else if (code == 29) {
+                effects &= ~STRIKEOUT;
+            } else if (code >= 30 && code <= 37 || code >= 90 && code <= 97) {
+                current = current.withFG(FG_COLORS[code < 90 ? code - 30 : code - 81]);
+            } else if (code >= 40 && code <= 47 || code >= 100 && code <= 107) {
+                current = current.withBG(BG_COLORS[code < 100 ? code - 40 : code - 91]);
+            } else if (code == 39) {
+                current = current.withoutFG();
+            } else if (code == 49) {
+                current = current.withoutBG();
+            } else if (code == 38 || code == 48) {
+                int length = extendedLength(i, parameters);
+                current = extendedColor(current, i, length, code == 38);
+                i += length;
+            }
+        }
+
+        style = current.withEffects(EffectSet.ofMask(effects));
+    }
+
+    /**
+     * Returns the number of parameters which follow the {@code 38} or {@code 48} parameter at the index
+     * and belong to its color: the mode and the color number or the components.
+     */
+    private int extendedLength(int i, int parameters) {
+        int remaining = parameters - i - 1;
+
+        if (remaining == 0) {
+            return 0;
+        }
+
+        switch (PARAMETERS[i + 1]) {
+            case 5:
+                return Math.min(2, remaining);
+            case 2:
+                // The colon form may carry a color space id before the components: 38:2::r:g:b
+                return Math.min(isSubParameter(i + 1) && isSubParameter(i + 5) ? 5 : 4, remaining);
+            default:
+                return 1;
+        }
+    }
+
+    /**
+     * Returns the style with the extended color of the parameters, or the style itself if they are incomplete or out of range.
+     */
+    private Style extendedColor(Style current, int i, int length, boolean foreground) {
+        if (length == 2 && PARAMETERS[i + 1] == 5) {
+            int color = PARAMETERS[i + 2];
+
+            if (color <= 255) {
+                return foreground ? current.withFG(color) : current.withBG(color);
+            }
+        } else if (length >= 4 && PARAMETERS[i + 1] == 2) {
+            int r = PARAMETERS[i + length - 2];
+            int g = PARAMETERS[i + length - 1];
+            int b = PARAMETERS[i + length];
+
+            if (((r | g | b) & ~0xFF) == 0) {
+                return foreground ? current.withFG(r, g, b) : current.withBG(r, g, b);
+            }
+        }
+
+        return current;
+    }
+
+    private boolean isSubParameter(int index) {
+        return index < MAX_PARAMETERS && (subParameters & 1L << index) != 0;
+    }
+}
@@ -0,0 +1,546 @@
+import modificators.BGColor;
+import modificators.Effect;
+import modificators.EffectSet;
+import modificators.FGColor;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.awt.Color;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The {@code Style} class is an immutable combination of a foreground color, a background color
+ * and text effects, packed into a single {@code long}:
+ * <ul>
+ *      <li> bits {@code 0..25} - the foreground color: a 2-bit mode (none, 16 colors, 256 colors
+ *           or 24-bit true color) above a 24-bit value;
+ *      <li> bits {@code 26..51} - the background color in the same format;
+ *      <li> bits {@code 52..61} - the {@link EffectSet} bitmask of the effects.
+ * </ul>
+ * Two styles are equal if their packed values are equal, so comparing and hashing styles never
+ * touches strings. The prefix of a style is one escape sequence with the parameters of all its
+ * components merged, for example {@code ESC[38;5;196;48;2;0;0;0;1;3;4m} instead of three separate
+ * sequences. It is rendered on first use, cached for all equal styles and kept by the style afterwards.
+ * <p>
+ * Each {@code with} method returns a new style with one component replaced, so styles can be
+ * derived from each other and shared between any number of {@link Colter} objects.
+ * <p>
+ *     Examples of using
+ * <blockquote><pre>
+ *     Style error = Style.none().withFG(FG_RED).withEffects(BOLD);
+ *     Style warning = error.withFG(214);
+ *     new Colter(error).println("failed");
+ * </pre></blockquote>
+ *
+ * @see     Colter#setStyle(Style)
+ * @see     EffectSet
+ */
+public final class Style {
+    private static final int NO_COLOR = 0;
+    private static final int BASIC_COLOR = 1;
+    private static final int INDEXED_COLOR = 2;
+    private static final int RGB_COLOR = 3;
+
+    private static final int COLOR_BITS = 26;
+    private static final int FG_SHIFT = 0;
+    private static final int BG_SHIFT = COLOR_BITS;
+    private static final int EFFECT_SHIFT = 2 * COLOR_BITS;
+    private static final long COLOR_MASK = (1L << COLOR_BITS) - 1;
+    private static final int VALUE_MASK = 0xFFFFFF;
+    private static final int MODE_SHIFT = 24;
+    private static final long EFFECT_MASK = (1L << Effect.values().length) - 1;
+    private static final int PREFIX_CACHE_SIZE = 4096;
+
+    private static final FGColor[] FG_COLORS = FGColor.values();
+    private static final BGColor[] BG_COLORS = BGColor.values();
+    private static final Effect[] EFFECTS = Effect.values();
+    private static final Style NONE = new Style(0);
+
+    private final long BITS;
+    private byte[] prefix;
+    private Style downsampled256;
+    private Style downsampled16;
+
+    private Style(long bits) {
+        this.BITS = bits;
+    }
+
+    /**
+     * Returns the style without colors and effects.
+     * @return  the empty {@code Style}.
+     */
+    public static Style none() {
+        return NONE;
+    }
+
+    /**
+     * Returns the style of the packed value returned by {@link #getBits()}.
+     * @param   bits    the packed style value.
+     * @return  the {@code Style} of the value.
+     * @throws  IllegalArgumentException    if the value does not represent a style.
+     */
+    public static Style ofBits(long bits) {
+        if (bits == 0) {
+            return NONE;
+        }
+
+        if ((bits >>> EFFECT_SHIFT & ~EFFECT_MASK) != 0
+                || !isValidColor(color(bits, FG_SHIFT), FG_COLORS.length)
+                || !isValidColor(color(bits, BG_SHIFT), BG_COLORS.length)) {
+            throw new IllegalArgumentException("Invalid packed style: 0x" + Long.toHexString(bits));
+        }
+
+        return new Style(bits);
+    }
+
+    /**
+     * Returns the packed value of the style.
+     * @return  the style packed into a {@code long}.
+     */
+    public long getBits() {
+        return BITS;
+    }
+
+    /**
+     * Returns the style with the 16-color foreground.
+     * @param   color   Enum of type {@link FGColor}, which represents one of 16 foreground colors.
+     * @return  the {@code Style} with the foreground color.
+     */
+    public Style withFG(@NotNull FGColor color) {
+        return withColor(FG_SHIFT, BASIC_COLOR, color.ordinal());
+    }
+
+    /**
+     * Returns the style with the 8-bit foreground.
+     * @param   color   {@code int} foreground color number of {@code 0..255}.
+     * @return  the {@code Style} with the foreground color.
+     * @throws  IllegalArgumentException    if the color number is out of range.
+     */
+    public Style withFG(int color) {
+        ColorSequences.fg(color);
+        return withColor(FG_SHIFT, INDEXED_COLOR, color);
+    }
+
+    /**
+     * Returns the style with the 24-bit true-color foreground.
+     * @param   red     {@code int} value of the <b>Red</b> component of {@code 0..255}.
+     * @param   green   {@code int} value of the <b>Green</b> component of {@code 0..255}.
+     * @param   blue    {@code int} value of the <b>Blue</b> component of {@code 0..255}.
+     * @return  the {@code Style} with the foreground color.
+     * @throws  IllegalArgumentException    if at least one component is out of range.
+     */
+    public Style withFG(int red, int green, int blue) {
+        return withColor(FG_SHIFT, RGB_COLOR, rgb(red, green, blue));
+    }
+
+    /**
+     * Returns the style with the 24-bit true-color foreground.
+     * @param   color   {@link Color} object, which represents the foreground color.
+     * @return  the {@code Style} with the foreground color.
+     */
+    public Style withFG(@NotNull Color color) {
+        return withColor(FG_SHIFT, RGB_COLOR, color.getRGB() & VALUE_MASK);
+    }
+
+    /**
+     * Returns the style without foreground color.
+     * @return  the {@code Style} without foreground color.
+     */
+    public Style withoutFG() {
+        return withColor(FG_SHIFT, NO_COLOR, 0);
+    }
+
+    /**
+     * Returns the style with the 16-color background.
+     * @param   color   Enum of type {@link BGColor}, which represents one of 16 background colors.
+     * @return  the {@code Style} with the background color.
+     */
+    public Style withBG(@NotNull BGColor color) {
+        return withColor(BG_SHIFT, BASIC_COLOR, color.ordinal());
+    }
+
+    /**
+     * Returns the style with the 8-bit background.
+     * @param   color   {@code int} background color number of {@code 0..255}.
+     * @return  the {@code Style} with the background color.
+     * @throws  IllegalArgumentException    if the color number is out of range.
+     */
+    public Style withBG(int color) {
+        ColorSequences.bg(color);
+        return withColor(BG_SHIFT, INDEXED_COLOR, color);
+    }
+
+    /**
+     * Returns the style with the 24-bit true-color background.
+     * @param   red     {@code int} value of the <b>Red</b> component of {@code 0..255}.
+     * @param   green   {@code int} value of the <b>Green</b> component of {@code 0..255}.
+     * @param   blue    {@code int} value of the <b>Blue</b> component of {@code 0..255}.
+     * @return  the {@code Style} with the background color.
+     * @throws  IllegalArgumentException    if at least one component is out of range.
+     */
+    public Style withBG(int red, int green, int blue) {
+        return withColor(BG_SHIFT, RGB_COLOR, rgb(red, green, blue));
+    }
+
+    /**
+     * Returns the style with the 24-bit true-color background.
+     * @param   color   {@link Color} object, which represents the background color.
+     * @return  the {@code Style} with the background color.
+     */
+    public Style withBG(@NotNull Color color) {
+        return withColor(BG_SHIFT, RGB_COLOR, color.getRGB() & VALUE_MASK);
+    }
+
+    /**
+     * Returns the style without background color.
+     * @return  the {@code Style} without background color.
+     */
+    public Style withoutBG() {
+        return withColor(BG_SHIFT, NO_COLOR, 0);
+    }
+
+    /**
+     * Returns the style with the effects replacing the current ones.
+     * @param   effects Enums of type {@link Effect}, which represent defined text style.
+     *                  Can be passed in separated by comma.
+     * @return  the {@code Style} with the effects.
+     */
+    public Style withEffects(@NotNull Effect ... effects) {
+        return withEffects(EffectSet.of(effects));
+    }
+
+    /**
+     * Returns the style with the effects replacing the current ones.
+     * @param   effects the set of effects.
+     * @return  the {@code Style} with the effects.
+     */
+    public Style withEffects(@NotNull EffectSet effects) {
+        return with(BITS & ~(EFFECT_MASK << EFFECT_SHIFT) | (long) effects.getMask() << EFFECT_SHIFT);
+    }
+
+    /**
+     * Returns the effects of the style.
+     * @return  the {@link EffectSet} of the style.
+     */
+    public EffectSet getEffects() {
+        return EffectSet.ofMask((int) (BITS >>> EFFECT_SHIFT));
+    }
+
+    /**
+     * Returns the style with the colors replaced by the nearest colors of the depth: 24-bit colors
+     * are mapped to the xterm-256 palette, and for {@link ColorDepth#COLORS_16} 8-bit colors are mapped
+     * to the basic colors. The colors are looked up in precomputed tables, and the result is kept by
+     * the style, so downsampling the same style again costs a field read.
+     * @param   depth   the {@link ColorDepth} of the destination.
+     * @return  the downsampled {@code Style}, or {@code this} if all colors fit into the depth.
+     */
+    public Style downsample(@NotNull ColorDepth depth) {
+        Style style;
+
+        switch (depth) {
+            case COLORS_256:
+                style = downsampled256;
+
+                if (style == null) {
+                    style = downsampled256 = downsampleColors(INDEXED_COLOR);
+                }
+
+                return style;
+            case COLORS_16:
+                style = downsampled16;
+
+                if (style == null) {
+                    style = downsampled16 = downsampleColors(BASIC_COLOR);
+                }
+
+                return style;
+            default:
+                return this;
+        }
+    }
+
+    /**
+     * Checks if the style has neither colors nor effects.
+     * @return  {@code true} if the style is empty.
+     */
+    public boolean isEmpty() {
+        return BITS == 0;
+    }
+
+    /**
+     * Returns the sequence of the foreground color, or the empty sequence if the style has no foreground color.
+     */
+    EscapeSequence fgSequence() {
+        int color = color(BITS, FG_SHIFT);
+
+        switch (color >>> MODE_SHIFT) {
+            case BASIC_COLOR:
+                return EscapeSequence.of(FG_COLORS[color & VALUE_MASK]);
+            case INDEXED_COLOR:
+                return ColorSequences.fg(color & VALUE_MASK);
+            case RGB_COLOR:
+                return RgbSequenceCache.foreground().get(color & VALUE_MASK);
+            default:
+                return EscapeSequence.EMPTY;
+        }
+    }
+
+    /**
+     * Returns the sequence of the background color, or the empty sequence if the style has no background color.
+     */
+    EscapeSequence bgSequence() {
+        int color = color(BITS, BG_SHIFT);
+
+        switch (color >>> MODE_SHIFT) {
+            case BASIC_COLOR:
+                return EscapeSequence.of(BG_COLORS[color & VALUE_MASK]);
+            case INDEXED_COLOR:
+                return ColorSequences.bg(color & VALUE_MASK);
+            case RGB_COLOR:
+                return RgbSequenceCache.background().get(color & VALUE_MASK);
+            default:
+                return EscapeSequence.EMPTY;
+        }
+    }
+
+    /**
+     * Returns the merged sequence of the effects, or the empty sequence if the style has no effects.
+     */
+    EscapeSequence effectSequence() {
+        return EscapeSequence.of(getEffects());
+    }
+
+    /**
+     * Returns the packed foreground color: the 2-bit mode above the 24-bit value, {@code 0} if there is none.
+     */
+    int fgColor() {
+        return color(BITS, FG_SHIFT);
+    }
+
+    /**
+     * Returns the packed background color: the 2-bit mode above the 24-bit value, {@code 0} if there is none.
+     */
+    int bgColor() {
+        return color(BITS, BG_SHIFT);
+    }
+
+    /**
+     * Appends the SGR parameters of the packed color, for example {@code 31}, {@code 38;5;196} or
+     * {@code 38;2;255;0;0}. A missing color is appended as the default color parameter {@code 39} or {@code 49}.
+     * @param   sb          the builder to append to.
+     * @param   color       the packed color returned by {@link #fgColor()} or {@link #bgColor()}.
+     * @param   background  {@code true} for a background color.
+     */
+    static void appendColorParameters(StringBuilder sb, int color, boolean background) {
+        int value = color & VALUE_MASK;
+
+        switch (color >>> MODE_SHIFT) {
+            case BASIC_COLOR:
+                sb.append(background ? BG_COLORS[value].getCode() : FG_COLORS[value].getCode());
+                break;
+            case INDEXED_COLOR:
+                sb.append(background ? "48;5;" : "38;5;").append(value);
+                break;
+            case RGB_COLOR:
+                sb.append(background ? "48;2;" : "38;2;")
+                        .append(value >>> 16).append(';')
+                        .append(value >>> 8 & 0xFF).append(';')
+                        .append(value & 0xFF);
+                break;
+            default:
+                sb.append(background ? 49 : 39);
+        }
+    }
+
+    /**
+     * Returns the pre-encoded prefix of the style: one escape sequence with the parameters of the
+     * foreground, the background and the effects, or an empty array for the empty style.
+     * The array is shared, so it must not be modified.
+     */
+    byte[] prefix() {
+        byte[] bytes = prefix;
+
+        if (bytes == null) {
+            bytes = prefix = Prefixes.get(BITS);
+        }
+
+        return bytes;
+    }
+
+    /**
+     * Renders the merged escape sequence of the packed style, for example {@code ESC[38;5;196;48;2;0;0;0;1;3;4m}.
+     */
+    private static byte[] render(long bits) {
+        if (bits == 0) {
+            return new byte[0];
+        }
+
+        StringBuilder sb = new StringBuilder("\u001B[");
+        int fg = color(bits, FG_SHIFT);
+        int bg = color(bits, BG_SHIFT);
+
+        if (fg != 0) {
+            appendColorParameters(sb, fg, false);
+        }
+
+        if (bg != 0) {
+            appendColorParameters(sb.length() > 2 ? sb.append(';') : sb, bg, true);
+        }
+
+        for (int mask = (int) (bits >>> EFFECT_SHIFT); mask != 0; mask &= mask - 1) {
+            (sb.length() > 2 ? sb.append(';') : sb).append(EFFECTS[Integer.numberOfTrailingZeros(mask)].getCode());
+        }
+
+        return sb.append('m').toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Checks the components of the 24-bit color and packs them into {@code 0xRRGGBB}.
+     * @throws  IllegalArgumentException    if at least one component is out of range.
+     */
+    static int rgb(int red, int green, int blue) {
+        if (((red | green | blue) & ~0xFF) != 0) {
+            checkColor(red, green, blue);
+        }
+
+        return red << 16 | green << 8 | blue;
+    }
+
+    private static void checkColor(int r, int g, int b) {
+        String message = "";
+
+        if (r < 0) {
+            message += "\nRed component out of range. Expected: r >= 0, actual: r = " + r;
+        }
+
+        if (r > 255) {
+            message += "\nRed component out of range. Expected: r <= 255, actual: r = " + r;
+        }
+
+        if (g < 0) {
+            message += "\nGreen component out of range. Expected: g >= 0, actual: g = " + g;
+        }
+
+        if (g > 255) {
+            message += "\nGreen component out of range. Expected: g <= 255, actual: g = " + g;
+        }
+
+        if (b < 0) {
+            message += "\nBlue component out of range. Expected: b >= 0, actual: b = " + b;
+        }
+
+        if (b > 255) {
+            message += "\nBlue component out of range. Expected: b <= 255, actual: b = " + b;
+        }
+
+        if (!message.isEmpty()) {
+            throw new IllegalArgumentException("At least one argument is invalid:" + message);
+        }
+    }
+
+    private Style downsampleColors(int maxMode) {
+        long fg = downsample(color(BITS, FG_SHIFT), maxMode);
+        long bg = downsample(color(BITS, BG_SHIFT), maxMode);
+
+        return with(BITS & ~(COLOR_MASK << FG_SHIFT | COLOR_MASK << BG_SHIFT) | fg << FG_SHIFT | bg << BG_SHIFT);
+    }
+
+    /**
+     * Returns the packed color downsampled to the mode, which is {@code INDEXED_COLOR} or {@code BASIC_COLOR}.
+     */
+    private static int downsample(int color, int maxMode) {
+        int mode = color >>> MODE_SHIFT;
+        int value = color & VALUE_MASK;
+
+        if (mode <= maxMode) {
+            return color;
+        }
+
+        if (mode == RGB_COLOR) {
+            value = ColorDownsampler.toIndexed(value);
+
+            if (maxMode == INDEXED_COLOR) {
+                return INDEXED_COLOR << MODE_SHIFT | value;
+            }
+        }
+
+        int basic = ColorDownsampler.toBasic(value);
+
+        // The enums declare the default color between the normal and the bright colors.
+        return BASIC_COLOR << MODE_SHIFT | (basic < 8 ? basic : basic + 1);
+    }
+
+    private Style withColor(int shift, int mode, int value) {
+        return with(BITS & ~(COLOR_MASK << shift) | (long) (mode << MODE_SHIFT | value) << shift);
+    }
+
+    private Style with(long bits) {
+        return bits == BITS ? this : bits == 0 ? NONE : new Style(bits);
+    }
+
+    private static int color(long bits, int shift) {
+        return (int) (bits >>> shift & COLOR_MASK);
+    }
+
+    private static boolean isValidColor(int color, int basicColors) {
+        int value = color & VALUE_MASK;
+
+        switch (color >>> MODE_SHIFT) {
+            case NO_COLOR:
+                return value == 0;
+            case BASIC_COLOR:
+                return value < basicColors;
+            case INDEXED_COLOR:
+                return value < 256;
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * Returns the escape sequence prefix of the style, or an empty string for the empty style.
+     * @return  the escape sequences of the style.
+     */
+    @Override
+    public String toString() {
+        return new String(prefix(), StandardCharsets.US_ASCII);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof Style && BITS == ((Style) o).BITS;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(BITS);
+    }
+
+    /**
+     * Lock-free direct-mapped cache of rendered prefixes, shared by all styles with the same packed
+     * value. An entry is replaced when another style maps to its slot; entries are immutable, so a
+     * reader sees either the old or the new entry.
+     */
+    private static final class Prefixes {
+        private static final Prefixes[] CACHE = new Prefixes[PREFIX_CACHE_SIZE];
+
+        private final long BITS;
+        private final byte[] BYTES;
+
+        private Prefixes(long bits, byte[] bytes) {
+            this.BITS = bits;
+            this.BYTES = bytes;
+        }
+
+        private static byte[] get(long bits) {
+            int slot = (int) (bits * 0x9E3779B97F4A7C15L >>> 52) & PREFIX_CACHE_SIZE - 1;
+            Prefixes entry = CACHE[slot];
+
+            if (entry == null || entry.BITS != bits) {
+                entry = CACHE[slot] = new Prefixes(bits, render(bits));
+            }
+
+            return entry.BYTES;
+        }
+    }
+}
@@ -0,0 +1,761 @@
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The {@code StyledFormat} class is a compiled printf-style format whose placeholders may carry a
+ * style. A placeholder is {@code %}, an optional markup tag in square brackets (see {@link Markup}),
+ * optional flags, width and precision, and a conversion:
+ * <blockquote><pre>
+ *     %s took %[bold red]d ms%n
+ *     %[cyan]-12s %[green]8.2f%%
+ * </pre></blockquote>
+ * The conversions are {@code d} (integers), {@code x} and {@code X} (hexadecimal integers),
+ * {@code f} (numbers, six decimals by default), {@code s} (any value, the precision truncates it),
+ * {@code c} (chars and {@code int} code points) and {@code b} (booleans); {@code %%} and {@code %n}
+ * stand for {@code %} and the line separator. The flags are {@code -} (left-justify), {@code 0} (pad
+ * numbers with zeros) and {@code +} (always print the sign). The width counts terminal columns, as
+ * {@link DisplayWidth} does, so wide characters are aligned too. The text outside placeholders is
+ * printed as is.
+ * <p>
+ * A format is parsed once and kept in a bounded, lock-free, direct-mapped cache of
+ * {@value #DEFAULT_CACHE_CAPACITY} entries by default or of the size set by the
+ * {@code colter.formatCacheCapacity} system property. Arguments are formatted straight into a
+ * reused thread-local buffer, which is written to the sink as one record: integers are appended
+ * digit by digit, and doubles are rounded half-up on the digits of {@link Double#toString(double)},
+ * as {@link java.util.Formatter} does, without intermediate strings. Through {@link Line}, arguments
+ * are passed without boxing, so formatting primitives and char sequences allocates nothing.
+ * <p>
+ *     Examples of using
+ * <blockquote><pre>
+ *     StyledFormat format = StyledFormat.compile("%s took %[bold]d ms%n");
+ *     format.print(ColterSink.stdout(), name, elapsed);
+ *     format.begin(ColterSink.stdout()).arg(name).arg(elapsed).print();
+ *     new Colter().printf("%[green]d%% done%n", percent);
+ * </pre></blockquote>
+ *
+ * @see     Colter#printf(String, Object...)
+ * @see     Markup
+ */
+public final class StyledFormat {
+    public static final int DEFAULT_CACHE_CAPACITY = 256;
+    private static final int BUFFER_SIZE = 256;
+    private static final int RETAINED_SIZE = 64 * 1024;
+    private static final int DEFAULT_PRECISION = 6;
+    private static final byte[] NO_BYTES = new byte[0];
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final ThreadLocal<Line> LINES = new ThreadLocal<>();
+
+    private static final int LEFT = 1;
+    private static final int ZERO = 1 << 1;
+    private static final int PLUS = 1 << 2;
+
+    private final String FORMAT;
+    private final String[] LITERALS;
+    private final Style[] STYLES;
+    private final char[] CONVERSIONS;
+    private final int[] FLAGS;
+    private final int[] WIDTHS;
+    private final int[] PRECISIONS;
+    private final boolean LINE_BREAK;
+
+    private StyledFormat(String format, List<String> literals, List<Style> styles, char[] conversions,
+                         int[] flags, int[] widths, int[] precisions, boolean lineBreak) {
+        this.FORMAT = format;
+        this.LITERALS = literals.toArray(new String[0]);
+        this.STYLES = styles.toArray(new Style[0]);
+        this.CONVERSIONS = conversions;
+        this.FLAGS = flags;
+        this.WIDTHS = widths;
+        this.PRECISIONS = precisions;
+        this.LINE_BREAK = lineBreak;
+    }
+
+    /**
+     * Returns the compiled format, from the cache if it was compiled before.
+     * @param   format  the format string.
+     * @return  the compiled {@code StyledFormat}.
+     * @throws  IllegalArgumentException    if the format is malformed.
+     */
+    public static StyledFormat compile(@NotNull String format) {
+        int hash = format.hashCode();
+        int slot = (hash ^ hash >>> 16) & Cache.ENTRIES.length - 1;
+        StyledFormat compiled = Cache.ENTRIES[slot];
+
+        if (compiled == null || !compiled.FORMAT.equals(format)) {
+            compiled = Cache.ENTRIES[slot] = parse(format);
+        }
+
+        return compiled;
+    }
+
+    /**
+     * Returns the number of placeholders of the format.
+     * @return  the number of arguments the format takes.
+     */
+    public int getArgumentCount() {
+        return STYLES.length;
+    }
+
+    /**
+     * Prints the format with the arguments to the sink, and then sets the console to default.
+     * Primitive arguments are boxed by the call; use {@link #begin(ColterSink)} to avoid it.
+     * @param   sink    the sink to write to.
+     * @param   args    the arguments, one for each placeholder.
+     * @throws  IllegalArgumentException    if the arguments do not match the placeholders.
+     */
+    public void print(@NotNull ColterSink sink, @NotNull Object ... args) {
+        Line line = begin(sink);
+
+        for (Object arg : args) {
+            line.arg(arg);
+        }
+
+        line.print();
+    }
+
+    /**
+     * Prints the format with the arguments to the sink with line break, and then sets the console to default.
+     * @param   sink    the sink to write to.
+     * @param   args    the arguments, one for each placeholder.
+     * @throws  IllegalArgumentException    if the arguments do not match the placeholders.
+     */
+    public void println(@NotNull ColterSink sink, @NotNull Object ... args) {
+        Line line = begin(sink);
+
+        for (Object arg : args) {
+            line.arg(arg);
+        }
+
+        line.println();
+    }
+
+    /**
+     * Starts a line of the format, to which the arguments are then passed one by one without boxing.
+     * The returned {@link Line} is reused by the thread once it is printed, so it must not be kept.
+     * @param   sink    the sink to write to.
+     * @return  the {@code Line} taking the arguments.
+     */
+    public Line begin(@NotNull ColterSink sink) {
+        Line line = LINES.get();
+
+        if (line == null) {
+            line = new Line();
+        } else {
+            LINES.set(null);
+        }
+
+        line.start(this, sink);
+        return line;
+    }
+
+    private static StyledFormat parse(String format) {
+        List<String> literals = new ArrayList<>();
+        List<Style> styles = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        StringBuilder conversions = new StringBuilder();
+        List<int[]> specs = new ArrayList<>();
+        String lineSeparator = System.lineSeparator();
+        int length = format.length();
+        int i = 0;
+
+        while (i < length) {
+            char c = format.charAt(i);
+
+            if (c != '%') {
+                literal.append(c);
+                i++;
+                continue;
+            }
+
+            int start = i++;
+            Style style = Style.none();
+            int flags = 0;
+            int width = 0;
+            int precision = -1;
+
+            if (i < length && format.charAt(i) == '[') {
+                int close = format.indexOf(']', i);
+
+                if (close < 0) {
+                    throw malformed("Unclosed tag", format, start);
+                }
+
+                String tag = format.substring(i + 1, close).trim();
+
+                if (tag.isEmpty()) {
+                    throw malformed("Empty tag", format, start);
+                }
+
+                style = Markup.applyTag(Style.none(), tag, format, start);
+                i = close + 1;
+            }
+
+            for (; i < length; i++) {
+                char flag = format.charAt(i);
+
+                if (flag == '-') {
+                    flags |= LEFT;
+                } else if (flag == '0') {
+                    flags |= ZERO;
+                } else if (flag == '+') {
+                    flags |= PLUS;
+                } else {
+                    break;
+                }
+            }
+
+            for (; i < length && Character.isDigit(format.charAt(i)); i++) {
+                width = Math.min(width * 10 + format.charAt(i) - '0', 0xFFFF);
+            }
+
+            if (i < length && format.charAt(i) == '.') {
+                precision = 0;
+
+                for (i++; i < length && Character.isDigit(format.charAt(i)); i++) {
+                    precision = Math.min(precision * 10 + format.charAt(i) - '0', 0xFFFF);
+                }
+            }
+
+            if (i == length) {
+                throw malformed("Missing conversion", format, start);
+            }
+
+            char conversion = format.charAt(i++);
+
+            if (conversion == '%' || conversion == 'n') {
+                if (i - start != 2) {
+                    throw malformed("Unexpected options of %" + conversion, format, start);
+                }
+
+                literal.append(conversion == '%' ? "%" : lineSeparator);
+                continue;
+            }
+
+            if ("dxXfscb".indexOf(conversion) < 0) {
+                throw malformed("Unknown conversion '" + conversion + "'", format, start);
+            }
+
+            if ((flags & LEFT) != 0 && width == 0) {
+                throw malformed("Missing width", format, start);
+            }
+
+            if ((flags & (ZERO | PLUS)) != 0 && "dxXf".indexOf(conversion) < 0
+                    || (flags & PLUS) != 0 && (conversion == 'x' || conversion == 'X')
+                    || (flags & (LEFT | ZERO)) == (LEFT | ZERO)) {
+                throw malformed("Illegal flags", format, start);
+            }
+
+            if (precision >= 0 && conversion != 'f' && conversion != 's') {
+                throw malformed("Illegal precision", format, start);
+            }
+
+            literals.add(literal.toString());
+            literal.setLength(0);
+            styles.add(style);
+            conversions.append(conversion);
+            specs.add(new int[] {flags, width, precision});
+        }
+
+        boolean lineBreak = literal.length() >= lineSeparator.length()
+                && literal.lastIndexOf(lineSeparator) == literal.length() - lineSeparator.length();
+
+        if (lineBreak) {
+            literal.setLength(literal.length() - lineSeparator.length());
+        }
+
+        literals.add(literal.toString());
+
+        int count = specs.size();
+        int[] flags = new int[count];
+        int[] widths = new int[count];
+        int[] precisions = new int[count];
+
+        for (int j = 0; j < count; j++) {
+            flags[j] = specs.get(j)[0];
+            widths[j] = specs.get(j)[1];
+            precisions[j] = specs.get(j)[2];
+        }
+
+        return new StyledFormat(format, literals, styles, conversions.toString().toCharArray(),
+                flags, widths, precisions, lineBreak);
+    }
+
+    private static IllegalArgumentException malformed(String message, String format, int index) {
+        return new IllegalArgumentException(message + " at index " + index + " of the format: " + format);
+    }
+
+    /**
+     * Returns the format string.
+     * @return  the format the {@code StyledFormat} was compiled from.
+     */
+    @Override
+    public String toString() {
+        return FORMAT;
+    }
+
+    /**
+     * The {@code Line} class takes the arguments of one line of a {@link StyledFormat}, in the order
+     * of the placeholders, and formats each of them into the buffer as soon as it is passed. It is
+     * obtained from {@link StyledFormat#begin(ColterSink)} and is reused by the thread after
+     * {@link #print()} or {@link #println()}.
+     */
+    public static final class Line {
+        private final char[] DIGITS = new char[32];
+        private StringBuilder sb = new StringBuilder(BUFFER_SIZE);
+        private StyledFormat format;
+        private ColterSink sink;
+        private Style previous;
+        private boolean styled;
+        private int index;
+        private int argumentStart;
+
+        private Line() {
+        }
+
+        private void start(StyledFormat format, ColterSink sink) {
+            this.format = format;
+            this.sink = sink;
+            this.previous = Style.none();
+            this.styled = false;
+            this.index = 0;
+            sb.setLength(0);
+            sb.append(format.LITERALS[0]);
+        }
+
+        /**
+         * Passes the next argument.
+         * @param   value   the argument of a {@code d}, {@code x}, {@code f} or {@code s} placeholder,
+         *                  or the code point of a {@code c} placeholder.
+         * @return  this {@code Line}.
+         * @throws  IllegalArgumentException    if the placeholder does not take the argument.
+         */
+        public Line arg(int value) {
+            return arg(value, 0xFFFFFFFFL);
+        }
+
+        /**
+         * Passes the next argument.
+         * @param   value   the argument of a {@code d}, {@code x}, {@code f} or {@code s} placeholder.
+         * @return  this {@code Line}.
+         * @throws  IllegalArgumentException    if the placeholder does not take the argument.
+         */
+        public Line arg(long value) {
+            char conversion = open();
+
+            if (conversion == 'x' || conversion == 'X') {
+                appendHex(value, conversion == 'X');
+            } else {
+                appendLong(value, conversion);
+            }
+
+            return close();
+        }
+
+        /**
+         * Passes the next argument.
+         * @param   value   the argument of a {@code f} or {@code s} placeholder.
+         * @return  this {@code Line}.
+         * @throws  IllegalArgumentException    if the placeholder does not take the argument.
+         */
+        public Line arg(double value) {
+            char conversion = open();
+
+            if (conversion == 'f') {
+                appendFixed(value, precision());
+            } else if (conversion == 's') {
+                sb.append(value);
+            } else {
+                throw mismatch(conversion, "double");
+            }
+
+            return close();
+        }
+
+        /**
+         * Passes the next argument.
+         * @param   value   the argument of a {@code c} or {@code s} placeholder.
+         * @return  this {@code Line}.
+         * @throws  IllegalArgumentException    if the placeholder does not take the argument.
+         */
+        public Line arg(char value) {
+            char conversion = open();
+
+            if (conversion != 'c' && conversion != 's') {
+                throw mismatch(conversion, "char");
+            }
+
+            sb.append(value);
+            return close();
+        }
+
+        /**
+         * Passes the next argument.
+         * @param   value   the argument of a {@code b} or {@code s} placeholder.
+         * @return  this {@code Line}.
+         * @throws  IllegalArgumentException    if the placeholder does not take the argument.
+         */
+        public Line arg(boolean value) {
+            char conversion = open();
+
+            if (conversion != 'b' && conversion != 's') {
+                throw mismatch(conversion, "boolean");
+            }
+
+            sb.append(value);
+            return close();
+        }
+
+        /**
+         * Passes the next argument. Text is appended without being copied to a {@code String}.
+         * @param   value   the argument of a {@code s} placeholder.
+         * @return  this {@code Line}.
+         * @throws  IllegalArgumentException    if the placeholder does not take the argument.
+         */
+        public Line arg(CharSequence value) {
+            char conversion = open();
+
+            if (conversion != 's') {
+                throw mismatch(conversion, "CharSequence");
+            }
+
+            appendText(value == null ? "null" : value);
+            return close();
+        }
+
+        /**
+         * Passes the next argument. Boxed primitives are formatted as their primitive values, as
+         * {@link java.util.Formatter} does: a {@code Float} by its own digits, and a {@code Byte} or
+         * {@code Short} in hexadecimal by its own 8 or 16 bits. Other objects are formatted as
+         * {@link String#valueOf(Object)}.
+         * @param   value   the argument.
+         * @return  this {@code Line}.
+         * @throws  IllegalArgumentException    if the placeholder does not take the argument.
+         */
+        public Line arg(Object value) {
+            if (value instanceof Integer) {
+                return arg(((Integer) value).intValue());
+            } else if (value instanceof Short) {
+                return arg(((Short) value).intValue(), 0xFFFF);
+            } else if (value instanceof Byte) {
+                return arg(((Byte) value).intValue(), 0xFF);
+            } else if (value instanceof Long) {
+                return arg(((Long) value).longValue());
+            } else if (value instanceof Double) {
+                return arg(((Double) value).doubleValue());
+            } else if (value instanceof Float) {
+                return arg(((Float) value).floatValue());
+            } else if (value instanceof Character) {
+                return arg(((Character) value).charValue());
+            } else if (value instanceof Boolean) {
+                return arg(((Boolean) value).booleanValue());
+            } else if (value instanceof CharSequence) {
+                return arg((CharSequence) value);
+            }
+
+            char conversion = open();
+
+            if (conversion == 'b') {
+                sb.append(value != null);
+            } else if (conversion == 's') {
+                appendText(String.valueOf(value));
+            } else {
+                throw mismatch(conversion, value == null ? "null" : value.getClass().getName());
+            }
+
+            return close();
+        }
+
+        /**
+         * Prints the line without line break, unless the format ends with {@code %n}, and then sets the console to default.
+         * @throws  IllegalArgumentException    if not all arguments were passed.
+         */
+        public void print() {
+            finish(format.LINE_BREAK);
+        }
+
+        /**
+         * Prints the line with line break, and then sets the console to default.
+         * @throws  IllegalArgumentException    if not all arguments were passed.
+         */
+        public void println() {
+            finish(true);
+        }
+
+        private void finish(boolean lineBreak) {
+            try {
+                if (index != format.STYLES.length) {
+                    throw new IllegalArgumentException("Wrong number of arguments. Expected: "
+                            + format.STYLES.length + ", actual: " + index);
+                }
+
+                EscapeSequence suffix = styled
+                        ? lineBreak ? EscapeSequence.RESET_LINE_BREAK : EscapeSequence.RESET
+                        : lineBreak ? EscapeSequence.LINE_BREAK : EscapeSequence.EMPTY;
+
+                sink.write(NO_BYTES, sb, suffix.bytes());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                release();
+            }
+        }
+
+        /**
+         * Drops the buffer if it grew too large, and returns the line to the thread for the next format.
+         */
+        private void release() {
+            if (sb.capacity() > RETAINED_SIZE) {
+                sb = new StringBuilder(BUFFER_SIZE);
+            }
+
+            format = null;
+            sink = null;
+            LINES.set(this);
+        }
+
+        /**
+         * Appends the transition to the style of the next placeholder, and returns its conversion.
+         */
+        private char open() {
+            if (format == null) {
+                throw new IllegalStateException("The line was already printed");
+            }
+
+            if (index == format.STYLES.length) {
+                release();
+                throw new IllegalArgumentException("Too many arguments. Expected: " + index);
+            }
+
+            Style style = sink.adapt(format.STYLES[index]);
+            Markup.appendTransition(sb, previous, style);
+            styled |= !style.isEmpty();
+            previous = style;
+            argumentStart = sb.length();
+            return format.CONVERSIONS[index];
+        }
+
+        /**
+         * Pads the formatted argument to its width, and appends the literal which follows it.
+         */
+        private Line close() {
+            int start = argumentStart;
+            int flags = format.FLAGS[index];
+            int padding = format.WIDTHS[index] - DisplayWidth.of(sb, start, sb.length());
+
+            if (padding > 0) {
+                if ((flags & LEFT) != 0) {
+                    for (int i = 0; i < padding; i++) {
+                        sb.append(' ');
+                    }
+                } else {
+                    char c = (flags & ZERO) != 0 ? '0' : ' ';
+                    int at = c == '0' && start < sb.length() && (sb.charAt(start) == '-' || sb.charAt(start) == '+')
+                            ? start + 1 : start;
+
+                    for (int i = 0; i < padding; i++) {
+                        sb.insert(at, c);
+                    }
+                }
+            }
+
+            String literal = format.LITERALS[++index];
+
+            if (!literal.isEmpty()) {
+                Markup.appendTransition(sb, previous, Style.none());
+                previous = Style.none();
+                sb.append(literal);
+            }
+
+            return this;
+        }
+
+        private int precision() {
+            int precision = format.PRECISIONS[index];
+            return precision < 0 ? DEFAULT_PRECISION : precision;
+        }
+
+        private IllegalArgumentException mismatch(char conversion, String type) {
+            int placeholder = index;
+            release();
+            return new IllegalArgumentException("Placeholder " + placeholder + " (%" + conversion
+                    + ") does not take an argument of type " + type);
+        }
+
+        /**
+         * Formats an integer whose hexadecimal form is limited to the bits of the mask, as a byte,
+         * a short or an int.
+         */
+        private Line arg(int value, long hexMask) {
+            char conversion = open();
+
+            if (conversion == 'x' || conversion == 'X') {
+                appendHex(value & hexMask, conversion == 'X');
+            } else if (conversion == 'c') {
+                if (!Character.isValidCodePoint(value)) {
+                    throw mismatch(conversion, "int, invalid code point " + value);
+                }
+
+                sb.appendCodePoint(value);
+            } else {
+                appendLong(value, conversion);
+            }
+
+            return close();
+        }
+
+        /**
+         * Formats a float by the shortest digits of the float itself, not of the wider double.
+         */
+        private Line arg(float value) {
+            char conversion = open();
+
+            if (conversion == 'f') {
+                appendFixed(value, precision());
+            } else if (conversion == 's') {
+                sb.append(value);
+            } else {
+                throw mismatch(conversion, "float");
+            }
+
+            return close();
+        }
+
+        private void appendLong(long value, char conversion) {
+            if (conversion == 'f') {
+                appendFixed(value, precision());
+                return;
+            }
+
+            if (conversion != 'd' && conversion != 's') {
+                throw mismatch(conversion, "integer");
+            }
+
+            if (value >= 0 && (format.FLAGS[index] & PLUS) != 0) {
+                sb.append('+');
+            }
+
+            sb.append(value);
+        }
+
+        private void appendHex(long value, boolean upperCase) {
+            int digits = Math.max(1, (Long.SIZE - Long.numberOfLeadingZeros(value) + 3) >>> 2);
+
+            for (int shift = (digits - 1) << 2; shift >= 0; shift -= 4) {
+                char c = HEX_DIGITS[(int) (value >>> shift) & 0xF];
+                sb.append(upperCase ? Character.toUpperCase(c) : c);
+            }
+        }
+
+        private void appendText(CharSequence text) {
+            int precision = format.PRECISIONS[index];
+            int end = precision >= 0 ? Math.min(precision, text.length()) : text.length();
+            sb.append(text, 0, end);
+        }
+
+        /**
+         * Appends the number with the precision, rounded half-up on the shortest decimal digits
+         * which represent it, as {@code java.util.Formatter} does for {@code %f}.
+         */
+        private void appendFixed(double value, int precision) {
+            if (Double.isNaN(value) || Double.isInfinite(value)) {
+                if (value > 0 && (format.FLAGS[index] & PLUS) != 0) {
+                    sb.append('+');
+                }
+
+                sb.append(value);
+                return;
+            }
+
+            if (Double.doubleToRawLongBits(value) < 0) {
+                sb.append('-');
+                value = -value;
+            } else if ((format.FLAGS[index] & PLUS) != 0) {
+                sb.append('+');
+            }
+
+            // The digits are parsed from the shortest representation, "123.45" or "1.2345E-7",
+            // appended in place and then replaced. DIGITS[0] is kept for a carry out of the first digit.
+            int start = sb.length();
+            sb.append(value);
+
+            int end = sb.length();
+            int count = 0;
+            int point = -1;
+            int exponent = 0;
+
+            for (int i = start; i < end; i++) {
+                char c = sb.charAt(i);
+
+                if (c == '.') {
+                    point = count;
+                } else if (c == 'E') {
+                    boolean negative = sb.charAt(i + 1) == '-';
+
+                    for (int j = negative ? i + 2 : i + 1; j < end; j++) {
+                        exponent = exponent * 10 + sb.charAt(j) - '0';
+                    }
+
+                    exponent = negative ? -exponent : exponent;
+                    break;
+                } else if (count < DIGITS.length - 1) {
+                    DIGITS[1 + count++] = c;
+                }
+            }
+
+            sb.setLength(start);
+            point += exponent;
+
+            int first = 1;
+            int keep = point + precision;
+
+            if (keep < count) {
+                boolean up = keep >= 0 && DIGITS[first + keep] >= '5';
+                count = Math.max(keep, 0);
+
+                if (up) {
+                    int j = first + count - 1;
+
+                    while (j >= first && DIGITS[j] == '9') {
+                        DIGITS[j--] = '0';
+                    }
+
+                    if (j >= first) {
+                        DIGITS[j]++;
+                    } else {
+                        DIGITS[--first] = '1';
+                        count++;
+                        point++;
+                    }
+                }
+            }
+
+            if (point <= 0) {
+                sb.append('0');
+            }
+
+            for (int i = 0; i < point; i++) {
+                sb.append(i < count ? DIGITS[first + i] : '0');
+            }
+
+            if (precision > 0) {
+                sb.append('.');
+
+                for (int i = point; i < point + precision; i++) {
+                    sb.append(i >= 0 && i < count ? DIGITS[first + i] : '0');
+                }
+            }
+        }
+    }
+
+    /**
+     * Lazy holder of the cache of compiled formats.
+     */
+    private static final class Cache {
+        private static final StyledFormat[] ENTRIES = new StyledFormat[Integer.highestOneBit(
+                Math.max(1, Integer.getInteger("colter.formatCacheCapacity", DEFAULT_CACHE_CAPACITY)))];
+    }
+}
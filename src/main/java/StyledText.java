@@ -0,0 +1,570 @@
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The {@code StyledText} class is an editable styled text for views which change a large text
+ * again and again, such as a live console screen. Text can be inserted, deleted and restyled at
+ * any position in {@code O(log n)} expected time, and printing after an edit renders only the
+ * parts of the text which the edit touched.
+ * <p>
+ * The text is a rope: a balanced binary tree (a treap with random priorities) whose nodes each
+ * hold a chunk of at most {@value #MAX_CHUNK} chars printed with one style, so every node is one
+ * style run. An edit splits the tree at the edit positions and joins the parts again, which touches
+ * only the nodes along the paths to those positions. Restyling a range marks the root of its subtree
+ * with the new style, and the mark is pushed to the children only when an edit passes through them.
+ * <p>
+ * Each node of up to {@value #RENDER_CACHE_LIMIT} chars caches the rendered text of its subtree,
+ * with the transitions between its runs embedded, as {@link StyledTextBuilder} renders them. An edit
+ * drops the caches of the nodes on its paths only; printing reuses all other cached fragments and
+ * renders just the transitions between them. The fragments are kept as strings, not bytes, because
+ * each sink encodes the text itself; they belong to the sink the text was last printed to, so printing
+ * to another sink renders the whole text again. The text is not thread-safe.
+ * <p>
+ *     Examples of using
+ * <blockquote><pre>
+ *     StyledText screen = new StyledText();
+ *     screen.append("progress: ", Style.none()).append("42%", Style.none().withFG(FG_GREEN));
+ *     screen.delete(10, 13).insert(10, "43%", Style.none().withFG(FG_GREEN));
+ *     screen.setStyle(0, 8, Style.none().withEffects(BOLD));
+ *     screen.println(ColterSink.stdout());
+ * </pre></blockquote>
+ *
+ * @see     StyledTextBuilder
+ */
+public final class StyledText {
+    public static final int MAX_CHUNK = 1024;
+    public static final int RENDER_CACHE_LIMIT = 16 * 1024;
+    private static final int CHUNK_SIZE = StyledTextBuilder.CHUNK_SIZE;
+    private static final int TRANSITION_CACHE_SIZE = 256;
+    private static final byte[] NO_BYTES = new byte[0];
+
+    private final Map<Style, Rendition> RENDITIONS = new HashMap<>();
+    private final long[] CACHED_FROM = new long[TRANSITION_CACHE_SIZE];
+    private final long[] CACHED_TO = new long[TRANSITION_CACHE_SIZE];
+    private final String[] CACHED_TRANSITIONS = new String[TRANSITION_CACHE_SIZE];
+    private Node root;
+    private ColterSink renderedFor;
+    private int generation;
+
+    /**
+     * Returns the number of chars of the text.
+     * @return  the length of the text, without escape sequences.
+     */
+    public int length() {
+        return size(root);
+    }
+
+    /**
+     * Returns the char at the index.
+     * @param   index   the index of the char.
+     * @return  the char.
+     * @throws  IndexOutOfBoundsException   if the index is out of the text bounds.
+     */
+    public char charAt(int index) {
+        checkIndex(index);
+        Node node = root;
+
+        while (true) {
+            int left = size(node.left);
+
+            if (index < left) {
+                node = node.left;
+            } else if (index < left + node.text.length()) {
+                return node.text.charAt(index - left);
+            } else {
+                index -= left + node.text.length();
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Returns the style of the char at the index.
+     * @param   index   the index of the char.
+     * @return  the {@link Style} of the char.
+     * @throws  IndexOutOfBoundsException   if the index is out of the text bounds.
+     */
+    public Style getStyle(int index) {
+        checkIndex(index);
+        Node node = root;
+
+        while (node.restyle == null) {
+            int left = size(node.left);
+
+            if (index < left) {
+                node = node.left;
+            } else if (index < left + node.text.length()) {
+                return node.style;
+            } else {
+                index -= left + node.text.length();
+                node = node.right;
+            }
+        }
+
+        return node.restyle;
+    }
+
+    /**
+     * Returns the text without styles.
+     * @return  the plain text.
+     */
+    public String getText() {
+        StringBuilder sb = new StringBuilder(length());
+        appendText(root, sb);
+        return sb.toString();
+    }
+
+    /**
+     * Appends the text with the style at the end.
+     * @param   text    the text to append.
+     * @param   style   the {@link Style} of the text.
+     * @return  this {@code StyledText}.
+     */
+    public StyledText append(@NotNull CharSequence text, @NotNull Style style) {
+        return insert(length(), text, style);
+    }
+
+    /**
+     * Inserts the text with the style at the index.
+     * @param   index   the index the first inserted char gets.
+     * @param   text    the text to insert.
+     * @param   style   the {@link Style} of the text.
+     * @return  this {@code StyledText}.
+     * @throws  IndexOutOfBoundsException   if the index is out of the text bounds.
+     */
+    public StyledText insert(int index, @NotNull CharSequence text, @NotNull Style style) {
+        if (index < 0 || index > length()) {
+            throw new IndexOutOfBoundsException("Index out of bounds. Expected: 0 <= index <= "
+                    + length() + ", actual: " + index);
+        }
+
+        Node inserted = null;
+
+        for (int start = 0; start < text.length(); start += MAX_CHUNK) {
+            String chunk = text.subSequence(start, Math.min(start + MAX_CHUNK, text.length())).toString();
+            inserted = merge(inserted, new Node(chunk, style, ThreadLocalRandom.current().nextInt()));
+        }
+
+        if (inserted != null) {
+            Node[] parts = split(root, index);
+            root = merge(merge(parts[0], inserted), parts[1]);
+        }
+
+        return this;
+    }
+
+    /**
+     * Deletes the range of the text.
+     * @param   start   the index of the first char to delete.
+     * @param   end     the index after the last char to delete.
+     * @return  this {@code StyledText}.
+     * @throws  IndexOutOfBoundsException   if the range is out of the text bounds.
+     */
+    public StyledText delete(int start, int end) {
+        checkRange(start, end);
+        Node[] head = split(root, start);
+        Node[] tail = split(head[1], end - start);
+        root = merge(head[0], tail[1]);
+        return this;
+    }
+
+    /**
+     * Sets the style of the range of the text.
+     * @param   start   the index of the first char to restyle.
+     * @param   end     the index after the last char to restyle.
+     * @param   style   the new {@link Style} of the range.
+     * @return  this {@code StyledText}.
+     * @throws  IndexOutOfBoundsException   if the range is out of the text bounds.
+     */
+    public StyledText setStyle(int start, int end, @NotNull Style style) {
+        checkRange(start, end);
+        Node[] head = split(root, start);
+        Node[] tail = split(head[1], end - start);
+        restyle(tail[0], style);
+        root = merge(merge(head[0], tail[0]), tail[1]);
+        return this;
+    }
+
+    /**
+     * Prints the text to the sink without line break, and then sets the console to default.
+     * @param   sink    the sink to write to.
+     */
+    public void print(@NotNull ColterSink sink) {
+        print(sink, false);
+    }
+
+    /**
+     * Prints the text to the sink with line break, and then sets the console to default.
+     * @param   sink    the sink to write to.
+     */
+    public void println(@NotNull ColterSink sink) {
+        print(sink, true);
+    }
+
+    private void print(ColterSink sink, boolean lineBreak) {
+        Output out = new Output(sink);
+
+        try {
+            render(out, sink);
+            EscapeSequence suffix = out.styled
+                    ? lineBreak ? EscapeSequence.RESET_LINE_BREAK : EscapeSequence.RESET
+                    : lineBreak ? EscapeSequence.LINE_BREAK : EscapeSequence.EMPTY;
+
+            sink.write(NO_BYTES, out.BUFFER, suffix.bytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the text with the escape sequences of its styles, not adapted to any terminal, and a
+     * reset at the end if the text ends styled.
+     * @return  the rendered text.
+     */
+    @Override
+    public String toString() {
+        Output out = new Output(null);
+
+        try {
+            if (render(out, null)) {
+                out.BUFFER.append(EscapeSequence.RESET.toString());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return out.BUFFER.toString();
+    }
+
+    /**
+     * Renders the whole text into the output, and returns {@code true} if it ends styled. The cached
+     * fragments are kept if the text was last rendered for the same sink, and dropped otherwise.
+     */
+    private boolean render(Output out, ColterSink sink) throws IOException {
+        if (root == null) {
+            return false;
+        }
+
+        if (sink != renderedFor) {
+            renderedFor = sink;
+            generation++;
+            RENDITIONS.clear();
+            Arrays.fill(CACHED_TRANSITIONS, null);
+        }
+
+        out.appendTransition(transition(Style.none(), root.first));
+        emit(root, out);
+        return rendition(root.last).STATE != 0;
+    }
+
+    /**
+     * Writes the rendered subtree, without the transition to its first run, using the cached fragments.
+     */
+    private void emit(Node node, Output out) throws IOException {
+        if (node == null) {
+            return;
+        }
+
+        if (node.length <= RENDER_CACHE_LIMIT) {
+            out.append(fragment(node));
+            out.styled |= node.transitions;
+        } else if (node.restyle != null) {
+            emitText(node, out);
+        } else {
+            emit(node.left, out);
+            out.appendTransition(transition(node.left, node.style));
+            out.append(node.text);
+            out.appendTransition(transition(node.style, node.right));
+            emit(node.right, out);
+        }
+    }
+
+    private void emitText(Node node, Output out) throws IOException {
+        if (node != null) {
+            emitText(node.left, out);
+            out.append(node.text);
+            emitText(node.right, out);
+        }
+    }
+
+    /**
+     * Returns the rendered subtree, without the transition to its first run, from the cache or
+     * rendered from the fragments of the children and cached.
+     */
+    private String fragment(Node node) {
+        if (node.generation != generation || node.rendered == null) {
+            StringBuilder sb = new StringBuilder(node.length + 16);
+            boolean transitions = false;
+
+            if (node.restyle != null) {
+                appendText(node, sb);
+            } else {
+                if (node.left != null) {
+                    String transition = transition(node.left, node.style);
+                    sb.append(fragment(node.left)).append(transition);
+                    transitions = node.left.transitions || !transition.isEmpty();
+                }
+
+                sb.append(node.text);
+
+                if (node.right != null) {
+                    String transition = transition(node.style, node.right);
+                    sb.append(transition).append(fragment(node.right));
+                    transitions |= node.right.transitions || !transition.isEmpty();
+                }
+            }
+
+            node.rendered = sb.toString();
+            node.transitions = transitions;
+            node.generation = generation;
+        }
+
+        return node.rendered;
+    }
+
+    private String transition(Node left, Style style) {
+        return left == null ? "" : transition(left.last, style);
+    }
+
+    private String transition(Style style, Node right) {
+        return right == null ? "" : transition(style, right.first);
+    }
+
+    /**
+     * Returns the escape sequence between two adjacent runs, as the sink renders their styles.
+     */
+    private String transition(Style fromStyle, Style toStyle) {
+        Rendition to = rendition(toStyle);
+        long from = rendition(fromStyle).STATE;
+
+        if (from == to.STATE) {
+            return "";
+        }
+
+        int slot = (int) ((from * 31 + to.STATE) * 0x9E3779B97F4A7C15L >>> 56) & TRANSITION_CACHE_SIZE - 1;
+
+        if (CACHED_TRANSITIONS[slot] == null || CACHED_FROM[slot] != from || CACHED_TO[slot] != to.STATE) {
+            CACHED_FROM[slot] = from;
+            CACHED_TO[slot] = to.STATE;
+            CACHED_TRANSITIONS[slot] = new String(StyledTextBuilder.transition(from, to.STATE, to.PREFIX),
+                    StandardCharsets.US_ASCII);
+        }
+
+        return CACHED_TRANSITIONS[slot];
+    }
+
+    private Rendition rendition(Style style) {
+        Rendition rendition = RENDITIONS.get(style);
+
+        if (rendition == null) {
+            Style adapted = renderedFor != null ? renderedFor.adapt(style) : style;
+            rendition = new Rendition(TerminalStateSink.apply(0, adapted), adapted.prefix());
+            RENDITIONS.put(style, rendition);
+        }
+
+        return rendition;
+    }
+
+    private static void appendText(Node node, StringBuilder sb) {
+        if (node != null) {
+            appendText(node.left, sb);
+            sb.append(node.text);
+            appendText(node.right, sb);
+        }
+    }
+
+    /**
+     * Splits the tree into the first {@code index} chars and the rest. A node holding the split
+     * position is cut into two nodes with its priority, so the heap order is kept.
+     */
+    private static Node[] split(Node node, int index) {
+        if (node == null) {
+            return new Node[2];
+        }
+
+        pushRestyle(node);
+        int left = size(node.left);
+        int own = node.text.length();
+
+        if (index <= left) {
+            Node[] parts = split(node.left, index);
+            node.left = parts[1];
+            node.update();
+            parts[1] = node;
+            return parts;
+        }
+
+        if (index >= left + own) {
+            Node[] parts = split(node.right, index - left - own);
+            node.right = parts[0];
+            node.update();
+            parts[0] = node;
+            return parts;
+        }
+
+        int cut = index - left;
+        Node tail = new Node(node.text.substring(cut), node.style, node.PRIORITY);
+        tail.right = node.right;
+        tail.update();
+        node.text = node.text.substring(0, cut);
+        node.right = null;
+        node.update();
+        return new Node[] {node, tail};
+    }
+
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+
+        if (right == null) {
+            return left;
+        }
+
+        if (left.PRIORITY > right.PRIORITY) {
+            pushRestyle(left);
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+
+        pushRestyle(right);
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    /**
+     * Marks the whole subtree with the style. Its rendered fragment is the plain text from now on.
+     */
+    private static void restyle(Node node, Style style) {
+        if (node != null) {
+            node.restyle = style;
+            node.style = style;
+            node.first = style;
+            node.last = style;
+            node.rendered = null;
+        }
+    }
+
+    /**
+     * Passes the style mark of the node on to its children before the node is changed. The rendered
+     * fragment of the node stays valid, as the styles of its chars do not change.
+     */
+    private static void pushRestyle(Node node) {
+        if (node.restyle != null) {
+            restyle(node.left, node.restyle);
+            restyle(node.right, node.restyle);
+            node.restyle = null;
+        }
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.length;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= length()) {
+            throw new IndexOutOfBoundsException("Index out of bounds. Expected: 0 <= index < "
+                    + length() + ", actual: " + index);
+        }
+    }
+
+    private void checkRange(int start, int end) {
+        if (start < 0 || start > end || end > length()) {
+            throw new IndexOutOfBoundsException("Range out of bounds. Expected: 0 <= start <= end <= "
+                    + length() + ", actual: start = " + start + ", end = " + end);
+        }
+    }
+
+    /**
+     * One run of the text and the root of a subtree, with the length and the first and last styles
+     * of the subtree, and its rendered fragment of the given generation.
+     */
+    private static final class Node {
+        private final int PRIORITY;
+        private String text;
+        private Style style;
+        private Node left;
+        private Node right;
+        private int length;
+        private Style first;
+        private Style last;
+        private Style restyle;
+        private String rendered;
+        private boolean transitions;
+        private int generation;
+
+        private Node(String text, Style style, int priority) {
+            this.PRIORITY = priority;
+            this.text = text;
+            this.style = style;
+            update();
+        }
+
+        /**
+         * Recomputes the summary of the subtree after its children or its run changed, and drops the rendered fragment.
+         */
+        private void update() {
+            length = size(left) + text.length() + size(right);
+            first = left != null ? left.first : style;
+            last = right != null ? right.last : style;
+            rendered = null;
+        }
+    }
+
+    /**
+     * The state and the prefix of a style as the sink renders it.
+     */
+    private static final class Rendition {
+        private final long STATE;
+        private final byte[] PREFIX;
+
+        private Rendition(long state, byte[] prefix) {
+            this.STATE = state;
+            this.PREFIX = prefix;
+        }
+    }
+
+    /**
+     * The buffer of the rendered text, written to the sink in chunks; large fragments are written directly.
+     * Remembers if any escape sequence was written, so the text is followed by a reset.
+     */
+    private static final class Output {
+        private final StringBuilder BUFFER = new StringBuilder();
+        private final ColterSink SINK;
+        private boolean styled;
+
+        private Output(ColterSink sink) {
+            this.SINK = sink;
+        }
+
+        private void append(CharSequence text) throws IOException {
+            if (SINK != null && BUFFER.length() + text.length() > CHUNK_SIZE) {
+                SINK.write(NO_BYTES, BUFFER, NO_BYTES);
+                BUFFER.setLength(0);
+
+                if (text.length() > CHUNK_SIZE) {
+                    SINK.write(NO_BYTES, text, NO_BYTES);
+                    return;
+                }
+            }
+
+            BUFFER.append(text);
+        }
+
+        private void appendTransition(String transition) throws IOException {
+            if (!transition.isEmpty()) {
+                styled = true;
+                append(transition);
+            }
+        }
+    }
+}
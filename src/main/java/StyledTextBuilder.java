@@ -0,0 +1,400 @@
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The {@code StyledTextBuilder} class builds a text whose parts have different styles, for example
+ * a multi-colored line or a whole report, and prints it with the fewest escape sequences.
+ * <p>
+ * The text is kept in one growing {@code char} array, and the styles as run-length encoded runs:
+ * two {@code int} arrays with the end of each run and the index of its style in a palette of the
+ * distinct styles used. Text appended with the style of the last run extends that run, so adjacent
+ * parts of the same style are merged as they are appended. No object is created per appended part,
+ * and a text of millions of chars with any number of runs takes about two bytes per char plus eight
+ * bytes per run.
+ * <p>
+ * Printing walks the runs once. Each style of the palette is adapted to the sink once, and between
+ * two runs only the change is written: the attributes turned off, the colors changed and the
+ * attributes turned on, as {@link ColterSink#tracking(ColterSink)} does, or a reset if it is shorter.
+ * The text is written in chunks of up to {@value #CHUNK_SIZE} chars with the transitions embedded,
+ * and the last chunk resets the console if any escape sequence was written, so a sink which tracks
+ * the terminal state knows the state after the text. The builder is not thread-safe.
+ * <p>
+ *     Examples of using
+ * <blockquote><pre>
+ *     Style error = Style.none().withFG(FG_RED).withEffects(BOLD);
+ *     new StyledTextBuilder()
+ *             .append("build ")
+ *             .append("failed", error)
+ *             .append(": 3 errors")
+ *             .println(ColterSink.stdout());
+ * </pre></blockquote>
+ *
+ * @see     Style
+ * @see     Markup
+ */
+public final class StyledTextBuilder {
+    public static final int CHUNK_SIZE = 8192;
+    private static final int DEFAULT_CAPACITY = 64;
+    private static final int DEFAULT_RUNS = 8;
+    private static final int TRANSITION_CACHE_SIZE = 256;
+    private static final byte[] NO_BYTES = new byte[0];
+    private static final int STYLED = 1;
+    private static final int ENDS_STYLED = 2;
+
+    private final Map<Style, Integer> PALETTE_INDEX = new HashMap<>();
+    private char[] chars;
+    private int length;
+    private int[] runEnds = new int[DEFAULT_RUNS];
+    private int[] runStyles = new int[DEFAULT_RUNS];
+    private int runCount;
+    private Style[] palette = new Style[DEFAULT_RUNS];
+    private int paletteSize;
+
+    /**
+     * Creates an empty builder.
+     */
+    public StyledTextBuilder() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty builder with room for the number of chars.
+     * @param   capacity    the initial capacity of the text.
+     * @throws  IllegalArgumentException    if the capacity is negative.
+     */
+    public StyledTextBuilder(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Negative capacity: " + capacity);
+        }
+
+        this.chars = new char[capacity];
+    }
+
+    /**
+     * Appends the text without style.
+     * @param   text    the text to append.
+     * @return  this {@code StyledTextBuilder}.
+     */
+    public StyledTextBuilder append(@NotNull CharSequence text) {
+        return append(text, 0, text.length(), Style.none());
+    }
+
+    /**
+     * Appends the text with the style.
+     * @param   text    the text to append.
+     * @param   style   the {@link Style} of the text.
+     * @return  this {@code StyledTextBuilder}.
+     */
+    public StyledTextBuilder append(@NotNull CharSequence text, @NotNull Style style) {
+        return append(text, 0, text.length(), style);
+    }
+
+    /**
+     * Appends the range of the text with the style.
+     * @param   text    the text holding the range.
+     * @param   start   the index of the first char to append.
+     * @param   end     the index after the last char to append.
+     * @param   style   the {@link Style} of the range.
+     * @return  this {@code StyledTextBuilder}.
+     * @throws  IndexOutOfBoundsException   if the range is out of the text bounds.
+     */
+    public StyledTextBuilder append(@NotNull CharSequence text, int start, int end, @NotNull Style style) {
+        if (start < 0 || start > end || end > text.length()) {
+            throw new IndexOutOfBoundsException("Range out of bounds. Expected: 0 <= start <= end <= "
+                    + text.length() + ", actual: start = " + start + ", end = " + end);
+        }
+
+        int count = end - start;
+        ensureCapacity(count);
+
+        if (text instanceof String) {
+            ((String) text).getChars(start, end, chars, length);
+        } else if (text instanceof StringBuilder) {
+            ((StringBuilder) text).getChars(start, end, chars, length);
+        } else {
+            for (int i = 0; i < count; i++) {
+                chars[length + i] = text.charAt(start + i);
+            }
+        }
+
+        return addRun(count, style);
+    }
+
+    /**
+     * Appends the slice of the char array with the style.
+     * @param   chars   the array holding the text.
+     * @param   offset  the index of the first char to append.
+     * @param   length  the number of chars to append.
+     * @param   style   the {@link Style} of the text.
+     * @return  this {@code StyledTextBuilder}.
+     * @throws  IndexOutOfBoundsException   if the slice is out of the array bounds.
+     */
+    public StyledTextBuilder append(@NotNull char[] chars, int offset, int length, @NotNull Style style) {
+        if ((offset | length | chars.length - offset - length) < 0) {
+            throw new IndexOutOfBoundsException("Range out of bounds. Expected: 0 <= offset <= offset + length <= "
+                    + chars.length + ", actual: offset = " + offset + ", length = " + length);
+        }
+
+        ensureCapacity(length);
+        System.arraycopy(chars, offset, this.chars, this.length, length);
+        return addRun(length, style);
+    }
+
+    /**
+     * Appends the char with the style.
+     * @param   c       the char to append.
+     * @param   style   the {@link Style} of the char.
+     * @return  this {@code StyledTextBuilder}.
+     */
+    public StyledTextBuilder append(char c, @NotNull Style style) {
+        ensureCapacity(1);
+        chars[length] = c;
+        return addRun(1, style);
+    }
+
+    /**
+     * Returns the number of chars of the text.
+     * @return  the length of the text, without escape sequences.
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Returns the number of runs of the text, each one a maximal range of chars with the same style.
+     * @return  the number of runs.
+     */
+    public int getRunCount() {
+        return runCount;
+    }
+
+    /**
+     * Returns the style of the char at the index.
+     * @param   index   the index of the char.
+     * @return  the {@link Style} of the char.
+     * @throws  IndexOutOfBoundsException   if the index is out of the text bounds.
+     */
+    public Style getStyle(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index out of bounds. Expected: 0 <= index < "
+                    + length + ", actual: " + index);
+        }
+
+        int run = Arrays.binarySearch(runEnds, 0, runCount, index + 1);
+        return palette[runStyles[run >= 0 ? run : -run - 1]];
+    }
+
+    /**
+     * Returns the text without styles.
+     * @return  the plain text.
+     */
+    public String getText() {
+        return new String(chars, 0, length);
+    }
+
+    /**
+     * Removes the text, the runs and the styles, keeping the allocated arrays for reuse.
+     * @return  this {@code StyledTextBuilder}.
+     */
+    public StyledTextBuilder clear() {
+        length = 0;
+        runCount = 0;
+        Arrays.fill(palette, 0, paletteSize, null);
+        paletteSize = 0;
+        PALETTE_INDEX.clear();
+        return this;
+    }
+
+    /**
+     * Prints the text to the sink without line break, and then sets the console to default.
+     * @param   sink    the sink to write to.
+     */
+    public void print(@NotNull ColterSink sink) {
+        render(sink, false);
+    }
+
+    /**
+     * Prints the text to the sink with line break, and then sets the console to default.
+     * @param   sink    the sink to write to.
+     */
+    public void println(@NotNull ColterSink sink) {
+        render(sink, true);
+    }
+
+    private void ensureCapacity(int count) {
+        int required = length + count;
+
+        if (required < 0) {
+            throw new OutOfMemoryError("Text too long: " + length + " + " + count);
+        }
+
+        if (required > chars.length) {
+            chars = Arrays.copyOf(chars, Math.max(required, (int) Math.min(2L * chars.length, Integer.MAX_VALUE - 8)));
+        }
+    }
+
+    /**
+     * Records the chars appended at the end of the text as a run of the style, merged with the last run if it has the same style.
+     */
+    private StyledTextBuilder addRun(int count, Style style) {
+        if (count == 0) {
+            return this;
+        }
+
+        length += count;
+
+        if (runCount > 0 && palette[runStyles[runCount - 1]].equals(style)) {
+            runEnds[runCount - 1] = length;
+            return this;
+        }
+
+        if (runCount == runEnds.length) {
+            runEnds = Arrays.copyOf(runEnds, runCount * 2);
+            runStyles = Arrays.copyOf(runStyles, runCount * 2);
+        }
+
+        runEnds[runCount] = length;
+        runStyles[runCount++] = paletteIndex(style);
+        return this;
+    }
+
+    private int paletteIndex(Style style) {
+        Integer index = PALETTE_INDEX.get(style);
+
+        if (index != null) {
+            return index;
+        }
+
+        if (paletteSize == palette.length) {
+            palette = Arrays.copyOf(palette, paletteSize * 2);
+        }
+
+        palette[paletteSize] = style;
+        PALETTE_INDEX.put(style, paletteSize);
+        return paletteSize++;
+    }
+
+    private void render(ColterSink sink, boolean lineBreak) {
+        StringBuilder sb = new StringBuilder(Math.min(length, CHUNK_SIZE) + 64);
+
+        try {
+            EscapeSequence suffix = (render(sb, sink) & STYLED) != 0
+                    ? lineBreak ? EscapeSequence.RESET_LINE_BREAK : EscapeSequence.RESET
+                    : lineBreak ? EscapeSequence.LINE_BREAK : EscapeSequence.EMPTY;
+
+            sink.write(NO_BYTES, sb, suffix.bytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Appends the runs with the transitions between their styles, as the sink renders them, and writes
+     * each full chunk to the sink. Returns the {@code STYLED} flag if any transition was appended and
+     * the {@code ENDS_STYLED} flag if the text ends styled. Without a sink, the styles are not adapted
+     * and nothing is written.
+     */
+    private int render(StringBuilder sb, ColterSink sink) throws IOException {
+        long[] states = new long[paletteSize];
+        byte[][] prefixes = new byte[paletteSize][];
+
+        for (int i = 0; i < paletteSize; i++) {
+            Style style = sink != null ? sink.adapt(palette[i]) : palette[i];
+            states[i] = TerminalStateSink.apply(0, style);
+            prefixes[i] = style.prefix();
+        }
+
+        int chunkSize = sink != null ? CHUNK_SIZE : Integer.MAX_VALUE;
+        long[] cachedKeys = new long[TRANSITION_CACHE_SIZE];
+        byte[][] cachedTransitions = new byte[TRANSITION_CACHE_SIZE][];
+        int previous = -1;
+        int start = 0;
+        int flags = 0;
+
+        for (int run = 0; run < runCount; run++) {
+            int current = runStyles[run];
+            long from = previous < 0 ? 0 : states[previous];
+            long to = states[current];
+
+            if (from != to) {
+                long key = (long) previous << 32 | current;
+                int slot = (int) (key * 0x9E3779B97F4A7C15L >>> 56) & TRANSITION_CACHE_SIZE - 1;
+
+                if (cachedTransitions[slot] == null || cachedKeys[slot] != key) {
+                    cachedKeys[slot] = key;
+                    cachedTransitions[slot] = transition(from, to, prefixes[current]);
+                }
+
+                for (byte b : cachedTransitions[slot]) {
+                    sb.append((char) b);
+                }
+
+                flags = STYLED;
+            }
+
+            previous = current;
+
+            for (int end = runEnds[run]; start < end; ) {
+                int count = Math.min(end - start, chunkSize - sb.length());
+
+                if (count <= 0) {
+                    sink.write(NO_BYTES, sb, NO_BYTES);
+                    sb.setLength(0);
+                    continue;
+                }
+
+                sb.append(chars, start, count);
+                start += count;
+            }
+        }
+
+        return previous >= 0 && states[previous] != 0 ? flags | ENDS_STYLED : flags;
+    }
+
+    /**
+     * Returns the shortest escape sequence from the state to the state of the style: the change of
+     * the attributes and colors, or a reset followed by the prefix of the style.
+     */
+    static byte[] transition(long from, long to, byte[] prefix) {
+        byte[] reset = EscapeSequence.RESET.bytes();
+
+        if (to == 0) {
+            return reset;
+        }
+
+        byte[] change = TerminalStateSink.buildTransition(from, to);
+
+        if (reset.length + prefix.length >= change.length) {
+            return change;
+        }
+
+        byte[] restart = Arrays.copyOf(reset, reset.length + prefix.length);
+        System.arraycopy(prefix, 0, restart, reset.length, prefix.length);
+        return restart;
+    }
+
+    /**
+     * Returns the text with the escape sequences of its styles, not adapted to any terminal, and a
+     * reset at the end if the text ends styled.
+     * @return  the rendered text.
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(length + 16 * runCount);
+
+        try {
+            if ((render(sb, null) & ENDS_STYLED) != 0) {
+                sb.append(EscapeSequence.RESET.toString());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return sb.toString();
+    }
+}
@@ -0,0 +1,338 @@
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The {@code StyledWriter} class prints primitive values with a {@link Style} without boxing them
+ * and without creating strings. Each value is written as ASCII digits into a reusable byte buffer
+ * right after the pre-encoded style prefix, followed by the suffix, and the buffer is passed to the
+ * sink with a single {@code write()} call. Once the buffer has grown to fit the style, printing
+ * {@code int}, {@code long}, {@code double} and ASCII {@code char} values allocates nothing.
+ * <p>
+ * The prefix is rendered once per style from the style as the sink renders it, so colors are
+ * downsampled, or dropped for a plain sink, before they are copied into the records.
+ * <p>
+ * {@code double} values are written in fixed-point notation with the given number of fraction
+ * digits, rounded half up. Values which do not fit into a {@code long} at that precision, as well
+ * as {@code NaN} and infinities, fall back to {@link Double#toString(double)}. Non-ASCII chars are
+ * encoded by the sink, so they are not allocation-free either.
+ * <p>
+ * The writer keeps its buffer between calls and is not thread-safe: use one writer per thread.
+ * <p>
+ *     Examples of using
+ * <blockquote><pre>
+ *     StyledWriter ticker = new Colter(FG_GREEN).writer();
+ *     ticker.println(requests);
+ *     ticker.printlnAndReset(latency, 3);
+ * </pre></blockquote>
+ *
+ * @see     Colter#writer()
+ */
+@SuppressWarnings("unused")
+public final class StyledWriter {
+    private static final int MAX_DIGITS = 20;
+    private static final int MAX_PRECISION = 15;
+    private static final long[] POWERS_OF_TEN = new long[MAX_PRECISION + 1];
+    private static final byte[] MIN_LONG = Long.toString(Long.MIN_VALUE).getBytes(StandardCharsets.US_ASCII);
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private final ColterSink SINK;
+    private Style style;
+    private Style adapted;
+    private byte[] prefix;
+    private byte[] buffer;
+    private int size;
+
+    /**
+     * Creates a writer which prints with the style to the sink.
+     * @param   sink    the {@link ColterSink} the output is written to.
+     * @param   style   the {@link Style} the values are printed with.
+     */
+    public StyledWriter(@NotNull ColterSink sink, @NotNull Style style) {
+        this.SINK = sink;
+        setStyle(style);
+    }
+
+    /**
+     * Returns the style the values are printed with.
+     * @return  the current {@link Style}.
+     */
+    public Style getStyle() {
+        return style;
+    }
+
+    /**
+     * Sets the style the values are printed with.
+     * Returns this {@code StyledWriter} object to allow method chaining.
+     * @param   style   the {@link Style} which will be set.
+     * @return  {@code this}
+     */
+    public StyledWriter setStyle(@NotNull Style style) {
+        Style adapted = SINK.adapt(style);
+        byte[] prefix = adapted.prefix();
+        int capacity = prefix.length + MAX_DIGITS + MAX_PRECISION + 2 + EscapeSequence.RESET_LINE_BREAK.length();
+
+        if (buffer == null || buffer.length < capacity) {
+            buffer = new byte[capacity];
+        }
+
+        this.style = style;
+        this.adapted = adapted;
+        this.prefix = prefix;
+        return this;
+    }
+
+    /**
+     * Prints the value with the style without line break.
+     * @param   value   the value to print.
+     */
+    public void print(int value) {
+        print((long) value);
+    }
+
+    /**
+     * Prints the value with the style without line break, and then sets the console to default.
+     * @param   value   the value to print.
+     */
+    public void printAndReset(int value) {
+        printAndReset((long) value);
+    }
+
+    /**
+     * Prints the value with the style with line break.
+     * @param   value   the value to print.
+     */
+    public void println(int value) {
+        println((long) value);
+    }
+
+    /**
+     * Prints the value with the style with line break, and then sets the console to default.
+     * @param   value   the value to print.
+     */
+    public void printlnAndReset(int value) {
+        printlnAndReset((long) value);
+    }
+
+    /**
+     * Prints the value with the style without line break.
+     * @param   value   the value to print.
+     */
+    public void print(long value) {
+        startRecord();
+        putLong(value);
+        endRecord(EscapeSequence.EMPTY);
+    }
+
+    /**
+     * Prints the value with the style without line break, and then sets the console to default.
+     * @param   value   the value to print.
+     */
+    public void printAndReset(long value) {
+        startRecord();
+        putLong(value);
+        endRecord(EscapeSequence.RESET);
+    }
+
+    /**
+     * Prints the value with the style with line break.
+     * @param   value   the value to print.
+     */
+    public void println(long value) {
+        startRecord();
+        putLong(value);
+        endRecord(EscapeSequence.LINE_BREAK);
+    }
+
+    /**
+     * Prints the value with the style with line break, and then sets the console to default.
+     * @param   value   the value to print.
+     */
+    public void printlnAndReset(long value) {
+        startRecord();
+        putLong(value);
+        endRecord(EscapeSequence.RESET_LINE_BREAK);
+    }
+
+    /**
+     * Prints the value in fixed-point notation with the style without line break.
+     * @param   value       the value to print.
+     * @param   precision   the number of fraction digits of {@code 0..15}.
+     */
+    public void print(double value, int precision) {
+        print(value, precision, EscapeSequence.EMPTY);
+    }
+
+    /**
+     * Prints the value in fixed-point notation with the style without line break, and then sets the console to default.
+     * @param   value       the value to print.
+     * @param   precision   the number of fraction digits of {@code 0..15}.
+     */
+    public void printAndReset(double value, int precision) {
+        print(value, precision, EscapeSequence.RESET);
+    }
+
+    /**
+     * Prints the value in fixed-point notation with the style with line break.
+     * @param   value       the value to print.
+     * @param   precision   the number of fraction digits of {@code 0..15}.
+     */
+    public void println(double value, int precision) {
+        print(value, precision, EscapeSequence.LINE_BREAK);
+    }
+
+    /**
+     * Prints the value in fixed-point notation with the style with line break, and then sets the console to default.
+     * @param   value       the value to print.
+     * @param   precision   the number of fraction digits of {@code 0..15}.
+     */
+    public void printlnAndReset(double value, int precision) {
+        print(value, precision, EscapeSequence.RESET_LINE_BREAK);
+    }
+
+    /**
+     * Prints the char with the style without line break.
+     * @param   c   the char to print.
+     */
+    public void print(char c) {
+        print(c, EscapeSequence.EMPTY);
+    }
+
+    /**
+     * Prints the char with the style without line break, and then sets the console to default.
+     * @param   c   the char to print.
+     */
+    public void printAndReset(char c) {
+        print(c, EscapeSequence.RESET);
+    }
+
+    /**
+     * Prints the char with the style with line break.
+     * @param   c   the char to print.
+     */
+    public void println(char c) {
+        print(c, EscapeSequence.LINE_BREAK);
+    }
+
+    /**
+     * Prints the char with the style with line break, and then sets the console to default.
+     * @param   c   the char to print.
+     */
+    public void printlnAndReset(char c) {
+        print(c, EscapeSequence.RESET_LINE_BREAK);
+    }
+
+    private void print(double value, int precision, EscapeSequence suffix) {
+        if (precision < 0 || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("Precision out of range. Expected: 0.." + MAX_PRECISION
+                    + ", actual: precision = " + precision);
+        }
+
+        long scale = POWERS_OF_TEN[precision];
+        double scaled = Math.abs(value) * scale;
+
+        if (!(scaled < Long.MAX_VALUE)) {
+            write(Double.toString(value), suffix);
+            return;
+        }
+
+        long units = Math.round(scaled);
+        startRecord();
+
+        if (value < 0 && units != 0) {
+            buffer[size++] = '-';
+        }
+
+        putLong(units / scale);
+
+        if (precision > 0) {
+            buffer[size++] = '.';
+            long fraction = units % scale;
+
+            for (int i = precision - 1; i >= 0; i--) {
+                buffer[size + i] = (byte) ('0' + fraction % 10);
+                fraction /= 10;
+            }
+
+            size += precision;
+        }
+
+        endRecord(suffix);
+    }
+
+    private void print(char c, EscapeSequence suffix) {
+        if (c >= 0x80) {
+            write(String.valueOf(c), suffix);
+            return;
+        }
+
+        startRecord();
+        buffer[size++] = (byte) c;
+        endRecord(suffix);
+    }
+
+    private void startRecord() {
+        System.arraycopy(prefix, 0, buffer, 0, prefix.length);
+        size = prefix.length;
+    }
+
+    private void putLong(long value) {
+        if (value == Long.MIN_VALUE) {
+            System.arraycopy(MIN_LONG, 0, buffer, size, MIN_LONG.length);
+            size += MIN_LONG.length;
+            return;
+        }
+
+        if (value < 0) {
+            buffer[size++] = '-';
+            value = -value;
+        }
+
+        int end = size + digits(value);
+
+        for (int i = end - 1; i >= size; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+
+        size = end;
+    }
+
+    private static int digits(long value) {
+        int digits = 1;
+
+        for (long limit = 10; digits < 19 && value >= limit; limit *= 10) {
+            digits++;
+        }
+
+        return digits;
+    }
+
+    private void endRecord(EscapeSequence suffix) {
+        System.arraycopy(suffix.bytes(), 0, buffer, size, suffix.length());
+        size += suffix.length();
+
+        try {
+            SINK.write(buffer, 0, size);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void write(String text, EscapeSequence suffix) {
+        try {
+            SINK.write(adapted, prefix, text, suffix.bytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
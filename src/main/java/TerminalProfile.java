@@ -0,0 +1,310 @@
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The {@code TerminalProfile} class describes what the standard output can display: whether it is
+ * a terminal, whether styles are rendered at all, and the {@link ColorDepth} of the terminal.
+ * The profile of the running process is detected once, on first use, and cached.
+ * <p>
+ * The detection looks at, in this order:
+ * <ol>
+ *      <li> the {@code colter.color} system property: {@code always} renders styles even if the
+ *           output is not a terminal, {@code never} disables them, {@code auto} (default) detects;
+ *      <li> the {@code NO_COLOR} environment variable, which disables styles if it is not empty;
+ *      <li> the {@code FORCE_COLOR} environment variable, which enables styles if it is not empty
+ *           or {@code 0}; the values {@code 1} (16 colors), {@code 2} (256) and {@code 3} (24-bit)
+ *           also set the color depth, overriding the detected one;
+ *      <li> whether the standard output is a terminal: on Linux, the file descriptor {@code 1} must
+ *           point to a terminal device, so redirecting only the input does not disable styles;
+ *           elsewhere {@link System#console()}, which is {@code null} if the input or the output
+ *           is redirected;
+ *      <li> {@code TERM=dumb}, which disables styles.
+ * </ol>
+ * The color depth is 24-bit if {@code COLORTERM} is {@code truecolor} or {@code 24bit}. Otherwise
+ * it is read from the {@code colors} capability of the compiled terminfo entry of {@code TERM},
+ * which is looked up in {@code $TERMINFO}, {@code ~/.terminfo}, {@code $TERMINFO_DIRS},
+ * {@code /etc/terminfo}, {@code /lib/terminfo} and {@code /usr/share/terminfo}. Without an entry,
+ * a {@code TERM} ending with {@code 256color} means 256 colors, and any other terminal 16 colors.
+ * <p>
+ * A profile without styles short-circuits all styling of the default {@link Colter} output to plain
+ * text: style prefixes are not even rendered.
+ * <p>
+ *     Examples of using
+ * <blockquote><pre>
+ *     TerminalProfile profile = TerminalProfile.current();
+ *     ColterSink sink = profile.apply(ColterSink.of(System.err));
+ * </pre></blockquote>
+ *
+ * @see     ColterSink#terminal()
+ * @see     ColorDepth
+ */
+public final class TerminalProfile {
+    private static final int MAX_COLORS = 13;
+    private static final int LEGACY_MAGIC = 0432;
+    private static final int EXTENDED_MAGIC = 01036;
+    private static final int HEADER_SIZE = 12;
+
+    private final boolean TERMINAL;
+    private final boolean COLOR;
+    private final ColorDepth DEPTH;
+
+    private TerminalProfile(boolean terminal, boolean color, ColorDepth depth) {
+        this.TERMINAL = terminal;
+        this.COLOR = color;
+        this.DEPTH = depth;
+    }
+
+    /**
+     * Returns the profile of the standard output of the running process, detected on the first call.
+     * @return  the cached {@code TerminalProfile}.
+     */
+    public static TerminalProfile current() {
+        return Detected.PROFILE;
+    }
+
+    /**
+     * Returns the profile which renders styles with the color depth.
+     * @param   depth   the {@link ColorDepth} of the destination.
+     * @return  the {@code TerminalProfile} of a terminal with the depth.
+     */
+    public static TerminalProfile of(@NotNull ColorDepth depth) {
+        return new TerminalProfile(true, true, depth);
+    }
+
+    /**
+     * Returns the profile which renders no styles, as for output redirected to a file.
+     * @return  the {@code TerminalProfile} of plain text output.
+     */
+    public static TerminalProfile plain() {
+        return new TerminalProfile(false, false, ColorDepth.COLORS_16);
+    }
+
+    /**
+     * Checks if the output is a terminal.
+     * @return  {@code true} if the output is a terminal.
+     */
+    public boolean isTerminal() {
+        return TERMINAL;
+    }
+
+    /**
+     * Checks if styles are rendered.
+     * @return  {@code true} if escape sequences are written.
+     */
+    public boolean isColorEnabled() {
+        return COLOR;
+    }
+
+    /**
+     * Returns the color depth styles are downsampled to. Meaningful only if colors are enabled.
+     * @return  the {@link ColorDepth} of the terminal.
+     */
+    public ColorDepth getColorDepth() {
+        return DEPTH;
+    }
+
+    /**
+     * Returns the sink which writes to the given sink the way the profile requires: plain text if
+     * styles are disabled, styles downsampled to the color depth otherwise.
+     * @param   sink    the sink to write to.
+     * @return  the sink for the profile, which is the given sink for 24-bit terminals.
+     */
+    public ColterSink apply(@NotNull ColterSink sink) {
+        return COLOR ? ColterSink.downsampling(sink, DEPTH) : new PlainSink(sink);
+    }
+
+    /**
+     * Returns the sink of the standard output with the detected profile applied.
+     */
+    static ColterSink stdout() {
+        return Detected.STDOUT;
+    }
+
+    /**
+     * Detects the profile from the values the process was started with.
+     * @param   env             the environment variables.
+     * @param   mode            the value of the {@code colter.color} property, or {@code null}.
+     * @param   terminal        {@code true} if the output is a terminal.
+     * @param   terminfoDirs    the directories to look up the terminfo entry in.
+     */
+    static TerminalProfile detect(Map<String, String> env, String mode, boolean terminal, List<Path> terminfoDirs) {
+        String term = env.get("TERM");
+        boolean forced = "always".equals(mode);
+
+        if ("never".equals(mode)) {
+            return new TerminalProfile(terminal, false, ColorDepth.COLORS_16);
+        }
+
+        if (!forced) {
+            if (!isEmpty(env.get("NO_COLOR"))) {
+                return new TerminalProfile(terminal, false, ColorDepth.COLORS_16);
+            }
+
+            String force = env.get("FORCE_COLOR");
+
+            if ("1".equals(force) || "2".equals(force) || "3".equals(force)) {
+                return new TerminalProfile(terminal, true, "1".equals(force) ? ColorDepth.COLORS_16
+                        : "2".equals(force) ? ColorDepth.COLORS_256
+                        : ColorDepth.TRUE_COLOR);
+            }
+
+            forced = !isEmpty(force) && !"0".equals(force);
+
+            if (!forced && (!terminal || "dumb".equals(term))) {
+                return new TerminalProfile(terminal, false, ColorDepth.COLORS_16);
+            }
+        }
+
+        String colorTerm = env.get("COLORTERM");
+
+        if ("truecolor".equals(colorTerm) || "24bit".equals(colorTerm)) {
+            return new TerminalProfile(terminal, true, ColorDepth.TRUE_COLOR);
+        }
+
+        int colors = isEmpty(term) ? -1 : maxColors(term, terminfoDirs);
+
+        if (colors >= 0) {
+            return colors >= 1 << 24 ? new TerminalProfile(terminal, true, ColorDepth.TRUE_COLOR)
+                    : colors >= 256 ? new TerminalProfile(terminal, true, ColorDepth.COLORS_256)
+                    : colors >= 8 ? new TerminalProfile(terminal, true, ColorDepth.COLORS_16)
+                    : forced ? new TerminalProfile(terminal, true, ColorDepth.TRUE_COLOR)
+                    : new TerminalProfile(terminal, false, ColorDepth.COLORS_16);
+        }
+
+        if (forced) {
+            return new TerminalProfile(terminal, true, ColorDepth.TRUE_COLOR);
+        }
+
+        if (!isEmpty(term) && term.endsWith("256color")) {
+            return new TerminalProfile(terminal, true, ColorDepth.COLORS_256);
+        }
+
+        return new TerminalProfile(terminal, true, ColorDepth.COLORS_16);
+    }
+
+    /**
+     * Returns the {@code colors} capability of the compiled terminfo entry of the terminal, {@code 0}
+     * if the entry does not define it, or {@code -1} if there is no readable entry.
+     */
+    static int maxColors(String term, List<Path> terminfoDirs) {
+        if (term.indexOf('/') >= 0 || term.startsWith(".")) {
+            return -1;
+        }
+
+        for (Path dir : terminfoDirs) {
+            Path[] candidates = {
+                    dir.resolve(term.substring(0, 1)).resolve(term),
+                    dir.resolve(Integer.toHexString(term.charAt(0))).resolve(term)
+            };
+
+            for (Path file : candidates) {
+                if (Files.isRegularFile(file)) {
+                    try {
+                        return maxColors(Files.readAllBytes(file));
+                    } catch (IOException | RuntimeException e) {
+                        return -1;
+                    }
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Reads the {@code colors} capability from the compiled entry: the header of six little-endian
+     * shorts is followed by the names, the boolean flags and, aligned to an even offset, the numbers
+     * of 16 bits in the legacy format or 32 bits in the extended one.
+     */
+    private static int maxColors(byte[] entry) {
+        ByteBuffer buffer = ByteBuffer.wrap(entry).order(ByteOrder.LITTLE_ENDIAN);
+        int magic = buffer.getShort(0);
+
+        if (magic != LEGACY_MAGIC && magic != EXTENDED_MAGIC) {
+            return -1;
+        }
+
+        int namesSize = buffer.getShort(2);
+        int booleans = buffer.getShort(4);
+        int numbers = buffer.getShort(6);
+        int offset = HEADER_SIZE + namesSize + booleans;
+
+        if (numbers <= MAX_COLORS) {
+            return 0;
+        }
+
+        offset += offset & 1;
+
+        int colors = magic == LEGACY_MAGIC
+                ? buffer.getShort(offset + 2 * MAX_COLORS)
+                : buffer.getInt(offset + 4 * MAX_COLORS);
+
+        return Math.max(colors, 0);
+    }
+
+    /**
+     * Checks if the standard output is a terminal. On Linux the target of the file descriptor is read,
+     * so a redirected input does not matter; elsewhere the check falls back to {@link System#console()}.
+     */
+    private static boolean isStdoutTerminal() {
+        try {
+            String target = Files.readSymbolicLink(Paths.get("/proc/self/fd/1")).toString();
+            return target.startsWith("/dev/pts/") || target.startsWith("/dev/tty") || target.equals("/dev/console");
+        } catch (IOException | UnsupportedOperationException | SecurityException e) {
+            return System.console() != null;
+        }
+    }
+
+    private static List<Path> terminfoDirs(Map<String, String> env) {
+        List<Path> dirs = new ArrayList<>();
+        String home = System.getProperty("user.home");
+
+        if (!isEmpty(env.get("TERMINFO"))) {
+            dirs.add(Paths.get(env.get("TERMINFO")));
+        }
+
+        if (!isEmpty(home)) {
+            dirs.add(Paths.get(home, ".terminfo"));
+        }
+
+        if (!isEmpty(env.get("TERMINFO_DIRS"))) {
+            for (String dir : env.get("TERMINFO_DIRS").split(":")) {
+                if (!dir.isEmpty()) {
+                    dirs.add(Paths.get(dir));
+                }
+            }
+        }
+
+        dirs.add(Paths.get("/etc/terminfo"));
+        dirs.add(Paths.get("/lib/terminfo"));
+        dirs.add(Paths.get("/usr/share/terminfo"));
+        return dirs;
+    }
+
+    private static boolean isEmpty(String value) {
+        return value == null || value.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "TerminalProfile{terminal=" + TERMINAL + ", color=" + COLOR + ", depth=" + DEPTH + '}';
+    }
+
+    /**
+     * Lazy holder of the detected profile: the JVM detects it on the first use only.
+     */
+    private static final class Detected {
+        private static final TerminalProfile PROFILE = detect(System.getenv(), System.getProperty("colter.color"),
+                isStdoutTerminal(), terminfoDirs(System.getenv()));
+        private static final ColterSink STDOUT = PROFILE.apply(ColterSink.stdout());
+    }
+}
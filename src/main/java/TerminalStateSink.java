@@ -0,0 +1,306 @@
+import modificators.Effect;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The {@code TerminalStateSink} class keeps a model of the attributes the terminal is in - the
+ * foreground color, the background color and the text attributes set by the effects - and writes
+ * each styled record with the minimal transition from that state instead of the full style prefix.
+ * Only the colors which change are written, and attributes which have to be turned off are turned
+ * off by their own codes ({@code 22}, {@code 23}, {@code 24}, {@code 27}, {@code 29}) instead of
+ * a full reset. All parameters of a transition are merged into one escape sequence.
+ * <p>
+ * The reset of the {@code *AndReset} methods is deferred: it is written only when the next record
+ * needs a different state, before raw output, or on {@code flush()} and {@code close()}. So a stream
+ * of segments printed with the same style contains the escape sequence once. A reset followed by
+ * a line break is written at once if a background color is set, so the color does not fill the
+ * next line.
+ * <p>
+ * Escape sequences written as raw bytes can not be tracked. After raw bytes, the sink writes full
+ * style prefixes and resets, as an untracked sink does, until the next reset brings the terminal
+ * back to a known state.
+ *
+ * @see     ColterSink#tracking(ColterSink)
+ */
+final class TerminalStateSink implements ColterSink {
+    private static final Effect[] ATTRIBUTE_EFFECTS = {
+            Effect.BOLD, Effect.FAINT, Effect.ITALIC, Effect.UNDERLINE, Effect.REVERSE, Effect.STRIKEOUT};
+    private static final int BOLD = 1 << Effect.BOLD.ordinal();
+    private static final int FAINT = 1 << Effect.FAINT.ordinal();
+    private static final int[] ATTRIBUTES = new int[ATTRIBUTE_EFFECTS.length];
+    private static final int[] ON_CODES = new int[ATTRIBUTE_EFFECTS.length];
+    private static final int[] OFF_CODES = {22, 22, 23, 24, 27, 29};
+    private static final int[] SETS = new int[Effect.values().length];
+    private static final int[] CLEARS = new int[Effect.values().length];
+    private static final int CACHE_SIZE = 256;
+    private static final byte[] NO_BYTES = new byte[0];
+
+    static {
+        for (int i = 0; i < ATTRIBUTE_EFFECTS.length; i++) {
+            ATTRIBUTES[i] = 1 << ATTRIBUTE_EFFECTS[i].ordinal();
+            ON_CODES[i] = ATTRIBUTE_EFFECTS[i].getCode();
+        }
+
+        for (Effect effect : Effect.values()) {
+            for (int i = 0; i < ATTRIBUTES.length; i++) {
+                if (effect.getCode() == ON_CODES[i]) {
+                    SETS[effect.ordinal()] = ATTRIBUTES[i];
+                } else if (effect.getCode() == OFF_CODES[i] && effect.getCode() != 22) {
+                    CLEARS[effect.ordinal()] = ATTRIBUTES[i];
+                }
+            }
+        }
+    }
+
+    private final ColterSink SINK;
+    private final ReentrantLock LOCK = new ReentrantLock();
+    private final long[] CACHED_FROM = new long[CACHE_SIZE];
+    private final long[] CACHED_TO = new long[CACHE_SIZE];
+    private final byte[][] CACHED_TRANSITIONS = new byte[CACHE_SIZE][];
+    private boolean known = true;
+    private long state;
+    private boolean resetPending;
+
+    TerminalStateSink(@NotNull ColterSink sink) {
+        this.SINK = sink;
+    }
+
+    @Override
+    public void write(@NotNull Style style, @NotNull CharSequence text, @NotNull byte[] suffix) throws IOException {
+        writeAdapted(SINK.adapt(style), text, suffix);
+    }
+
+    @Override
+    public Style adapt(@NotNull Style style) {
+        return SINK.adapt(style);
+    }
+
+    @Override
+    public void write(@NotNull Style style, @NotNull byte[] prefix, @NotNull CharSequence text,
+                      @NotNull byte[] suffix) throws IOException {
+        writeAdapted(style, text, suffix);
+    }
+
+    /**
+     * Writes the record with the style as the wrapped sink renders it, so the transitions are built
+     * from downsampled colors, or are empty for a plain sink.
+     */
+    private void writeAdapted(Style style, CharSequence text, byte[] suffix) throws IOException {
+        LOCK.lock();
+        try {
+            if (!known) {
+                SINK.write(style.prefix(), text, suffix);
+                known = isReset(suffix);
+                state = 0;
+                return;
+            }
+
+            long target = apply(resetPending ? 0 : state, style);
+            byte[] transition = transition(state, target);
+            byte[] written = suffix;
+
+            state = target;
+            resetPending = false;
+
+            if (suffix == EscapeSequence.RESET.bytes()) {
+                written = NO_BYTES;
+                resetPending = true;
+            } else if (suffix == EscapeSequence.RESET_LINE_BREAK.bytes()) {
+                if (bg(target) != 0) {
+                    state = 0;
+                } else {
+                    written = EscapeSequence.LINE_BREAK.bytes();
+                    resetPending = true;
+                }
+            } else if (suffix != EscapeSequence.LINE_BREAK.bytes() && suffix.length > 0) {
+                known = false;
+            }
+
+            SINK.write(transition, text, written);
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    @Override
+    public void write(@NotNull byte[] prefix, @NotNull CharSequence text, @NotNull byte[] suffix) throws IOException {
+        LOCK.lock();
+        try {
+            applyPendingReset();
+            SINK.write(prefix, text, suffix);
+            untrack(prefix.length > 0 || suffix.length > 0, suffix);
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    @Override
+    public void write(@NotNull byte[] bytes, int offset, int length) throws IOException {
+        LOCK.lock();
+        try {
+            applyPendingReset();
+            SINK.write(bytes, offset, length);
+            untrack(length > 0, NO_BYTES);
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    @Override
+    public void write(@NotNull CharSequence text) throws IOException {
+        LOCK.lock();
+        try {
+            applyPendingReset();
+            SINK.write(text);
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        LOCK.lock();
+        try {
+            applyPendingReset();
+            SINK.flush();
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        LOCK.lock();
+        try {
+            applyPendingReset();
+            SINK.close();
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    private void applyPendingReset() throws IOException {
+        if (resetPending) {
+            resetPending = false;
+
+            if (state != 0) {
+                state = 0;
+                SINK.write(EscapeSequence.RESET.bytes(), 0, EscapeSequence.RESET.length());
+            }
+        }
+    }
+
+    private void untrack(boolean escapes, byte[] suffix) {
+        if (isReset(suffix)) {
+            known = true;
+            state = 0;
+        } else if (escapes) {
+            known = false;
+        }
+    }
+
+    private static boolean isReset(byte[] suffix) {
+        return suffix == EscapeSequence.RESET.bytes() || suffix == EscapeSequence.RESET_LINE_BREAK.bytes();
+    }
+
+    /**
+     * Returns the state after the style is applied to the state: the colors of the style replace
+     * the current ones, and the effects turn attributes on and off in the order of their declaration.
+     * The state is packed as the foreground color in bits {@code 0..25}, the background color in bits
+     * {@code 26..51} and the attribute flags above them, one bit per effect at its ordinal, as in
+     * {@link modificators.EffectSet#getMask()}.
+     */
+    static long apply(long state, Style style) {
+        long fg = style.fgColor() != 0 ? style.fgColor() : fg(state);
+        long bg = style.bgColor() != 0 ? style.bgColor() : bg(state);
+        int attributes = attributes(state);
+
+        for (int bits = style.getEffects().getMask(); bits != 0; bits &= bits - 1) {
+            int ordinal = Integer.numberOfTrailingZeros(bits);
+            attributes = (attributes | SETS[ordinal]) & ~CLEARS[ordinal];
+        }
+
+        return fg | bg << 26 | (long) attributes << 52;
+    }
+
+    private static int fg(long state) {
+        return (int) (state & (1L << 26) - 1);
+    }
+
+    private static int bg(long state) {
+        return (int) (state >>> 26 & (1L << 26) - 1);
+    }
+
+    private static int attributes(long state) {
+        return (int) (state >>> 52);
+    }
+
+    /**
+     * Returns the escape sequence which brings the terminal from one state to the other, built on
+     * first use of the pair and cached in a small direct-mapped cache.
+     */
+    private byte[] transition(long from, long to) {
+        if (from == to) {
+            return NO_BYTES;
+        }
+
+        int slot = (int) ((from * 31 + to) * 0x9E3779B97F4A7C15L >>> 56) & CACHE_SIZE - 1;
+
+        if (CACHED_TRANSITIONS[slot] == null || CACHED_FROM[slot] != from || CACHED_TO[slot] != to) {
+            CACHED_FROM[slot] = from;
+            CACHED_TO[slot] = to;
+            CACHED_TRANSITIONS[slot] = buildTransition(from, to);
+        }
+
+        return CACHED_TRANSITIONS[slot];
+    }
+
+    /**
+     * Builds the escape sequence which brings the terminal from one state returned by
+     * {@link #apply(long, Style)} to another: attributes turned off, colors changed, attributes turned on.
+     */
+    static byte[] buildTransition(long from, long to) {
+        StringBuilder sb = new StringBuilder("\u001B[");
+        int fromAttributes = attributes(from);
+        int toAttributes = attributes(to);
+        int off = fromAttributes & ~toAttributes;
+
+        if ((off & (BOLD | FAINT)) != 0) {
+            parameter(sb).append(22);
+            fromAttributes &= ~(BOLD | FAINT);
+            off &= ~(BOLD | FAINT);
+        }
+
+        for (int i = 0; i < ATTRIBUTES.length; i++) {
+            if ((off & ATTRIBUTES[i]) != 0) {
+                parameter(sb).append(OFF_CODES[i]);
+            }
+        }
+
+        if (fg(from) != fg(to)) {
+            Style.appendColorParameters(parameter(sb), fg(to), false);
+        }
+
+        if (bg(from) != bg(to)) {
+            Style.appendColorParameters(parameter(sb), bg(to), true);
+        }
+
+        int on = toAttributes & ~fromAttributes;
+
+        for (int i = 0; i < ATTRIBUTES.length; i++) {
+            if ((on & ATTRIBUTES[i]) != 0) {
+                parameter(sb).append(ON_CODES[i]);
+            }
+        }
+
+        return sb.append('m').toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static StringBuilder parameter(StringBuilder sb) {
+        return sb.length() > 2 ? sb.append(';') : sb;
+    }
+}
@@ -1,32 +1,67 @@
 package modificators;
 
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
 @SuppressWarnings("unused")
 public enum BGColor {
     // 8 colors
-    BG_BLACK    ("\u001B[40m"),
-    BG_RED      ("\u001B[41m"),
-    BG_GREEN    ("\u001B[42m"),
-    BG_YELLOW   ("\u001B[43m"),
-    BG_BLUE     ("\u001B[44m"),
-    BG_MAGENTA  ("\u001B[45m"),
-    BG_CYAN     ("\u001B[46"),
-    BG_WHITE    ("\u001B[47m"),
-    BG_DEFAULT  ("\u001B[49m"),
+    BG_BLACK          (40),
+    BG_RED            (41),
+    BG_GREEN          (42),
+    BG_YELLOW         (43),
+    BG_BLUE           (44),
+    BG_MAGENTA        (45),
+    BG_CYAN           (46),
+    BG_WHITE          (47),
+    BG_DEFAULT        (49),
 
     // 16 colors
-    BG_BRIGHT_BLACK     ("\u001B[40;1m"),
-    BG_BRIGHT_RED       ("\u001B[41;1m"),
-    BG_BRIGHT_GREEN     ("\u001B[42;1m"),
-    BG_BRIGHT_YELLOW    ("\u001B[43;1m"),
-    BG_BRIGHT_BLUE      ("\u001B[44;1m"),
-    BG_BRIGHT_MAGENTA   ("\u001B[45;1m"),
-    BG_BRIGHT_CYAN      ("\u001B[46;1m"),
-    BG_BRIGHT_WHITE     ("\u001B[47;1m");
+    BG_BRIGHT_BLACK   (100),
+    BG_BRIGHT_RED     (101),
+    BG_BRIGHT_GREEN   (102),
+    BG_BRIGHT_YELLOW  (103),
+    BG_BRIGHT_BLUE    (104),
+    BG_BRIGHT_MAGENTA (105),
+    BG_BRIGHT_CYAN    (106),
+    BG_BRIGHT_WHITE   (107);
 
+    private final int CODE;
+    private final byte[] BYTES;
     private final String COLOR;
 
-    BGColor(String color) {
-        this.COLOR = color;
+    BGColor(int code) {
+        this.CODE = code;
+        this.COLOR = "\u001B[" + code + "m";
+        this.BYTES = COLOR.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Returns the SGR parameter of the color, which is the number between {@code ESC[} and {@code m}.
+     * @return  the SGR parameter.
+     */
+    public int getCode() {
+        return CODE;
+    }
+
+    /**
+     * Returns the pre-encoded ASCII bytes of the escape sequence.
+     * @return  a new copy of the escape sequence bytes.
+     */
+    public byte[] getBytes() {
+        return BYTES.clone();
+    }
+
+    /**
+     * Writes the pre-encoded ASCII bytes of the escape sequence to the stream.
+     * @param   out the stream to write to.
+     * @throws  IOException if an I/O error occurs.
+     */
+    public void writeTo(@NotNull OutputStream out) throws IOException {
+        out.write(BYTES);
     }
 
     @Override
@@ -1,26 +1,61 @@
 package modificators;
 
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
 @SuppressWarnings("unused")
 public enum Effect {
-    BOLD            ("\u001B[1m"),
-    FAINT           ("\u001B[2m"),
-    ITALIC          ("\u001B[3m"),
-    UNDERLINE       ("\u001B[4m"),
-    REVERSE         ("\u001B[7m"),
-    STRIKEOUT       ("\u001B[9m"),
-    NOT_BOLD_ITALIC ("\u001B[23m"),
-    NOT_UNDERLINE   ("\u001B[24m"),
-    NOT_REVERSE     ("\u001B[27m"),
-    NOT_STRIKEOUT   ("\u001B[29m");
+    BOLD            (1),
+    FAINT           (2),
+    ITALIC          (3),
+    UNDERLINE       (4),
+    REVERSE         (7),
+    STRIKEOUT       (9),
+    NOT_BOLD_ITALIC (23),
+    NOT_UNDERLINE   (24),
+    NOT_REVERSE     (27),
+    NOT_STRIKEOUT   (29);
 
+    private final int CODE;
+    private final byte[] BYTES;
     private final String EFFECT;
 
-    Effect(String effect) {
-        this.EFFECT = effect;
+    Effect(int code) {
+        this.CODE = code;
+        this.EFFECT = "\u001B[" + code + "m";
+        this.BYTES = EFFECT.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Returns the SGR parameter of the effect, which is the number between {@code ESC[} and {@code m}.
+     * @return  the SGR parameter.
+     */
+    public int getCode() {
+        return CODE;
+    }
+
+    /**
+     * Returns the pre-encoded ASCII bytes of the escape sequence.
+     * @return  a new copy of the escape sequence bytes.
+     */
+    public byte[] getBytes() {
+        return BYTES.clone();
+    }
+
+    /**
+     * Writes the pre-encoded ASCII bytes of the escape sequence to the stream.
+     * @param   out the stream to write to.
+     * @throws  IOException if an I/O error occurs.
+     */
+    public void writeTo(@NotNull OutputStream out) throws IOException {
+        out.write(BYTES);
     }
 
     @Override
     public String toString() {
         return EFFECT;
     }
-}
\ No newline at end of file
+}
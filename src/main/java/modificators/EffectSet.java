@@ -0,0 +1,210 @@
+package modificators;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The {@code EffectSet} class represents a combination of {@link Effect} values as a bitmask,
+ * where each effect is represented by the bit of its ordinal. There is exactly one instance
+ * per combination, so combining effects never allocates and sets can be compared by reference.
+ * <p>
+ * {@code toString()} returns the merged escape sequence of the combination, for example
+ * {@code ESC[1;3;4m} for {@code BOLD, ITALIC, UNDERLINE}, instead of one sequence per effect.
+ * The sequence of each combination is built once, on first use. Effects are always written in
+ * the order of their declaration in {@link Effect}, regardless of the order they were passed in.
+ * <p>
+ * An effect and the effect which turns it off, such as {@code ITALIC} and {@code NOT_BOLD_ITALIC},
+ * are never kept together by {@link #of}, {@link #with} and {@link #union}: the effect added last
+ * replaces its opposite, the same as if the effects were written to the console one by one.
+ *
+ * @see     Effect
+ */
+@SuppressWarnings("unused")
+public final class EffectSet {
+    private static final Effect[] EFFECTS = Effect.values();
+    private static final int COMBINATIONS = 1 << EFFECTS.length;
+    private static final EffectSet[] SETS = new EffectSet[COMBINATIONS];
+    private static final int[] OPPOSITES = new int[EFFECTS.length];
+
+    static {
+        for (int mask = 0; mask < COMBINATIONS; mask++) {
+            SETS[mask] = new EffectSet(mask);
+        }
+
+        oppose(Effect.ITALIC, Effect.NOT_BOLD_ITALIC);
+        oppose(Effect.UNDERLINE, Effect.NOT_UNDERLINE);
+        oppose(Effect.REVERSE, Effect.NOT_REVERSE);
+        oppose(Effect.STRIKEOUT, Effect.NOT_STRIKEOUT);
+    }
+
+    private final int MASK;
+    private String sequence;
+
+    private EffectSet(int mask) {
+        this.MASK = mask;
+    }
+
+    /**
+     * Returns the empty set.
+     * @return  the {@code EffectSet} without effects.
+     */
+    public static EffectSet none() {
+        return SETS[0];
+    }
+
+    /**
+     * Returns the set of the given effects. Repeated effects are counted once, and an effect replaces
+     * its opposite passed before it.
+     * @param   effects Enums of type {@link Effect}. Can be passed in separated by comma.
+     * @return  the {@code EffectSet} of the effects.
+     */
+    public static EffectSet of(@NotNull Effect ... effects) {
+        int mask = 0;
+
+        for (Effect e : effects) {
+            mask = add(mask, e);
+        }
+
+        return SETS[mask];
+    }
+
+    /**
+     * Returns the set of the given bitmask, where bit {@code n} stands for the effect with ordinal {@code n}.
+     * The mask is taken as is, so it may hold an effect together with its opposite; such a set writes
+     * both, and the opposite, being declared later, wins.
+     * @param   mask    bitmask of the effects.
+     * @return  the {@code EffectSet} of the mask.
+     * @throws  IllegalArgumentException    if the mask has bits which do not represent any effect.
+     */
+    public static EffectSet ofMask(int mask) {
+        if ((mask & ~(COMBINATIONS - 1)) != 0) {
+            throw new IllegalArgumentException("Effect mask out of range. Expected: 0.." + (COMBINATIONS - 1)
+                    + ", actual: mask = " + mask);
+        }
+
+        return SETS[mask];
+    }
+
+    /**
+     * Returns the bitmask of the set.
+     * @return  the bitmask, where bit {@code n} stands for the effect with ordinal {@code n}.
+     */
+    public int getMask() {
+        return MASK;
+    }
+
+    /**
+     * Checks if the effect belongs to the set.
+     * @param   effect  the effect to check.
+     * @return  {@code true} if the set contains the effect.
+     */
+    public boolean contains(@NotNull Effect effect) {
+        return (MASK & 1 << effect.ordinal()) != 0;
+    }
+
+    /**
+     * Returns the set with the effect added, and its opposite removed.
+     * @param   effect  the effect to add.
+     * @return  the {@code EffectSet} with the effect.
+     */
+    public EffectSet with(@NotNull Effect effect) {
+        return SETS[add(MASK, effect)];
+    }
+
+    /**
+     * Returns the set with the effect removed.
+     * @param   effect  the effect to remove.
+     * @return  the {@code EffectSet} without the effect.
+     */
+    public EffectSet without(@NotNull Effect effect) {
+        return SETS[MASK & ~(1 << effect.ordinal())];
+    }
+
+    /**
+     * Returns the set of effects of both {@code this} and the other set. The effects of the other set
+     * replace their opposites in {@code this} set.
+     * @param   other   the set to add.
+     * @return  the union of the sets.
+     */
+    public EffectSet union(@NotNull EffectSet other) {
+        int mask = MASK;
+
+        for (int bits = other.MASK; bits != 0; bits &= bits - 1) {
+            mask = add(mask, EFFECTS[Integer.numberOfTrailingZeros(bits)]);
+        }
+
+        return SETS[mask];
+    }
+
+    /**
+     * Checks if the set has no effects.
+     * @return  {@code true} if the set is empty.
+     */
+    public boolean isEmpty() {
+        return MASK == 0;
+    }
+
+    /**
+     * Returns the number of effects in the set.
+     * @return  the number of effects.
+     */
+    public int size() {
+        return Integer.bitCount(MASK);
+    }
+
+    /**
+     * Returns the effects of the set in the order of their declaration.
+     * @return  a new array of the effects.
+     */
+    public Effect[] toArray() {
+        Effect[] effects = new Effect[size()];
+        int i = 0;
+
+        for (int bits = MASK; bits != 0; bits &= bits - 1) {
+            effects[i++] = EFFECTS[Integer.numberOfTrailingZeros(bits)];
+        }
+
+        return effects;
+    }
+
+    /**
+     * Returns the merged escape sequence of all effects of the set, or an empty string for the empty set.
+     * @return  the escape sequence of the set.
+     */
+    @Override
+    public String toString() {
+        String s = sequence;
+
+        if (s == null) {
+            s = sequence = buildSequence();
+        }
+
+        return s;
+    }
+
+    private static void oppose(Effect effect, Effect opposite) {
+        OPPOSITES[effect.ordinal()] |= 1 << opposite.ordinal();
+        OPPOSITES[opposite.ordinal()] |= 1 << effect.ordinal();
+    }
+
+    private static int add(int mask, Effect effect) {
+        return mask & ~OPPOSITES[effect.ordinal()] | 1 << effect.ordinal();
+    }
+
+    private String buildSequence() {
+        if (MASK == 0) {
+            return "";
+        }
+
+        StringBuilder sb = new StringBuilder("\u001B[");
+
+        for (int bits = MASK; bits != 0; bits &= bits - 1) {
+            if (sb.length() > 2) {
+                sb.append(';');
+            }
+
+            sb.append(EFFECTS[Integer.numberOfTrailingZeros(bits)].getCode());
+        }
+
+        return sb.append('m').toString();
+    }
+}
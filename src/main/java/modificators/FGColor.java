@@ -1,32 +1,67 @@
 package modificators;
 
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
 @SuppressWarnings("unused")
 public enum FGColor {
     // 8 colors
-    FG_BLACK    ("\u001B[30m"),
-    FG_RED      ("\u001B[31m"),
-    FG_GREEN    ("\u001B[32m"),
-    FG_YELLOW   ("\u001B[33m"),
-    FG_BLUE     ("\u001B[34m"),
-    FG_MAGENTA  ("\u001B[35m"),
-    FG_CYAN     ("\u001B[36m"),
-    FG_WHITE    ("\u001B[37m"),
-    FG_DEFAULT  ("\u001B[39m"),
+    FG_BLACK          (30),
+    FG_RED            (31),
+    FG_GREEN          (32),
+    FG_YELLOW         (33),
+    FG_BLUE           (34),
+    FG_MAGENTA        (35),
+    FG_CYAN           (36),
+    FG_WHITE          (37),
+    FG_DEFAULT        (39),
 
     // 16 colors
-    FG_BRIGHT_BLACK     ("\u001B[30;1m"),
-    FG_BRIGHT_RED       ("\u001B[31;1m"),
-    FG_BRIGHT_GREEN     ("\u001B[32;1m"),
-    FG_BRIGHT_YELLOW    ("\u001B[33;1m"),
-    FG_BRIGHT_BLUE      ("\u001B[34;1m"),
-    FG_BRIGHT_MAGENTA   ("\u001B[35;1m"),
-    FG_BRIGHT_CYAN      ("\u001B[36;1m"),
-    FG_BRIGHT_WHITE     ("\u001B[37;1m");
+    FG_BRIGHT_BLACK   (90),
+    FG_BRIGHT_RED     (91),
+    FG_BRIGHT_GREEN   (92),
+    FG_BRIGHT_YELLOW  (93),
+    FG_BRIGHT_BLUE    (94),
+    FG_BRIGHT_MAGENTA (95),
+    FG_BRIGHT_CYAN    (96),
+    FG_BRIGHT_WHITE   (97);
 
+    private final int CODE;
+    private final byte[] BYTES;
     private final String COLOR;
 
-    FGColor(String color) {
-        this.COLOR = color;
+    FGColor(int code) {
+        this.CODE = code;
+        this.COLOR = "\u001B[" + code + "m";
+        this.BYTES = COLOR.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Returns the SGR parameter of the color, which is the number between {@code ESC[} and {@code m}.
+     * @return  the SGR parameter.
+     */
+    public int getCode() {
+        return CODE;
+    }
+
+    /**
+     * Returns the pre-encoded ASCII bytes of the escape sequence.
+     * @return  a new copy of the escape sequence bytes.
+     */
+    public byte[] getBytes() {
+        return BYTES.clone();
+    }
+
+    /**
+     * Writes the pre-encoded ASCII bytes of the escape sequence to the stream.
+     * @param   out the stream to write to.
+     * @throws  IOException if an I/O error occurs.
+     */
+    public void writeTo(@NotNull OutputStream out) throws IOException {
+        out.write(BYTES);
     }
 
     @Override
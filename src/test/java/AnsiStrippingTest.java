@@ -0,0 +1,84 @@
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
+import static modificators.BGColor.BG_BLACK;
+import static modificators.Effect.BOLD;
+import static modificators.FGColor.FG_RED;
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnsiStrippingTest {
+    private static final String STYLED = new Colter(FG_RED, BG_BLACK, BOLD).setText("caf\u00e9").toString()
+            + "\u001B[38;2;255;0;0mred\u001B[0m plain \u001B]0;title\u0007\u001B]8;;url\u001B\\link"
+            + "\u001B(Bx\u001B[2K\u001B\u001B[1my" + System.lineSeparator();
+    private static final String PLAIN = "caf\u00e9red plain linkxy" + System.lineSeparator();
+
+    @Test
+    void outputStreamTest() throws IOException {
+        byte[] bytes = STYLED.getBytes(StandardCharsets.UTF_8);
+
+        for (int split = 0; split <= bytes.length; split++) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            AnsiStrippingOutputStream filter = new AnsiStrippingOutputStream(out);
+
+            filter.write(bytes, 0, split);
+            filter.write(bytes, split, bytes.length - split);
+
+            assertEquals(PLAIN, new String(out.toByteArray(), StandardCharsets.UTF_8), "split at " + split);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        AnsiStrippingOutputStream filter = new AnsiStrippingOutputStream(out);
+
+        for (byte b : bytes) {
+            filter.write(b);
+        }
+
+        assertEquals(PLAIN, new String(out.toByteArray(), StandardCharsets.UTF_8));
+        assertThrows(IndexOutOfBoundsException.class, () -> filter.write(bytes, 1, bytes.length));
+    }
+
+    @Test
+    void writerTest() throws IOException {
+        char[] chars = STYLED.toCharArray();
+
+        for (int split = 0; split <= chars.length; split++) {
+            StringWriter chunks = new StringWriter();
+            StringWriter strings = new StringWriter();
+
+            try (AnsiStrippingWriter chunkFilter = new AnsiStrippingWriter(chunks);
+                 AnsiStrippingWriter stringFilter = new AnsiStrippingWriter(strings)) {
+                chunkFilter.write(chars, 0, split);
+                chunkFilter.write(chars, split, chars.length - split);
+                stringFilter.write(STYLED, 0, split);
+                stringFilter.write(STYLED, split, chars.length - split);
+            }
+
+            assertEquals(PLAIN, chunks.toString(), "split at " + split);
+            assertEquals(PLAIN, strings.toString(), "split at " + split);
+        }
+
+        StringWriter out = new StringWriter();
+        AnsiStrippingWriter filter = new AnsiStrippingWriter(out);
+
+        for (char c : chars) {
+            filter.write(c);
+        }
+
+        assertEquals(PLAIN, out.toString());
+    }
+
+    @Test
+    void colterTest() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Colter colter = new Colter(ColterSink.of(new AnsiStrippingOutputStream(out), StandardCharsets.UTF_8));
+
+        colter.printlnAndReset("error", FG_RED, BOLD);
+        colter.writer().printAndReset(42);
+
+        assertEquals("error" + System.lineSeparator() + "42", new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,93 @@
+import modificators.Effect;
+import modificators.EffectSet;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColorSequencesTest {
+
+    @Test
+    void colorTableTest() {
+        for (int color = 0; color < 256; color++) {
+            EscapeSequence fg = ColorSequences.fg(color);
+            EscapeSequence bg = ColorSequences.bg(color);
+
+            assertEquals("\u001b[38;5;" + color + "m", fg.toString());
+            assertEquals("\u001b[48;5;" + color + "m", bg.toString());
+            assertArrayEquals(fg.toString().getBytes(StandardCharsets.US_ASCII), fg.bytes());
+            assertArrayEquals(bg.toString().getBytes(StandardCharsets.US_ASCII), bg.bytes());
+            assertSame(fg, ColorSequences.fg(color));
+            assertSame(bg, ColorSequences.bg(color));
+        }
+    }
+
+    @Test
+    void colorTableOutOfRangeTest() {
+        assertThrows(IllegalArgumentException.class, () -> ColorSequences.fg(-1));
+        assertThrows(IllegalArgumentException.class, () -> ColorSequences.fg(256));
+        assertThrows(IllegalArgumentException.class, () -> ColorSequences.bg(-1));
+        assertThrows(IllegalArgumentException.class, () -> ColorSequences.bg(256));
+        assertThrows(IllegalArgumentException.class, () -> new Colter().setFG(300));
+    }
+
+    @Test
+    void rgbCacheTest() {
+        RgbSequenceCache cache = new RgbSequenceCache(4, false);
+        EscapeSequence red = cache.get(0xFF0000);
+
+        assertEquals("\u001b[38;2;255;0;0m", red.toString());
+        assertSame(red, cache.get(0xFF0000));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals("\u001b[48;2;1;2;3m", new RgbSequenceCache(1, true).get(0x010203).toString());
+    }
+
+    @Test
+    void rgbCacheEvictionTest() {
+        RgbSequenceCache cache = new RgbSequenceCache(8, true);
+
+        for (int rgb = 0; rgb < 1000; rgb++) {
+            EscapeSequence sequence = cache.get(rgb * 7919 & 0xFFFFFF);
+
+            assertEquals("\u001b[48;2;" + ((rgb * 7919 & 0xFFFFFF) >>> 16) + ";" + ((rgb * 7919) >>> 8 & 0xFF)
+                    + ";" + (rgb * 7919 & 0xFF) + "m", sequence.toString());
+            assertTrue(cache.size() <= 8);
+        }
+
+        assertEquals(992, cache.getEvictions());
+        assertEquals(0, cache.getHits());
+
+        EscapeSequence hot = cache.get(0xABCDEF);
+
+        for (int rgb = 0; rgb < 1000; rgb++) {
+            assertSame(hot, cache.get(0xABCDEF));
+            cache.get(rgb);
+        }
+
+        assertEquals(1000, cache.getHits());
+    }
+
+    @Test
+    void effectSetTest() {
+        EffectSet set = EffectSet.of(Effect.UNDERLINE, Effect.BOLD, Effect.ITALIC, Effect.BOLD);
+
+        assertEquals("\u001B[1;3;4m", set.toString());
+        assertSame(set, EffectSet.of(Effect.ITALIC, Effect.UNDERLINE, Effect.BOLD));
+        assertSame(set, EffectSet.none().with(Effect.BOLD).with(Effect.ITALIC).with(Effect.UNDERLINE));
+        assertSame(EffectSet.of(Effect.BOLD, Effect.ITALIC), set.without(Effect.UNDERLINE));
+        assertArrayEquals(new Effect[]{Effect.BOLD, Effect.ITALIC, Effect.UNDERLINE}, set.toArray());
+        assertEquals(3, set.size());
+        assertEquals("", EffectSet.none().toString());
+        assertEquals("\u001B[1;2;23;24;27;29m", EffectSet.of(Effect.values()).toString());
+        assertEquals("\u001B[1;2;3;4;7;9;23;24;27;29m", EffectSet.ofMask(1023).toString());
+        assertSame(EffectSet.of(Effect.ITALIC), EffectSet.of(Effect.NOT_BOLD_ITALIC, Effect.ITALIC));
+        assertSame(EffectSet.of(Effect.NOT_BOLD_ITALIC), EffectSet.of(Effect.ITALIC, Effect.NOT_BOLD_ITALIC));
+        assertSame(EffectSet.of(Effect.BOLD, Effect.NOT_UNDERLINE), EffectSet.of(Effect.BOLD, Effect.UNDERLINE).with(Effect.NOT_UNDERLINE));
+        assertSame(EffectSet.of(Effect.REVERSE, Effect.STRIKEOUT),
+                EffectSet.of(Effect.NOT_REVERSE, Effect.STRIKEOUT).union(EffectSet.of(Effect.REVERSE)));
+        assertEquals("\u001B[1;3;4m", new Colter(Effect.values()).setEffect(Effect.BOLD, Effect.ITALIC, Effect.UNDERLINE).getEffect());
+        assertThrows(IllegalArgumentException.class, () -> EffectSet.ofMask(1024));
+    }
+}
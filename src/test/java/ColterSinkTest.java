@@ -0,0 +1,487 @@
+import com.sun.management.ThreadMXBean;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static modificators.BGColor.BG_BLACK;
+import static modificators.Effect.BOLD;
+import static modificators.Effect.FAINT;
+import static modificators.Effect.ITALIC;
+import static modificators.Effect.NOT_BOLD_ITALIC;
+import static modificators.FGColor.FG_GREEN;
+import static modificators.FGColor.FG_RED;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class ColterSinkTest {
+    private static final String LINE = "\u001B[31;40;1;3mtext\u001B[0m" + System.lineSeparator();
+
+    @Test
+    void bufferSinkTest() {
+        BufferSink buffer = ColterSink.buffer();
+        Colter colter = new Colter(buffer);
+
+        colter.printlnAndReset("text", FG_RED, BG_BLACK, BOLD, ITALIC);
+
+        assertEquals(LINE, buffer.toString());
+        assertArrayEquals(LINE.getBytes(StandardCharsets.UTF_8), buffer.toByteArray());
+        buffer.reset();
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    void outputStreamSinkTest() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        new Colter(ColterSink.of(out, StandardCharsets.UTF_8)).printlnAndReset("text", FG_RED, BG_BLACK, BOLD, ITALIC);
+
+        assertEquals(LINE, new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void channelSinkTest() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        new Colter(ColterSink.of(Channels.newChannel(out), StandardCharsets.UTF_8))
+                .printlnAndReset("text", FG_RED, BG_BLACK, BOLD, ITALIC);
+
+        assertEquals(LINE, new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void appendableSinkTest() {
+        StringBuilder out = new StringBuilder();
+
+        new Colter(ColterSink.of(out)).printlnAndReset("text", FG_RED, BG_BLACK, BOLD, ITALIC);
+
+        assertEquals(LINE, out.toString());
+    }
+
+    @Test
+    void stdoutSinkTest() {
+        PrintStream backup = System.out;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try {
+            System.setOut(new PrintStream(out, true));
+            new Colter(ColterSink.stdout()).printlnAndReset("text", FG_RED, BG_BLACK, BOLD, ITALIC);
+        } finally {
+            System.setOut(backup);
+        }
+
+        assertEquals(LINE, new String(out.toByteArray()));
+    }
+
+    @Test
+    void printStreamSinkTest() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PrintStream stream = new PrintStream(out, true, "ISO-8859-1");
+        PrintStreamSink sink = new PrintStreamSink(stream, StandardCharsets.ISO_8859_1);
+        Colter colter = new Colter(sink);
+
+        colter.printAndReset(new StringBuilder("\u00e9t\u00e9"), FG_RED);
+        sink.write(CharBuffer.wrap("caf\u00e9 \u0436"));
+        stream.print("|");
+
+        assertEquals("\u001B[31m\u00e9t\u00e9\u001B[0mcaf\u00e9 ?|",
+                new String(out.toByteArray(), StandardCharsets.ISO_8859_1));
+
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        PrintStreamSink discarding = new PrintStreamSink(new PrintStream(new DiscardingStream()),
+                StandardCharsets.UTF_8);
+        StringBuilder text = new StringBuilder("\u00e9t\u00e9 \u0436\u0443\u043a");
+        long id = Thread.currentThread().getId();
+        int calls = 100_000;
+
+        for (int i = 0; i < calls; i++) {
+            discarding.write(EscapeSequence.RESET.bytes(), text, EscapeSequence.LINE_BREAK.bytes());
+        }
+
+        long overhead = -threads.getThreadAllocatedBytes(id) + threads.getThreadAllocatedBytes(id);
+        long before = threads.getThreadAllocatedBytes(id);
+
+        for (int i = 0; i < calls; i++) {
+            discarding.write(EscapeSequence.RESET.bytes(), text, EscapeSequence.LINE_BREAK.bytes());
+        }
+
+        long allocated = threads.getThreadAllocatedBytes(id) - before - overhead;
+        assertEquals(0, allocated / calls, "allocated bytes: " + allocated);
+    }
+
+    @Test
+    void largeTextTest() throws IOException {
+        StringBuilder text = new StringBuilder();
+
+        while (text.length() < 3 * EncodingSink.BUFFER_SIZE) {
+            text.append("\u0436\u0443\u043a \u00e9t\u00e9 \uD83D\uDE00");
+        }
+
+        BufferSink buffer = ColterSink.buffer();
+        new Colter(buffer).setSink(buffer).printAndReset(text, FG_RED);
+
+        assertEquals("\u001B[31m" + text + "\u001B[0m", buffer.toString());
+
+        for (int split = 1020; split < 1030; split++) {
+            char[] chars = new char[split + 2];
+            Arrays.fill(chars, 'x');
+            chars[split] = '\uD83D';
+            chars[split + 1] = '\uDE00';
+
+            BufferSink surrogates = ColterSink.buffer();
+            surrogates.write(CharBuffer.wrap(chars));
+            assertEquals(new String(chars), surrogates.toString());
+        }
+    }
+
+    @Test
+    void gatheringChannelSinkTest() throws IOException {
+        Path file = Files.createTempFile("colter", ".txt");
+        StringBuilder text = new StringBuilder();
+
+        while (text.length() < 2 * EncodingSink.BUFFER_SIZE) {
+            text.append("\u0436\u0443\u043a ");
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            Colter colter = new Colter(ColterSink.of(channel, StandardCharsets.UTF_8));
+
+            colter.printlnAndReset("text", FG_RED, BG_BLACK, BOLD, ITALIC);
+            colter.setFG(FG_RED);
+            colter.print("a");
+            colter.print("b");
+            colter.printAndReset(text);
+        } finally {
+            String written = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+            Files.delete(file);
+
+            assertEquals(LINE + "\u001B[31ma\u001B[31mb\u001B[31m" + text + "\u001B[0m", written);
+        }
+    }
+
+    @Test
+    void asyncSinkTest() throws Exception {
+        BufferSink buffer = ColterSink.buffer();
+        AsyncSink sink = new AsyncSink(buffer, 64, AsyncSink.WaitStrategy.BLOCKING, AsyncSink.Backpressure.BLOCK);
+        Thread[] threads = new Thread[4];
+
+        for (int t = 0; t < threads.length; t++) {
+            String name = "t" + t;
+            threads[t] = new Thread(() -> {
+                Colter colter = new Colter(sink);
+
+                for (int i = 0; i < 1000; i++) {
+                    colter.printlnAndReset(name + ":" + i, FG_RED);
+                }
+            });
+            threads[t].start();
+        }
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        sink.flush();
+        assertEquals(0, sink.getPending());
+        assertEquals(0, sink.getDropped());
+
+        String[] lines = buffer.toString().split(System.lineSeparator());
+        int[] next = new int[threads.length];
+        assertEquals(4000, lines.length);
+
+        for (String line : lines) {
+            String record = line.substring("\u001B[31mt".length(), line.length() - "\u001B[0m".length());
+            int t = record.charAt(0) - '0';
+            assertEquals(next[t]++, Integer.parseInt(record.substring(2)));
+        }
+
+        sink.close();
+        new Colter(sink).print("after close");
+        assertEquals(1, sink.getDropped());
+    }
+
+    @Test
+    void asyncStyledSinkTest() throws Exception {
+        BufferSink downsampled = ColterSink.buffer();
+        AsyncSink sink = new AsyncSink(ColterSink.downsampling(downsampled, ColorDepth.COLORS_256));
+
+        new Colter(sink).printAndReset("a", 255, 0, 0, 0, 0, 0);
+        new Colter(sink).setFG(255, 0, 0).freeze().print("b");
+        sink.close();
+        assertEquals("\u001B[38;5;196;48;5;16ma\u001B[0m" + "\u001B[38;5;196mb", downsampled.toString());
+
+        BufferSink tracked = ColterSink.buffer();
+        sink = new AsyncSink(ColterSink.tracking(tracked));
+        Colter colter = new Colter(sink);
+
+        colter.printAndReset("a", FG_RED);
+        colter.printAndReset("b", FG_RED, BOLD);
+        colter.setFG(FG_RED).freeze().printAndReset("c");
+        sink.close();
+        assertEquals("\u001B[31ma" + "\u001B[1mb" + "\u001B[22mc\u001B[0m", tracked.toString());
+    }
+
+    @Test
+    void asyncSinkCloseTest() throws Exception {
+        for (int run = 0; run < 20; run++) {
+            BufferSink buffer = ColterSink.buffer();
+            AsyncSink sink = new AsyncSink(buffer, 16, AsyncSink.WaitStrategy.YIELDING, AsyncSink.Backpressure.BLOCK);
+            Thread[] threads = new Thread[4];
+
+            for (int t = 0; t < threads.length; t++) {
+                threads[t] = new Thread(() -> {
+                    for (int i = 0; i < 500; i++) {
+                        sink.write("x");
+                    }
+                });
+                threads[t].start();
+            }
+
+            sink.close();
+
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            assertEquals(2000, buffer.toString().length() + sink.getDropped());
+        }
+    }
+
+    @Test
+    void asyncSinkFlushTest() throws Exception {
+        AtomicInteger flushes = new AtomicInteger();
+        ColterSink slow = new ColterSink() {
+            @Override
+            public void write(@NotNull byte[] bytes, int offset, int length) {
+            }
+
+            @Override
+            public void write(@NotNull CharSequence text) {
+                LockSupport.parkNanos(10_000);
+            }
+
+            @Override
+            public void flush() {
+                flushes.incrementAndGet();
+            }
+        };
+        AsyncSink sink = new AsyncSink(slow, 64, AsyncSink.WaitStrategy.SLEEPING, AsyncSink.Backpressure.BLOCK);
+        AtomicBoolean producing = new AtomicBoolean(true);
+        Thread producer = new Thread(() -> {
+            while (producing.get()) {
+                sink.write("x");
+            }
+        });
+
+        producer.start();
+        Thread.sleep(50);
+
+        try {
+            assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+                sink.flush();
+                sink.flush();
+            });
+            assertTrue(flushes.get() >= 2);
+        } finally {
+            producing.set(false);
+            producer.join();
+            sink.close();
+        }
+    }
+
+    @Test
+    void asyncSinkDropTest() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        StringBuilder out = new StringBuilder();
+        ColterSink slow = new ColterSink() {
+            @Override
+            public void write(@NotNull byte[] bytes, int offset, int length) {
+            }
+
+            @Override
+            public void write(@NotNull CharSequence text) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+
+                out.append(text);
+            }
+        };
+        AsyncSink sink = new AsyncSink(slow, 4, AsyncSink.WaitStrategy.SLEEPING, AsyncSink.Backpressure.DROP);
+
+        for (int i = 0; i < 100; i++) {
+            sink.write(String.valueOf(i % 10));
+        }
+
+        release.countDown();
+        sink.close();
+
+        assertEquals(4, sink.getCapacity());
+        assertEquals(100, out.length() + sink.getDropped());
+        assertTrue(sink.getDropped() >= 100 - 5);
+    }
+
+    @Test
+    void outputCoordinatorTest() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        OutputCoordinator sink = ColterSink.coordinated(out, StandardCharsets.UTF_8);
+        Colter colter = new Colter(sink).setFG(FG_RED).setBG(BG_BLACK).setEffect(BOLD, ITALIC);
+        StringBuilder large = new StringBuilder();
+        Thread[] threads = new Thread[4];
+
+        while (large.length() < 2 * OutputCoordinator.RETAINED_SIZE) {
+            large.append("\u0436");
+        }
+
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 500; i++) {
+                    colter.printlnAndReset(i % 100 == 0 ? large : "text");
+                }
+            });
+            threads[t].start();
+        }
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        String[] lines = new String(out.toByteArray(), StandardCharsets.UTF_8).split(System.lineSeparator());
+        String largeLine = "\u001B[31;40;1;3m" + large + "\u001B[0m";
+        assertEquals(2000, lines.length);
+
+        for (String line : lines) {
+            assertTrue((line + System.lineSeparator()).equals(LINE) || line.equals(largeLine));
+        }
+    }
+
+    @Test
+    void charSequenceTest() {
+        BufferSink buffer = ColterSink.buffer();
+        Colter colter = new Colter(buffer).setFG(FG_RED);
+        char[] chars = "0123456789".toCharArray();
+        CharBuffer charBuffer = CharBuffer.wrap("abcdef");
+        charBuffer.position(2);
+
+        colter.print(new StringBuilder("builder"));
+        colter.print(chars, 3, 4);
+        colter.printAndReset(chars, 0, 2, Style.none().withEffects(BOLD));
+        colter.print(charBuffer);
+
+        assertEquals("\u001B[31mbuilder\u001B[31m3456\u001B[1m01\u001B[0m\u001B[31mcdef", buffer.toString());
+        assertEquals(2, charBuffer.position());
+        assertThrows(IndexOutOfBoundsException.class, () -> colter.print(chars, 8, 3));
+    }
+
+    @Test
+    void terminalStateSinkTest() throws IOException {
+        BufferSink buffer = ColterSink.buffer();
+        ColterSink sink = ColterSink.tracking(buffer);
+        Colter colter = new Colter(sink);
+
+        colter.printAndReset("a", FG_RED);
+        colter.printAndReset("b", FG_RED);
+        colter.print("c", FG_RED, BOLD, ITALIC);
+        colter.print("d", FG_GREEN, BG_BLACK, NOT_BOLD_ITALIC);
+        colter.printAndReset("e", FAINT);
+        colter.print("f", FG_GREEN);
+        colter.printlnAndReset("g");
+        colter.print("h", FG_RED);
+        sink.write("plain");
+        colter.reset();
+        sink.flush();
+
+        assertEquals("\u001B[31ma" + "b" + "\u001B[1;3mc" + "\u001B[23;32;40md" + "\u001B[2me"
+                + "\u001B[22;49mf" + "g" + System.lineSeparator()
+                + "\u001B[31mh" + "plain" + "\u001B[0m", buffer.toString());
+    }
+
+    @Test
+    void downsamplingSinkTest() throws IOException {
+        BufferSink buffer = ColterSink.buffer();
+        Colter colter = new Colter(ColterSink.downsampling(buffer, ColorDepth.COLORS_256));
+
+        colter.printAndReset("a", 255, 0, 0, 0, 0, 0);
+        colter.print("b", FG_RED);
+        new Colter(ColterSink.downsampling(buffer, ColorDepth.COLORS_16)).printAndReset("c", 196, 16);
+
+        assertEquals("\u001B[38;5;196;48;5;16ma\u001B[0m" + "\u001B[31mb" + "\u001B[91;40mc\u001B[0m", buffer.toString());
+        assertSame(buffer, ColterSink.downsampling(buffer, ColorDepth.TRUE_COLOR));
+
+        BufferSink tracked = ColterSink.buffer();
+        ColterSink tracking = ColterSink.tracking(ColterSink.downsampling(tracked, ColorDepth.COLORS_256));
+        Colter colter256 = new Colter(tracking);
+
+        colter256.print("x", 255, 0, 0, 0, 0, 0);
+        colter256.printAndReset("y", 255, 0, 0, 0, 0, 0);
+        colter256.print("z", 0, 255, 0, 0, 0, 0);
+        tracking.write("raw".getBytes(StandardCharsets.US_ASCII), 0, 3);
+        colter256.printAndReset("w", 255, 0, 0, 0, 0, 0);
+        tracking.flush();
+
+        assertEquals("\u001B[38;5;196;48;5;16mx" + "y" + "\u001B[38;5;46mz" + "raw" + "\u001B[38;5;196;48;5;16mw\u001B[0m",
+                tracked.toString());
+    }
+
+    @Test
+    void frozenColterTest() throws IOException {
+        BufferSink buffer = ColterSink.buffer();
+        Colter colter = new Colter(ColterSink.downsampling(buffer, ColorDepth.COLORS_256))
+                .setText("text")
+                .set(255, 0, 0, 0, 0, 0, BOLD);
+        FrozenColter frozen = colter.freeze();
+
+        colter.setFG(FG_GREEN).setText("changed");
+        frozen.printAndReset();
+        frozen.println("line");
+        frozen.printlnAndReset(new char[] {'a', 'b', 'c'}, 1, 2);
+
+        String prefix = "\u001B[38;5;196;48;5;16;1m";
+        assertEquals(prefix + "text\u001B[0m" + prefix + "line" + System.lineSeparator()
+                + prefix + "bc\u001B[0m" + System.lineSeparator(), buffer.toString());
+        assertEquals(prefix + "text", frozen.toString());
+
+        BufferSink tracked = ColterSink.buffer();
+        ColterSink tracking = ColterSink.tracking(tracked);
+        FrozenColter red = new Colter(tracking).setFG(FG_RED).freeze();
+
+        red.printAndReset("a");
+        red.printAndReset("b");
+        tracking.flush();
+        new Colter(TerminalProfile.plain().apply(tracked)).freeze().printlnAndReset("plain");
+
+        assertEquals("\u001B[31mab\u001B[0mplain" + System.lineSeparator(), tracked.toString());
+    }
+
+    private static final class DiscardingStream extends OutputStream {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    }
+}
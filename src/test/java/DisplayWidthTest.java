@@ -0,0 +1,45 @@
+import org.junit.jupiter.api.Test;
+
+import static modificators.BGColor.BG_BLACK;
+import static modificators.FGColor.FG_RED;
+import static org.junit.jupiter.api.Assertions.*;
+
+class DisplayWidthTest {
+
+    @Test
+    void codePointTest() {
+        assertEquals(1, DisplayWidth.of('a'));
+        assertEquals(0, DisplayWidth.of('\n'));
+        assertEquals(0, DisplayWidth.of(0x7F));
+        assertEquals(1, DisplayWidth.of(0xE9));
+        assertEquals(0, DisplayWidth.of(0x0301));
+        assertEquals(0, DisplayWidth.of(0x200B));
+        assertEquals(0, DisplayWidth.of(0x200D));
+        assertEquals(1, DisplayWidth.of(0xAD));
+        assertEquals(2, DisplayWidth.of(0x65E5));
+        assertEquals(2, DisplayWidth.of(0xAC00));
+        assertEquals(0, DisplayWidth.of(0x1160));
+        assertEquals(2, DisplayWidth.of(0xFF21));
+        assertEquals(1, DisplayWidth.of(0xFF61));
+        assertEquals(2, DisplayWidth.of(0x1F600));
+        assertEquals(2, DisplayWidth.of(0x20000));
+        assertEquals(1, DisplayWidth.of(0x10FFFF));
+    }
+
+    @Test
+    void textTest() {
+        String text = "a\u65E5\u672Ce\u0301\uD83D\uDE00!";
+        String styled = new Colter(FG_RED, BG_BLACK).setText(text).toString()
+                + "\u001B[0m\u001B]0;title\u0007\uD800";
+
+        assertEquals(9, DisplayWidth.of(text));
+        assertEquals(10, DisplayWidth.of(styled));
+        assertEquals(10, DisplayWidth.of(styled.toCharArray(), 0, styled.length()));
+        assertEquals(5, DisplayWidth.of(text, 1, 4));
+        assertEquals(2, DisplayWidth.of(text.toCharArray(), 6, 2));
+        assertEquals(1, DisplayWidth.of(text, 6, 7));
+        assertEquals(0, DisplayWidth.of(""));
+        assertThrows(IndexOutOfBoundsException.class, () -> DisplayWidth.of(text, 3, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> DisplayWidth.of(text.toCharArray(), 8, 2));
+    }
+}
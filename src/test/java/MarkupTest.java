@@ -0,0 +1,81 @@
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static modificators.BGColor.BG_WHITE;
+import static modificators.Effect.BOLD;
+import static modificators.Effect.UNDERLINE;
+import static modificators.FGColor.FG_BRIGHT_CYAN;
+import static modificators.FGColor.FG_RED;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MarkupTest {
+
+    @Test
+    void renderTest() {
+        BufferSink buffer = ColterSink.buffer();
+        Colter colter = new Colter(buffer);
+
+        colter.printlnMarkup("[bold red]error[/] in {} at [underline on white]line {}[/]!", "Main.java", 42);
+
+        Style error = Style.none().withFG(FG_RED).withEffects(BOLD);
+        Style line = Style.none().withBG(BG_WHITE).withEffects(UNDERLINE);
+        assertEquals(error + "error\u001B[0m in Main.java at " + line + "line 42\u001B[0m!\u001B[0m"
+                + System.lineSeparator(), buffer.toString());
+    }
+
+    @Test
+    void nestingTest() {
+        BufferSink buffer = ColterSink.buffer();
+        Markup markup = Markup.compile("[[x]] {{}} [red]a[bold]b[bright_cyan]c[/]d[/]e[/]f {}");
+
+        markup.print(buffer, 'z');
+
+        Style red = Style.none().withFG(FG_RED);
+        Style bold = red.withEffects(BOLD);
+        assertEquals("[x] {} " + red + "a" + bold + "b" + bold.withFG(FG_BRIGHT_CYAN) + "c"
+                + bold + "d" + "\u001B[0m" + red + "e" + "\u001B[0m" + "f z\u001B[0m", buffer.toString());
+        assertEquals(1, markup.getArgumentCount());
+        assertSame(markup, Markup.compile("[[x]] {{}} [red]a[bold]b[bright_cyan]c[/]d[/]e[/]f {}"));
+    }
+
+    @Test
+    void colorsTest() {
+        BufferSink buffer = ColterSink.buffer();
+
+        Markup.compile("[196 on 17]a[/][#ff4000 on rgb(0,0,32)]b").print(buffer);
+        assertEquals(Style.none().withFG(196).withBG(17) + "a"
+                + Style.none().withFG(255, 64, 0).withBG(0, 0, 32) + "b\u001B[0m", buffer.toString());
+    }
+
+    @Test
+    void adaptTest() throws IOException {
+        BufferSink buffer = ColterSink.buffer();
+
+        Markup.compile("[bold #ff0000]a[/]b").println(TerminalProfile.plain().apply(buffer));
+        Markup.compile("[#ff0000]c").print(ColterSink.downsampling(buffer, ColorDepth.COLORS_256));
+        assertEquals("ab" + System.lineSeparator() + "\u001B[38;5;196mc\u001B[0m", buffer.toString());
+
+        BufferSink tracked = ColterSink.buffer();
+        ColterSink tracking = ColterSink.tracking(tracked);
+        Colter colter = new Colter(tracking);
+
+        colter.printAndReset("x", FG_RED);
+        colter.printMarkup("[red]y");
+        colter.printAndReset("z", FG_RED);
+        tracking.flush();
+        assertEquals("\u001B[31mx\u001B[0m\u001B[31my\u001B[0m\u001B[31mz\u001B[0m", tracked.toString());
+    }
+
+    @Test
+    void malformedTest() {
+        assertThrows(IllegalArgumentException.class, () -> Markup.compile("[bold"));
+        assertThrows(IllegalArgumentException.class, () -> Markup.compile("[/]"));
+        assertThrows(IllegalArgumentException.class, () -> Markup.compile("[]"));
+        assertThrows(IllegalArgumentException.class, () -> Markup.compile("[blinking]"));
+        assertThrows(IllegalArgumentException.class, () -> Markup.compile("[red on]"));
+        assertThrows(IllegalArgumentException.class, () -> Markup.compile("[300]"));
+        assertThrows(IllegalArgumentException.class, () -> Markup.compile("[#ff00]"));
+        assertThrows(IllegalArgumentException.class, () -> Markup.compile("{}").print(ColterSink.buffer()));
+    }
+}
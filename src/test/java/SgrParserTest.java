@@ -0,0 +1,135 @@
+import modificators.Effect;
+import modificators.EffectSet;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static modificators.BGColor.BG_BLACK;
+import static modificators.BGColor.BG_BRIGHT_WHITE;
+import static modificators.Effect.BOLD;
+import static modificators.Effect.FAINT;
+import static modificators.Effect.ITALIC;
+import static modificators.Effect.NOT_BOLD_ITALIC;
+import static modificators.Effect.REVERSE;
+import static modificators.Effect.STRIKEOUT;
+import static modificators.Effect.UNDERLINE;
+import static modificators.FGColor.FG_BRIGHT_CYAN;
+import static modificators.FGColor.FG_RED;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SgrParserTest {
+
+    @Test
+    void colterOutputTest() throws IOException {
+        BufferSink buffer = ColterSink.buffer();
+        Colter colter = new Colter(buffer);
+
+        colter.print("plain ");
+        colter.print("red", FG_RED, BG_BLACK, BOLD, ITALIC);
+        colter.print("256", 196, 17);
+        colter.printAndReset("rgb", 255, 64, 0, 0, 0, 32);
+        colter.print("bright", FG_BRIGHT_CYAN, BG_BRIGHT_WHITE);
+        colter.print("upright", NOT_BOLD_ITALIC, UNDERLINE);
+        colter.printlnAndReset("!");
+
+        String expected = "[|plain ]"
+                + "[" + Style.none().withFG(FG_RED).withBG(BG_BLACK).withEffects(BOLD, ITALIC) + "|red]"
+                + "[" + Style.none().withFG(196).withBG(17).withEffects(BOLD, ITALIC) + "|256]"
+                + "[" + Style.none().withFG(255, 64, 0).withBG(0, 0, 32).withEffects(BOLD, ITALIC) + "|rgb]"
+                + "[" + Style.none().withFG(FG_BRIGHT_CYAN).withBG(BG_BRIGHT_WHITE) + "|bright]"
+                + "[" + Style.none().withFG(FG_BRIGHT_CYAN).withBG(BG_BRIGHT_WHITE).withEffects(UNDERLINE) + "|upright!]"
+                + "[|" + System.lineSeparator() + "]";
+        String text = buffer.toString();
+        byte[] bytes = buffer.toByteArray();
+
+        for (int split = 0; split <= text.length(); split++) {
+            assertEquals(expected, parseChars(text, split), "split at " + split);
+            assertEquals(expected, parseBytes(bytes, split), "split at " + split);
+        }
+    }
+
+    @Test
+    void effectsTest() throws IOException {
+        SgrParser parser = new SgrParser((style, position, offset, length) -> { });
+
+        for (Effect effect : Effect.values()) {
+            if (effect.getCode() < 20) {
+                parser.parse("\u001B[0;" + effect.getCode() + "m");
+                assertEquals(Style.none().withEffects(effect), parser.getStyle(), effect.name());
+            }
+        }
+
+        parser.parse("\u001B[1;2;3;4;7;9m");
+        assertEquals(EffectSet.of(BOLD, FAINT, ITALIC, UNDERLINE, REVERSE, STRIKEOUT), parser.getStyle().getEffects());
+        parser.parse("\u001B[22;23m");
+        assertEquals(EffectSet.of(UNDERLINE, REVERSE, STRIKEOUT), parser.getStyle().getEffects());
+        parser.parse("\u001B[24;27;29m");
+        assertEquals(Style.none(), parser.getStyle());
+    }
+
+    @Test
+    void sequencesTest() throws IOException {
+        SgrParser parser = new SgrParser((style, position, offset, length) -> { });
+
+        parser.parse("\u001B[38:2::1:2:3;48:5:200m");
+        assertEquals(Style.none().withFG(1, 2, 3).withBG(200), parser.getStyle());
+        parser.parse("\u001B[38:2:4:5:6;1;39m");
+        assertEquals(Style.none().withBG(200).withEffects(BOLD), parser.getStyle());
+        parser.parse("\u001B[4;2Kx\u001B[?25h\u001B]0;title\u0007\u001B[38;5;300;7m");
+        assertEquals(Style.none().withBG(200).withEffects(BOLD, REVERSE), parser.getStyle());
+        parser.parse("\u001B[m");
+        assertEquals(Style.none(), parser.getStyle());
+        assertEquals(80, parser.getPosition());
+
+        List<Long> positions = new ArrayList<>();
+        SgrParser positioned = new SgrParser((style, position, offset, length) -> positions.add(position));
+        char[] chars = "ab\u001B[1mcd".toCharArray();
+
+        positioned.parse(chars, 1, 4);
+        positioned.parse(chars, 5, 3);
+        assertEquals("[0, 5]", positions.toString());
+        assertThrows(IndexOutOfBoundsException.class, () -> positioned.parse(chars, 5, 4));
+    }
+
+    private static String parseChars(String text, int split) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        char[] chars = text.toCharArray();
+        SgrParser parser = new SgrParser((style, position, offset, length) -> append(sb, style, new String(chars, offset, length)));
+
+        parser.parse(chars, 0, split);
+        parser.parse(chars, split, chars.length - split);
+        return merge(sb);
+    }
+
+    private static String parseBytes(byte[] bytes, int split) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        SgrParser parser = new SgrParser((style, position, offset, length) ->
+                append(sb, style, new String(bytes, offset, length, StandardCharsets.UTF_8)));
+
+        parser.parse(bytes, 0, split);
+        parser.parse(bytes, split, bytes.length - split);
+        return merge(sb);
+    }
+
+    private static void append(StringBuilder sb, Style style, String text) {
+        sb.append('[').append(style).append('|').append(text).append(']');
+    }
+
+    /**
+     * Merges the runs of the same style split by the chunk boundary.
+     */
+    private static String merge(StringBuilder sb) {
+        String runs = sb.toString();
+        String previous;
+
+        do {
+            previous = runs;
+            runs = runs.replaceAll("\\[([^|\\]]*)\\|([^\\]]*)]\\[\\1\\|", "[$1|$2");
+        } while (!runs.equals(previous));
+
+        return runs;
+    }
+}
@@ -0,0 +1,134 @@
+import modificators.EffectSet;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+
+import static modificators.BGColor.BG_BLACK;
+import static modificators.BGColor.BG_BRIGHT_BLACK;
+import static modificators.BGColor.BG_WHITE;
+import static modificators.Effect.BOLD;
+import static modificators.Effect.ITALIC;
+import static modificators.FGColor.FG_BRIGHT_RED;
+import static modificators.FGColor.FG_GREEN;
+import static modificators.FGColor.FG_RED;
+import static org.junit.jupiter.api.Assertions.*;
+
+class StyleTest {
+
+    @Test
+    void packingTest() {
+        Style style = Style.none().withFG(FG_RED).withBG(200).withEffects(BOLD, ITALIC);
+
+        assertEquals("\u001B[31;48;5;200;1;3m", style.toString());
+        assertEquals(EffectSet.of(BOLD, ITALIC), style.getEffects());
+        assertEquals(style, Style.ofBits(style.getBits()));
+        assertEquals(style.hashCode(), Style.ofBits(style.getBits()).hashCode());
+        assertSame(style.prefix(), style.prefix());
+
+        assertEquals(Style.none().withFG(10, 20, 30), Style.none().withFG(new Color(10, 20, 30)));
+        assertNotEquals(Style.none().withFG(1), Style.none().withBG(1));
+        assertSame(Style.none(), style.withoutFG().withoutBG().withEffects(EffectSet.none()));
+        assertEquals("", Style.none().toString());
+
+        assertThrows(IllegalArgumentException.class, () -> Style.none().withFG(256));
+        assertThrows(IllegalArgumentException.class, () -> Style.none().withBG(0, -1, 0));
+        assertThrows(IllegalArgumentException.class, () -> Style.ofBits(-1L));
+    }
+
+    @Test
+    void colterStyleTest() {
+        BufferSink buffer = ColterSink.buffer();
+        Style style = Style.none().withFG(FG_RED).withBG(BG_BLACK).withEffects(BOLD);
+        Colter colter = new Colter(buffer).setStyle(style);
+
+        assertSame(style, colter.getStyle());
+        assertEquals(new Colter(style), new Colter(FG_RED, BG_BLACK, BOLD));
+        assertArrayEquals(new Object[]{BOLD}, colter.getEffects());
+
+        colter.print("text");
+        colter.setDefaultEffect();
+
+        assertEquals("\u001B[31;40;1mtext\u001B[0m", buffer.toString());
+        assertEquals(style.withEffects(EffectSet.none()), colter.getStyle());
+    }
+
+    @Test
+    void concurrentStyleTest() throws InterruptedException {
+        BufferSink buffer = ColterSink.buffer();
+        Colter colter = new Colter(buffer);
+        Thread setter = new Thread(() -> {
+            for (int i = 0; i < 20000; i++) {
+                if (i % 2 == 0) {
+                    colter.set(FG_RED, BG_BLACK, BOLD);
+                } else {
+                    colter.set(FG_GREEN, BG_WHITE, ITALIC);
+                }
+            }
+        });
+        Thread printer = new Thread(() -> {
+            for (int i = 0; i < 20000; i++) {
+                colter.println("x");
+            }
+        });
+
+        setter.start();
+        printer.start();
+        setter.join();
+        printer.join();
+
+        for (String line : buffer.toString().split(System.lineSeparator())) {
+            assertTrue(line.equals("x")
+                    || line.equals("\u001B[31;40;1mx")
+                    || line.equals("\u001B[32;47;3mx"), line);
+        }
+    }
+
+    @Test
+    void downsampleTest() {
+        Style style = Style.none().withFG(255, 0, 0).withBG(118, 118, 118).withEffects(BOLD);
+
+        assertEquals(Style.none().withFG(196).withBG(243).withEffects(BOLD), style.downsample(ColorDepth.COLORS_256));
+        assertEquals(Style.none().withFG(FG_BRIGHT_RED).withBG(BG_BRIGHT_BLACK).withEffects(BOLD),
+                style.downsample(ColorDepth.COLORS_16));
+        assertEquals(Style.none().withFG(FG_GREEN), Style.none().withFG(2).downsample(ColorDepth.COLORS_16));
+        assertSame(style, style.downsample(ColorDepth.TRUE_COLOR));
+        assertSame(style.downsample(ColorDepth.COLORS_256), style.downsample(ColorDepth.COLORS_256));
+
+        Style basic = Style.none().withFG(FG_RED).withBG(BG_WHITE);
+        assertSame(basic, basic.downsample(ColorDepth.COLORS_16));
+        assertSame(Style.none(), Style.none().downsample(ColorDepth.COLORS_16));
+    }
+
+    @Test
+    void downsampleTableTest() {
+        for (int key = 0; key < 1 << 15; key++) {
+            int r = (key >>> 10) << 3 | key >>> 12;
+            int g = (key >>> 5 & 0x1F) << 3 | (key >>> 7 & 0x7);
+            int b = (key & 0x1F) << 3 | (key >>> 2 & 0x7);
+            int rgb = r << 16 | g << 8 | b;
+            int nearest = Integer.MAX_VALUE;
+
+            for (int index = 16; index < 256; index++) {
+                nearest = Math.min(nearest, distance(rgb, ColorDownsampler.paletteColor(index)));
+            }
+
+            assertEquals(nearest, distance(rgb, ColorDownsampler.paletteColor(ColorDownsampler.toIndexed(rgb))), "0x" + Integer.toHexString(rgb));
+        }
+
+        for (int index = 0; index < 16; index++) {
+            assertEquals(index, ColorDownsampler.toBasic(index));
+        }
+
+        assertEquals(9, ColorDownsampler.toBasic(196));
+        assertEquals(0, ColorDownsampler.toBasic(16));
+        assertEquals(15, ColorDownsampler.toBasic(231));
+    }
+
+    private static int distance(int rgb1, int rgb2) {
+        int r = (rgb1 >>> 16) - (rgb2 >>> 16);
+        int g = (rgb1 >>> 8 & 0xFF) - (rgb2 >>> 8 & 0xFF);
+        int b = (rgb1 & 0xFF) - (rgb2 & 0xFF);
+
+        return r * r + g * g + b * b;
+    }
+}
@@ -0,0 +1,144 @@
+import com.sun.management.ThreadMXBean;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+import static modificators.Effect.BOLD;
+import static modificators.FGColor.FG_GREEN;
+import static modificators.FGColor.FG_RED;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class StyledFormatTest {
+
+    @Test
+    void formatTest() {
+        assertFormat("%s took %d ms", "parse", 42);
+        assertFormat("[%5d|%-5d|%05d|%+d|%+05d]", -42, 42, -42, 42, 7);
+        assertFormat("%x %X %x %x %08x", 255, 0xCAFEL, -1, Long.MIN_VALUE, 0xBEEF);
+        assertFormat("%.3s|%-6s|%6s|%c|%b|%b|%s", "abcdef", "ab", true, 'x', false, null, 1.5);
+        assertFormat("100%% done%n");
+        assertFormat("%s %s %.2f %f", 1.1f, -0.1f, 2.675f, 1e10f);
+        assertFormat("%x %X %x %X %d %d", (byte) -1, (short) -2, (byte) 0x7F, (short) 0x1234, (byte) -1, (short) -2);
+        assertFormat("%c%c%c%c", 65, 0x1F600, (byte) 66, (short) 0x4E2D);
+
+        double[] values = {0, -0.0, 0.5, 1.5, 2.5, 0.125, 1.005, 9.995, 99.96, 0.0006, 1e-7, 1234567.891,
+                1e17, 123456789.0e10, -3.14159, Double.MAX_VALUE, Double.MIN_VALUE, 0.1 + 0.2};
+
+        for (double value : values) {
+            for (String format : new String[] {"%f", "%.0f", "%.1f", "%.2f", "%.3f", "%12.4f", "%-12.4f|", "%+012.2f"}) {
+                assertFormat(format, value);
+            }
+        }
+
+        assertFormat("%f %.2f %f", Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY);
+
+        BufferSink buffer = ColterSink.buffer();
+        StyledFormat.compile("%.2f %.1f").print(buffer, 3, 7L);
+        assertEquals("3.00 7.0", buffer.toString());
+    }
+
+    @Test
+    void styleTest() {
+        BufferSink buffer = ColterSink.buffer();
+        StyledFormat format = StyledFormat.compile("%s took %[bold red]5d ms (%[green].1f%%)%n");
+
+        format.print(buffer, "parse", 42, 99.95);
+        format.begin(buffer).arg("load").arg(7L).arg(0.25).print();
+
+        String red = Style.none().withFG(FG_RED).withEffects(BOLD).toString();
+        String green = Style.none().withFG(FG_GREEN).toString();
+        assertEquals("parse took " + red + "   42\u001B[0m ms (" + green + "100.0\u001B[0m%)\u001B[0m"
+                + System.lineSeparator() + "load took " + red + "    7\u001B[0m ms (" + green + "0.3\u001B[0m%)\u001B[0m"
+                + System.lineSeparator(), buffer.toString());
+        assertEquals(3, format.getArgumentCount());
+        assertSame(format, StyledFormat.compile("%s took %[bold red]5d ms (%[green].1f%%)%n"));
+    }
+
+    @Test
+    void colterTest() {
+        BufferSink buffer = ColterSink.buffer();
+        Colter colter = new Colter(TerminalProfile.plain().apply(buffer));
+
+        colter.printf("%[red]s: %d%n", "count", 3);
+        colter.format("%[bold]-6s|").arg("x").println();
+        assertEquals("count: 3" + System.lineSeparator() + "x     |" + System.lineSeparator(), buffer.toString());
+    }
+
+    @Test
+    void widthTest() {
+        BufferSink buffer = ColterSink.buffer();
+
+        StyledFormat.compile("%6s|%-6s|").print(buffer, "\u4E2D\u6587", "\u00E9");
+        assertEquals("  \u4E2D\u6587|\u00E9     |", buffer.toString());
+    }
+
+    @Test
+    void malformedTest() {
+        assertThrows(IllegalArgumentException.class, () -> StyledFormat.compile("%"));
+        assertThrows(IllegalArgumentException.class, () -> StyledFormat.compile("%q"));
+        assertThrows(IllegalArgumentException.class, () -> StyledFormat.compile("%[bold"));
+        assertThrows(IllegalArgumentException.class, () -> StyledFormat.compile("%[]d"));
+        assertThrows(IllegalArgumentException.class, () -> StyledFormat.compile("%[blinking]d"));
+        assertThrows(IllegalArgumentException.class, () -> StyledFormat.compile("%-d"));
+        assertThrows(IllegalArgumentException.class, () -> StyledFormat.compile("%05s"));
+        assertThrows(IllegalArgumentException.class, () -> StyledFormat.compile("%.2d"));
+        assertThrows(IllegalArgumentException.class, () -> StyledFormat.compile("%5%"));
+
+        StyledFormat format = StyledFormat.compile("%d %s");
+        BufferSink buffer = ColterSink.buffer();
+        assertThrows(IllegalArgumentException.class, () -> format.print(buffer, 1));
+        assertThrows(IllegalArgumentException.class, () -> format.print(buffer, 1, "a", "b"));
+        assertThrows(IllegalArgumentException.class, () -> format.print(buffer, 1.5, "a"));
+        assertThrows(IllegalArgumentException.class, () -> format.print(buffer, "a", "b"));
+        assertThrows(IllegalArgumentException.class, () -> StyledFormat.compile("%c").print(buffer, -1));
+        format.print(buffer, 1, "a");
+        assertEquals("1 a", buffer.toString());
+    }
+
+    @Test
+    void allocationFreeTest() {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        ColterSink sink = ColterSink.of(new DiscardingStream(), StandardCharsets.UTF_8);
+        StyledFormat format = StyledFormat.compile("%[bold]s: %5d %.2f \u00e9%n");
+        StringBuilder name = new StringBuilder("request");
+        long id = Thread.currentThread().getId();
+        int calls = 100_000;
+
+        for (int i = 0; i < calls; i++) {
+            format.begin(sink).arg(name).arg(i).arg(i / 7.0).print();
+        }
+
+        long overhead = -threads.getThreadAllocatedBytes(id) + threads.getThreadAllocatedBytes(id);
+        long before = threads.getThreadAllocatedBytes(id);
+
+        for (int i = 0; i < calls; i++) {
+            format.begin(sink).arg(name).arg(i).arg(i / 7.0).print();
+        }
+
+        long allocated = threads.getThreadAllocatedBytes(id) - before - overhead;
+        assertEquals(0, allocated / calls, "allocated bytes: " + allocated);
+    }
+
+    private static void assertFormat(String format, Object ... args) {
+        BufferSink buffer = ColterSink.buffer();
+        StyledFormat.compile(format).print(buffer, args);
+        assertEquals(String.format(Locale.ROOT, format, args), buffer.toString(), format);
+    }
+
+    private static final class DiscardingStream extends OutputStream {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    }
+}
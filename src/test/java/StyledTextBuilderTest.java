@@ -0,0 +1,110 @@
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static modificators.BGColor.BG_BLACK;
+import static modificators.Effect.BOLD;
+import static modificators.Effect.ITALIC;
+import static modificators.FGColor.FG_GREEN;
+import static modificators.FGColor.FG_RED;
+import static org.junit.jupiter.api.Assertions.*;
+
+class StyledTextBuilderTest {
+    private static final Style RED = Style.none().withFG(FG_RED);
+    private static final Style RED_BOLD = RED.withEffects(BOLD);
+    private static final Style GREEN_ON_BLACK = Style.none().withFG(FG_GREEN).withBG(BG_BLACK);
+
+    @Test
+    void runsTest() {
+        StyledTextBuilder builder = new StyledTextBuilder(0)
+                .append("ab", RED)
+                .append(new StringBuilder("cd"), RED)
+                .append("", GREEN_ON_BLACK)
+                .append('e', RED_BOLD)
+                .append(new char[] {'x', 'f', 'g'}, 1, 2, Style.none())
+                .append("hi", 0, 1, RED);
+
+        assertEquals("abcdefgh", builder.getText());
+        assertEquals(8, builder.length());
+        assertEquals(4, builder.getRunCount());
+        assertEquals(RED, builder.getStyle(0));
+        assertEquals(RED, builder.getStyle(3));
+        assertEquals(RED_BOLD, builder.getStyle(4));
+        assertEquals(Style.none(), builder.getStyle(6));
+        assertEquals(RED, builder.getStyle(7));
+        assertThrows(IndexOutOfBoundsException.class, () -> builder.getStyle(8));
+        assertThrows(IndexOutOfBoundsException.class, () -> builder.append("abc", 2, 4, RED));
+
+        builder.clear();
+        assertEquals(0, builder.getRunCount());
+        assertEquals("", builder.toString());
+    }
+
+    @Test
+    void renderTest() {
+        StyledTextBuilder builder = new StyledTextBuilder()
+                .append("a", RED)
+                .append("b", RED_BOLD)
+                .append("c", RED.withEffects(ITALIC))
+                .append("d", GREEN_ON_BLACK)
+                .append("e")
+                .append("f", RED_BOLD);
+
+        String expected = RED + "a" + "\u001B[1mb" + "\u001B[22;3mc" + "\u001B[23;32;40md"
+                + "\u001B[0me" + RED_BOLD + "f\u001B[0m";
+        BufferSink buffer = ColterSink.buffer();
+
+        builder.println(buffer);
+        assertEquals(expected + System.lineSeparator(), buffer.toString());
+        assertEquals(expected, builder.toString());
+
+        buffer = ColterSink.buffer();
+        new StyledTextBuilder().append("plain").print(buffer);
+        builder.print(TerminalProfile.plain().apply(buffer));
+        assertEquals("plainabcdef", buffer.toString());
+    }
+
+    @Test
+    void trackingTest() throws IOException {
+        BufferSink buffer = ColterSink.buffer();
+        ColterSink sink = ColterSink.tracking(buffer);
+        Colter colter = new Colter(sink);
+        StyledTextBuilder builder = new StyledTextBuilder().append("b", GREEN_ON_BLACK.withoutBG()).append("c");
+
+        colter.print("a", FG_RED);
+        builder.print(sink);
+        colter.print("d", FG_RED);
+        builder.clear().append("e").print(sink);
+        sink.flush();
+
+        assertEquals("\u001B[31ma" + "\u001B[32mb\u001B[0mc\u001B[0m" + "\u001B[31md" + "e", buffer.toString());
+        assertEquals(0, builder.clear().getRunCount());
+    }
+
+    @Test
+    void largeTextTest() throws IOException {
+        StyledTextBuilder builder = new StyledTextBuilder();
+        StringBuilder text = new StringBuilder();
+
+        for (int i = 0; i < 100_000; i++) {
+            String part = Integer.toString(i);
+            builder.append(part, i % 3 == 0 ? RED : Style.none());
+            text.append(part);
+        }
+
+        assertEquals(text.length(), builder.length());
+        assertEquals(66_667, builder.getRunCount());
+
+        BufferSink buffer = ColterSink.buffer();
+        StringBuilder parsed = new StringBuilder();
+        char[] rendered = builder.toString().toCharArray();
+        builder.print(ColterSink.tracking(buffer));
+
+        new SgrParser((style, position, offset, length) -> {
+            assertEquals(builder.getStyle(parsed.length()), style);
+            parsed.append(rendered, offset, length);
+        }).parse(rendered, 0, rendered.length);
+        assertEquals(text.toString(), parsed.toString());
+        assertEquals(builder.toString(), buffer.toString());
+    }
+}
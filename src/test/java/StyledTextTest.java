@@ -0,0 +1,153 @@
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static modificators.BGColor.BG_BLACK;
+import static modificators.Effect.BOLD;
+import static modificators.Effect.UNDERLINE;
+import static modificators.FGColor.FG_GREEN;
+import static modificators.FGColor.FG_RED;
+import static org.junit.jupiter.api.Assertions.*;
+
+class StyledTextTest {
+    private static final Style[] STYLES = {
+            Style.none(),
+            Style.none().withFG(FG_RED),
+            Style.none().withFG(FG_RED).withEffects(BOLD),
+            Style.none().withFG(FG_GREEN).withBG(BG_BLACK),
+            Style.none().withFG(255, 64, 0).withEffects(UNDERLINE)
+    };
+
+    @Test
+    void editTest() {
+        StyledText text = new StyledText()
+                .append("progress: ", Style.none())
+                .append("42%", STYLES[3]);
+
+        text.delete(10, 13).insert(10, "43%", STYLES[3]).setStyle(0, 8, STYLES[2]);
+
+        assertEquals("progress: 43%", text.getText());
+        assertEquals(STYLES[2], text.getStyle(7));
+        assertEquals(Style.none(), text.getStyle(8));
+        assertEquals('4', text.charAt(10));
+        assertEquals(STYLES[2] + "progress" + "\u001B[0m: " + STYLES[3] + "43%\u001B[0m", text.toString());
+
+        BufferSink buffer = ColterSink.buffer();
+        text.println(TerminalProfile.plain().apply(buffer));
+        assertEquals("progress: 43%" + System.lineSeparator(), buffer.toString());
+
+        assertThrows(IndexOutOfBoundsException.class, () -> text.insert(14, "x", Style.none()));
+        assertThrows(IndexOutOfBoundsException.class, () -> text.delete(5, 14));
+        assertThrows(IndexOutOfBoundsException.class, () -> text.setStyle(6, 5, Style.none()));
+        assertThrows(IndexOutOfBoundsException.class, () -> text.charAt(13));
+        assertEquals("", new StyledText().toString());
+    }
+
+    @Test
+    void randomEditTest() {
+        Random random = new Random(42);
+        StyledText text = new StyledText();
+        StringBuilder chars = new StringBuilder();
+        List<Style> styles = new ArrayList<>();
+        BufferSink buffer = ColterSink.buffer();
+        ColterSink sink = ColterSink.downsampling(buffer, ColorDepth.COLORS_256);
+
+        for (int i = 0; i < 3000; i++) {
+            int length = chars.length();
+            int start = random.nextInt(length + 1);
+            int end = start + random.nextInt(Math.min(length - start, 3000) + 1);
+            Style style = STYLES[random.nextInt(STYLES.length)];
+            int operation = random.nextInt(10);
+
+            if (operation < 5 || length < 100) {
+                String inserted = randomText(random, random.nextInt(10) == 0 ? 5000 : 20);
+                text.insert(start, inserted, style);
+                chars.insert(start, inserted);
+
+                for (int j = 0; j < inserted.length(); j++) {
+                    styles.add(start, style);
+                }
+            } else if (operation < 7) {
+                text.delete(start, end);
+                chars.delete(start, end);
+                styles.subList(start, end).clear();
+            } else {
+                text.setStyle(start, end, style);
+
+                for (int j = start; j < end; j++) {
+                    styles.set(j, style);
+                }
+            }
+
+            // Printing to the same sink after each few edits reuses the fragments cached by the last print.
+            if (i % 10 == 0) {
+                assertPrinted(text, expected(chars, styles), buffer, sink);
+            }
+
+            if (i % 500 == 0) {
+                assertRendered(text, chars, styles);
+            }
+        }
+
+        assertPrinted(text, expected(chars, styles), buffer, sink);
+        assertRendered(text, chars, styles);
+        assertPrinted(text, expected(chars, styles), buffer, sink);
+    }
+
+    @Test
+    void trackingTest() throws IOException {
+        BufferSink buffer = ColterSink.buffer();
+        ColterSink sink = ColterSink.tracking(buffer);
+        Colter colter = new Colter(sink);
+
+        colter.print("a", FG_RED);
+        new StyledText().append("b", STYLES[3].withoutBG()).append("c", Style.none()).print(sink);
+        colter.print("d", FG_RED);
+        sink.flush();
+
+        assertEquals("\u001B[31ma" + "\u001B[32mb\u001B[0mc\u001B[0m" + "\u001B[31md", buffer.toString());
+    }
+
+    private static StyledTextBuilder expected(CharSequence chars, List<Style> styles) {
+        StyledTextBuilder expected = new StyledTextBuilder();
+
+        for (int i = 0; i < chars.length(); i++) {
+            expected.append(chars.charAt(i), styles.get(i));
+        }
+
+        return expected;
+    }
+
+    private static void assertPrinted(StyledText text, StyledTextBuilder expected, BufferSink buffer, ColterSink sink) {
+        buffer.reset();
+        expected.print(sink);
+        String rendered = buffer.toString();
+        buffer.reset();
+        text.print(sink);
+        assertEquals(rendered, buffer.toString());
+    }
+
+    private static void assertRendered(StyledText text, CharSequence chars, List<Style> styles) {
+        assertEquals(chars.length(), text.length());
+        assertEquals(chars.toString(), text.getText());
+
+        for (int i = 0; i < chars.length(); i += 97) {
+            assertEquals(styles.get(i), text.getStyle(i));
+        }
+
+        assertEquals(expected(chars, styles).toString(), text.toString());
+    }
+
+    private static String randomText(Random random, int maxLength) {
+        char[] chars = new char[1 + random.nextInt(maxLength)];
+
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) ('a' + random.nextInt(26));
+        }
+
+        return new String(chars);
+    }
+}
@@ -0,0 +1,98 @@
+import com.sun.management.ThreadMXBean;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+
+import static modificators.Effect.BOLD;
+import static modificators.FGColor.FG_GREEN;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class StyledWriterTest {
+    private static final String PREFIX = "\u001B[32;1m";
+
+    @Test
+    void printTest() {
+        BufferSink buffer = ColterSink.buffer();
+        StyledWriter writer = new Colter(buffer).setFG(FG_GREEN).setEffect(BOLD).writer();
+
+        writer.print(0);
+        writer.print(-42);
+        writer.print(Long.MIN_VALUE);
+        writer.print(Long.MAX_VALUE);
+        writer.print(3.14159, 2);
+        writer.print(-0.001, 2);
+        writer.print(-2.5, 0);
+        writer.print(1e300, 2);
+        writer.print('x');
+        writer.print('\u00e9');
+        writer.printlnAndReset(7);
+
+        assertEquals(PREFIX + "0" + PREFIX + "-42" + PREFIX + Long.MIN_VALUE + PREFIX + Long.MAX_VALUE
+                + PREFIX + "3.14" + PREFIX + "0.00" + PREFIX + "-3" + PREFIX + 1e300
+                + PREFIX + "x" + PREFIX + "\u00e9" + PREFIX + "7\u001B[0m" + System.lineSeparator(), buffer.toString());
+        assertThrows(IllegalArgumentException.class, () -> writer.print(1.0, 16));
+    }
+
+    @Test
+    void downsamplingTest() {
+        BufferSink buffer = ColterSink.buffer();
+        StyledWriter writer = new Colter(ColterSink.downsampling(buffer, ColorDepth.COLORS_256))
+                .setFG(255, 0, 0)
+                .writer();
+
+        writer.print(42);
+        writer.printAndReset('\u00e9');
+        writer.setStyle(Style.none().withBG(0, 0, 0)).print(1);
+        new Colter(TerminalProfile.plain().apply(buffer)).setFG(255, 0, 0).writer().println(7);
+
+        assertEquals("\u001B[38;5;196m42" + "\u001B[38;5;196m\u00e9\u001B[0m" + "\u001B[48;5;16m1"
+                + "7" + System.lineSeparator(), buffer.toString());
+        assertEquals(Style.none().withBG(0, 0, 0), writer.getStyle());
+    }
+
+    @Test
+    void allocationFreeTest() {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        StyledWriter writer = new StyledWriter(ColterSink.of(new DiscardingStream(), StandardCharsets.UTF_8),
+                Style.none().withFG(FG_GREEN).withEffects(BOLD));
+        long id = Thread.currentThread().getId();
+        int calls = 100_000;
+
+        for (int i = 0; i < calls; i++) {
+            printAll(writer, i);
+        }
+
+        long overhead = -threads.getThreadAllocatedBytes(id) + threads.getThreadAllocatedBytes(id);
+        long before = threads.getThreadAllocatedBytes(id);
+
+        for (int i = 0; i < calls; i++) {
+            printAll(writer, i);
+        }
+
+        long allocated = threads.getThreadAllocatedBytes(id) - before - overhead;
+        assertEquals(0, allocated / calls, "allocated bytes: " + allocated);
+    }
+
+    private static void printAll(StyledWriter writer, int i) {
+        writer.print(i);
+        writer.println(i * 31L);
+        writer.printAndReset(i / 7.0, 3);
+        writer.printlnAndReset((char) ('a' + i % 26));
+    }
+
+    private static final class DiscardingStream extends OutputStream {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    }
+}
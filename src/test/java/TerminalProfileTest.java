@@ -0,0 +1,118 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static modificators.Effect.BOLD;
+import static modificators.FGColor.FG_RED;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TerminalProfileTest {
+
+    @TempDir
+    Path terminfo;
+
+    @Test
+    void detectTest() throws IOException {
+        writeEntry("xterm-256color", 0432, 256);
+        writeEntry("xterm-direct", 01036, 1 << 24);
+        writeEntry("vt100", 0432, -1);
+        List<Path> dirs = Collections.singletonList(terminfo);
+
+        assertProfile(true, ColorDepth.COLORS_256, detect(dirs, "TERM", "xterm-256color"));
+        assertProfile(true, ColorDepth.TRUE_COLOR, detect(dirs, "TERM", "xterm-direct"));
+        assertProfile(false, ColorDepth.COLORS_16, detect(dirs, "TERM", "vt100"));
+        assertProfile(true, ColorDepth.TRUE_COLOR, detect(dirs, "TERM", "vt100", "COLORTERM", "truecolor"));
+        assertProfile(true, ColorDepth.COLORS_256, detect(dirs, "TERM", "screen-256color"));
+        assertProfile(true, ColorDepth.COLORS_16, detect(dirs, "TERM", "unknown"));
+        assertProfile(false, ColorDepth.COLORS_16, detect(dirs, "TERM", "dumb"));
+        assertProfile(false, ColorDepth.COLORS_16, detect(dirs, "TERM", "xterm-256color", "NO_COLOR", "1"));
+
+        TerminalProfile redirected = TerminalProfile.detect(env("TERM", "xterm-256color"), null, false, dirs);
+        assertFalse(redirected.isTerminal());
+        assertFalse(redirected.isColorEnabled());
+        assertProfile(true, ColorDepth.COLORS_16,
+                TerminalProfile.detect(env("TERM", "xterm-256color", "FORCE_COLOR", "1"), null, false, dirs));
+        assertProfile(true, ColorDepth.TRUE_COLOR, detect(dirs, "TERM", "xterm-256color", "FORCE_COLOR", "3"));
+        assertProfile(true, ColorDepth.COLORS_256,
+                TerminalProfile.detect(env("TERM", "xterm-256color", "FORCE_COLOR", "true"), null, false, dirs));
+        assertProfile(true, ColorDepth.TRUE_COLOR, detect(dirs, "TERM", "vt100", "FORCE_COLOR", "yes"));
+        assertProfile(false, ColorDepth.COLORS_16,
+                TerminalProfile.detect(env("TERM", "xterm-256color", "FORCE_COLOR", "0"), null, false, dirs));
+        assertProfile(true, ColorDepth.TRUE_COLOR, TerminalProfile.detect(env(), "always", false, dirs));
+        assertProfile(false, ColorDepth.COLORS_16, TerminalProfile.detect(env("TERM", "xterm-direct"), "never", true, dirs));
+        assertEquals(-1, TerminalProfile.maxColors("../xterm-256color", dirs));
+    }
+
+    @Test
+    void applyTest() {
+        BufferSink buffer = ColterSink.buffer();
+        Colter plain = new Colter(TerminalProfile.plain().apply(buffer));
+
+        plain.printlnAndReset("a", FG_RED, BOLD);
+        plain.writer().printAndReset(42);
+        plain.print("b", 196, 16);
+        plain.reset();
+
+        assertEquals("a" + System.lineSeparator() + "42b", buffer.toString());
+        assertSame(buffer, TerminalProfile.of(ColorDepth.TRUE_COLOR).apply(buffer));
+        assertSame(TerminalProfile.current(), TerminalProfile.current());
+    }
+
+    private TerminalProfile detect(List<Path> dirs, String ... env) {
+        return TerminalProfile.detect(env(env), null, true, dirs);
+    }
+
+    private static void assertProfile(boolean color, ColorDepth depth, TerminalProfile profile) {
+        assertEquals(color, profile.isColorEnabled(), profile.toString());
+
+        if (color) {
+            assertEquals(depth, profile.getColorDepth(), profile.toString());
+        }
+    }
+
+    private static Map<String, String> env(String ... entries) {
+        Map<String, String> env = new HashMap<>();
+
+        for (int i = 0; i < entries.length; i += 2) {
+            env.put(entries[i], entries[i + 1]);
+        }
+
+        return env;
+    }
+
+    /**
+     * Writes a compiled terminfo entry with one boolean and the {@code colors} number.
+     */
+    private void writeEntry(String term, int magic, int colors) throws IOException {
+        byte[] names = (term + "\0").getBytes("US-ASCII");
+        int numberSize = magic == 0432 ? 2 : 4;
+        int numbersOffset = 12 + names.length + 1;
+        numbersOffset += numbersOffset & 1;
+        ByteBuffer entry = ByteBuffer.allocate(numbersOffset + 14 * numberSize).order(ByteOrder.LITTLE_ENDIAN);
+
+        entry.putShort((short) magic).putShort((short) names.length).putShort((short) 1)
+                .putShort((short) 14).putShort((short) 0).putShort((short) 0)
+                .put(names).put((byte) 1);
+        entry.position(numbersOffset);
+
+        for (int i = 0; i < 14; i++) {
+            if (numberSize == 2) {
+                entry.putShort((short) (i == 13 ? colors : -1));
+            } else {
+                entry.putInt(i == 13 ? colors : -1);
+            }
+        }
+
+        Path dir = Files.createDirectories(terminfo.resolve(term.substring(0, 1)));
+        Files.write(dir.resolve(term), entry.array());
+    }
+}
@@ -0,0 +1,133 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks of {@code AnsiStrippingOutputStream} against a plain copy of the same bytes into
+ * the same stream, which copies everything written to it into a buffer. The input is a buffer of
+ * log lines, either without escape sequences or with a styled segment in each line, written in
+ * chunks of the given size, so sequences are split between writes. The throughput is reported in
+ * bytes per microsecond of input.
+ * <p>
+ * The filter lives in the default package, so it is created by reflection and used through its
+ * {@link OutputStream} type.
+ * <blockquote><pre>
+ *     mvn test-compile
+ *     java -cp target/test-classes:target/classes:&lt;test classpath&gt; benchmarks.AnsiStrippingBenchmark
+ * </pre></blockquote>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AnsiStrippingBenchmark {
+    private static final int SIZE = 64 * 1024;
+    private static final String PLAIN_LINE = "2024-01-01 12:00:00 INFO  service started in 1234 ms on port 8080\n";
+    private static final String STYLED_LINE = "2024-01-01 12:00:00 \u001B[32;1mINFO \u001B[0m service started in "
+            + "\u001B[38;2;255;64;0m1234\u001B[0m ms on port 8080\n";
+
+    @Param({"false", "true"})
+    public boolean styled;
+
+    @Param({"64", "8192"})
+    public int chunk;
+
+    private byte[] input;
+    private OutputStream copy;
+    private OutputStream filter;
+
+    @Setup
+    public void setup(Blackhole blackhole) throws ReflectiveOperationException {
+        StringBuilder sb = new StringBuilder(SIZE);
+
+        while (sb.length() < SIZE) {
+            sb.append(styled ? STYLED_LINE : PLAIN_LINE);
+        }
+
+        input = sb.toString().getBytes(StandardCharsets.UTF_8);
+        copy = new CopyStream(blackhole);
+        filter = (OutputStream) Class.forName("AnsiStrippingOutputStream")
+                .getConstructor(OutputStream.class)
+                .newInstance(new CopyStream(blackhole));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void plainCopy() throws IOException {
+        write(copy);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void strip() throws IOException {
+        write(filter);
+    }
+
+    private void write(OutputStream out) throws IOException {
+        for (int offset = 0; offset < SIZE; offset += chunk) {
+            out.write(input, offset, Math.min(chunk, SIZE - offset));
+        }
+    }
+
+    /**
+     * Output stream which copies everything written to it into a buffer, wrapping around at its end,
+     * and hands the buffer to the {@link Blackhole}.
+     */
+    private static final class CopyStream extends OutputStream {
+        private final Blackhole BLACKHOLE;
+        private final byte[] BUFFER = new byte[SIZE];
+        private int position;
+
+        private CopyStream(Blackhole blackhole) {
+            this.BLACKHOLE = blackhole;
+        }
+
+        @Override
+        public void write(int b) {
+            BUFFER[position] = (byte) b;
+            position = (position + 1) % SIZE;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            if (position + len > SIZE) {
+                position = 0;
+            }
+
+            System.arraycopy(b, off, BUFFER, position, len);
+            position += len;
+            BLACKHOLE.consume(BUFFER);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(AnsiStrippingBenchmark.class.getName())
+                .build();
+
+        new Runner(options).run();
+    }
+}
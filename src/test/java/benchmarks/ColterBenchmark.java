@@ -0,0 +1,347 @@
+package benchmarks;
+
+import modificators.Effect;
+import modificators.EffectSet;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static modificators.BGColor.BG_BLACK;
+import static modificators.FGColor.FG_RED;
+
+/**
+ * JMH benchmarks of the {@code Colter} print, frozen print, printf and set paths, {@code toString()},
+ * {@code equals()} and {@code hashCode()}. {@code System.out} is replaced by a stream which feeds all
+ * bytes into a {@link Blackhole}, so the benchmarks measure the library only. The {@code baseline*}
+ * benchmarks build the string by concatenation or {@code String.format()} and print it with
+ * {@code System.out.print()}.
+ * <p>
+ * {@code Colter} lives in the default package, which JMH benchmarks can not be placed in and named
+ * packages can not import from, so it is called through constant {@link MethodHandle}s, which the
+ * JIT compiles to direct calls. The forked JVM is started with {@code colter.color=always}, as its
+ * output is not a terminal and styles would not be rendered otherwise.
+ * <p>
+ * Run with the GC profiler, which reports the allocation rate next to the throughput:
+ * <blockquote><pre>
+ *     mvn test-compile
+ *     java -cp target/test-classes:target/classes:&lt;test classpath&gt; benchmarks.ColterBenchmark
+ * </pre></blockquote>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dcolter.color=always")
+@State(Scope.Thread)
+public class ColterBenchmark {
+    private static final String TEXT = "Lorem ipsum dolor sit amet";
+    private static final String RESET = "\u001B[0m";
+    private static final String FORMAT = "%s took %[bold red]d ms (%.2f%%)%n";
+    private static final Class<?> COLTER = defaultPackageClass("Colter");
+    private static final Class<?> LINE = defaultPackageClass("StyledFormat$Line");
+    private static final Class<?> FROZEN = defaultPackageClass("FrozenColter");
+
+    private static final MethodHandle NEW = constructor();
+    private static final MethodHandle PRINT = handle("print", void.class, Object.class);
+    private static final MethodHandle PRINTLN_OWN_STYLE = handle("printlnAndReset", void.class, Object.class);
+    private static final MethodHandle PRINT_16 = handle("print", void.class,
+            Object.class, modificators.FGColor.class, modificators.BGColor.class);
+    private static final MethodHandle PRINT_256 = handle("print", void.class, Object.class, int.class, int.class);
+    private static final MethodHandle PRINT_24 = handle("print", void.class,
+            Object.class, int.class, int.class, int.class, int.class, int.class, int.class);
+    private static final MethodHandle PRINTLN_16 = handle("println", void.class,
+            Object.class, modificators.FGColor.class, modificators.BGColor.class);
+    private static final MethodHandle PRINTLN_256 = handle("println", void.class, Object.class, int.class, int.class);
+    private static final MethodHandle PRINTLN_24 = handle("println", void.class,
+            Object.class, int.class, int.class, int.class, int.class, int.class, int.class);
+    private static final MethodHandle SET_FG_16 = handle("setFG", COLTER, modificators.FGColor.class);
+    private static final MethodHandle SET_FG_256 = handle("setFG", COLTER, int.class);
+    private static final MethodHandle SET_FG_24 = handle("setFG", COLTER, int.class, int.class, int.class);
+    private static final MethodHandle SET_BG_16 = handle("setBG", COLTER, modificators.BGColor.class);
+    private static final MethodHandle SET_BG_256 = handle("setBG", COLTER, int.class);
+    private static final MethodHandle SET_BG_24 = handle("setBG", COLTER, int.class, int.class, int.class);
+    private static final MethodHandle SET_EFFECT = handle("setEffect", COLTER, Effect[].class);
+    private static final MethodHandle FREEZE = handle("freeze", FROZEN);
+    private static final MethodHandle FROZEN_PRINTLN = handle(FROZEN, "printlnAndReset", void.class, Object.class);
+    private static final MethodHandle BEGIN_FORMAT = handle("format", LINE, String.class);
+    private static final MethodHandle ARG_TEXT = lineHandle("arg", LINE, CharSequence.class);
+    private static final MethodHandle ARG_LONG = lineHandle("arg", LINE, long.class);
+    private static final MethodHandle ARG_DOUBLE = lineHandle("arg", LINE, double.class);
+    private static final MethodHandle PRINT_LINE = lineHandle("print", void.class);
+
+    private PrintStream stdout;
+    private Object colter;
+    private Object other;
+    private Object frozen;
+    private long elapsed = 1234;
+    private double ratio = 12.345;
+
+    @Setup
+    public void setup(Blackhole blackhole) throws Throwable {
+        stdout = System.out;
+        System.setOut(new PrintStream(new BlackholeStream(blackhole)));
+
+        colter = newColter();
+        other = newColter();
+        frozen = (Object) FREEZE.invokeExact(colter);
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.setOut(stdout);
+    }
+
+    @Benchmark
+    public void baseline16() {
+        System.out.print(FG_RED.toString() + BG_BLACK + TEXT + RESET);
+    }
+
+    @Benchmark
+    public void baseline256() {
+        System.out.print("\u001b[38;5;" + 196 + "m" + "\u001b[48;5;" + 16 + "m" + TEXT + RESET);
+    }
+
+    @Benchmark
+    public void baseline24() {
+        System.out.print("\u001b[38;2;" + 255 + ";" + 64 + ";" + 0 + "m"
+                + "\u001b[48;2;" + 0 + ";" + 0 + ";" + 32 + "m" + TEXT + RESET);
+    }
+
+    @Benchmark
+    public void baselineFormat() {
+        System.out.print(FG_RED + String.format("%s took %d ms (%.2f%%)%n", TEXT, elapsed, ratio) + RESET);
+    }
+
+    @Benchmark
+    public void printOwnStyle() throws Throwable {
+        PRINT.invokeExact(colter, (Object) TEXT);
+    }
+
+    @Benchmark
+    public void print16() throws Throwable {
+        PRINT_16.invokeExact(colter, (Object) TEXT, FG_RED, BG_BLACK);
+    }
+
+    @Benchmark
+    public void print256() throws Throwable {
+        PRINT_256.invokeExact(colter, (Object) TEXT, 196, 16);
+    }
+
+    @Benchmark
+    public void print24() throws Throwable {
+        PRINT_24.invokeExact(colter, (Object) TEXT, 255, 64, 0, 0, 0, 32);
+    }
+
+    @Benchmark
+    public void println16() throws Throwable {
+        PRINTLN_16.invokeExact(colter, (Object) TEXT, FG_RED, BG_BLACK);
+    }
+
+    @Benchmark
+    public void println256() throws Throwable {
+        PRINTLN_256.invokeExact(colter, (Object) TEXT, 196, 16);
+    }
+
+    @Benchmark
+    public void println24() throws Throwable {
+        PRINTLN_24.invokeExact(colter, (Object) TEXT, 255, 64, 0, 0, 0, 32);
+    }
+
+    @Benchmark
+    public void printlnOwnStyle() throws Throwable {
+        PRINTLN_OWN_STYLE.invokeExact(colter, (Object) TEXT);
+    }
+
+    @Benchmark
+    public void printlnFrozen() throws Throwable {
+        FROZEN_PRINTLN.invokeExact(frozen, (Object) TEXT);
+    }
+
+    @Benchmark
+    public void printf() throws Throwable {
+        Object line = (Object) BEGIN_FORMAT.invokeExact(colter, FORMAT);
+        line = (Object) ARG_TEXT.invokeExact(line, (CharSequence) TEXT);
+        line = (Object) ARG_LONG.invokeExact(line, elapsed);
+        line = (Object) ARG_DOUBLE.invokeExact(line, ratio);
+        PRINT_LINE.invokeExact(line);
+    }
+
+    @Benchmark
+    public Object setFG16() throws Throwable {
+        return (Object) SET_FG_16.invokeExact(colter, FG_RED);
+    }
+
+    @Benchmark
+    public Object setFG256() throws Throwable {
+        return (Object) SET_FG_256.invokeExact(colter, 196);
+    }
+
+    @Benchmark
+    public Object setFG24() throws Throwable {
+        return (Object) SET_FG_24.invokeExact(colter, 255, 64, 0);
+    }
+
+    @Benchmark
+    public Object setBG16() throws Throwable {
+        return (Object) SET_BG_16.invokeExact(colter, BG_BLACK);
+    }
+
+    @Benchmark
+    public Object setBG256() throws Throwable {
+        return (Object) SET_BG_256.invokeExact(colter, 16);
+    }
+
+    @Benchmark
+    public Object setBG24() throws Throwable {
+        return (Object) SET_BG_24.invokeExact(colter, 0, 0, 32);
+    }
+
+    @Benchmark
+    public Object setEffect(Effects state) throws Throwable {
+        return (Object) SET_EFFECT.invokeExact(colter, state.effects);
+    }
+
+    @Benchmark
+    public String effectSequence(Effects state) {
+        return EffectSet.of(state.effects).toString();
+    }
+
+    @Benchmark
+    public String colterToString() {
+        return colter.toString();
+    }
+
+    @Benchmark
+    public boolean colterEquals() {
+        return colter.equals(other);
+    }
+
+    @Benchmark
+    public int colterHashCode() {
+        return colter.hashCode();
+    }
+
+    private Object newColter() throws Throwable {
+        Object c = (Object) NEW.invokeExact();
+        c = (Object) SET_FG_16.invokeExact(c, FG_RED);
+        c = (Object) SET_BG_256.invokeExact(c, 16);
+        return (Object) SET_EFFECT.invokeExact(c, new Effect[]{Effect.BOLD});
+    }
+
+    private static Class<?> defaultPackageClass(String name) {
+        try {
+            return Class.forName(name);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MethodHandle constructor() {
+        try {
+            return MethodHandles.publicLookup()
+                    .findConstructor(COLTER, MethodType.methodType(void.class))
+                    .asType(MethodType.methodType(Object.class));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Finds the public method of {@code Colter} and erases its receiver and {@code Colter} return type to {@code Object}.
+     */
+    private static MethodHandle handle(String name, Class<?> returnType, Class<?> ... parameters) {
+        return handle(COLTER, name, returnType, parameters);
+    }
+
+    /**
+     * Finds the public method of {@code StyledFormat.Line} and erases its receiver and return type to {@code Object}.
+     */
+    private static MethodHandle lineHandle(String name, Class<?> returnType, Class<?> ... parameters) {
+        return handle(LINE, name, returnType, parameters);
+    }
+
+    private static MethodHandle handle(Class<?> owner, String name, Class<?> returnType, Class<?> ... parameters) {
+        try {
+            MethodHandle handle = MethodHandles.publicLookup()
+                    .findVirtual(owner, name, MethodType.methodType(returnType, parameters));
+            MethodType erased = handle.type().changeParameterType(0, Object.class);
+
+            boolean erasedReturn = returnType == COLTER || returnType == LINE || returnType == FROZEN;
+
+            return handle.asType(erasedReturn ? erased.changeReturnType(Object.class) : erased);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * The effects passed to the effect benchmarks, from none to all of them.
+     */
+    @State(Scope.Thread)
+    public static class Effects {
+        @Param({"0", "1", "3", "10"})
+        public int count;
+
+        private Effect[] effects;
+
+        @Setup
+        public void setup() {
+            effects = Arrays.copyOf(Effect.values(), count);
+        }
+    }
+
+    /**
+     * Output stream which hands everything written to it to the {@link Blackhole}.
+     */
+    private static final class BlackholeStream extends OutputStream {
+        private final Blackhole BLACKHOLE;
+
+        private BlackholeStream(Blackhole blackhole) {
+            this.BLACKHOLE = blackhole;
+        }
+
+        @Override
+        public void write(int b) {
+            BLACKHOLE.consume(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            BLACKHOLE.consume(b);
+            BLACKHOLE.consume(len);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ColterBenchmark.class.getName())
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        new Runner(options).run();
+    }
+}